@@ -0,0 +1,48 @@
+package com.petplate.petplate.auth.jwt;
+
+import com.petplate.petplate.auth.oauth.Dto.TokenDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급, 검증, Authentication 생성 벤치마크.
+ * validateToken, getAuthentication은 인증이 필요한 모든 요청에서 JwtFilter가 호출한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+    private static final String USERNAME = "naver_benchmark";
+    private static final String AUTHORITIES = "ROLE_GENERAL";
+
+    private TokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // HS512 서명을 위한 64바이트 키
+        String secret = Base64.getEncoder().encodeToString(new byte[64]);
+        tokenProvider = new TokenProvider(secret, 3600L);
+        tokenProvider.afterPropertiesSet();
+
+        accessToken = tokenProvider.createTokenByUserProperty(USERNAME, AUTHORITIES).getAccessToken();
+    }
+
+    @Benchmark
+    public TokenDto createTokenByUserProperty() {
+        return tokenProvider.createTokenByUserProperty(USERNAME, AUTHORITIES);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(accessToken);
+    }
+}
@@ -0,0 +1,66 @@
+package com.petplate.petplate.auth.oauth.cookie;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * oauth2_auth_request 쿠키 인코딩 벤치마크. 기존 Java 직렬화(+Base64)와 서명 바이너리 코덱을 비교한다.
+ * 쿠키 크기는 Setup 에서 한 번 출력한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class OAuth2AuthorizationRequestCookieCodecBenchmark {
+    private static final Duration MAX_AGE = Duration.ofSeconds(180);
+
+    private OAuth2AuthorizationRequestCookieCodec codec;
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private String serializedCookie;
+    private String encodedCookie;
+
+    @Setup
+    public void setUp() {
+        codec = new OAuth2AuthorizationRequestCookieCodec(new byte[32], Clock.systemUTC());
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://nid.naver.com/oauth2.0/authorize")
+                .clientId("petplate-benchmark-client-id")
+                .redirectUri("https://api.petplate.kr/login/oauth2/code/naver")
+                .scopes(Set.of("name", "email"))
+                .state("q2d9H0a7vFq3W2xZ0c5b1Y8mK4nL6pR9sT3uV7wX1yA=")
+                .attributes(Map.of("registration_id", "naver"))
+                .build();
+
+        serializedCookie = serialize();
+        encodedCookie = encode();
+        System.out.printf("%n쿠키 크기: Java 직렬화 %d자, 코덱 %d자%n", serializedCookie.length(), encodedCookie.length());
+    }
+
+    @Benchmark
+    public String serialize() {
+        return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(authorizationRequest));
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public Object deserialize() {
+        return SerializationUtils.deserialize(Base64.getUrlDecoder().decode(serializedCookie));
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(authorizationRequest, MAX_AGE);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest decode() {
+        return codec.decode(encodedCookie);
+    }
+}
@@ -0,0 +1,64 @@
+package com.petplate.petplate.common.EmbeddedType;
+
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StandardNutrient의 영양소 분석 메서드 벤치마크.
+ * 식사 내역 조회, 영양소 분석 API에서 요청마다 호출되는 경로이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StandardNutrientBenchmark {
+    private Nutrient nutrient;
+    private double weight;
+    private Activity activity;
+    private Neutering neutering;
+
+    @Setup
+    public void setUp() {
+        nutrient = Nutrient.builder()
+                .carbonHydrate(120).protein(35).fat(8).calcium(0.6).phosphorus(0.9)
+                .vitamin(Vitamin.builder().vitaminA(200).vitaminD(30).vitaminE(2).build())
+                .build();
+        weight = 6.5;
+        activity = Activity.SOMEWHAT_ACTIVE;
+        neutering = Neutering.NEUTERED;
+    }
+
+    @Benchmark
+    public Map<StandardNutrient, Double> getNutrientsMap() {
+        return StandardNutrient.getNutrientsMap(nutrient, weight, activity, neutering);
+    }
+
+    @Benchmark
+    public List<StandardNutrient> findSufficientNutrients() {
+        return StandardNutrient.findSufficientNutrients(nutrient, weight, activity, neutering);
+    }
+
+    @Benchmark
+    public List<StandardNutrient> findDeficientNutrients() {
+        return StandardNutrient.findDeficientNutrients(nutrient, weight, activity, neutering);
+    }
+
+    @Benchmark
+    public List<StandardNutrient> findProperNutrients() {
+        return StandardNutrient.findProperNutrients(nutrient, weight, activity, neutering);
+    }
+
+    @Benchmark
+    public StandardNutrient findMostDeficientNutrient() {
+        return StandardNutrient.findMostDeficientNutrient(nutrient, weight, activity, neutering);
+    }
+
+    @Benchmark
+    public StandardNutrient findMostSufficientNutrient() {
+        return StandardNutrient.findMostSufficientNutrient(nutrient, weight, activity, neutering);
+    }
+}
@@ -0,0 +1,111 @@
+package com.petplate.petplate.common;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 행 저장 시 id 발급 방식에 따른 insert 처리량 비교.
+ * identityPerRow: IDENTITY 에서 Hibernate가 하는 것처럼 행마다 insert 후 생성된 키를 받아온다.
+ * pooledSequenceBatch: pooled 시퀀스로 50개씩 id를 받아 JDBC 배치(batch_size 50)로 저장한다.
+ * 결과는 초당 rows 행 묶음을 저장한 횟수이며, 원격 DB에서는 왕복 횟수 차이만큼 격차가 더 커진다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class IdGenerationInsertBenchmark {
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private Connection connection;
+    private long nextId;
+    private long hiId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table daily_raw_identity (daily_raw_id bigint generated by default as identity primary key, "
+                    + "daily_meal_id bigint not null, serving double precision not null, kcal double precision not null)");
+            statement.execute("create table daily_raw_pooled (daily_raw_id bigint primary key, "
+                    + "daily_meal_id bigint not null, serving double precision not null, kcal double precision not null)");
+            statement.execute("create sequence daily_raw_seq start with 1 increment by " + ALLOCATION_SIZE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into daily_raw_identity (daily_meal_id, serving, kcal) values (?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(statement, i);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledSequenceBatch() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into daily_raw_pooled (daily_meal_id, serving, kcal, daily_raw_id) values (?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                bind(statement, i);
+                lastId = nextPooledId();
+                statement.setLong(4, lastId);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    private static void bind(PreparedStatement statement, int i) throws SQLException {
+        statement.setLong(1, i / 4 + 1);
+        statement.setDouble(2, 100 + i % 50);
+        statement.setDouble(3, 120 + i % 30);
+    }
+
+    // pooled 최적화기: 시퀀스 값 하나로 ALLOCATION_SIZE 개의 id를 메모리에서 발급
+    private long nextPooledId() throws SQLException {
+        if (nextId == hiId) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("select next value for daily_raw_seq")) {
+                resultSet.next();
+                hiId = resultSet.getLong(1) + ALLOCATION_SIZE - 1;
+                nextId = hiId - ALLOCATION_SIZE;
+            }
+        }
+        return ++nextId;
+    }
+}
@@ -0,0 +1,78 @@
+package com.petplate.petplate.petdailymeal;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyRaw;
+import com.petplate.petplate.petfood.domain.entity.Raw;
+import com.petplate.petplate.utils.DailyMealUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 식사 내역 추가/삭제 시의 엔티티 영양소 연산 벤치마크.
+ * 영속성 컨텍스트 없이 엔티티 생성과 영양소 덧셈/뺄셈, 보정 비용만 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DailyMealBenchmark {
+    private Raw raw;
+    private Nutrient nutrient;
+    private DailyMeal dailyMeal;
+
+    @Setup
+    public void setUp() {
+        raw = Raw.builder()
+                .standardAmount(100).name("닭가슴살").description("")
+                .kcal(109)
+                .nutrient(nutrient(0.4, 23, 1.2, 0.01, 0.2, 0.01, 0.1, 0.2))
+                .build();
+        nutrient = nutrient(20, 10, 5, 0.3, 0.4, 50, 5, 1);
+    }
+
+    // 반복(iteration)마다 새로운 식사 내역으로 시작한다.
+    // 호출마다 새로 만들면(Level.Invocation) 수 ns 짜리 측정에 준비 비용과 시간 측정 오차가 섞인다.
+    // 한 반복 안에서는 영양소가 누적되지만 double 덧셈/뺄셈 비용은 값의 크기와 무관하다
+    @Setup(Level.Iteration)
+    public void setUpDailyMeal() {
+        dailyMeal = DailyMeal.builder()
+                .nutrient(nutrient(100, 40, 10, 1, 1, 300, 20, 5))
+                .kcal(800)
+                .build();
+    }
+
+    @Benchmark
+    public DailyRaw createDailyRaw() {
+        return DailyRaw.builder()
+                .dailyMeal(dailyMeal).raw(raw).serving(150)
+                .build();
+    }
+
+    @Benchmark
+    public DailyMeal addNutrient() {
+        dailyMeal.addNutrient(nutrient);
+        return dailyMeal;
+    }
+
+    @Benchmark
+    public DailyMeal subtractNutrient() {
+        dailyMeal.subtractNutrient(nutrient);
+        return dailyMeal;
+    }
+
+    @Benchmark
+    public DailyMeal compensatingNutrient() {
+        DailyMealUtil.compensatingNutrient(dailyMeal);
+        return dailyMeal;
+    }
+
+    private static Nutrient nutrient(double carbonHydrate, double protein, double fat, double calcium,
+                                     double phosphorus, double vitaminA, double vitaminD, double vitaminE) {
+        return Nutrient.builder()
+                .carbonHydrate(carbonHydrate).protein(protein).fat(fat).calcium(calcium).phosphorus(phosphorus)
+                .vitamin(Vitamin.builder().vitaminA(vitaminA).vitaminD(vitaminD).vitaminE(vitaminE).build())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.petplate.petplate.utils;
+
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 음식 추천(FoodRecommendService)의 조합 탐색 벤치마크.
+ * 합성 자연식 카탈로그(그램당 행렬)와 즐겨찾기 100개(1회분 행렬)에서 최대 5개를 고른다.
+ * 목표: 10k 음식 카탈로그에서 50ms 이내.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class NutrientGapSolverBenchmark {
+    private static final int SIZE = NutrientVector.SIZE;
+    private static final int PORTION_ROWS = 100;
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private NutrientVector intake;
+    private NutrientVector proper;
+    private NutrientVector maximum;
+    private double[] perGramMatrix;
+    private double[] portionMatrix;
+    private BitSet excludedRows;
+
+    @Setup
+    public void setUp() {
+        intake = NutrientVector.zero();
+        proper = NutrientVector.properOf(6.5, Activity.SOMEWHAT_ACTIVE, Neutering.NEUTERED);
+        maximum = NutrientVector.maximumOf(6.5, Activity.SOMEWHAT_ACTIVE, Neutering.NEUTERED);
+
+        Random random = new Random(42);
+        perGramMatrix = matrix(random, rows, 0.02);
+        portionMatrix = matrix(random, PORTION_ROWS, 1);
+
+        // 알러지, 질병으로 금지된 자연식 약 10%
+        excludedRows = new BitSet(rows);
+        for (int i = 0; i < rows / 10; i++) {
+            excludedRows.set(random.nextInt(rows));
+        }
+    }
+
+    @Benchmark
+    public List<NutrientGapSolver.Pick> solve() {
+        return new NutrientGapSolver(intake, proper, maximum)
+                .solve(perGramMatrix, rows, excludedRows, portionMatrix, PORTION_ROWS, 5);
+    }
+
+    // 영양소별로 적정 섭취량의 0 ~ scale 배를 담은 무작위 행렬
+    private double[] matrix(Random random, int matrixRows, double scale) {
+        double[] matrix = new double[matrixRows * SIZE];
+        for (int row = 0; row < matrixRows; row++) {
+            for (int i = 0; i < SIZE; i++) {
+                matrix[row * SIZE + i] = proper.get(i) * random.nextDouble() * scale;
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,40 @@
+package com.petplate.petplate.common.local;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+
+/**
+ * 로컬 실행용 내장 Redis (local 프로필, bootRunLocal 에서만 동작).
+ * embedded-redis 가 포함한 redis-server 바이너리를 실행하므로 운영 Redis 와 같은 명령(Lua 스크립트, 발행/구독 포함)을 지원한다.
+ * local 소스셋에 있어 애플리케이션 jar 에는 포함되지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("local")
+public class LocalRedisServer {
+    private final RedisServer redisServer;
+    private final int port;
+
+    public LocalRedisServer(@Value("${spring.data.redis.port:6379}") int port) throws IOException {
+        this.redisServer = new RedisServer(port);
+        this.port = port;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        redisServer.start();
+        log.info("local redis: 127.0.0.1:{} 에서 실행", port);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        redisServer.stop();
+    }
+}
@@ -0,0 +1,456 @@
+package com.petplate.petplate.common.seed;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.StandardNutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.drug.domain.entity.Drug;
+import com.petplate.petplate.drug.domain.entity.DrugNutrient;
+import com.petplate.petplate.drug.repository.DrugNutrientRepository;
+import com.petplate.petplate.drug.repository.DrugRepository;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyBookMarkedRaw;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyFeed;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyPackagedSnack;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyRaw;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
+import com.petplate.petplate.petfood.domain.entity.Raw;
+import com.petplate.petplate.petfood.repository.BookMarkedRawRepository;
+import com.petplate.petplate.petfood.repository.RawRepository;
+import com.petplate.petplate.user.domain.Role;
+import com.petplate.petplate.user.domain.SocialType;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 로컬에서 운영 규모의 데이터를 재현하기 위한 합성 데이터 생성기 (seed 프로필에서만 동작).
+ * <p>
+ * 자연식, 영양제 카탈로그와 유저, 반려견, 즐겨찾기는 JPA로 저장하고,
+ * 수년치의 DailyMeal과 Daily* 식사 내역은 양이 많으므로 JDBC 배치로 저장한다.
+ * 이때 id는 엔티티와 같은 Hibernate 시퀀스 생성기에서 받아 애플리케이션이 발급하는 id와 겹치지 않는다.
+ * DailyMeal의 칼로리, 영양소는 생성한 식사 내역의 합과 일치한다.
+ * 생성이 끝나면 부하 테스트에서 사용할 username,petId 목록을 seed.output 파일로 남긴다.
+ * local 소스셋에 있어 애플리케이션 jar 에는 포함되지 않는다 (bootRunLocal 에서만 사용).
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SyntheticDataSeeder implements ApplicationRunner {
+    private static final int NUTRIENTS = 8;  // 탄수화물, 단백질, 지방, 칼슘, 인, 비타민 A, D, E
+    private static final int CHUNK_DAYS = 60;
+    private static final LocalTime MEAL_TIME = LocalTime.of(9, 0);
+
+    private static final String INSERT_DAILY_MEAL = "insert into daily_meal (kcal, carbon_hydrate, protein, fat, calcium, phosphorus, vitamin_a, vitamin_d, vitamin_e, pet_id, created_at, updated_at, daily_meal_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DAILY_RAW = "insert into daily_raw (daily_meal_id, raw_id, serving, kcal, carbon_hydrate, protein, fat, calcium, phosphorus, vitamin_a, vitamin_d, vitamin_e, created_at, updated_at, daily_raw_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DAILY_FEED = "insert into daily_feed (daily_meal_id, name, serving, kcal, carbon_hydrate, protein, fat, calcium, phosphorus, vitamin_a, vitamin_d, vitamin_e, created_at, updated_at, daily_feed_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DAILY_PACKAGED_SNACK = "insert into daily_packaged_snack (daily_meal_id, name, serving, kcal, carbon_hydrate, protein, fat, calcium, phosphorus, vitamin_a, vitamin_d, vitamin_e, created_at, updated_at, daily_packaged_snack_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DAILY_BOOK_MARKED_RAW = "insert into daily_book_marked_raw (daily_meal_id, book_marked_raw_id, created_at, updated_at, daily_book_marked_raw_id) values (?, ?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final PetRepository petRepository;
+    private final RawRepository rawRepository;
+    private final BookMarkedRawRepository bookMarkedRawRepository;
+    private final DrugRepository drugRepository;
+    private final DrugNutrientRepository drugNutrientRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private final int users;
+    private final int petsPerUser;
+    private final int days;
+    private final int raws;
+    private final int drugs;
+    private final int foodsPerMeal;
+    private final int bookMarksPerUser;
+    private final Path output;
+    private final SplittableRandom random;
+
+    public SyntheticDataSeeder(UserRepository userRepository, PetRepository petRepository, RawRepository rawRepository,
+                               BookMarkedRawRepository bookMarkedRawRepository, DrugRepository drugRepository,
+                               DrugNutrientRepository drugNutrientRepository, JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate, EntityManager entityManager,
+                               @Value("${seed.users:50}") int users,
+                               @Value("${seed.pets-per-user:2}") int petsPerUser,
+                               @Value("${seed.days:730}") int days,
+                               @Value("${seed.raws:300}") int raws,
+                               @Value("${seed.drugs:100}") int drugs,
+                               @Value("${seed.foods-per-meal:4}") int foodsPerMeal,
+                               @Value("${seed.book-marks-per-user:5}") int bookMarksPerUser,
+                               @Value("${seed.output:build/seed/accounts.csv}") String output,
+                               @Value("${seed.random-seed:42}") long randomSeed) {
+        this.userRepository = userRepository;
+        this.petRepository = petRepository;
+        this.rawRepository = rawRepository;
+        this.bookMarkedRawRepository = bookMarkedRawRepository;
+        this.drugRepository = drugRepository;
+        this.drugNutrientRepository = drugNutrientRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.users = users;
+        this.petsPerUser = petsPerUser;
+        this.days = days;
+        this.raws = raws;
+        this.drugs = drugs;
+        this.foodsPerMeal = foodsPerMeal;
+        this.bookMarksPerUser = bookMarksPerUser;
+        this.output = Path.of(output);
+        this.random = new SplittableRandom(randomSeed);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+
+        List<Raw> rawCatalog = transactionTemplate.execute(status -> seedRaws());
+        transactionTemplate.executeWithoutResult(status -> seedDrugs());
+
+        List<String> accounts = new ArrayList<>();
+        long dailyMeals = 0;
+        for (int u = 0; u < users; u++) {
+            int userIndex = u;
+            SeededUser seededUser = transactionTemplate.execute(status -> seedUser(userIndex, rawCatalog));
+
+            for (Pet pet : seededUser.pets()) {
+                dailyMeals += seedDailyMeals(pet.getId(), rawCatalog, seededUser.bookMarkedRaws());
+                accounts.add(seededUser.username() + "," + pet.getId());
+            }
+            log.info("seed: {}/{} 유저 생성 완료", u + 1, users);
+        }
+
+        writeAccounts(accounts);
+        log.info("seed: 자연식 {}, 영양제 {}, 유저 {}, 반려견 {}, DailyMeal {} 생성 ({}ms)",
+                rawCatalog.size(), drugs, users, accounts.size(), dailyMeals, System.currentTimeMillis() - start);
+    }
+
+    private List<Raw> seedRaws() {
+        List<Raw> catalog = new ArrayList<>();
+        for (int i = 0; i < raws; i++) {
+            double[] per100g = {
+                    uniform(0, 30), uniform(1, 30), uniform(0, 20), uniform(0, 0.5), uniform(0, 0.5),
+                    uniform(0, 500), uniform(0, 30), uniform(0, 5)
+            };
+            catalog.add(Raw.builder()
+                    .name("합성 자연식 " + i)
+                    .description(random.nextInt(3) == 0 ? null : "100g")
+                    .standardAmount(100)
+                    .kcal(per100g[0] * 4 + per100g[1] * 4 + per100g[2] * 9)
+                    .nutrient(toNutrient(per100g))
+                    .build());
+        }
+        return rawRepository.saveAll(catalog);
+    }
+
+    private void seedDrugs() {
+        StandardNutrient[] nutrients = StandardNutrient.values();
+        for (int i = 0; i < drugs; i++) {
+            Drug drug = drugRepository.save(Drug.builder()
+                    .name("합성 영양제 " + i)
+                    .englishName("synthetic drug " + i)
+                    .vendor("petplate")
+                    .drugImgPath("https://petplate.kr/drugs/" + i + ".png")
+                    .url("https://petplate.kr/drugs/" + i)
+                    .build());
+
+            // 영양제마다 1~3개의 영양소
+            List<DrugNutrient> drugNutrients = new ArrayList<>();
+            int first = random.nextInt(nutrients.length);
+            int count = 1 + random.nextInt(3);
+            for (int n = 0; n < count; n++) {
+                drugNutrients.add(DrugNutrient.builder()
+                        .drug(drug)
+                        .standardNutrient(nutrients[(first + n) % nutrients.length])
+                        .build());
+            }
+            drugNutrientRepository.saveAll(drugNutrients);
+        }
+    }
+
+    private SeededUser seedUser(int index, List<Raw> rawCatalog) {
+        String username = "seed" + index + "@petplate.kr";
+        User user = userRepository.save(User.builder()
+                .role(Role.GENERAL)
+                .name("seed" + index)
+                .username(username)
+                .password(UUID.randomUUID() + "password")
+                .isReceiveAd(false)
+                .activated(true)
+                .socialType(SocialType.NAVER)
+                .build());
+
+        List<Pet> pets = new ArrayList<>();
+        for (int p = 0; p < petsPerUser; p++) {
+            pets.add(petRepository.save(Pet.builder()
+                    .owner(user)
+                    .name("seed" + index + "-" + p)
+                    .age(1 + random.nextInt(15))
+                    .weight(Math.round(uniform(2, 35) * 10) / 10.0)
+                    .activity(Activity.values()[random.nextInt(Activity.values().length)])
+                    .neutering(Neutering.values()[random.nextInt(Neutering.values().length)])
+                    .build()));
+        }
+
+        List<BookMarkedRaw> bookMarkedRaws = new ArrayList<>();
+        for (int b = 0; b < bookMarksPerUser && !rawCatalog.isEmpty(); b++) {
+            bookMarkedRaws.add(BookMarkedRaw.builder()
+                    .user(user)
+                    .raw(rawCatalog.get(random.nextInt(rawCatalog.size())))
+                    .serving(Math.round(uniform(20, 200)))
+                    .build());
+        }
+
+        return new SeededUser(username, pets, bookMarkedRawRepository.saveAll(bookMarkedRaws));
+    }
+
+    // 오늘부터 days일 전까지 하루에 하나씩 DailyMeal 생성
+    private long seedDailyMeals(Long petId, List<Raw> rawCatalog, List<BookMarkedRaw> bookMarkedRaws) {
+        LocalDate today = LocalDate.now();
+        long created = 0;
+
+        for (int from = days - 1; from >= 0; from -= CHUNK_DAYS) {
+            List<SeededMeal> meals = new ArrayList<>();
+            for (int d = from; d > from - CHUNK_DAYS && d >= 0; d--) {
+                meals.add(generateMeal(LocalDateTime.of(today.minusDays(d), MEAL_TIME), rawCatalog, bookMarkedRaws));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> insertMeals(petId, meals));
+            created += meals.size();
+        }
+
+        return created;
+    }
+
+    private SeededMeal generateMeal(LocalDateTime createdAt, List<Raw> rawCatalog, List<BookMarkedRaw> bookMarkedRaws) {
+        SeededMeal meal = new SeededMeal(Timestamp.valueOf(createdAt));
+        int foods = 1 + random.nextInt(Math.max(1, foodsPerMeal));
+
+        for (int f = 0; f < foods; f++) {
+            int kind = random.nextInt(100);
+            if (kind < 60 && !rawCatalog.isEmpty()) {
+                Raw raw = rawCatalog.get(random.nextInt(rawCatalog.size()));
+                double serving = Math.round(uniform(20, 300));
+                double ratio = serving / raw.getStandardAmount();
+                meal.add(new SeededFood(SeededFood.RAW, raw.getId(), null, serving, raw.getKcal() * ratio,
+                        scale(toArray(raw.getNutrient()), ratio)));
+            } else if (kind < 75) {
+                double serving = Math.round(uniform(30, 150));
+                double[] nutrients = {serving * 0.35, serving * 0.26, serving * 0.14, serving * 0.012, serving * 0.009,
+                        serving * 15, serving * 1.5, serving * 0.5};
+                meal.add(new SeededFood(SeededFood.FEED, null, "합성 사료", serving, serving * 3.7, nutrients));
+            } else if (kind < 85) {
+                double serving = Math.round(uniform(5, 40));
+                double[] nutrients = {serving * 0.5, serving * 0.2, serving * 0.1, serving * 0.005, serving * 0.004,
+                        serving * 2, serving * 0.2, serving * 0.1};
+                meal.add(new SeededFood(SeededFood.PACKAGED_SNACK, null, "합성 간식", serving, serving * 3.2, nutrients));
+            } else if (!bookMarkedRaws.isEmpty()) {
+                BookMarkedRaw bookMarkedRaw = bookMarkedRaws.get(random.nextInt(bookMarkedRaws.size()));
+                meal.add(new SeededFood(SeededFood.BOOK_MARKED_RAW, bookMarkedRaw.getId(), null, bookMarkedRaw.getServing(),
+                        bookMarkedRaw.getKcal(), toArray(bookMarkedRaw.getNutrient())));
+            }
+        }
+
+        return meal;
+    }
+
+    private void insertMeals(Long petId, List<SeededMeal> meals) {
+        IdGenerator dailyMealIds = new IdGenerator(DailyMeal.class);
+        IdGenerator dailyRawIds = new IdGenerator(DailyRaw.class);
+        IdGenerator dailyFeedIds = new IdGenerator(DailyFeed.class);
+        IdGenerator dailyPackagedSnackIds = new IdGenerator(DailyPackagedSnack.class);
+        IdGenerator dailyBookMarkedRawIds = new IdGenerator(DailyBookMarkedRaw.class);
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_DAILY_MEAL)) {
+                for (SeededMeal meal : meals) {
+                    meal.id = dailyMealIds.next();
+                    statement.setDouble(1, meal.kcal);
+                    for (int i = 0; i < NUTRIENTS; i++) {
+                        statement.setDouble(2 + i, meal.nutrients[i]);
+                    }
+                    statement.setLong(10, petId);
+                    statement.setTimestamp(11, meal.createdAt);
+                    statement.setTimestamp(12, meal.createdAt);
+                    statement.setLong(13, meal.id);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+
+            try (PreparedStatement raw = connection.prepareStatement(INSERT_DAILY_RAW);
+                 PreparedStatement feed = connection.prepareStatement(INSERT_DAILY_FEED);
+                 PreparedStatement packagedSnack = connection.prepareStatement(INSERT_DAILY_PACKAGED_SNACK);
+                 PreparedStatement bookMarkedRaw = connection.prepareStatement(INSERT_DAILY_BOOK_MARKED_RAW)) {
+                for (SeededMeal meal : meals) {
+                    for (SeededFood food : meal.foods) {
+                        switch (food.kind) {
+                            case SeededFood.RAW -> {
+                                raw.setLong(1, meal.id);
+                                raw.setLong(2, food.foodId);
+                                setAmounts(raw, food, meal.createdAt);
+                                raw.setLong(15, dailyRawIds.next());
+                                raw.addBatch();
+                            }
+                            case SeededFood.FEED -> {
+                                feed.setLong(1, meal.id);
+                                feed.setString(2, food.name);
+                                setAmounts(feed, food, meal.createdAt);
+                                feed.setLong(15, dailyFeedIds.next());
+                                feed.addBatch();
+                            }
+                            case SeededFood.PACKAGED_SNACK -> {
+                                packagedSnack.setLong(1, meal.id);
+                                packagedSnack.setString(2, food.name);
+                                setAmounts(packagedSnack, food, meal.createdAt);
+                                packagedSnack.setLong(15, dailyPackagedSnackIds.next());
+                                packagedSnack.addBatch();
+                            }
+                            default -> {
+                                bookMarkedRaw.setLong(1, meal.id);
+                                bookMarkedRaw.setLong(2, food.foodId);
+                                bookMarkedRaw.setTimestamp(3, meal.createdAt);
+                                bookMarkedRaw.setTimestamp(4, meal.createdAt);
+                                bookMarkedRaw.setLong(5, dailyBookMarkedRawIds.next());
+                                bookMarkedRaw.addBatch();
+                            }
+                        }
+                    }
+                }
+                raw.executeBatch();
+                feed.executeBatch();
+                packagedSnack.executeBatch();
+                bookMarkedRaw.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    // 3번째 파라미터부터 serving, kcal, 영양소 8개, created_at, updated_at
+    private static void setAmounts(PreparedStatement statement, SeededFood food, Timestamp createdAt) throws SQLException {
+        statement.setDouble(3, food.serving);
+        statement.setDouble(4, food.kcal);
+        for (int i = 0; i < NUTRIENTS; i++) {
+            statement.setDouble(5 + i, food.nutrients[i]);
+        }
+        statement.setTimestamp(13, createdAt);
+        statement.setTimestamp(14, createdAt);
+    }
+
+    private void writeAccounts(List<String> accounts) {
+        try {
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            List<String> lines = new ArrayList<>();
+            lines.add("username,petId");
+            lines.addAll(accounts);
+            Files.write(output, lines);
+            log.info("seed: 계정 목록 저장 {}", output.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private double uniform(double min, double max) {
+        return min + random.nextDouble() * (max - min);
+    }
+
+    private static Nutrient toNutrient(double[] nutrients) {
+        return Nutrient.builder()
+                .carbonHydrate(nutrients[0]).protein(nutrients[1]).fat(nutrients[2])
+                .calcium(nutrients[3]).phosphorus(nutrients[4])
+                .vitamin(Vitamin.builder().vitaminA(nutrients[5]).vitaminD(nutrients[6]).vitaminE(nutrients[7]).build())
+                .build();
+    }
+
+    private static double[] toArray(Nutrient nutrient) {
+        Vitamin vitamin = nutrient.getVitamin();
+        return new double[]{nutrient.getCarbonHydrate(), nutrient.getProtein(), nutrient.getFat(),
+                nutrient.getCalcium(), nutrient.getPhosphorus(),
+                vitamin.getVitaminA(), vitamin.getVitaminD(), vitamin.getVitaminE()};
+    }
+
+    private static double[] scale(double[] nutrients, double ratio) {
+        double[] scaled = new double[nutrients.length];
+        for (int i = 0; i < nutrients.length; i++) {
+            scaled[i] = nutrients[i] * ratio;
+        }
+        return scaled;
+    }
+
+    // 엔티티에 설정된 pooled 시퀀스 생성기로 id 발급 (트랜잭션 안에서 사용)
+    private final class IdGenerator {
+        private final EntityPersister persister;
+
+        private IdGenerator(Class<?> entityType) {
+            this.persister = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel().getEntityDescriptor(entityType);
+        }
+
+        private long next() {
+            SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+            return ((Number) persister.getIdentifierGenerator().generate(session, null)).longValue();
+        }
+    }
+
+    private record SeededUser(String username, List<Pet> pets, List<BookMarkedRaw> bookMarkedRaws) {
+    }
+
+    private record SeededFood(int kind, Long foodId, String name, double serving, double kcal, double[] nutrients) {
+        private static final int RAW = 0;
+        private static final int FEED = 1;
+        private static final int PACKAGED_SNACK = 2;
+        private static final int BOOK_MARKED_RAW = 3;
+    }
+
+    private static final class SeededMeal {
+        private final Timestamp createdAt;
+        private final List<SeededFood> foods = new ArrayList<>();
+        private final double[] nutrients = new double[NUTRIENTS];
+        private double kcal;
+        private long id;
+
+        private SeededMeal(Timestamp createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        private void add(SeededFood food) {
+            foods.add(food);
+            kcal += food.kcal();
+            for (int i = 0; i < NUTRIENTS; i++) {
+                nutrients[i] += food.nutrients()[i];
+            }
+        }
+    }
+}
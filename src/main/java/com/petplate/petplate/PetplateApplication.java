@@ -1,17 +1,26 @@
 package com.petplate.petplate;
 
 import jakarta.annotation.PostConstruct;
+import java.util.Map;
 import java.util.TimeZone;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class PetplateApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(PetplateApplication.class, args);
+		SpringApplication application = new SpringApplication(PetplateApplication.class);
+		// application.yml에서 덮어쓸 수 있는 기본값
+		application.setDefaultProperties(Map.of(
+				"management.endpoints.web.exposure.include", "health,prometheus",
+				"management.endpoint.health.show-details", "never"
+		));
+		application.run(args);
 	}
 
 
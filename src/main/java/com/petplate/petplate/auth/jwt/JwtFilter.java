@@ -1,5 +1,6 @@
 package com.petplate.petplate.auth.jwt;
 
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +19,7 @@ public class JwtFilter extends OncePerRequestFilter {
     private final String AUTHORIZATION_KEY = "Authorization";
     private final TokenProvider tokenProvider;
     private final RedisTemplate<String,String> redisTemplate;
+    private final RedisOperationTimer redisOperationTimer;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -26,7 +28,8 @@ public class JwtFilter extends OncePerRequestFilter {
         String tokenValue = parseHeader(request);
 
         if(StringUtils.hasText(tokenValue) && tokenProvider.validateToken(tokenValue)) {
-            String logOut=(String) redisTemplate.opsForValue().get(tokenValue);
+            String logOut=redisOperationTimer.record("JwtFilter","get",
+                    ()->redisTemplate.opsForValue().get(tokenValue));
             if(ObjectUtils.isEmpty(logOut)){
                 Authentication authentication = tokenProvider.getAuthentication(tokenValue);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
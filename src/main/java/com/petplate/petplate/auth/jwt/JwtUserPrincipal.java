@@ -0,0 +1,22 @@
+package com.petplate.petplate.auth.jwt;
+
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 액세스 토큰의 클레임만으로 만든 인증 주체.
+ * 유저 PK를 함께 담아 @CurrentUserPK 로 DB 조회 없이 꺼낼 수 있다.
+ * uid 클레임이 없는 이전 토큰은 id가 null 이다.
+ */
+@Getter
+public class JwtUserPrincipal extends User {
+
+    private final Long id;
+
+    public JwtUserPrincipal(Long id, String username, Collection<? extends GrantedAuthority> authorities) {
+        super(username, "", authorities);
+        this.id = id;
+    }
+}
@@ -24,13 +24,13 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 public class TokenProvider implements InitializingBean {
     private final static String AUTHORIZATION_KEY = "auth";
+    private final static String USER_ID_KEY = "uid";
     private final Long validationTime;
     private final Long refreshTokenValidationTime;
     private final String secret;
@@ -61,6 +61,7 @@ public class TokenProvider implements InitializingBean {
                 .setExpiration(new Date(now + validationTime))
                 .setSubject(authentication.getName())
                 .claim(AUTHORIZATION_KEY, authorities)
+                .claim(USER_ID_KEY, getUserId(authentication))
                 .signWith(this.key, SignatureAlgorithm.HS512)
                 .compact();
 
@@ -91,6 +92,7 @@ public class TokenProvider implements InitializingBean {
                 .setExpiration(new Date(now + validationTime))//토큰 만료시간 payload 에 exp 의 형태로
                 .setSubject(oAuth2User.getUsername()) //토큰 sub (토큰 제목)
                 .claim(AUTHORIZATION_KEY, authorities)// auth 라는 key 로 authroities 즉 General or ADMIN 이 들어감
+                .claim(USER_ID_KEY, oAuth2User.getUserId())// uid 라는 key 로 유저 PK 가 들어감
                 .signWith(this.key, SignatureAlgorithm.HS512)
                 .compact();
 
@@ -111,6 +113,10 @@ public class TokenProvider implements InitializingBean {
     }
 
     public TokenDto createTokenByUserProperty(String username,String authorities) {
+        return createTokenByUserProperty(null, username, authorities);
+    }
+
+    public TokenDto createTokenByUserProperty(Long userId,String username,String authorities) {
 
         long now = (new Date()).getTime();
 
@@ -120,6 +126,7 @@ public class TokenProvider implements InitializingBean {
                 .setExpiration(new Date(now + validationTime))//토큰 만료시간 payload 에 exp 의 형태로
                 .setSubject(username) //토큰 sub (토큰 제목)
                 .claim(AUTHORIZATION_KEY, authorities)// auth 라는 key 로 authroities 즉 General or ADMIN 이 들어감
+                .claim(USER_ID_KEY, userId)// uid 라는 key 로 유저 PK 가 들어감
                 .signWith(this.key, SignatureAlgorithm.HS512)
                 .compact();
 
@@ -149,13 +156,21 @@ public class TokenProvider implements InitializingBean {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
-        System.out.println(claims.getSubject());
-
-        User principal = new User(claims.getSubject(), "", authorities);
+        // uid 클레임이 없는 이전 토큰은 id 없이 인증 주체를 만든다
+        Number userId = claims.get(USER_ID_KEY, Number.class);
+        JwtUserPrincipal principal = new JwtUserPrincipal(userId == null ? null : userId.longValue(),
+                claims.getSubject(), authorities);
 
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
+    private Long getUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof JwtUserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
     // 토큰 유효성 검사
     public boolean validateToken(String token) {
         try {
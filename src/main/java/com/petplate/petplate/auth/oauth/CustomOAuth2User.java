@@ -10,15 +10,17 @@ import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 @Getter
 public class CustomOAuth2User extends DefaultOAuth2User {
 
+    private Long userId;
     private String username;
     private Role role;
 
 
     public CustomOAuth2User(Collection<? extends GrantedAuthority> authorities,
             Map<String, Object> attributes, String nameAttributeKey,
-            String username,Role role){
+            Long userId,String username,Role role){
 
         super(authorities,attributes,nameAttributeKey);
+        this.userId = userId;
         this.username = username;
         this.role = role;
 
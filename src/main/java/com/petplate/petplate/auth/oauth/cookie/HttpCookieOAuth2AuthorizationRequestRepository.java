@@ -3,6 +3,7 @@ package com.petplate.petplate.auth.oauth.cookie;
 import com.petplate.petplate.common.utils.CookieUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
@@ -18,11 +19,13 @@ public class HttpCookieOAuth2AuthorizationRequestRepository implements Authoriza
     public static final String MODE_PARAM_COOKIE_NAME = "mode";
     private static final int COOKIE_EXPIRE_SECONDS = 180;
 
+    private final OAuth2AuthorizationRequestCookieCodec oAuth2AuthorizationRequestCookieCodec;
+
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
 
         return CookieUtils.getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME)
-                .map(cookie -> CookieUtils.deserialize(cookie, OAuth2AuthorizationRequest.class))
+                .map(cookie -> oAuth2AuthorizationRequestCookieCodec.decode(cookie.getValue()))
                 .orElse(null);
     }
 
@@ -41,7 +44,7 @@ public class HttpCookieOAuth2AuthorizationRequestRepository implements Authoriza
 
         CookieUtils.addCookie(response,
                 OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME,
-                CookieUtils.serialize(authorizationRequest),
+                oAuth2AuthorizationRequestCookieCodec.encode(authorizationRequest, Duration.ofSeconds(COOKIE_EXPIRE_SECONDS)),
                 COOKIE_EXPIRE_SECONDS);
 
         String redirectUriAfterLogin = request.getParameter(REDIRECT_URI_PARAM_COOKIE_NAME);
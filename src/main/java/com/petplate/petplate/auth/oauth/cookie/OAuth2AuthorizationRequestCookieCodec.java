@@ -0,0 +1,270 @@
+package com.petplate.petplate.auth.oauth.cookie;
+
+import io.jsonwebtoken.io.Decoders;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * oauth2_auth_request 쿠키 값 인코딩.
+ * <p>
+ * Java 직렬화 대신 OAuth2AuthorizationRequest 의 필드만 바이너리로 기록하고 HMAC-SHA256 으로 서명한다.
+ * authorizationRequestUri 는 다른 필드로 다시 만들 수 있으므로 저장하지 않으며,
+ * 본문이 COMPRESS_THRESHOLD 바이트 이상이고 압축해서 작아질 때만 deflate 로 압축한다.
+ * <p>
+ * 형식: base64url(버전 1B | 플래그 1B | 본문 | HMAC 32B), 본문 첫 필드는 만료 시각(epoch 초)이다.
+ * 서명이 다르거나, 만료되었거나, 읽을 수 없는 값은 null 로 처리한다 (인가 요청 없음).
+ * 서명 키는 jwt.secret 에서 용도별로 파생하므로 JWT 서명 키와 같은 값을 쓰지 않는다.
+ */
+@Component
+@Slf4j
+public class OAuth2AuthorizationRequestCookieCodec {
+    private static final byte VERSION = 1;
+    private static final int FLAG_DEFLATED = 1;
+    private static final int HEADER_LENGTH = 2;
+    private static final int MAC_LENGTH = 32;
+    private static final int COMPRESS_THRESHOLD = 256;
+    private static final int MAX_INFLATED_LENGTH = 8192;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final byte[] KEY_CONTEXT = "oauth2-authorization-request-cookie".getBytes(StandardCharsets.UTF_8);
+
+    private final SecretKeySpec key;
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public OAuth2AuthorizationRequestCookieCodec(@Value("${jwt.secret}") String secret) {
+        this(deriveKey(Decoders.BASE64.decode(secret)), Clock.systemUTC());
+    }
+
+    OAuth2AuthorizationRequestCookieCodec(byte[] key, Clock clock) {
+        this.key = new SecretKeySpec(key, MAC_ALGORITHM);
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(() -> newMac(this.key));
+    }
+
+    /**
+     * @param authorizationRequest authorization_code 요청만 지원
+     * @param maxAge 쿠키 유효 시간, 이후에는 decode 가 null 을 반환한다
+     * @return 쿠키 값
+     */
+    public String encode(OAuth2AuthorizationRequest authorizationRequest, Duration maxAge) {
+        if (!AuthorizationGrantType.AUTHORIZATION_CODE.equals(authorizationRequest.getGrantType())) {
+            throw new IllegalArgumentException("지원하지 않는 grant type " + authorizationRequest.getGrantType().getValue());
+        }
+
+        byte[] body = writeBody(authorizationRequest, clock.instant().plus(maxAge).getEpochSecond());
+        int flags = 0;
+        if (body.length >= COMPRESS_THRESHOLD) {
+            byte[] deflated = deflate(body);
+            if (deflated.length < body.length) {
+                body = deflated;
+                flags |= FLAG_DEFLATED;
+            }
+        }
+
+        byte[] value = new byte[HEADER_LENGTH + body.length + MAC_LENGTH];
+        value[0] = VERSION;
+        value[1] = (byte) flags;
+        System.arraycopy(body, 0, value, HEADER_LENGTH, body.length);
+        System.arraycopy(sign(value, HEADER_LENGTH + body.length), 0, value, HEADER_LENGTH + body.length, MAC_LENGTH);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    /**
+     * @param cookieValue
+     * @return 서명이 맞고 만료되지 않았으면 인가 요청, 아니면 null
+     */
+    public OAuth2AuthorizationRequest decode(String cookieValue) {
+        try {
+            byte[] value = Base64.getUrlDecoder().decode(cookieValue);
+            if (value.length < HEADER_LENGTH + MAC_LENGTH || value[0] != VERSION) {
+                return null;
+            }
+
+            int signedLength = value.length - MAC_LENGTH;
+            byte[] mac = Arrays.copyOfRange(value, signedLength, value.length);
+            if (!MessageDigest.isEqual(mac, sign(value, signedLength))) {
+                log.warn("서명이 맞지 않는 인가 요청 쿠키");
+                return null;
+            }
+
+            byte[] body = Arrays.copyOfRange(value, HEADER_LENGTH, signedLength);
+            if ((value[1] & FLAG_DEFLATED) != 0) {
+                body = inflate(body);
+            }
+            return readBody(body);
+        } catch (IOException | DataFormatException | IllegalArgumentException e) {
+            log.warn("인가 요청 쿠키를 읽지 못함", e);
+            return null;
+        }
+    }
+
+    private byte[] writeBody(OAuth2AuthorizationRequest authorizationRequest, long expiresAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(expiresAt);
+            writeString(out, authorizationRequest.getAuthorizationUri());
+            writeString(out, authorizationRequest.getClientId());
+            writeString(out, authorizationRequest.getRedirectUri());
+            writeString(out, authorizationRequest.getState());
+
+            out.writeShort(authorizationRequest.getScopes().size());
+            for (String scope : authorizationRequest.getScopes()) {
+                writeString(out, scope);
+            }
+            writeMap(out, authorizationRequest.getAdditionalParameters());
+            writeMap(out, authorizationRequest.getAttributes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private OAuth2AuthorizationRequest readBody(byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        if (in.readLong() < clock.instant().getEpochSecond()) {
+            return null;
+        }
+
+        String authorizationUri = readString(in);
+        String clientId = readString(in);
+        String redirectUri = readString(in);
+        String state = readString(in);
+
+        int scopeCount = in.readUnsignedShort();
+        Set<String> scopes = new LinkedHashSet<>();
+        for (int i = 0; i < scopeCount; i++) {
+            scopes.add(readString(in));
+        }
+        Map<String, Object> additionalParameters = readMap(in);
+        Map<String, Object> attributes = readMap(in);
+
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(authorizationUri)
+                .clientId(clientId)
+                .redirectUri(redirectUri)
+                .state(state)
+                .scopes(scopes)
+                .additionalParameters(additionalParameters)
+                .attributes(attributes)
+                .build();
+    }
+
+    // 파라미터와 속성 값은 문자열(state, nonce, code_verifier, registration_id 등)만 쓰이므로 문자열로 기록한다
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeShort(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue() == null ? null : entry.getValue().toString());
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readString(in));
+        }
+        return map;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // 서명을 확인한 뒤에만 호출하지만, 압축 해제 크기는 MAX_INFLATED_LENGTH 로 제한한다
+    private static byte[] inflate(byte[] body) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(body);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 3);
+            byte[] buffer = new byte[512];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("잘린 압축 데이터");
+                }
+                out.write(buffer, 0, inflated);
+                if (out.size() > MAX_INFLATED_LENGTH) {
+                    throw new DataFormatException("압축 해제 크기 초과");
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private byte[] sign(byte[] value, int length) {
+        Mac mac = macs.get();
+        mac.update(value, 0, length);
+        return mac.doFinal();
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // HMAC(secret, 용도) 로 쿠키 서명 전용 키를 만든다
+    static byte[] deriveKey(byte[] secret) {
+        Mac mac = newMac(new SecretKeySpec(secret, MAC_ALGORITHM));
+        return mac.doFinal(KEY_CONTEXT);
+    }
+}
@@ -8,7 +8,6 @@ import com.petplate.petplate.user.repository.UserRepository;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,10 +18,10 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
     private final UserRepository userRepository;
 
@@ -34,6 +33,16 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
     private final SocialLoginTokenUtil socialLoginTokenUtil;
 
+    // 요청마다 만들지 않고 연결 풀을 공유하는 RestTemplate(OAuth2HttpClientConfig)으로 한 번만 만든다
+    private final DefaultOAuth2UserService delegate;
+
+    public CustomOAuth2UserService(UserRepository userRepository, SocialLoginTokenUtil socialLoginTokenUtil,
+            RestTemplate oAuth2UserInfoRestTemplate) {
+        this.userRepository = userRepository;
+        this.socialLoginTokenUtil = socialLoginTokenUtil;
+        this.delegate = new DefaultOAuth2UserService();
+        this.delegate.setRestOperations(oAuth2UserInfoRestTemplate);
+    }
 
 
 
@@ -43,7 +52,6 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
 
 
-        OAuth2UserService<OAuth2UserRequest,OAuth2User> delegate=new DefaultOAuth2UserService();
         OAuth2User oAuth2User=delegate.loadUser(userRequest);
 
         //1
@@ -75,7 +83,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
                 Collections.singleton(new SimpleGrantedAuthority(createdMember.getRole().name())),
                 attributes,
                 extractAttributes.getNameAttributeKey(),
-                createdMember.getUsername(),createdMember.getRole()
+                createdMember.getId(),createdMember.getUsername(),createdMember.getRole()
         );
 
     }
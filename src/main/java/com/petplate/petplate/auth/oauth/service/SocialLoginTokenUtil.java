@@ -83,7 +83,8 @@ public class SocialLoginTokenUtil {
 
     private SocialLoginReIssueResponseDto getNewSocialLoginAccessToken(String refreshToken){
         return webClient.get()
-                .uri("?grant_type=refresh_token&client_id="+naverClientId+"&client_secret="+naverClientSecret+"&refresh_token="+refreshToken)
+                .uri("?grant_type=refresh_token&client_id={clientId}&client_secret={clientSecret}&refresh_token={refreshToken}",
+                        naverClientId,naverClientSecret,refreshToken)
                 .retrieve()
                 .bodyToMono(SocialLoginReIssueResponseDto.class)
                 .block();
@@ -92,7 +93,8 @@ public class SocialLoginTokenUtil {
     public SocialLoginTokenRequestResponseDto getSocialLoginTokenIssue(String code){
 
         SocialLoginTokenRequestResponseDto socialLoginTokenRequestResponseDto= webClient.get()
-                .uri("?grant_type=authorization_code&client_id="+naverClientId+"&client_secret="+naverClientSecret+"&code="+code)
+                .uri("?grant_type=authorization_code&client_id={clientId}&client_secret={clientSecret}&code={code}",
+                        naverClientId,naverClientSecret,code)
                 .retrieve()
                 .bodyToMono(SocialLoginTokenRequestResponseDto.class)
                 .block();
@@ -122,9 +124,12 @@ public class SocialLoginTokenUtil {
     }
 
 
-    public void unlinkNaver(String username){
-
-        User findUser = findUserByUsername(username);
+    /**
+     * 네이버 연동 해제. 탈퇴 후 SocialUnlinkWorker 가 트랜잭션 밖에서 호출하므로 유저를 조회하지 않는다.
+     * @param username
+     * @param socialLoginRefreshToken 탈퇴 시 보관한 리프레시 토큰
+     */
+    public void unlinkNaver(String username, String socialLoginRefreshToken){
 
         String oldAccessToken = (String) redisTemplate.opsForValue().get(username+SOCIAL_LOGIN_AT_POST_FIX);
 
@@ -135,7 +140,7 @@ public class SocialLoginTokenUtil {
         }
         else{
             SocialLoginReIssueResponseDto tokenReIssueResponseDto = getNewSocialLoginAccessToken(
-                    findUser.getSocialLoginRefreshToken());
+                    socialLoginRefreshToken);
 
             if(!checkValidateAccessToken(tokenReIssueResponseDto.getAccess_token())){
                 throw new InternalServerErrorException(ErrorCode.SOCIAL_REFRESH_TOKEN_ERROR);
@@ -146,7 +151,8 @@ public class SocialLoginTokenUtil {
 
 
         SocialLoginCheckDeleteResponseDto socialLoginCheckDeleteResponseDto = webClient.get()
-                .uri("?grant_type=delete&client_id="+naverClientId+"&client_secret="+naverClientSecret+"&access_token="+sendToken)
+                .uri("?grant_type=delete&client_id={clientId}&client_secret={clientSecret}&access_token={accessToken}",
+                        naverClientId,naverClientSecret,sendToken)
                 .retrieve()
                 .bodyToMono(SocialLoginCheckDeleteResponseDto.class)
                 .block();
@@ -157,6 +163,7 @@ public class SocialLoginTokenUtil {
             throw new InternalServerErrorException(ErrorCode.SOCIAL_UNLINK_FAIL);
         }
 
+        redisTemplate.delete(username+SOCIAL_LOGIN_AT_POST_FIX);
 
     }
 
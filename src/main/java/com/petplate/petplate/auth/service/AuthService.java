@@ -2,14 +2,17 @@ package com.petplate.petplate.auth.service;
 
 import com.petplate.petplate.auth.dto.response.AuthResponseWithTokenAndRedirectUserInfo;
 import com.petplate.petplate.auth.dto.response.UserEnrollResponseDto;
+import com.petplate.petplate.auth.jwt.JwtUserPrincipal;
 import com.petplate.petplate.auth.jwt.TokenProvider;
 import com.petplate.petplate.auth.oauth.Dto.SocialInfoWithTokenDto;
 import com.petplate.petplate.auth.oauth.Dto.SocialLoginProfileResponseDto;
 import com.petplate.petplate.auth.oauth.Dto.SocialLoginTokenRequestResponseDto;
 import com.petplate.petplate.auth.oauth.Dto.TokenDto;
 import com.petplate.petplate.auth.oauth.service.SocialLoginTokenUtil;
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
+import com.petplate.petplate.common.response.error.exception.NotFoundException;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.user.domain.Role;
 import com.petplate.petplate.user.domain.SocialType;
@@ -17,11 +20,15 @@ import com.petplate.petplate.user.domain.entity.User;
 import com.petplate.petplate.user.repository.UserRepository;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +41,10 @@ public class AuthService {
     private final SocialLoginTokenUtil socialLoginTokenUtil;
     private final UserRepository userRepository;
     private final PetRepository petRepository;
+    private final RedisOperationTimer redisOperationTimer;
+    private final TransactionTemplate transactionTemplate;
+
+    private final static String CALLER = "AuthService";
 
     @Transactional
     public void logout(final String accessToken){
@@ -44,13 +55,14 @@ public class AuthService {
 
         Authentication authentication = tokenProvider.getAuthentication(accessToken);
 
-        if (redisTemplate.opsForValue().get(authentication.getName())!=null){
-            redisTemplate.delete(authentication.getName());
+        if (redisOperationTimer.record(CALLER,"get",()->redisTemplate.opsForValue().get(authentication.getName()))!=null){
+            redisOperationTimer.run(CALLER,"delete",()->redisTemplate.delete(authentication.getName()));
         }
 
 
         Long expiration = tokenProvider.getExpiration(accessToken);
-        redisTemplate.opsForValue().set(accessToken,"logout",expiration, TimeUnit.MILLISECONDS);
+        redisOperationTimer.run(CALLER,"set",
+                ()->redisTemplate.opsForValue().set(accessToken,"logout",expiration, TimeUnit.MILLISECONDS));
 
     }
 
@@ -59,27 +71,64 @@ public class AuthService {
 
         Authentication authentication= tokenProvider.getAuthentication(accessToken);
 
-        if(!redisTemplate.opsForValue().get(authentication.getName()).equals(refreshToken)){
+        if(!redisOperationTimer.record(CALLER,"get",()->redisTemplate.opsForValue().get(authentication.getName())).equals(refreshToken)){
             throw new BadRequestException(ErrorCode.REFRESH_TOKEN_NOT_MATCH);
         }
 
         //자체 토큰
-        TokenDto tokenDto=tokenProvider.createToken(authentication);
+        TokenDto tokenDto=createTokenWithUserId(authentication);
         saveRefreshTokenAtRedis(authentication.getName(),tokenDto);
 
 
         return tokenDto;
     }
 
+    // uid 클레임이 없는 이전 토큰은 재발급 시 한 번만 유저를 조회하여 uid 를 채운다
+    private TokenDto createTokenWithUserId(Authentication authentication){
+        JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+        if(principal.getId() != null){
+            return tokenProvider.createToken(authentication);
+        }
+
+        User findUser = userRepository.findByUsername(principal.getUsername())
+                .orElseThrow(()->new NotFoundException(ErrorCode.USER_NOT_FOUND));
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        return tokenProvider.createTokenByUserProperty(findUser.getId(),findUser.getUsername(),authorities);
+    }
+
     private void saveRefreshTokenAtRedis(String key, TokenDto tokenDto){
-        redisTemplate.opsForValue().set(key,tokenDto.getRefreshToken(),tokenDto.getRefreshTokenValidationTime(),TimeUnit.MILLISECONDS);
+        redisOperationTimer.run(CALLER,"set",()->redisTemplate.opsForValue()
+                .set(key,tokenDto.getRefreshToken(),tokenDto.getRefreshTokenValidationTime(),TimeUnit.MILLISECONDS));
     }
 
-    @Transactional
+    /**
+     * 네이버 호출(토큰 발급, 프로필 조회)은 트랜잭션 밖에서 끝내고, 유저 저장만 짧은 트랜잭션으로 커밋한다.
+     * 네이버 응답을 기다리는 동안 DB 커넥션을 잡지 않으므로 로그인이 몰려도 커넥션 풀이 고갈되지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponseWithTokenAndRedirectUserInfo getTokenByCode(final String code){
 
         SocialInfoWithTokenDto socialInfoWithTokenDto = socialLoginTokenUtil.getSocialInfoAndTokenByCode(code);
 
+        User createdMember = transactionTemplate.execute(status -> saveSocialLoginUser(socialInfoWithTokenDto));
+
+        socialLoginTokenUtil.saveSocialLoginAccessToken(createdMember.getUsername(),socialInfoWithTokenDto.getSocialLoginAccessToken());
+
+        TokenDto tokenDto = tokenProvider.createTokenByUserProperty(createdMember.getId(),createdMember.getUsername(),createdMember.getRole().name());
+        saveRefreshTokenAtRedis(createdMember.getUsername(),tokenDto);
+
+        return AuthResponseWithTokenAndRedirectUserInfo.builder()
+                .tokenDto(tokenDto)
+                .userEnrollResponseDto(getBasicUserInfoForRedirect(createdMember.getUsername()))
+                .build();
+
+    }
+
+    private User saveSocialLoginUser(SocialInfoWithTokenDto socialInfoWithTokenDto){
+
         User createdMember = userRepository.findBySocialTypeAndUsername(SocialType.NAVER,socialInfoWithTokenDto.getEmail())
                 .orElseGet(()->{
                     User savedUser = User.builder()
@@ -98,16 +147,7 @@ public class AuthService {
                 });
 
         createdMember.changeSocialLoginRefreshToken(socialInfoWithTokenDto.getSocialLoginRefreshToken());
-        socialLoginTokenUtil.saveSocialLoginAccessToken(createdMember.getUsername(),socialInfoWithTokenDto.getSocialLoginAccessToken());
-
-        TokenDto tokenDto = tokenProvider.createTokenByUserProperty(createdMember.getUsername(),createdMember.getRole().name());
-        saveRefreshTokenAtRedis(createdMember.getUsername(),tokenDto);
-
-        return AuthResponseWithTokenAndRedirectUserInfo.builder()
-                .tokenDto(tokenDto)
-                .userEnrollResponseDto(getBasicUserInfoForRedirect(createdMember.getUsername()))
-                .build();
-
+        return createdMember;
     }
 
     public UserEnrollResponseDto getBasicUserInfoForRedirect(String username){
@@ -0,0 +1,137 @@
+package com.petplate.petplate.common.EmbeddedType;
+
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+
+import java.util.Arrays;
+
+/**
+ * 8가지 영양소를 StandardNutrient 순서(ordinal)의 double 배열로 다루는 가변 벡터.
+ * 여러 음식의 영양소를 합산하거나 비교할 때 Nutrient, Vitamin 객체를 매번 생성하지 않기 위해 사용한다.
+ */
+public class NutrientVector {
+    public static final int SIZE = StandardNutrient.values().length;
+
+    private final double[] amounts;
+
+    private NutrientVector(double[] amounts) {
+        this.amounts = amounts;
+    }
+
+    public static NutrientVector zero() {
+        return new NutrientVector(new double[SIZE]);
+    }
+
+    public static NutrientVector from(Nutrient nutrient) {
+        double[] amounts = new double[SIZE];
+        write(nutrient, 1, amounts, 0);
+
+        return new NutrientVector(amounts);
+    }
+
+    // 반려견의 영양소별 적정 섭취량
+    public static NutrientVector properOf(double weight, Activity activity, Neutering neutering) {
+        double[] amounts = new double[SIZE];
+        for (StandardNutrient standardNutrient : StandardNutrient.values()) {
+            amounts[standardNutrient.ordinal()] = standardNutrient.calculateProperAmount(weight, activity, neutering);
+        }
+
+        return new NutrientVector(amounts);
+    }
+
+    // 반려견의 영양소별 최대 적정 섭취량
+    public static NutrientVector maximumOf(double weight, Activity activity, Neutering neutering) {
+        double[] amounts = new double[SIZE];
+        for (StandardNutrient standardNutrient : StandardNutrient.values()) {
+            amounts[standardNutrient.ordinal()] = standardNutrient.calculateProperMaximumAmount(weight, activity, neutering);
+        }
+
+        return new NutrientVector(amounts);
+    }
+
+    /**
+     * nutrient에 scale을 곱한 값을 dest[offset]부터 StandardNutrient 순서로 기록
+     *
+     * @param nutrient
+     * @param scale
+     * @param dest
+     * @param offset
+     */
+    public static void write(Nutrient nutrient, double scale, double[] dest, int offset) {
+        Vitamin vitamin = nutrient.getVitamin();
+
+        dest[offset + StandardNutrient.CARBON_HYDRATE.ordinal()] = nutrient.getCarbonHydrate() * scale;
+        dest[offset + StandardNutrient.PROTEIN.ordinal()] = nutrient.getProtein() * scale;
+        dest[offset + StandardNutrient.FAT.ordinal()] = nutrient.getFat() * scale;
+        dest[offset + StandardNutrient.CALCIUM.ordinal()] = nutrient.getCalcium() * scale;
+        dest[offset + StandardNutrient.PHOSPHORUS.ordinal()] = nutrient.getPhosphorus() * scale;
+        dest[offset + StandardNutrient.VITAMIN_A.ordinal()] = vitamin.getVitaminA() * scale;
+        dest[offset + StandardNutrient.VITAMIN_D.ordinal()] = vitamin.getVitaminD() * scale;
+        dest[offset + StandardNutrient.VITAMIN_E.ordinal()] = vitamin.getVitaminE() * scale;
+    }
+
+    public double get(StandardNutrient standardNutrient) {
+        return amounts[standardNutrient.ordinal()];
+    }
+
+    public double get(int index) {
+        return amounts[index];
+    }
+
+    public NutrientVector add(Nutrient nutrient) {
+        Vitamin vitamin = nutrient.getVitamin();
+
+        amounts[StandardNutrient.CARBON_HYDRATE.ordinal()] += nutrient.getCarbonHydrate();
+        amounts[StandardNutrient.PROTEIN.ordinal()] += nutrient.getProtein();
+        amounts[StandardNutrient.FAT.ordinal()] += nutrient.getFat();
+        amounts[StandardNutrient.CALCIUM.ordinal()] += nutrient.getCalcium();
+        amounts[StandardNutrient.PHOSPHORUS.ordinal()] += nutrient.getPhosphorus();
+        amounts[StandardNutrient.VITAMIN_A.ordinal()] += vitamin.getVitaminA();
+        amounts[StandardNutrient.VITAMIN_D.ordinal()] += vitamin.getVitaminD();
+        amounts[StandardNutrient.VITAMIN_E.ordinal()] += vitamin.getVitaminE();
+
+        return this;
+    }
+
+    public NutrientVector add(NutrientVector other) {
+        for (int i = 0; i < SIZE; i++) {
+            amounts[i] += other.amounts[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * 밀도 행렬의 한 행(matrix[offset] ~ matrix[offset + SIZE - 1])에 scale을 곱하여 더함
+     *
+     * @param matrix
+     * @param offset
+     * @param scale
+     */
+    public NutrientVector addScaled(double[] matrix, int offset, double scale) {
+        for (int i = 0; i < SIZE; i++) {
+            amounts[i] += matrix[offset + i] * scale;
+        }
+
+        return this;
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(amounts, SIZE);
+    }
+
+    public Nutrient toNutrient() {
+        return Nutrient.builder()
+                .carbonHydrate(get(StandardNutrient.CARBON_HYDRATE))
+                .protein(get(StandardNutrient.PROTEIN))
+                .fat(get(StandardNutrient.FAT))
+                .calcium(get(StandardNutrient.CALCIUM))
+                .phosphorus(get(StandardNutrient.PHOSPHORUS))
+                .vitamin(Vitamin.builder()
+                        .vitaminA(get(StandardNutrient.VITAMIN_A))
+                        .vitaminD(get(StandardNutrient.VITAMIN_D))
+                        .vitaminE(get(StandardNutrient.VITAMIN_E))
+                        .build())
+                .build();
+    }
+}
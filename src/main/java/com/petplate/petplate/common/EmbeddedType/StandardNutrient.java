@@ -241,6 +241,19 @@ public enum StandardNutrient {
         return standardNutrientMap;
     }
 
+    // 영양소의 적정 섭취량 (탄수화물은 적정 칼로리 기반으로 계산)
+    public double calculateProperAmount(double weight, Activity activity, Neutering neutering) {
+        if (this == CARBON_HYDRATE) {
+            return calculateProperCarbonHydrateAmount(weight, activity, neutering);
+        }
+        return calculateProperNutrientAmount(this, weight);
+    }
+
+    // 영양소의 최대 적정 섭취량
+    public double calculateProperMaximumAmount(double weight, Activity activity, Neutering neutering) {
+        return maxIntakeRange * calculateProperAmount(weight, activity, neutering);
+    }
+
     //  탄수화물 적정 최대 섭취량
     public static double calculateProperMaximumCarbonHydrateAmount(double weight, Activity activity, Neutering neutering) {
         return CARBON_HYDRATE.getMaxIntakeRange() * calculateProperCarbonHydrateAmount(weight, activity, neutering);
@@ -0,0 +1,37 @@
+package com.petplate.petplate.common.config;
+
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+@Configuration
+public class FlywayConfig {
+    private static final String MIGRATION_LOCATION = "classpath:db/migration/";
+    private static final String BASELINE_VERSION = "1";
+
+    /*
+     * 마이그레이션 스크립트는 DB 종류별(mysql, h2) 디렉토리에 둔다.
+     * Hibernate가 만든 스키마가 이미 있는 DB는 V1(기준 스키마)을 baseline 으로 기록하고 V2부터 적용한다.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer vendorMigrationCustomizer() {
+        return configuration -> configuration
+                .locations(MIGRATION_LOCATION + getVendor(configuration.getDataSource()))
+                .baselineOnMigrate(true)
+                .baselineVersion(BASELINE_VERSION);
+    }
+
+    private String getVendor(DataSource dataSource) {
+        try {
+            String url = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getURL);
+            return DatabaseDriver.fromJdbcUrl(url).getId();
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("마이그레이션 대상 DB 종류를 확인할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.petplate.petplate.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+    private static final int BATCH_SIZE = 50;  // 엔티티 시퀀스 할당 크기와 동일
+    private static final int BATCH_FETCH_SIZE = 100;
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+
+    /*
+     * pooled 시퀀스로 id를 미리 받으므로 insert를 JDBC 배치로 묶을 수 있다.
+     * 같은 테이블의 insert, update가 이어지도록 정렬하고, 지연 로딩 연관관계는 IN 절로 한 번에 조회한다.
+     * application.yml에 값이 있으면 그 값을 사용한다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer batchHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+            properties.putIfAbsent(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, BATCH_FETCH_SIZE);
+        };
+    }
+
+    // MySQL 드라이버는 rewriteBatchedStatements 가 없으면 배치를 행마다 따로 전송한다
+    @Bean
+    public static BeanPostProcessor mysqlBatchRewriteBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith(MYSQL_URL_PREFIX)) {
+                    dataSource.getDataSourceProperties().putIfAbsent("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
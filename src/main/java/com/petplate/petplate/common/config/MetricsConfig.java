@@ -0,0 +1,59 @@
+package com.petplate.petplate.common.config;
+
+import com.petplate.petplate.common.metrics.HandlerTagObservationConvention;
+import com.petplate.petplate.common.metrics.QueryMetricsSessionListener;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+@Configuration
+public class MetricsConfig {
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final String[] LATENCY_METRICS = {"http.server.requests", "http.client.requests", "petplate."};
+
+    // API, WebClient, DB, Redis 지연 시간은 p50/p95/p99를 애플리케이션에서 계산하고, 히스토그램 버킷도 함께 노출
+    @Bean
+    public MeterFilter latencyPercentileMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!isLatencyMetric(id.getName())) {
+                    return config;
+                }
+
+                return DistributionStatisticConfig.builder()
+                        .percentiles(PERCENTILES)
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    // http.server.requests에 컨트롤러 메서드(handler) 태그 추가
+    @Bean
+    public ServerRequestObservationConvention handlerTagObservationConvention() {
+        return new HandlerTagObservationConvention();
+    }
+
+    // 요청당 JDBC statement 수, 실행 시간 집계
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsHibernatePropertiesCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                QueryMetricsSessionListener.class.getName());
+    }
+
+    private static boolean isLatencyMetric(String name) {
+        for (String prefix : LATENCY_METRICS) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.petplate.petplate.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * OAuth2 로그인(토큰 발급, 사용자 정보 조회)에서 네이버를 호출하는 HTTP 클라이언트.
+ * <p>
+ * 기본 DefaultAuthorizationCodeTokenResponseClient, DefaultOAuth2UserService 는 각자 만든 RestTemplate(SimpleClientHttpRequestFactory)을 쓰므로
+ * 연결 풀과 타임아웃이 없다. 두 호출이 하나의 httpclient5 연결 풀을 공유하여 keep-alive 연결을 재사용하고,
+ * 연결, 응답, 풀 대기 시간에 상한을 둔다.
+ * <p>
+ * 자동 구성된 RestTemplateBuilder 를 사용하므로 http.client.requests 메트릭이 기록되며,
+ * 연결 풀 상태는 httpcomponents.httpclient.pool.*(httpclient=oauth2) 로 노출된다.
+ */
+@Configuration
+public class OAuth2HttpClientConfig {
+    private static final String METRIC_NAME = "oauth2";
+
+    @Value("${oauth2.http-client.max-total:50}")
+    private int maxTotal;
+
+    @Value("${oauth2.http-client.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${oauth2.http-client.connect-timeout-ms:3000}")
+    private long connectTimeoutMillis;
+
+    @Value("${oauth2.http-client.response-timeout-ms:5000}")
+    private long responseTimeoutMillis;
+
+    // 풀의 연결이 모두 사용 중일 때 기다리는 시간
+    @Value("${oauth2.http-client.pool-timeout-ms:1000}")
+    private long poolTimeoutMillis;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient oAuth2HttpClient(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, METRIC_NAME).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .disableCookieManagement()
+                .build();
+    }
+
+    // DefaultAuthorizationCodeTokenResponseClient 기본 RestTemplate 과 같은 변환기, 에러 핸들러
+    @Bean
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> accessTokenResponseClient(
+            RestTemplateBuilder restTemplateBuilder, CloseableHttpClient oAuth2HttpClient) {
+        RestTemplate restTemplate = restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(oAuth2HttpClient))
+                .messageConverters(new FormHttpMessageConverter(), new OAuth2AccessTokenResponseHttpMessageConverter())
+                .errorHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+
+        DefaultAuthorizationCodeTokenResponseClient accessTokenResponseClient = new DefaultAuthorizationCodeTokenResponseClient();
+        accessTokenResponseClient.setRestOperations(restTemplate);
+        return accessTokenResponseClient;
+    }
+
+    // DefaultOAuth2UserService 에서 사용 (CustomOAuth2UserService)
+    @Bean
+    public RestTemplate oAuth2UserInfoRestTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient oAuth2HttpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(oAuth2HttpClient))
+                .errorHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.petplate.petplate.common.config;
+
+import com.petplate.petplate.common.datasource.ReadYourWritesTracker;
+import com.petplate.petplate.common.datasource.ReplicaDataSourceProperties;
+import com.petplate.petplate.common.datasource.ReplicaRoutingDataSource;
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * petplate.datasource.replica.enabled=true인 경우 읽기 전용 트랜잭션을 replica로 보내는 DataSource 구성.
+ * 설정하지 않으면 기존처럼 spring.datasource 하나만 사용한다.
+ * <p>
+ * 커넥션 풀 설정은 spring.datasource.hikari.* 를 모든 풀에 적용하고,
+ * replica 풀은 petplate.datasource.replica.hikari.* 로 덮어쓸 수 있다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "petplate.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICA_HIKARI_PREFIX = "petplate.datasource.replica.hikari";
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaDataSourceProperties replicaProperties,
+                                                             Environment environment,
+                                                             ObjectProvider<StringRedisTemplate> stringRedisTemplate,
+                                                             ObjectProvider<RedisOperationTimer> redisOperationTimer) {
+        Binder binder = Binder.get(environment);
+        DataSource primary = bindHikari(binder, dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build(), ReplicaRoutingDataSource.PRIMARY, HIKARI_PREFIX);
+
+        String username = replicaProperties.getUsername() != null ? replicaProperties.getUsername() : dataSourceProperties.determineUsername();
+        String password = replicaProperties.getPassword() != null ? replicaProperties.getPassword() : dataSourceProperties.determinePassword();
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaProperties.getUrls()) {
+            replicas.add(bindHikari(binder, dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build(), "replica-" + replicas.size(), HIKARI_PREFIX, REPLICA_HIKARI_PREFIX));
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas,
+                new ReadYourWritesTracker(replicaProperties.getReadYourWritesMillis(),
+                        stringRedisTemplate.getIfAvailable(), redisOperationTimer.getIfAvailable()),
+                replicaProperties.getHealthCheckIntervalMillis());
+    }
+
+    // 트랜잭션의 읽기 전용 여부가 정해진 뒤 커넥션을 얻도록 지연
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // initializeDataSourceBuilder 는 url, 계정만 설정하므로 풀 크기, 타임아웃 등은 직접 바인딩한다
+    private static HikariDataSource bindHikari(Binder binder, HikariDataSource dataSource, String poolName, String... prefixes) {
+        for (String prefix : prefixes) {
+            binder.bind(prefix, Bindable.ofInstance(dataSource));
+        }
+
+        // 풀별 메트릭이 섞이지 않도록 풀 이름을 구분한다
+        dataSource.setPoolName(dataSource.getPoolName() == null ? poolName : dataSource.getPoolName() + "-" + poolName);
+        return dataSource;
+    }
+}
@@ -1,5 +1,6 @@
 package com.petplate.petplate.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petplate.petplate.auth.jwt.JwtFilter;
 import com.petplate.petplate.auth.jwt.TokenProvider;
 import com.petplate.petplate.auth.jwt.handler.JwtAccessDeniedHandler;
@@ -9,10 +10,17 @@ import com.petplate.petplate.auth.oauth.handler.OAuth2LoginSuccessHandler;
 import com.petplate.petplate.auth.oauth.service.CustomOAuth2LoginAuthenticationProvider;
 import com.petplate.petplate.auth.oauth.service.CustomOAuth2UserService;
 import com.petplate.petplate.auth.oauth.service.SocialLoginTokenUtil;
+import com.petplate.petplate.common.metrics.MetricsScrapeAuthorizationManager;
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import com.petplate.petplate.common.ratelimit.ClientIpResolver;
+import com.petplate.petplate.common.ratelimit.RateLimitFilter;
+import com.petplate.petplate.common.ratelimit.RateLimiter;
 import com.petplate.petplate.user.domain.Role;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,7 +30,6 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthorizationCodeAuthenticationProvider;
-import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
 import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
 import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
 import org.springframework.security.web.SecurityFilterChain;
@@ -41,6 +48,12 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPointHandler jwtAuthenticationEntryPointHandler;
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
     private final SocialLoginTokenUtil socialLoginTokenUtil;
+    private final RedisOperationTimer redisOperationTimer;
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+    private final ObjectMapper objectMapper;
+    private final MetricsScrapeAuthorizationManager metricsScrapeAuthorizationManager;
+    private final OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> accessTokenResponseClient;  // OAuth2HttpClientConfig
 
 
 
@@ -49,6 +62,23 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * Prometheus 수집은 사용자 JWT 가 아닌 고정 수집 토큰으로 인증한다 (MetricsScrapeAuthorizationManager)
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .sessionManagement(sessions -> sessions.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .exceptionHandling((exception)->exception.authenticationEntryPoint(jwtAuthenticationEntryPointHandler))
+                .authorizeHttpRequests((requests) -> requests.anyRequest().access(metricsScrapeAuthorizationManager))
+                .build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -62,11 +92,15 @@ public class SecurityConfig {
                         requests
                                 .requestMatchers("/swagger", "/swagger-ui.html", "/swagger-ui/**", "/api-docs", "/api-docs/**", "/v3/api-docs/**").permitAll()// swagger 경로 접근 허용
                                 .requestMatchers("/oauth2/authorization/**").permitAll()
+                                .requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/**").hasAuthority(Role.ADMIN.toString())  // prometheus 외 관리 엔드포인트는 관리자만
                                 .requestMatchers(HttpMethod.POST,"/api/v1/drugs", "/api/v1/raws").hasAuthority(Role.ADMIN.toString())
                                 .requestMatchers(HttpMethod.DELETE,"/api/v1/drugs/**").hasAuthority(Role.ADMIN.toString())
-                                .requestMatchers(HttpMethod.GET,"/api/v1/raws").permitAll()
+                                .requestMatchers("/api/v1/admin/**").hasAuthority(Role.ADMIN.toString())
+                                .requestMatchers(HttpMethod.GET,"/api/v1/raws", "/api/v1/raws/autocomplete").permitAll()
                                 .requestMatchers("/api/v1/auth/issue").permitAll()
                                 .requestMatchers("/login/oauth2/code/**").permitAll()
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // SSE 등 비동기 응답 (최초 요청에서 인증)
                                 .anyRequest().authenticated()
                 )
                 .oauth2Login(configure ->
@@ -77,18 +111,14 @@ public class SecurityConfig {
                                 .successHandler(oAuth2LoginSuccessHandler)
                 );
 
-        http.authenticationProvider(new CustomOAuth2LoginAuthenticationProvider(accessTokenResponseClient(),customOAuth2UserService,
+        http.authenticationProvider(new CustomOAuth2LoginAuthenticationProvider(accessTokenResponseClient,customOAuth2UserService,
                 socialLoginTokenUtil));
 
-        return http.addFilterBefore(new JwtFilter(tokenProvider,redisTemplate), UsernamePasswordAuthenticationFilter.class)
+        return http.addFilterBefore(new JwtFilter(tokenProvider,redisTemplate,redisOperationTimer), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter,clientIpResolver,objectMapper), JwtFilter.class)  // 인증된 사용자 기준으로 제한
                 .build();
     }
 
-    @Bean
-    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> accessTokenResponseClient() {
-        return new DefaultAuthorizationCodeTokenResponseClient();
-    }
-
     @Bean
     public OAuth2AuthorizationCodeAuthenticationProvider authorizationCodeAuthenticationProvider(
             OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> accessTokenResponseClient) {
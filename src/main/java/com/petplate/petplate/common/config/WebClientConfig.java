@@ -19,8 +19,9 @@ public class WebClientConfig {
 
     private String baseUrl="https://nid.naver.com/oauth2.0/token";
 
+    // 자동 구성된 WebClient.Builder를 사용해야 http.client.requests 메트릭이 기록된다
     @Bean
-    public WebClient webClient(){
+    public WebClient webClient(WebClient.Builder webClientBuilder){
         HttpClient httpClient = HttpClient.create()
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
                 .responseTimeout(Duration.ofMillis(5000))
@@ -28,7 +29,7 @@ public class WebClientConfig {
                         conn.addHandlerLast(new ReadTimeoutHandler(5000, TimeUnit.MILLISECONDS))
                                 .addHandlerLast(new WriteTimeoutHandler(5000, TimeUnit.MILLISECONDS)));
 
-        return WebClient.builder()
+        return webClientBuilder
                 .baseUrl(baseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -1,11 +1,24 @@
 package com.petplate.petplate.common.config;
 
+import com.petplate.petplate.petdailymeal.controller.DailyMealEtagInterceptor;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petdailymeal.service.TodayMealService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+    // 컨트롤러 슬라이스 테스트(@WebMvcTest)에는 리포지토리가 없으므로 있을 때만 사용
+    private final ObjectProvider<DailyMealRepository> dailyMealRepository;
+    private final ObjectProvider<TodayMealService> todayMealService;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -14,9 +27,29 @@ public class WebConfig implements WebMvcConfigurer {
                         "http://localhost:3000","http://petplate.kr","https://petplate.kr") // cors를 허용할 도메인. 제한을 모두 해제하려면 "**"
                 .allowedMethods("GET", "POST", "PUT", "PATCH",
                         "DELETE", "OPTIONS") // cors를 허용할 method + DELETE 추가
-                .allowedHeaders("Content-Type", "Authorization","accessToken")
-                .exposedHeaders("Authorization","refreshToken")
+                .allowedHeaders("Content-Type", "Authorization","accessToken", "If-None-Match")
+                .exposedHeaders("Authorization","refreshToken", "ETag")
                 .allowCredentials(true);
 
     }
+
+    // 하루 식사 내역 기반 조회의 조건부 GET (ETag)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        dailyMealRepository.ifAvailable(repository -> registry.addInterceptor(new DailyMealEtagInterceptor(repository, todayMealService.getIfAvailable()))
+                .addPathPatterns(
+                        "/api/v1/pet/*/dailyMeals",
+                        "/api/v1/pet/*/dailyMeals/*/nutrients/*",
+                        "/api/v1/pets/*/nutrients",
+                        "/api/v1/pets/*/kcal",
+                        "/api/v1/pets/*/kcal/ratio"));
+    }
+
+    // 배포 전까지 바뀌지 않는 참조 목록은 응답 본문 해시로 ETag 를 설정 (인스턴스가 달라도 같은 ETag)
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> referenceEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/v1/drugs/standard-nutrients", "/api/v1/pets/images");
+        return registration;
+    }
 }
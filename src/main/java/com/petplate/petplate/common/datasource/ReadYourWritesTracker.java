@@ -0,0 +1,107 @@
+package com.petplate.petplate.common.datasource;
+
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 트랜잭션을 커밋한 유저를 일정 시간(복제 지연 허용 시간) 동안 기억하여,
+ * 그 동안의 읽기 전용 트랜잭션도 primary에서 읽도록 한다 (read-your-writes).
+ * 인증되지 않은 요청은 추적하지 않는다.
+ * <p>
+ * StringRedisTemplate 을 지정하면 read-your-writes:{유저} 키에도 같은 시간 동안 기록하므로,
+ * 쓰기와 다음 읽기가 다른 인스턴스로 가도 primary에서 읽는다.
+ * 이 인스턴스에서 쓴 유저는 Redis 를 조회하지 않으며, Redis 오류 시에는 이 인스턴스의 기록만 사용한다.
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+    private static final int CLEANUP_THRESHOLD = 10_000;
+    private static final String KEY_PREFIX = "read-your-writes:";
+    private static final String CALLER = "ReadYourWritesTracker";
+
+    private final long stickyNanos;
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private final StringRedisTemplate stringRedisTemplate;  // null 이면 이 인스턴스에서만 추적
+    private final RedisOperationTimer redisOperationTimer;
+
+    public ReadYourWritesTracker(long stickyMillis) {
+        this(stickyMillis, null, null);
+    }
+
+    public ReadYourWritesTracker(long stickyMillis, StringRedisTemplate stringRedisTemplate,
+                                 RedisOperationTimer redisOperationTimer) {
+        this.stickyNanos = stickyMillis * 1_000_000;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisOperationTimer = redisOperationTimer;
+    }
+
+    public void markWrite() {
+        String user = currentUser();
+        if (user == null || stickyNanos <= 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        lastWriteByUser.put(user, now);
+        if (lastWriteByUser.size() > CLEANUP_THRESHOLD) {
+            lastWriteByUser.values().removeIf(writtenAt -> now - writtenAt > stickyNanos);
+        }
+
+        if (stringRedisTemplate == null) {
+            return;
+        }
+        try {
+            redisOperationTimer.run(CALLER, "set",
+                    () -> stringRedisTemplate.opsForValue().set(KEY_PREFIX + user, "1", Duration.ofNanos(stickyNanos)));
+        } catch (RuntimeException e) {
+            log.warn("read-your-writes 기록 실패 user={}", user, e);
+        }
+    }
+
+    public boolean isSticky() {
+        String user = currentUser();
+        if (user == null || stickyNanos <= 0) {
+            return false;
+        }
+
+        return isStickyLocally(user) || isStickyRemotely(user);
+    }
+
+    private boolean isStickyLocally(String user) {
+        Long writtenAt = lastWriteByUser.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > stickyNanos) {
+            lastWriteByUser.remove(user, writtenAt);
+            return false;
+        }
+        return true;
+    }
+
+    // 다른 인스턴스에서 쓴 경우
+    private boolean isStickyRemotely(String user) {
+        if (stringRedisTemplate == null) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisOperationTimer.record(CALLER, "exists",
+                    () -> stringRedisTemplate.hasKey(KEY_PREFIX + user)));
+        } catch (RuntimeException e) {
+            log.warn("read-your-writes 조회 실패 user={}", user, e);
+            return false;
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+}
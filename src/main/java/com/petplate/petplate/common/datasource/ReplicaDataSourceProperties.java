@@ -0,0 +1,27 @@
+package com.petplate.petplate.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * petplate.datasource.replica.enabled=true
+ * petplate.datasource.replica.urls[0]=jdbc:mysql://replica-1:3306/petplate
+ * (username, password는 지정하지 않으면 spring.datasource의 값을 사용)
+ * petplate.datasource.replica.hikari.maximum-pool-size=20
+ * (커넥션 풀 설정은 spring.datasource.hikari 를 따르며 replica 풀만 다르게 하려면 지정)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "petplate.datasource.replica")
+public class ReplicaDataSourceProperties {
+    private boolean enabled;
+    private List<String> urls = new ArrayList<>();
+    private String username;
+    private String password;
+    private long healthCheckIntervalMillis = 5000;
+    private long readYourWritesMillis = 3000;  // 쓰기 이후 primary에서 읽는 시간 (복제 지연 허용 시간)
+}
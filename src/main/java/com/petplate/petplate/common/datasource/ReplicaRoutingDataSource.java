@@ -0,0 +1,185 @@
+package com.petplate.petplate.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 나머지는 primary로 보내는 DataSource.
+ * <p>
+ * - replica는 round robin으로 선택하며, 주기적인 헬스 체크나 연결 실패로 비정상 판정된 replica는 건너뛴다.
+ *   정상인 replica가 없으면 primary에서 읽는다.
+ * - 쓰기 트랜잭션을 커밋한 유저는 ReadYourWritesTracker의 시간 동안 primary에서 읽는다.
+ * <p>
+ * 트랜잭션의 읽기 전용 여부는 커넥션을 얻는 시점에 결정되므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    public static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+    private final AtomicIntegerArray healthy;  // 1: 정상, 0: 비정상
+    private final AtomicInteger next = new AtomicInteger();
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker, long healthCheckIntervalMillis) {
+        this.primary = primary;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = REPLICA_PREFIX + i;
+            replicaKeys.add(key);
+            this.replicas.put(key, replicas.get(i));
+            targets.put(key, replicas.get(i));
+            healthy.set(i, 1);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (healthCheckIntervalMillis > 0 && !replicas.isEmpty()) {
+            healthChecker.scheduleWithFixedDelay(this::checkHealth, healthCheckIntervalMillis,
+                    healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteTracking();
+            return PRIMARY;
+        }
+
+        if (readYourWritesTracker.isSticky()) {
+            return PRIMARY;
+        }
+
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            // 연결에 실패한 replica는 다음 헬스 체크에서 복구될 때까지 제외하고 primary에서 읽는다
+            markDown(key, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * 모든 replica의 연결 상태를 확인하여 정상 여부 갱신
+     */
+    public void checkHealth() {
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            String key = replicaKeys.get(i);
+            try (Connection connection = replicas.get(key).getConnection()) {
+                boolean valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+                if (valid && healthy.getAndSet(i, 1) == 0) {
+                    log.info("replica {} 복구", key);
+                } else if (!valid) {
+                    markDown(key, null);
+                }
+            } catch (SQLException e) {
+                markDown(key, e);
+            }
+        }
+    }
+
+    public boolean isHealthy(int replicaIndex) {
+        return healthy.get(replicaIndex) == 1;
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        closeQuietly(primary);
+        replicas.values().forEach(ReplicaRoutingDataSource::closeQuietly);
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (healthy.get(index) == 1) {
+                return replicaKeys.get(index);
+            }
+        }
+        return PRIMARY;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 유저를 read-your-writes 대상으로 기록
+    private void registerWriteTracking() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite();
+            }
+        });
+    }
+
+    private void markDown(String key, SQLException cause) {
+        if (healthy.getAndSet(replicaKeys.indexOf(key), 0) == 1) {
+            log.warn("replica {} 제외: {}", key, cause == null ? "연결 검증 실패" : cause.getMessage());
+        }
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("DataSource 종료 실패", e);
+            }
+        }
+    }
+}
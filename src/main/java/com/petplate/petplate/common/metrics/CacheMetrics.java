@@ -0,0 +1,34 @@
+package com.petplate.petplate.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 애플리케이션 내부 캐시의 적중/미스 횟수(petplate.cache.gets)를 기록한다.
+ * 적중률은 result=hit / 전체 로 계산한다.
+ */
+public class CacheMetrics {
+    private final Counter hits;
+    private final Counter misses;
+
+    public CacheMetrics(MeterRegistry meterRegistry, String cache) {
+        this.hits = counter(meterRegistry, cache, "hit");
+        this.misses = counter(meterRegistry, cache, "miss");
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("petplate.cache.gets")
+                .description("캐시 조회 횟수")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
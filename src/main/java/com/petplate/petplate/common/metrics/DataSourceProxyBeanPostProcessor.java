@@ -0,0 +1,30 @@
+package com.petplate.petplate.common.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 빈을 datasource-proxy로 감싸 실행되는 SQL을 SqlFingerprintListener에 전달한다.
+ * 라우팅 DataSource는 이를 감싼 DataSource에서 이미 집계되므로 제외한다.
+ */
+@Component
+public class DataSourceProxyBeanPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                || bean instanceof AbstractRoutingDataSource) {
+            return bean;
+        }
+
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new SqlFingerprintListener())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.petplate.petplate.common.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * /actuator/prometheus 수집 인증. 수집기는 사용자 JWT 대신 고정된 토큰(petplate.metrics.scrape-token)을
+ * Authorization: Bearer 헤더로 보낸다. 토큰을 설정하지 않으면 모든 수집 요청을 거절한다.
+ */
+@Component
+public class MetricsScrapeAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] scrapeToken;
+
+    public MetricsScrapeAuthorizationManager(@Value("${petplate.metrics.scrape-token:}") String scrapeToken) {
+        this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(matches(context.getRequest()));
+    }
+
+    private boolean matches(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (scrapeToken.length == 0 || header == null || !header.startsWith(BEARER)) {
+            return false;
+        }
+
+        // 응답 시간으로 토큰을 추측하지 못하도록 고정 시간 비교
+        return MessageDigest.isEqual(scrapeToken, header.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8));
+    }
+}
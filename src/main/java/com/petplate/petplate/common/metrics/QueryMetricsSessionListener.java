@@ -0,0 +1,24 @@
+package com.petplate.petplate.common.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션에서 실행되는 JDBC statement의 수와 실행 시간을 현재 요청의 RequestQueryStats에 누적한다.
+ * hibernate.session.events.auto 설정으로 세션마다 새로 생성된다.
+ */
+public class QueryMetricsSessionListener implements SessionEventListener {
+    private long executeStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(System.nanoTime() - executeStart);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.petplate.petplate.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Redis 명령 지연 시간(petplate.redis.operations)을 호출한 곳(caller)과 명령(operation)별로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisOperationTimer {
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String caller, String operation, Supplier<T> command) {
+        return timer(caller, operation).record(command);
+    }
+
+    public void run(String caller, String operation, Runnable command) {
+        timer(caller, operation).record(command);
+    }
+
+    private Timer timer(String caller, String operation) {
+        return Timer.builder("petplate.redis.operations")
+                .description("Redis 명령 지연 시간")
+                .tag("caller", caller)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
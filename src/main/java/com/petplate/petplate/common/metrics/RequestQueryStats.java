@@ -0,0 +1,53 @@
+package com.petplate.petplate.common.metrics;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 실행된 JDBC statement 수와 실행 시간, SQL 형태(fingerprint)별 실행 횟수.
+ * QueryMetricsFilter가 요청 시작 시 현재 스레드에 바인딩하고, 요청이 끝나면 제거한다.
+ * 요청 범위 밖(스케줄러 등)에서 실행된 statement는 집계하지 않는다.
+ */
+@Getter
+public class RequestQueryStats {
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long statementNanos;
+    private final Map<String, Integer> fingerprintCounts = new HashMap<>();
+
+    public static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void recordStatement(long nanos) {
+        statementCount++;
+        statementNanos += nanos;
+    }
+
+    public void recordFingerprint(String fingerprint) {
+        fingerprintCounts.merge(fingerprint, 1, Integer::sum);
+    }
+
+    public Map<String, Integer> getFingerprintCounts() {
+        return Collections.unmodifiableMap(fingerprintCounts);
+    }
+
+    // 같은 형태의 SQL이 가장 많이 반복된 횟수
+    public int getMaxRepeat() {
+        return fingerprintCounts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+}
@@ -0,0 +1,26 @@
+package com.petplate.petplate.common.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL에서 리터럴, IN 목록 길이, 공백 차이를 제거하여 같은 형태의 SQL을 같은 문자열로 만든다.
+ * 예) select * from raw where raw_id = 3  ->  select * from raw where raw_id = ?
+ */
+public final class SqlFingerprint {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String fingerprint = sql.toLowerCase();
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("in (?)");
+        return fingerprint.trim();
+    }
+}
@@ -0,0 +1,28 @@
+package com.petplate.petplate.common.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy를 통해 실행된 SQL의 fingerprint를 현재 요청의 RequestQueryStats에 누적한다.
+ * 배치로 실행된 SQL은 SQL 하나로 집계한다.
+ */
+public class SqlFingerprintListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null) {
+            return;
+        }
+
+        queryInfoList.forEach(queryInfo -> stats.recordFingerprint(SqlFingerprint.of(queryInfo.getQuery())));
+    }
+}
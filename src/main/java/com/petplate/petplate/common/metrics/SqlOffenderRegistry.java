@@ -0,0 +1,100 @@
+package com.petplate.petplate.common.metrics;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 요청에서 같은 형태의 SQL이 임계값보다 많이 반복된 경우(N+1 의심) 경고 로그를 남기고,
+ * uri 패턴 + SQL 형태별로 누적하여 가장 많이 반복된 항목을 조회할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class SqlOffenderRegistry {
+    private static final int MAX_OFFENDERS = 500;
+
+    private final int repeatThreshold;
+    private final Map<String, Offender> offenders = new ConcurrentHashMap<>();
+
+    public SqlOffenderRegistry(@Value("${petplate.sql.repeat-threshold:10}") int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    public void inspect(String method, String uri, RequestQueryStats stats) {
+        stats.getFingerprintCounts().forEach((fingerprint, count) -> {
+            if (count <= repeatThreshold) {
+                return;
+            }
+
+            log.warn("N+1 의심: {} {} 요청에서 같은 SQL이 {}번 실행되었습니다. sql={}", method, uri, count, fingerprint);
+
+            String key = method + " " + uri + "\n" + fingerprint;
+            Offender offender = offenders.get(key);
+            if (offender == null) {
+                // 서로 다른 항목이 무한히 쌓이지 않도록 개수를 제한한다
+                if (offenders.size() >= MAX_OFFENDERS) {
+                    return;
+                }
+                offender = offenders.computeIfAbsent(key, k -> new Offender(method, uri, fingerprint));
+            }
+            offender.record(count);
+        });
+    }
+
+    /**
+     * @param limit
+     * @return 총 반복 횟수가 많은 순서의 N+1 의심 SQL
+     */
+    public List<Offender> getTopOffenders(int limit) {
+        return offenders.values().stream()
+                .sorted(Comparator.comparingLong(Offender::getTotalRepeat).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void clear() {
+        offenders.clear();
+    }
+
+    @Getter
+    public static class Offender {
+        private final String method;
+        private final String uri;
+        private final String fingerprint;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger maxRepeat = new AtomicInteger();
+        private final AtomicLong totalRepeat = new AtomicLong();
+
+        private Offender(String method, String uri, String fingerprint) {
+            this.method = method;
+            this.uri = uri;
+            this.fingerprint = fingerprint;
+        }
+
+        private void record(int repeat) {
+            requests.incrementAndGet();
+            maxRepeat.accumulateAndGet(repeat, Math::max);
+            totalRepeat.addAndGet(repeat);
+        }
+
+        public int getRequests() {
+            return requests.get();
+        }
+
+        public int getMaxRepeat() {
+            return maxRepeat.get();
+        }
+
+        public long getTotalRepeat() {
+            return totalRepeat.get();
+        }
+    }
+}
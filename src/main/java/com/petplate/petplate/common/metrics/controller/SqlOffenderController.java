@@ -0,0 +1,54 @@
+package com.petplate.petplate.common.metrics.controller;
+
+import com.petplate.petplate.common.metrics.SqlOffenderRegistry;
+import com.petplate.petplate.common.metrics.dto.response.ReadSqlOffenderResponseDto;
+import com.petplate.petplate.common.response.BaseResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@Tag(name = "SQL 모니터링 컨트롤러", description = "N+1이 의심되는 SQL을 조회하는 관리자용 컨트롤러 입니다")
+public class SqlOffenderController {
+    private final SqlOffenderRegistry sqlOffenderRegistry;
+
+    private static final String OK = "200";
+    private static final String FORBIDDEN = "403";
+
+    @Operation(summary = "N+1 의심 SQL 조회", description = "한 요청에서 같은 형태의 SQL이 임계값보다 많이 실행된 항목을 누적 반복 횟수가 많은 순서로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = OK, description = "성공적 조회"),
+            @ApiResponse(responseCode = FORBIDDEN, description = "관리자가 아닌 경우"),
+    })
+    @GetMapping("/sql-offenders")
+    public ResponseEntity<BaseResponse<List<ReadSqlOffenderResponseDto>>> readSqlOffenders(@RequestParam(value = "limit", defaultValue = "20") int limit) {
+        List<ReadSqlOffenderResponseDto> offenders = sqlOffenderRegistry.getTopOffenders(Math.max(limit, 0)).stream()
+                .map(ReadSqlOffenderResponseDto::from)
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(BaseResponse.createSuccess(offenders));
+    }
+
+    @Operation(summary = "N+1 의심 SQL 초기화", description = "누적된 N+1 의심 SQL 기록을 초기화합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = OK, description = "성공적 초기화"),
+            @ApiResponse(responseCode = FORBIDDEN, description = "관리자가 아닌 경우"),
+    })
+    @DeleteMapping("/sql-offenders")
+    public ResponseEntity<BaseResponse> clearSqlOffenders() {
+        sqlOffenderRegistry.clear();
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(BaseResponse.createSuccessWithNoContent());
+    }
+}
@@ -0,0 +1,24 @@
+package com.petplate.petplate.common.metrics.dto.response;
+
+import com.petplate.petplate.common.metrics.SqlOffenderRegistry;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadSqlOffenderResponseDto {
+    private String method;
+    private String uri;
+    private String sql;
+    private int requests;  // 임계값을 넘은 요청 수
+    private int maxRepeat;  // 한 요청에서의 최대 반복 횟수
+    private long totalRepeat;  // 누적 반복 횟수
+
+    public static ReadSqlOffenderResponseDto from(SqlOffenderRegistry.Offender offender) {
+        return new ReadSqlOffenderResponseDto(offender.getMethod(), offender.getUri(), offender.getFingerprint(),
+                offender.getRequests(), offender.getMaxRepeat(), offender.getTotalRepeat());
+    }
+}
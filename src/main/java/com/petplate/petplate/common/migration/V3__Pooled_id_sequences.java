@@ -0,0 +1,85 @@
+package com.petplate.petplate.common.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY 대신 pooled 시퀀스로 id를 발급하기 위한 시퀀스 생성.
+ * <p>
+ * 테이블마다 {table}_seq 를 만들고, 이미 저장된 id와 겹치지 않도록 max(id) + 할당 크기에서 시작한다.
+ * pooled 최적화기는 시퀀스 값 v를 받으면 (v - 할당 크기, v] 구간의 id를 메모리에서 발급한다.
+ * 시퀀스를 지원하지 않는 MySQL은 Hibernate가 사용하는 next_val 컬럼 하나짜리 테이블로 만든다.
+ * <p>
+ * 클래스 이름이 Flyway 버전(V3)과 설명을 나타낸다.
+ */
+@Component
+public class V3__Pooled_id_sequences extends BaseJavaMigration {
+    private static final int ALLOCATION_SIZE = 50;
+
+    // 테이블 이름, id 컬럼
+    private static final Map<String, String> TABLES = new LinkedHashMap<>();
+
+    static {
+        TABLES.put("users", "user_id");
+        TABLES.put("member_ship", "member_ship_id");
+        TABLES.put("user_member_ship", "user_member_ship_id");
+        TABLES.put("banner", "banner_id");
+        TABLES.put("raw", "raw_id");
+        TABLES.put("allergy", "allergy_id");
+        TABLES.put("disease", "disease_id");
+        TABLES.put("raw_prohibited_by_allergy", "raw_prohibited_by_allergy_id");
+        TABLES.put("raw_prohibited_by_disease", "raw_prohibited_by_disease_id");
+        TABLES.put("drug", "drug_id");
+        TABLES.put("drug_nutrient", "drug_nutrient_id");
+        TABLES.put("pet", "pet_id");
+        TABLES.put("pet_allergy", "pet_allergy_id");
+        TABLES.put("pet_disease", "pet_disease_id");
+        TABLES.put("book_marked_raw", "book_marked_raw_id");
+        TABLES.put("book_marked_feed", "book_marked_feed_id");
+        TABLES.put("book_marked_packaged_snack", "book_marked_packaged_snack_id");
+        TABLES.put("daily_meal", "daily_meal_id");
+        TABLES.put("daily_raw", "daily_raw_id");
+        TABLES.put("daily_feed", "daily_feed_id");
+        TABLES.put("daily_packaged_snack", "daily_packaged_snack_id");
+        TABLES.put("daily_book_marked_raw", "daily_book_marked_raw_id");
+        TABLES.put("daily_book_marked_feed", "daily_book_marked_feed_id");
+        TABLES.put("daily_book_marked_packaged_snack", "daily_book_marked_packaged_snack_id");
+        TABLES.put("deficient_nutrient", "deficient_nutrient_id");
+        TABLES.put("proper_nutrient", "proper_nutrient_id");
+        TABLES.put("sufficient_nutrient", "sufficient_nutrient_id");
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+
+        try (Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, String> table : TABLES.entrySet()) {
+                String sequence = table.getKey() + "_seq";
+                long start = maxId(statement, table.getKey(), table.getValue()) + ALLOCATION_SIZE;
+
+                if (mysql) {
+                    statement.execute("create table " + sequence + " (next_val bigint) engine=InnoDB");
+                    statement.execute("insert into " + sequence + " values (" + start + ")");
+                } else {
+                    statement.execute("create sequence " + sequence + " start with " + start + " increment by " + ALLOCATION_SIZE);
+                }
+            }
+        }
+    }
+
+    private static long maxId(Statement statement, String table, String idColumn) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("select coalesce(max(" + idColumn + "), 0) from " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.petplate.petplate.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 비로그인 요청 제한에 쓰는 클라이언트 IP.
+ * <p>
+ * 로드밸런서 뒤에서는 remoteAddr 가 모두 프록시 주소이므로, 신뢰하는 프록시에서 온 요청만 X-Forwarded-For 를 따른다.
+ * 헤더의 오른쪽부터 신뢰하는 프록시 주소를 건너뛰고 처음 나오는 주소를 사용하므로, 클라이언트가 헤더 앞쪽에 넣은 값은 무시된다.
+ */
+@Component
+public class ClientIpResolver {
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${rate-limit.trusted-proxies:10.0.0.0/8,172.16.0.0/12,192.168.0.0/16,127.0.0.1/32,::1/128}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String[] addresses = forwardedFor.split(",");
+        for (int i = addresses.length - 1; i >= 0; i--) {
+            String address = addresses[i].trim();
+            if (!address.isEmpty() && !isTrusted(address)) {
+                return address;
+            }
+        }
+
+        // 모두 신뢰하는 프록시면 가장 앞의 주소
+        String first = addresses[0].trim();
+        return first.isEmpty() ? remoteAddr : first;
+    }
+
+    private boolean isTrusted(String address) {
+        try {
+            for (IpAddressMatcher trustedProxy : trustedProxies) {
+                if (trustedProxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // IP 형식이 아닌 값 (unknown 등)
+        }
+        return false;
+    }
+}
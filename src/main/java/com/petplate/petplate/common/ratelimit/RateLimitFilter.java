@@ -0,0 +1,75 @@
+package com.petplate.petplate.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petplate.petplate.common.response.BaseResponse;
+import com.petplate.petplate.common.response.error.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * JwtFilter 다음에서 요청 제한. 로그인 사용자는 사용자 이름, 비로그인은 IP(ClientIpResolver) 별로 제한하며
+ * 제한되면 429 와 Retry-After(초)를 응답한다.
+ * 로그인, 토큰 재발급 경로는 제한하지 않는다. 비로그인 버킷을 공유하는 다른 요청 때문에 로그인이 막히지 않도록 한다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final List<String> EXCLUDED_PATTERNS = List.of("/api/v1/auth/**", "/oauth2/**", "/login/oauth2/**");
+
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = path(request);
+        return EXCLUDED_PATTERNS.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = rateLimiter.tryAcquire(request.getMethod(), path(request), principal(request));
+
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+            response.getWriter().write(objectMapper.writeValueAsString(
+                    BaseResponse.createError(ErrorCode.TOO_MANY_REQUESTS.getMessage())));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String principal(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+
+    private String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,27 @@
+package com.petplate.petplate.common.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 제한 규칙. 요청은 USER 와 경로가 일치하는 규칙의 버킷에서 각각 토큰 한 개씩 사용한다.
+ * 버킷은 사용자(비로그인은 IP)마다 따로 둔다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum RateLimitRule {
+    USER("user", null, "/api/**", 120, 2),
+    RAW_SEARCH("raw-search", "GET", "/api/v1/raws", 30, 0.5),
+    DAILY_MEAL_HISTORY("daily-meal-history", "GET", "/api/v1/pet/*/dailyMeals", 30, 0.5),
+    MEAL_BATCH("meal-batch", "POST", "/api/v1/pets/*/meals/batch", 20, 0.5),
+    MEAL_STREAM("meal-stream", "GET", "/api/v1/pets/*/meals/stream", 10, 0.1),
+    FOOD_RECOMMEND("food-recommend", "GET", "/api/v1/pets/*/foods/recommend", 10, 0.2),
+    DRUG_RECOMMEND("drug-recommend", null, "/api/v1/drugs/recommend/**", 10, 0.2);
+
+    private final String ruleName;  // 메트릭 태그, Redis 키에 사용
+    private final String method;  // null 이면 모든 메서드
+    private final String pattern;  // Ant 스타일 경로
+    private final long capacity;  // 한 번에 허용하는 최대 요청 수
+    private final double refillPerSecond;  // 초당 채워지는 토큰 수
+}
@@ -0,0 +1,161 @@
+package com.petplate.petplate.common.ratelimit;
+
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별, 경로별 토큰 버킷 요청 제한.
+ * <p>
+ * 판단은 인스턴스 메모리의 TokenBucket 으로 하므로 요청마다 Redis 를 호출하지 않는다.
+ * sync-interval-ms 마다 각 버킷이 사용한 토큰을 rate-limit:{규칙}:{사용자}:{윈도우} 카운터에 INCRBY 로 더하고,
+ * 돌려받은 윈도우 전체 사용량에서 다른 인스턴스가 사용한 만큼을 버킷에서 뺀다.
+ * 따라서 여러 인스턴스에서의 초과 허용은 동기화 주기 동안 사용한 양으로 제한된다.
+ * <p>
+ * 요청 수는 petplate.ratelimit.requests(rule, outcome) 로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimiter {
+    private static final String KEY_PREFIX = "rate-limit:";
+    private static final long WINDOW_SECONDS = 60;
+    private static final Duration IDLE = Duration.ofMinutes(5);
+    private static final String CALLER = "RateLimiter";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisOperationTimer redisOperationTimer;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 요청마다 USER 와 경로가 일치하는 규칙의 버킷에서 토큰을 사용한다.
+     * 일치하는 모든 규칙에서 허용할 때만 사용하므로, 경로 규칙에서 거절된 요청은 USER 버킷을 줄이지 않는다.
+     *
+     * @param method
+     * @param path
+     * @param principal 사용자 이름, 비로그인은 ip:{주소}
+     * @return 허용하면 0, 아니면 다시 요청할 수 있을 때까지의 시간 (ns)
+     */
+    public long tryAcquire(String method, String path, String principal) {
+        if (!enabled) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        List<RateLimitRule> rules = new ArrayList<>();
+        List<TokenBucket> matched = new ArrayList<>();
+        long waitNanos = 0;
+        for (RateLimitRule rule : RateLimitRule.values()) {
+            if (!matches(rule, method, path)) {
+                continue;
+            }
+
+            TokenBucket bucket = buckets.computeIfAbsent(rule.getRuleName() + ":" + principal,
+                    key -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), now));
+            long ruleWaitNanos = bucket.waitNanos(now);
+            if (ruleWaitNanos > 0) {
+                counter(rule, "rejected").increment();
+                waitNanos = Math.max(waitNanos, ruleWaitNanos);
+            }
+            rules.add(rule);
+            matched.add(bucket);
+        }
+
+        if (waitNanos > 0) {
+            return waitNanos;
+        }
+
+        for (int i = 0; i < matched.size(); i++) {
+            matched.get(i).consume(now);
+            counter(rules.get(i), "allowed").increment();
+        }
+        return 0;
+    }
+
+    /**
+     * 사용한 토큰을 Redis 에 더하고 다른 인스턴스의 사용량을 반영한다
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sync-interval-ms:1000}")
+    public void sync() {
+        List<String> keys = new ArrayList<>();
+        List<TokenBucket> synced = new ArrayList<>();
+        List<Long> sent = new ArrayList<>();
+        buckets.forEach((key, bucket) -> {
+            long pending = bucket.drainPending();
+            if (pending > 0) {
+                keys.add(key);
+                synced.add(bucket);
+                sent.add(pending);
+            }
+        });
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        long window = System.currentTimeMillis() / 1000 / WINDOW_SECONDS;
+        try {
+            List<Object> results = redisOperationTimer.record(CALLER, "incrby", () ->
+                    stringRedisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+                        StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                        for (int i = 0; i < keys.size(); i++) {
+                            String redisKey = KEY_PREFIX + keys.get(i) + ":" + window;
+                            stringConnection.incrBy(redisKey, sent.get(i));
+                            stringConnection.expire(redisKey, WINDOW_SECONDS * 2);
+                        }
+                        return null;
+                    }));
+
+            long now = System.nanoTime();
+            for (int i = 0; i < synced.size(); i++) {
+                // INCRBY, EXPIRE 순서
+                Long total = (Long) results.get(i * 2);
+                if (total != null) {
+                    synced.get(i).applyRemote(window, total, sent.get(i), now);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 동기화하지 못하면 인스턴스별로만 제한한다
+            log.warn("요청 제한 동기화 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now, IDLE.toNanos()));
+    }
+
+    private boolean matches(RateLimitRule rule, String method, String path) {
+        return (rule.getMethod() == null || rule.getMethod().equals(method)) && pathMatcher.match(rule.getPattern(), path);
+    }
+
+    private Counter counter(RateLimitRule rule, String outcome) {
+        return Counter.builder("petplate.ratelimit.requests")
+                .description("요청 제한 규칙별 허용, 거절 수")
+                .tag("rule", rule.getRuleName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
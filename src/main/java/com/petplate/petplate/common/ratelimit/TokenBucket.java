@@ -0,0 +1,128 @@
+package com.petplate.petplate.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷. capacity 개까지 쌓이며 초당 refillPerSecond 개씩 채워진다.
+ * <p>
+ * 다른 인스턴스가 사용한 토큰은 applyRemote 로 빼며, 이때는 토큰이 음수가 될 수 있다 (그만큼 더 기다려야 함).
+ * 동기화에 필요한 값(마지막 동기화 이후 사용한 토큰, 현재 윈도우에서 확인한 전체 사용량)도 함께 보관한다.
+ */
+final class TokenBucket {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long refilledAt;
+    private long usedAt;
+
+    private long pending;  // 마지막 동기화 이후 이 인스턴스에서 사용한 토큰
+    private long window = -1;  // 마지막으로 동기화한 윈도우
+    private long seen;  // 그 윈도우에서 확인한 전체 인스턴스의 사용량
+
+    TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("잘못된 토큰 버킷 capacity=" + capacity + ", refillPerSecond=" + refillPerSecond);
+        }
+
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.refilledAt = nowNanos;
+        this.usedAt = nowNanos;
+    }
+
+    /**
+     * 토큰 한 개 사용
+     *
+     * @param nowNanos System.nanoTime()
+     * @return 사용했으면 0, 아니면 토큰 한 개가 채워질 때까지 기다려야 하는 시간 (ns)
+     */
+    synchronized long tryConsume(long nowNanos) {
+        long waitNanos = waitNanos(nowNanos);
+        if (waitNanos == 0) {
+            consume(nowNanos);
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 토큰을 사용하지 않고 확인만 한다
+     *
+     * @param nowNanos System.nanoTime()
+     * @return 토큰이 있으면 0, 아니면 토큰 한 개가 채워질 때까지 기다려야 하는 시간 (ns)
+     */
+    synchronized long waitNanos(long nowNanos) {
+        refill(nowNanos);
+        usedAt = nowNanos;
+
+        if (tokens >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+    /**
+     * waitNanos 로 확인한 뒤 토큰 한 개 사용. 그 사이 다른 요청이 사용했으면 토큰이 음수가 될 수 있다
+     *
+     * @param nowNanos System.nanoTime()
+     */
+    synchronized void consume(long nowNanos) {
+        refill(nowNanos);
+        usedAt = nowNanos;
+        tokens -= 1;
+        pending++;
+    }
+
+    /**
+     * @return 마지막 동기화 이후 이 인스턴스에서 사용한 토큰 (0으로 초기화)
+     */
+    synchronized long drainPending() {
+        long drained = pending;
+        pending = 0;
+        return drained;
+    }
+
+    /**
+     * 동기화 결과 반영. 윈도우의 전체 사용량 중 이 인스턴스가 보낸 것과 이미 반영한 것을 뺀 나머지를 다른 인스턴스의 사용량으로 뺀다.
+     *
+     * @param window 윈도우 번호
+     * @param total 윈도우의 전체 인스턴스 사용량 (이번에 보낸 sent 포함)
+     * @param sent 이번 동기화에서 보낸 사용량
+     */
+    synchronized void applyRemote(long window, long total, long sent, long nowNanos) {
+        if (this.window != window) {
+            this.window = window;
+            this.seen = 0;
+        }
+
+        long remote = total - sent - seen;
+        seen = total;
+        if (remote > 0) {
+            refill(nowNanos);
+            tokens = Math.max(tokens - remote, -capacity);
+        }
+    }
+
+    /**
+     * @return 가득 찬 상태로 idleNanos 이상 사용하지 않았으면 true
+     */
+    synchronized boolean isIdle(long nowNanos, long idleNanos) {
+        refill(nowNanos);
+        return pending == 0 && tokens >= capacity && nowNanos - usedAt >= idleNanos;
+    }
+
+    synchronized double getTokens(long nowNanos) {
+        refill(nowNanos);
+        return tokens;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - refilledAt;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            refilledAt = nowNanos;
+        }
+    }
+}
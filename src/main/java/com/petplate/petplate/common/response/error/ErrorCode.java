@@ -23,6 +23,9 @@ public enum ErrorCode {
     REFRESH_TOKEN_NOT_MATCH("리프레시 토큰을 확인해주세요"),
     NO_MEMBERSHIP_EXISTS("멤버쉽이 존재하지 않습니다."),
     SOCIAL_LOGIN_CODE("코드로 부터 소셜 토큰을 가져오지 못했습니다"),
+    PET_ALLERGY_ALREADY_EXISTS("이미 등록된 알러지입니다."),
+    PET_DISEASE_ALREADY_EXISTS("이미 등록된 질병입니다."),
+    ALLERGY_OR_DISEASE_NOT_EXISTS("존재하지 않는 알러지 또는 질병이 포함되어 있습니다."),
 
 
 
@@ -66,6 +69,13 @@ public enum ErrorCode {
      /**
      * 409 Conflict
      */
+    DAILY_MEAL_CONFLICT("식사 내역이 동시에 수정되었습니다. 다시 시도해주세요"),
+
+
+    /**
+     * 429 Too Many Requests
+     */
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
 
 
     /**
@@ -13,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.time.format.DateTimeParseException;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -140,6 +141,15 @@ public class RestExceptionHandler {
                 .body(BaseResponse.createError(exception.getMessage()));
     }
 
+    // 같은 식사 내역을 동시에 수정해 @RetryOnOptimisticLock 재시도로도 해결하지 못한 경우 (DailyMeal.revision)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<BaseResponse<?>> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException exception,
+            HttpServletRequest request) {
+        logInfo(request, exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(BaseResponse.createError(ErrorCode.DAILY_MEAL_CONFLICT.getMessage()));
+    }
+
     @ExceptionHandler(DateTimeParseException.class)
     public ResponseEntity<BaseResponse<?>> handleTypeMismatchDateTimeFormatExceptions(DateTimeParseException ex){
 
@@ -0,0 +1,47 @@
+package com.petplate.petplate.common.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @RetryOnOptimisticLock 메서드를 트랜잭션 바깥에서 감싸 충돌 시 MAX_ATTEMPTS 번까지 다시 실행한다.
+ * 이미 트랜잭션 안에서 호출된 경우 바깥 트랜잭션이 rollback-only 가 되므로 재시도하지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)  // @Transactional 보다 먼저 실행되어 시도마다 새 트랜잭션
+@Slf4j
+public class OptimisticLockRetryAspect {
+    static final int MAX_ATTEMPTS = 5;
+    private static final long MAX_BACKOFF_MILLIS = 50;
+
+    @Around("@annotation(com.petplate.petplate.common.retry.RetryOnOptimisticLock)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+
+                log.info("낙관적 락 충돌, 다시 시도: {} {}번째", joinPoint.getSignature().toShortString(), attempt);
+                // 동시에 충돌한 요청이 같은 시각에 다시 시도하지 않도록
+                Thread.sleep(ThreadLocalRandom.current().nextLong(1, MAX_BACKOFF_MILLIS * attempt));
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.petplate.petplate.common.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(ObjectOptimisticLockingFailureException) 시 트랜잭션을 새로 시작해 다시 실행한다.
+ * 같은 식사 내역(DailyMeal.revision)을 동시에 수정하는 기록 생성, 삭제 서비스에 사용한다.
+ * 재시도해도 결과가 같도록, 트랜잭션 밖의 작업(Redis 등)은 커밋 후에 실행해야 한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnOptimisticLock {
+}
@@ -6,13 +6,15 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_proper_nutrient_daily_meal_id_name", columnList = "daily_meal_id, name"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @ToString(exclude = {"dailyMeal"})
 public class ProperNutrient extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "proper_nutrient_seq")
+    @SequenceGenerator(name = "proper_nutrient_seq", sequenceName = "proper_nutrient_seq", allocationSize = 50)
     @Column(name = "proper_nutrient_id")
     private Long id;
 
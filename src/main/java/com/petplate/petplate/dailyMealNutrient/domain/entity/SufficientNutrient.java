@@ -6,13 +6,15 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_sufficient_nutrient_daily_meal_id_name", columnList = "daily_meal_id, name"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @ToString(exclude = {"dailyMeal"})
 public class SufficientNutrient extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sufficient_nutrient_seq")
+    @SequenceGenerator(name = "sufficient_nutrient_seq", sequenceName = "sufficient_nutrient_seq", allocationSize = 50)
     @Column(name = "sufficient_nutrient_id")
     private Long id;
 
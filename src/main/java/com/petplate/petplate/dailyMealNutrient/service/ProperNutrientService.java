@@ -14,6 +14,7 @@ import com.petplate.petplate.pet.dto.response.ReadPetNutrientResponseDto;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
 import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petdailymeal.service.TodayMealService;
 import com.petplate.petplate.utils.DailyMealUtil;
 import com.petplate.petplate.utils.PetUtil;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +36,7 @@ public class ProperNutrientService {
     private final DailyMealRepository dailyMealRepository;
     private final ProperNutrientRepository properNutrientRepository;
     private final PetRepository petRepository;
+    private final TodayMealService todayMealService;
 
     @Transactional
     public void createProperNutrientsToday(String username, Long petId) {
@@ -43,6 +45,8 @@ public class ProperNutrientService {
 
         // 이미 적정 영양소 생성했던 경우 기존의 적정 영양소들을 제거하고 새로 분석함
         properNutrientRepository.deleteAll(properNutrientRepository.findByDailyMealId(dailyMealToday.getId()));
+        dailyMealRepository.increaseRevision(dailyMealToday.getId());
+        todayMealService.refresh(dailyMealToday);  // 오늘 식사 내역 해시의 revision (ETag)
 
         double weight = pet.getWeight();
         Activity activity = pet.getActivity();
@@ -13,8 +13,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -68,7 +70,10 @@ public class DrugCRUDController {
     })
     public ResponseEntity<BaseResponse<ShowNutrientListResponseDto>> showAllNutrients(){
 
-        return ResponseEntity.ok(BaseResponse.createSuccess(drugCRUDService.showAllNutrientName()));
+        // 배포 전까지 바뀌지 않는 목록 (ETag 는 ShallowEtagHeaderFilter 가 설정)
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePublic())
+                .body(BaseResponse.createSuccess(drugCRUDService.showAllNutrientName()));
     }
 
     @DeleteMapping("/{id}")
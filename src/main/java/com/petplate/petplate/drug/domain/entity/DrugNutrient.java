@@ -9,20 +9,25 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_drug_nutrient_standard_nutrient_drug_id", columnList = "standard_nutrient, drug_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class DrugNutrient {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "drug_nutrient_seq")
+    @SequenceGenerator(name = "drug_nutrient_seq", sequenceName = "drug_nutrient_seq", allocationSize = 50)
     @Column(name = "drug_nutrient_id")
     private Long id;
 
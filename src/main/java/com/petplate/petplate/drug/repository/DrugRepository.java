@@ -14,5 +14,10 @@ public interface DrugRepository extends JpaRepository<Drug,Long> {
     @Query("select d from Drug d join d.drugNutrientList dn where dn.standardNutrient in :standardNutrients group by d order by count(dn) desc ")
     List<Drug> findUserProperDrugList(@Param("standardNutrients") List<StandardNutrient> standardNutrients);
 
+    // 영양제마다 영양소 목록을 조회하지 않도록 함께 조회
+    @EntityGraph(attributePaths = {"drugNutrientList"})
+    @Query("select distinct d from Drug d")
+    List<Drug> findAllWithDrugNutrients();
+
 
 }
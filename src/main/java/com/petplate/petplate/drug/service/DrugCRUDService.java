@@ -84,7 +84,7 @@ public class DrugCRUDService {
 
     public List<DrugResponseDto> showAllDrug(){
 
-        List<DrugResponseDto> drugResponseDtoList = drugRepository.findAll().stream().map(drug->DrugResponseDto.of(drug,
+        List<DrugResponseDto> drugResponseDtoList = drugRepository.findAllWithDrugNutrients().stream().map(drug->DrugResponseDto.of(drug,
                 drug.getDrugNutrientList().stream().map(drugNutrient -> drugNutrient.getStandardNutrient().getName()).collect(
                         Collectors.toList()))).collect(Collectors.toList());
 
@@ -7,20 +7,25 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_raw_prohibited_by_disease_disease_id_raw_id", columnList = "disease_id, raw_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class RawProhibitedByDisease {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "raw_prohibited_by_disease_seq")
+    @SequenceGenerator(name = "raw_prohibited_by_disease_seq", sequenceName = "raw_prohibited_by_disease_seq", allocationSize = 50)
     @Column(name = "raw_prohibited_by_disease_id")
     private Long id;
 
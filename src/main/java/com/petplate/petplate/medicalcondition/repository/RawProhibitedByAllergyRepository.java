@@ -0,0 +1,14 @@
+package com.petplate.petplate.medicalcondition.repository;
+
+import com.petplate.petplate.medicalcondition.domain.entity.RawProhibitedByAllergy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RawProhibitedByAllergyRepository extends JpaRepository<RawProhibitedByAllergy, Long> {
+    @Query("select rpa.raw.id from RawProhibitedByAllergy rpa " +
+            "where rpa.allergy.id in (select pa.allergy.id from PetAllergy pa where pa.pet.id = :petId)")
+    List<Long> findRawIdsByPetId(@Param("petId") Long petId);
+}
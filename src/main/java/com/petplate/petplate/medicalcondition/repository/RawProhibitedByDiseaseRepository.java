@@ -0,0 +1,14 @@
+package com.petplate.petplate.medicalcondition.repository;
+
+import com.petplate.petplate.medicalcondition.domain.entity.RawProhibitedByDisease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RawProhibitedByDiseaseRepository extends JpaRepository<RawProhibitedByDisease, Long> {
+    @Query("select rpd.raw.id from RawProhibitedByDisease rpd " +
+            "where rpd.disease.id in (select pd.disease.id from PetDisease pd where pd.pet.id = :petId)")
+    List<Long> findRawIdsByPetId(@Param("petId") Long petId);
+}
@@ -0,0 +1,173 @@
+package com.petplate.petplate.medicalcondition.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petplate.petplate.common.metrics.CacheMetrics;
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import com.petplate.petplate.medicalcondition.repository.RawProhibitedByAllergyRepository;
+import com.petplate.petplate.medicalcondition.repository.RawProhibitedByDiseaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반려견의 알러지, 질병으로 인해 섭취가 금지된 자연식(Raw)을 반려견별 비트맵으로 관리한다.
+ * 비트맵은 Raw의 id를 인덱스로 사용한다.
+ * <p>
+ * 캐시는 최대 MAX_PETS 마리, 저장 후 TTL 까지만 보관한다.
+ * 알러지/질병이 변경되면 prohibited-raws 채널에 반려견 id 를 발행하여 모든 인스턴스의 캐시에서 제거하며,
+ * 발행에 실패해도 TTL 이 지나면 다시 읽는다.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class ProhibitedRawService implements MessageListener {
+    static final String CHANNEL = "prohibited-raws";
+    private static final long MAX_PETS = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final String CALLER = "ProhibitedRawService";
+
+    private final RawProhibitedByAllergyRepository rawProhibitedByAllergyRepository;
+    private final RawProhibitedByDiseaseRepository rawProhibitedByDiseaseRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisOperationTimer redisOperationTimer;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final CacheMetrics cacheMetrics;
+
+    private final Cache<Long, BitSet> prohibitedRawsByPetId = Caffeine.newBuilder()
+            .maximumSize(MAX_PETS)
+            .expireAfterWrite(TTL)
+            .build();
+    // 제거할 때마다 증가. 읽는 동안 제거가 있었으면 읽은 비트맵을 캐싱하지 않는다
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ProhibitedRawService(RawProhibitedByAllergyRepository rawProhibitedByAllergyRepository,
+                                RawProhibitedByDiseaseRepository rawProhibitedByDiseaseRepository,
+                                StringRedisTemplate stringRedisTemplate,
+                                RedisOperationTimer redisOperationTimer,
+                                RedisMessageListenerContainer redisMessageListenerContainer,
+                                MeterRegistry meterRegistry) {
+        this.rawProhibitedByAllergyRepository = rawProhibitedByAllergyRepository;
+        this.rawProhibitedByDiseaseRepository = rawProhibitedByDiseaseRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisOperationTimer = redisOperationTimer;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.cacheMetrics = new CacheMetrics(meterRegistry, "prohibitedRaws");
+    }
+
+    @PostConstruct
+    void subscribeChannel() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 반려견에게 금지된 자연식 id 비트맵 반환. 반환된 비트맵은 수정하면 안된다.
+     *
+     * @param petId
+     * @return 금지된 rawId의 비트가 켜진 비트맵
+     */
+    public BitSet getProhibitedRaws(Long petId) {
+        BitSet cached = prohibitedRawsByPetId.getIfPresent(petId);
+        if (cached != null) {
+            cacheMetrics.hit();
+            return cached;
+        }
+
+        cacheMetrics.miss();
+        // 캐시 잠금 밖에서 조회한다 (동시에 조회하면 각자 읽고 먼저 저장한 값을 사용)
+        long evictionsBeforeLoad = evictions.get();
+        BitSet loaded = loadProhibitedRaws(petId);
+        if (evictions.get() != evictionsBeforeLoad) {
+            return loaded;
+        }
+
+        BitSet previous = prohibitedRawsByPetId.asMap().putIfAbsent(petId, loaded);
+        return previous == null ? loaded : previous;
+    }
+
+    /**
+     * 해당 자연식이 반려견에게 금지된 자연식인지 확인
+     *
+     * @param petId
+     * @param rawId
+     * @return 금지 여부
+     */
+    public boolean isProhibited(Long petId, Long rawId) {
+        if (rawId == null) {
+            return false;
+        }
+
+        return getProhibitedRaws(petId).get(Math.toIntExact(rawId));
+    }
+
+    /**
+     * 반려견의 알러지, 질병이 변경되었거나 반려견이 삭제된 경우 모든 인스턴스에서 캐싱된 비트맵 제거.
+     * 트랜잭션 내에서 호출되면 커밋 이후에 제거하여 커밋 전의 상태로 다시 캐싱되는 것을 막는다.
+     *
+     * @param petId
+     */
+    public void evict(Long petId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll(petId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictAll(petId);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (RuntimeException e) {
+            log.warn("금지 자연식 캐시 제거 메시지 처리 실패", e);
+        }
+    }
+
+    private void evictAll(Long petId) {
+        evictLocal(petId);
+        try {
+            redisOperationTimer.run(CALLER, "publish",
+                    () -> stringRedisTemplate.convertAndSend(CHANNEL, petId.toString()));
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 TTL 이 지나면 다시 읽는다
+            log.warn("금지 자연식 캐시 제거 발행 실패 petId={}", petId, e);
+        }
+    }
+
+    private void evictLocal(Long petId) {
+        evictions.incrementAndGet();
+        prohibitedRawsByPetId.invalidate(petId);
+    }
+
+    private BitSet loadProhibitedRaws(Long petId) {
+        BitSet prohibitedRaws = new BitSet();
+
+        rawProhibitedByAllergyRepository.findRawIdsByPetId(petId)
+                .forEach(rawId -> prohibitedRaws.set(Math.toIntExact(rawId)));
+        rawProhibitedByDiseaseRepository.findRawIdsByPetId(petId)
+                .forEach(rawId -> prohibitedRaws.set(Math.toIntExact(rawId)));
+
+        return prohibitedRaws;
+    }
+}
@@ -1,8 +1,10 @@
 package com.petplate.petplate.pet.controller;
 
+import com.petplate.petplate.auth.interfaces.CurrentUserPK;
 import com.petplate.petplate.auth.interfaces.CurrentUserUsername;
 import com.petplate.petplate.common.response.BaseResponse;
 import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.dto.request.CreatePetConditionsRequestDto;
 import com.petplate.petplate.pet.dto.request.CreatePetRequestDto;
 import com.petplate.petplate.pet.dto.request.ModifyPetInfoRequestDto;
 import com.petplate.petplate.pet.dto.request.ModifyPetProfileImgRequestDto;
@@ -15,10 +17,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -42,8 +46,11 @@ public class PetController {
             @ApiResponse(responseCode = NOT_FOUND, description = "해당 username을 가지는 유저가 존재하지 않는 경우")
     })
     @PostMapping("/pets")
-    public ResponseEntity<BaseResponse<Long>> createPet(@CurrentUserUsername String username, @RequestBody @Valid CreatePetRequestDto requestDto) {
-        Pet pet = petService.createPet(username, requestDto);
+    public ResponseEntity<BaseResponse<Long>> createPet(@CurrentUserPK Long userId, @CurrentUserUsername String username, @RequestBody @Valid CreatePetRequestDto requestDto) {
+        // uid 클레임이 없는 이전 토큰은 username 으로 유저를 조회한다
+        Pet pet = userId != null
+                ? petService.createPet(userId, requestDto)
+                : petService.createPet(username, requestDto);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(BaseResponse.createSuccess(pet.getId()));
@@ -89,6 +96,20 @@ public class PetController {
                 .body(BaseResponse.createSuccess(null));
     }
 
+    @Operation(summary = "반려견 삭제", description = "식사 기록, 알러지, 질병은 비동기로 삭제됩니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = OK, description = "반려견 성공적 삭제"),
+            @ApiResponse(responseCode = BAD_REQUEST, description = "삭제하려는 반려견이 본인의 반려견이 아닌 경우"),
+            @ApiResponse(responseCode = NOT_FOUND, description = "존재하지 않는 petId"),
+    })
+    @DeleteMapping("/pets/{petId}")
+    public ResponseEntity<BaseResponse> deletePet(@CurrentUserUsername String username, @PathVariable("petId") Long petId) {
+        petService.deletePet(username, petId);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(BaseResponse.createSuccessWithNoContent());
+    }
+
     @Operation(summary = "선택할 수 있는 프로필 이미지들 조회")
     @ApiResponses(value = {
             @ApiResponse(responseCode = OK, description = "프로필 이미지 성공적 조회"),
@@ -97,7 +118,9 @@ public class PetController {
     public ResponseEntity<BaseResponse<List<ReadPetProfileImageResponseDto>>> readPetProfileImages() {
         List<ReadPetProfileImageResponseDto> petProfileImages = petService.getPetProfileImages();
 
+        // 배포 전까지 바뀌지 않는 목록 (ETag 는 ShallowEtagHeaderFilter 가 설정)
         return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePublic())
                 .body(BaseResponse.createSuccess(petProfileImages));
     }
 
@@ -115,6 +138,34 @@ public class PetController {
                 .body(BaseResponse.createSuccess(null));
     }
 
+    @Operation(summary = "반려견의 알러지, 질병 일괄 등록", description = "이미 등록된 알러지, 질병은 건너뜁니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = CREATED, description = "알러지, 질병 성공적 등록"),
+            @ApiResponse(responseCode = BAD_REQUEST, description = "조회하려는 반려견이 본인의 반려견이 아닌 경우, 존재하지 않는 알러지 또는 질병이 포함된 경우"),
+            @ApiResponse(responseCode = NOT_FOUND, description = "존재하지 않는 petId"),
+    })
+    @PostMapping("/pets/{petId}/conditions")
+    public ResponseEntity<BaseResponse> createPetConditions(@CurrentUserUsername String username, @PathVariable("petId") Long petId, @Valid @RequestBody CreatePetConditionsRequestDto requestDto) {
+        petService.createPetConditions(username, petId, requestDto);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(BaseResponse.createSuccess(null));
+    }
+
+    @Operation(summary = "홈 화면 정보 조회", description = "반려견 정보, 오늘 섭취 칼로리, 적정 칼로리, 칼로리 비율, 오늘 섭취 영양소, 부족 영양소를 한 번에 조회합니다. 오늘 식사 내역이 없으면 섭취량은 0입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = OK, description = "홈 화면 정보 성공적 조회"),
+            @ApiResponse(responseCode = BAD_REQUEST, description = "조회하려는 반려견이 본인의 반려견이 아닌 경우"),
+            @ApiResponse(responseCode = NOT_FOUND, description = "존재하지 않는 petId"),
+    })
+    @GetMapping("/pets/{petId}/dashboard")
+    public ResponseEntity<BaseResponse<ReadPetDashboardResponseDto>> readPetDashboard(@CurrentUserUsername String username, @PathVariable("petId") Long petId) {
+        ReadPetDashboardResponseDto dashboard = petService.getPetDashboard(username, petId);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(BaseResponse.createSuccess(dashboard));
+    }
+
     @Operation(summary = "반려견이 하루 섭취한 영양소 정보 조회. (날짜 미입력시 오늘 정보 조회)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = OK, description = "반려견 성공적 정보 조회"),
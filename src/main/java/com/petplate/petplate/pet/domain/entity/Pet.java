@@ -7,15 +7,21 @@ import com.petplate.petplate.pet.domain.ProfileImg;
 import com.petplate.petplate.user.domain.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.Where;
 
 @Entity
+@Table(indexes = @Index(name = "idx_pet_user_id", columnList = "user_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @ToString(exclude = {"owner"})
+@SQLDelete(sql = "UPDATE pet set deleted = true where pet_id = ?")
+@Where(clause = "deleted = false")
 public class Pet extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pet_seq")
+    @SequenceGenerator(name = "pet_seq", sequenceName = "pet_seq", allocationSize = 50)
     @Column(name = "pet_id")
     private Long id;
 
@@ -43,6 +49,10 @@ public class Pet extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User owner;
 
+    // 삭제 후 purge 작업이 기록과 함께 지운다
+    @Column(nullable = false)
+    private boolean deleted = false;
+
     @Builder
     public Pet(String name, int age, double weight, Activity activity, Neutering neutering, User owner) {
         this.name = name;
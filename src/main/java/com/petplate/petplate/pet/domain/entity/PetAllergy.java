@@ -10,6 +10,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,10 +21,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_pet_allergy_pet_id_allergy_id", columnNames = {"pet_id", "allergy_id"}))
 public class PetAllergy {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pet_allergy_seq")
+    @SequenceGenerator(name = "pet_allergy_seq", sequenceName = "pet_allergy_seq", allocationSize = 50)
     @Column(name = "pet_allergy_id")
     private Long id;
 
@@ -0,0 +1,20 @@
+package com.petplate.petplate.pet.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreatePetConditionsRequestDto {
+    @NotNull(message = "알러지 목록이 입력되지 않았습니다. (없는 경우 빈 목록을 입력해주세요.)")
+    private List<Long> allergyIds;
+    @NotNull(message = "질병 목록이 입력되지 않았습니다. (없는 경우 빈 목록을 입력해주세요.)")
+    private List<Long> diseaseIds;
+}
@@ -0,0 +1,31 @@
+package com.petplate.petplate.pet.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ReadPetDashboardResponseDto {
+    private ReadPetResponseDto pet;  // 반려견 정보
+    private Long dailyMealId;  // 오늘 식사 내역 PK, 없으면 null
+    private double kcal;  // 오늘 섭취 칼로리
+    private double properKcal;  // 적정 섭취 칼로리
+    private double kcalRatio;  // 적정 섭취 칼로리 대비 섭취 칼로리 비율
+    private List<ReadPetNutrientResponseDto> nutrients;  // 오늘 섭취 영양소
+    private List<ReadPetNutrientResponseDto> deficientNutrients;  // 오늘 부족 영양소
+
+    public static ReadPetDashboardResponseDto of(ReadPetResponseDto pet, Long dailyMealId, double kcal, double properKcal,
+                                                 List<ReadPetNutrientResponseDto> nutrients,
+                                                 List<ReadPetNutrientResponseDto> deficientNutrients) {
+        ReadPetDashboardResponseDto response = new ReadPetDashboardResponseDto();
+        response.pet = pet;
+        response.dailyMealId = dailyMealId;
+        response.kcal = kcal;
+        response.properKcal = properKcal;
+        response.kcalRatio = kcal / properKcal;
+        response.nutrients = nutrients;
+        response.deficientNutrients = deficientNutrients;
+
+        return response;
+    }
+}
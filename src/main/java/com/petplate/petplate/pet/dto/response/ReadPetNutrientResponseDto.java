@@ -1,8 +1,15 @@
 package com.petplate.petplate.pet.dto.response;
 
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.common.EmbeddedType.StandardNutrient;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 public class ReadPetNutrientResponseDto {
     private String name;  // 이름
@@ -30,6 +37,20 @@ public class ReadPetNutrientResponseDto {
         return response;
     }
 
+    // 섭취량 벡터로부터 StandardNutrient 순서의 영양소 정보 목록 생성
+    public static List<ReadPetNutrientResponseDto> listOf(NutrientVector intake, double weight, Activity activity, Neutering neutering) {
+        List<ReadPetNutrientResponseDto> responses = new ArrayList<>();
+
+        for (StandardNutrient standardNutrient : StandardNutrient.values()) {
+            responses.add(of(standardNutrient.getName(), standardNutrient.getUnit(), standardNutrient.getDescription(),
+                    intake.get(standardNutrient),
+                    standardNutrient.calculateProperAmount(weight, activity, neutering),
+                    standardNutrient.calculateProperMaximumAmount(weight, activity, neutering)));
+        }
+
+        return responses;
+    }
+
     @Override
     public String toString() {
         return "ReadPetNutrientResponseDto{" +
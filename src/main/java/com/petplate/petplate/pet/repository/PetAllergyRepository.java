@@ -2,9 +2,16 @@ package com.petplate.petplate.pet.repository;
 
 import com.petplate.petplate.pet.domain.entity.PetAllergy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface PetAllergyRepository extends JpaRepository<PetAllergy, Long> {
     List<PetAllergy> findByPetId(Long petId);
+
+    boolean existsByPetIdAndAllergyId(Long petId, Long allergyId);
+
+    @Query("select pa.allergy.id from PetAllergy pa where pa.pet.id = :petId")
+    List<Long> findAllergyIdsByPetId(@Param("petId") Long petId);
 }
@@ -0,0 +1,17 @@
+package com.petplate.petplate.pet.repository;
+
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 홈 화면 조회 결과. 오늘 식사 내역이 없으면 dailyMeal 은 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class PetDashboardRow {
+    private Pet pet;
+    private String ownerUsername;
+    private DailyMeal dailyMeal;
+}
@@ -2,9 +2,16 @@ package com.petplate.petplate.pet.repository;
 
 import com.petplate.petplate.pet.domain.entity.PetDisease;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface PetDiseaseRepository extends JpaRepository<PetDisease, Long> {
     List<PetDisease> findByPetId(Long petId);
+
+    boolean existsByPetIdAndDiseaseId(Long petId, Long diseaseId);
+
+    @Query("select pd.disease.id from PetDisease pd where pd.pet.id = :petId")
+    List<Long> findDiseaseIdsByPetId(@Param("petId") Long petId);
 }
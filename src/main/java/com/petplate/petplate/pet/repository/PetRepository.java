@@ -1,9 +1,13 @@
 package com.petplate.petplate.pet.repository;
 
 import com.petplate.petplate.pet.domain.entity.Pet;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +29,15 @@ public interface PetRepository extends JpaRepository<Pet, Long> {
     boolean existsByOwnerId(Long ownerId);
 
     boolean existsByOwnerUsername(String username);
+
+    // 반려견, 소유자 username, 기간 내 식사 내역을 한 번에 조회
+    // 같은 날 식사 내역이 중복 생성된 경우에도 결과가 여러 건이 되지 않도록 가장 최근 식사 내역이 먼저 오게 정렬하고 pageable 로 1건만 가져온다
+    @Query("select new com.petplate.petplate.pet.repository.PetDashboardRow(p, o.username, dm) " +
+            "from Pet p join p.owner o " +
+            "left join DailyMeal dm on dm.pet = p and dm.createdAt between :start and :end " +
+            "where p.id = :petId " +
+            "order by dm.createdAt desc, dm.id desc")
+    List<PetDashboardRow> findDashboardRows(@Param("petId") Long petId,
+                                            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                                            Pageable pageable);
 }
@@ -1,6 +1,7 @@
 package com.petplate.petplate.pet.service;
 
 import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
 import com.petplate.petplate.common.EmbeddedType.StandardNutrient;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
@@ -9,6 +10,7 @@ import com.petplate.petplate.medicalcondition.domain.entity.Allergy;
 import com.petplate.petplate.medicalcondition.domain.entity.Disease;
 import com.petplate.petplate.medicalcondition.repository.AllergyRepository;
 import com.petplate.petplate.medicalcondition.repository.DiseaseRepository;
+import com.petplate.petplate.medicalcondition.service.ProhibitedRawService;
 import com.petplate.petplate.pet.domain.Activity;
 import com.petplate.petplate.pet.domain.Neutering;
 import com.petplate.petplate.pet.domain.ProfileImg;
@@ -18,17 +20,26 @@ import com.petplate.petplate.pet.dto.request.*;
 import com.petplate.petplate.pet.dto.response.*;
 import com.petplate.petplate.pet.domain.entity.Pet;
 import com.petplate.petplate.pet.repository.PetAllergyRepository;
+import com.petplate.petplate.pet.repository.PetDashboardRow;
 import com.petplate.petplate.pet.repository.PetDiseaseRepository;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
 import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petdailymeal.service.RecentFoodService;
+import com.petplate.petplate.petdailymeal.service.TodayMeal;
+import com.petplate.petplate.petdailymeal.service.TodayMealService;
+import com.petplate.petplate.purge.domain.PurgeTargetType;
+import com.petplate.petplate.purge.service.PurgeService;
 import com.petplate.petplate.user.domain.entity.User;
 import com.petplate.petplate.user.repository.UserMemberShipRepository;
 import com.petplate.petplate.user.repository.UserRepository;
 import com.petplate.petplate.utils.DailyMealUtil;
 import com.petplate.petplate.utils.PetUtil;
+import com.petplate.petplate.utils.UserUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,8 +47,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -51,6 +65,10 @@ public class PetService {
     private final DiseaseRepository diseaseRepository;
     private final PetDiseaseRepository petDiseaseRepository;
     private final DailyMealRepository dailyMealRepository;
+    private final ProhibitedRawService prohibitedRawService;
+    private final PurgeService purgeService;
+    private final RecentFoodService recentFoodService;
+    private final TodayMealService todayMealService;
 
     /**
      * 반려견 등록
@@ -64,8 +82,25 @@ public class PetService {
         // 해당 username을 가지는 유저가 존재하지 않는 경우
         User owner = userRepository.findByUsername(username).orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
 
+        return createPet(owner, requestDto);
+    }
+
+    /**
+     * 반려견 등록 (토큰의 유저 PK 사용)
+     * 유저 엔티티 대신 탈퇴하지 않은 유저인지만 확인하고 프록시를 연관관계에 설정한다.
+     *
+     * @param userId
+     * @param requestDto
+     * @return Pet 엔티티
+     */
+    @Transactional
+    public Pet createPet(Long userId, @Valid CreatePetRequestDto requestDto) {
+        return createPet(UserUtil.getActiveUserReference(userId, userRepository), requestDto);
+    }
+
+    private Pet createPet(User owner, CreatePetRequestDto requestDto) {
         // 멤버십이 존재하지 않으면서 두마리 이상의 반려견을 추가하려는 경우 => 예외 발생
-        if (!userMemberShipRepository.existsByUserUsername(username) && petRepository.existsByOwnerUsername(username)) {
+        if (!userMemberShipRepository.existsByUserId(owner.getId()) && petRepository.existsByOwnerId(owner.getId())) {
             throw new BadRequestException(ErrorCode.NO_MEMBERSHIP_EXISTS);
         }
 
@@ -134,6 +169,8 @@ public class PetService {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
         pet.updateInfo(requestDto.getName(), requestDto.getAge(), requestDto.getWeight(), requestDto.getActivity(), requestDto.getNeutering());
+        // 오늘 식사 내역 해시의 반려견 정보(ETag)를 다시 만들도록 제거
+        todayMealService.evict(petId);
     }
 
     /**
@@ -155,24 +192,40 @@ public class PetService {
         pet.updateProfileImg(profileImg);
     }
 
+    /**
+     * 반려견 삭제. 반려견은 바로 조회되지 않고, 식사 기록, 알러지, 질병은 purge 작업이 나누어 지운다.
+     *
+     * @param username
+     * @param petId
+     */
+    @Transactional
+    public void deletePet(String username, Long petId) {
+        Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
+
+        petRepository.delete(pet);
+        prohibitedRawService.evict(petId);
+        recentFoodService.evict(petId);
+        todayMealService.evict(petId);
+        purgeService.requestPurge(PurgeTargetType.PET, petId);
+    }
+
     @Transactional
     public void createPetAllergy(String username, Long petId, @Valid CreatePetAllergyRequestDto request) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
         Allergy allergy = allergyRepository.findById(request.getAllergyId())
                 .orElseThrow(() -> new BadRequestException(ErrorCode.BAD_REQUEST));
 
+        // 이미 동일한 알러지가 등록된 경우
+        if (petAllergyRepository.existsByPetIdAndAllergyId(pet.getId(), allergy.getId())) {
+            throw new BadRequestException(ErrorCode.PET_ALLERGY_ALREADY_EXISTS);
+        }
+
         PetAllergy petAllergy = PetAllergy.builder()
                 .pet(pet).allergy(allergy)
                 .build();
 
-        // 이미 동일한 알러지가 등록된 경우
-        petAllergyRepository.findByPetId(pet.getId()).forEach(pa -> {
-            if (pa.getAllergy().getId().equals(request.getAllergyId())) {
-                throw new BadRequestException(ErrorCode.BAD_REQUEST);
-            }
-        });
-
-        petAllergyRepository.save(petAllergy);
+        saveUnique(() -> petAllergyRepository.saveAndFlush(petAllergy), ErrorCode.PET_ALLERGY_ALREADY_EXISTS);
+        prohibitedRawService.evict(pet.getId());
     }
 
     @Transactional
@@ -181,19 +234,71 @@ public class PetService {
         Disease disease = diseaseRepository.findById(request.getDiseaseId())
                 .orElseThrow(() -> new BadRequestException(ErrorCode.BAD_REQUEST));
 
+        // 이미 동일한 질병이 등록된 경우
+        if (petDiseaseRepository.existsByPetIdAndDiseaseId(pet.getId(), disease.getId())) {
+            throw new BadRequestException(ErrorCode.PET_DISEASE_ALREADY_EXISTS);
+        }
+
         PetDisease petDisease = PetDisease.builder()
                 .pet(pet)
                 .disease(disease)
                 .build();
 
-        // 이미 동일한 질병이 등록된 경우
-        petDiseaseRepository.findByPetId(pet.getId()).forEach(pd -> {
-            if (pd.getDisease().getId().equals(request.getDiseaseId())) {
-                throw new BadRequestException(ErrorCode.BAD_REQUEST);
+        saveUnique(() -> petDiseaseRepository.saveAndFlush(petDisease), ErrorCode.PET_DISEASE_ALREADY_EXISTS);
+        prohibitedRawService.evict(pet.getId());
+    }
+
+    /**
+     * 반려견의 알러지, 질병을 한 번에 등록. 이미 등록된 알러지, 질병은 건너뛴다.
+     *
+     * @param username
+     * @param petId
+     * @param request
+     */
+    @Transactional
+    public void createPetConditions(String username, Long petId, @Valid CreatePetConditionsRequestDto request) {
+        Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
+
+        Set<Long> allergyIds = new LinkedHashSet<>(request.getAllergyIds());
+        Set<Long> diseaseIds = new LinkedHashSet<>(request.getDiseaseIds());
+
+        List<Allergy> allergies = allergyRepository.findAllById(allergyIds);
+        List<Disease> diseases = diseaseRepository.findAllById(diseaseIds);
+
+        // 존재하지 않는 알러지, 질병이 포함된 경우
+        if (allergies.size() != allergyIds.size() || diseases.size() != diseaseIds.size()) {
+            throw new BadRequestException(ErrorCode.ALLERGY_OR_DISEASE_NOT_EXISTS);
+        }
+
+        Set<Long> registeredAllergyIds = new HashSet<>(petAllergyRepository.findAllergyIdsByPetId(petId));
+        Set<Long> registeredDiseaseIds = new HashSet<>(petDiseaseRepository.findDiseaseIdsByPetId(petId));
+
+        List<PetAllergy> petAllergies = new ArrayList<>();
+        allergies.forEach(allergy -> {
+            if (!registeredAllergyIds.contains(allergy.getId())) {
+                petAllergies.add(PetAllergy.builder().pet(pet).allergy(allergy).build());
             }
         });
 
-        petDiseaseRepository.save(petDisease);
+        List<PetDisease> petDiseases = new ArrayList<>();
+        diseases.forEach(disease -> {
+            if (!registeredDiseaseIds.contains(disease.getId())) {
+                petDiseases.add(PetDisease.builder().pet(pet).disease(disease).build());
+            }
+        });
+
+        saveUnique(() -> petAllergyRepository.saveAllAndFlush(petAllergies), ErrorCode.PET_ALLERGY_ALREADY_EXISTS);
+        saveUnique(() -> petDiseaseRepository.saveAllAndFlush(petDiseases), ErrorCode.PET_DISEASE_ALREADY_EXISTS);
+        prohibitedRawService.evict(pet.getId());
+    }
+
+    // 동시에 같은 알러지, 질병을 등록하면 exists 확인을 둘 다 통과하므로 유니크 제약 위반을 이미 등록된 것으로 처리한다
+    private static void saveUnique(Runnable save, ErrorCode alreadyExists) {
+        try {
+            save.run();
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException(alreadyExists);
+        }
     }
 
     /**
@@ -241,9 +346,9 @@ public class PetService {
      */
     public List<ReadPetNutrientResponseDto> getPetNutrientToday(String username, Long petId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
-        DailyMeal dailyMeal = DailyMealUtil.findDailyMealToday(petId, dailyMealRepository);
+        TodayMeal todayMeal = findTodayMeal(petId);
 
-        Nutrient nutrient = dailyMeal.getNutrient();
+        Nutrient nutrient = todayMeal.getNutrient();
 
         double weight = pet.getWeight();
         Activity activity = pet.getActivity();
@@ -366,13 +471,13 @@ public class PetService {
      */
     public List<ReadPetNutrientRatioResponseDto> getPetNutrientRatioToday(String username, Long petId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
-        DailyMeal dailyMeal = DailyMealUtil.findDailyMealToday(petId, dailyMealRepository);
+        TodayMeal todayMeal = findTodayMeal(petId);
 
         List<ReadPetNutrientRatioResponseDto> responses = new ArrayList<>();
 
         // 비율 계산
         Map<StandardNutrient, Double> nutrientsMap =
-                StandardNutrient.getNutrientsMap(dailyMeal.getNutrient(), pet.getWeight(), pet.getActivity(), pet.getNeutering());
+                StandardNutrient.getNutrientsMap(todayMeal.getNutrient(), pet.getWeight(), pet.getActivity(), pet.getNeutering());
 
         nutrientsMap.forEach((nutrient, ratio) -> {
             responses.add(ReadPetNutrientRatioResponseDto.of(nutrient.getName(), ratio));
@@ -478,6 +583,45 @@ public class PetService {
         return responses;
     }
 
+    /**
+     * 홈 화면 정보 반환. 반려견과 오늘 식사 내역을 한 번의 쿼리로 조회하고, 영양소 계산도 한 번만 한다.
+     * 오늘 식사 내역이 없으면 섭취량을 0으로 반환한다.
+     * 부족 영양소는 저장된 영양 분석 결과가 아닌 현재 섭취량으로 계산한다.
+     *
+     * @param username
+     * @param petId
+     * @return 반려견 정보, 섭취 칼로리, 적정 칼로리, 칼로리 비율, 섭취 영양소, 부족 영양소
+     */
+    public ReadPetDashboardResponseDto getPetDashboard(String username, Long petId) {
+        LocalDateTime startDatetime = LocalDateTime.of(LocalDate.now(), LocalTime.of(0, 0, 0));
+        LocalDateTime endDatetime = LocalDateTime.of(LocalDate.now(), LocalTime.of(23, 59, 59));
+
+        PetDashboardRow row = petRepository.findDashboardRows(petId, startDatetime, endDatetime, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException(ErrorCode.PET_NOT_FOUND));
+
+        // 조회하려는 반려견이 본인의 반려견이 아닌 경우 예외 발생
+        if (!row.getOwnerUsername().equals(username)) {
+            throw new BadRequestException(ErrorCode.NOT_USER_PET);
+        }
+
+        Pet pet = row.getPet();
+        DailyMeal dailyMeal = row.getDailyMeal();
+        NutrientVector intake = dailyMeal == null ? NutrientVector.zero() : NutrientVector.from(dailyMeal.getNutrient());
+
+        List<ReadPetNutrientResponseDto> nutrients =
+                ReadPetNutrientResponseDto.listOf(intake, pet.getWeight(), pet.getActivity(), pet.getNeutering());
+        List<ReadPetNutrientResponseDto> deficientNutrients = nutrients.stream()
+                .filter(nutrient -> nutrient.getAmountRatioPerProperAmount() < 1)
+                .toList();
+
+        return ReadPetDashboardResponseDto.of(ReadPetResponseDto.from(pet),
+                dailyMeal == null ? null : dailyMeal.getId(),
+                dailyMeal == null ? 0 : dailyMeal.getKcal(),
+                pet.getProperKcal(), nutrients, deficientNutrients);
+    }
+
     /**
      * 반려견이 오늘 먹은 총 칼로리 반환
      *
@@ -488,9 +632,9 @@ public class PetService {
     public ReadPetKcalResponseDto getPetKcalToday(String username, Long petId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
-        DailyMeal dailyMeal = DailyMealUtil.findDailyMealToday(petId, dailyMealRepository);
+        TodayMeal todayMeal = findTodayMeal(petId);
 
-        return ReadPetKcalResponseDto.of(dailyMeal.getKcal());
+        return ReadPetKcalResponseDto.of(todayMeal.getKcal());
     }
 
     /**
@@ -533,11 +677,11 @@ public class PetService {
      */
     public ReadPetKcalRatioResponseDto getPetKcalRatioToday(String username, Long petId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
-        DailyMeal dailyMeal = DailyMealUtil.findDailyMealToday(petId, dailyMealRepository);
+        TodayMeal todayMeal = findTodayMeal(petId);
 
         double properKcal = pet.getProperKcal();
 
-        double properKcalRatio = dailyMeal.getKcal() / properKcal;
+        double properKcalRatio = todayMeal.getKcal() / properKcal;
 
         return ReadPetKcalRatioResponseDto.of(properKcalRatio);
     }
@@ -561,6 +705,12 @@ public class PetService {
         return ReadPetKcalRatioResponseDto.of(properKcalRatio);
     }
 
+    // 오늘 식사 내역은 TodayMealService 의 읽기 모델에서 조회
+    private TodayMeal findTodayMeal(Long petId) {
+        return todayMealService.getToday(petId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.DAILY_MEAL_NOT_FOUND));
+    }
+
     private Pet validUserAndFindPet(String username, Long petId) {
         Pet pet = petRepository.findById(petId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.PET_NOT_FOUND));
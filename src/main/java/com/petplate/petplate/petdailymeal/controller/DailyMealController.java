@@ -6,17 +6,26 @@ import com.petplate.petplate.dailyMealNutrient.service.DeficientNutrientService;
 import com.petplate.petplate.dailyMealNutrient.service.ProperNutrientService;
 import com.petplate.petplate.dailyMealNutrient.service.SufficientNutrientService;
 import com.petplate.petplate.pet.dto.response.ReadPetNutrientResponseDto;
+import com.petplate.petplate.petdailymeal.dto.request.CreateDailyMealBatchRequestDto;
+import com.petplate.petplate.petdailymeal.dto.request.PreviewIntakeRequestDto;
 import com.petplate.petplate.petdailymeal.dto.response.*;
+import com.petplate.petplate.petdailymeal.service.DailyMealBatchService;
 import com.petplate.petplate.petdailymeal.service.DailyMealService;
+import com.petplate.petplate.petdailymeal.service.IntakePreviewService;
+import com.petplate.petplate.petdailymeal.service.MealStreamService;
+import com.petplate.petplate.petdailymeal.service.RecentFoodService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -31,6 +40,10 @@ public class DailyMealController {
     private final DeficientNutrientService deficientNutrientService;
     private final SufficientNutrientService sufficientNutrientService;
     private final ProperNutrientService properNutrientService;
+    private final IntakePreviewService intakePreviewService;
+    private final DailyMealBatchService dailyMealBatchService;
+    private final RecentFoodService recentFoodService;
+    private final MealStreamService mealStreamService;
 
     private static final String OK = "200";
     private static final String CREATED = "201";
@@ -215,4 +228,58 @@ public class DailyMealController {
         return ResponseEntity.status(HttpStatus.OK)
                 .body(BaseResponse.createSuccess(properNutrients));
     }
+
+    @Operation(summary = "자연식 섭취 미리보기", description = "입력한 자연식들을 오늘 섭취했을 때의 칼로리, 영양소 변화를 저장하지 않고 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = OK, description = "섭취 미리보기 성공적 조회"),
+            @ApiResponse(responseCode = BAD_REQUEST, description = "조회하려는 반려견이 본인의 반려견이 아닌 경우"),
+            @ApiResponse(responseCode = NOT_FOUND, description = "잘못된 petId, 존재하지 않는 자연식"),
+    })
+    @PostMapping("/pets/{petId}/meals/preview")
+    public ResponseEntity<BaseResponse<ReadIntakePreviewResponseDto>> previewIntake(@CurrentUserUsername String username, @PathVariable("petId") Long petId, @Valid @RequestBody PreviewIntakeRequestDto requestDto) {
+        ReadIntakePreviewResponseDto preview = intakePreviewService.previewIntake(username, petId, requestDto);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(BaseResponse.createSuccess(preview));
+    }
+
+    @Operation(summary = "여러 음식을 한 번에 식사 내역에 추가", description = "자연식, 사료, 포장 간식, 즐겨찾기를 한 번의 요청으로 오늘의 식사 내역에 추가합니다. 종류별로 최대 50개까지 기록할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = CREATED, description = "식사 내역 성공적 추가"),
+            @ApiResponse(responseCode = BAD_REQUEST, description = "본인의 반려견, 즐겨찾기가 아닌 경우, 추가할 음식이 없는 경우"),
+            @ApiResponse(responseCode = NOT_FOUND, description = "잘못된 petId, 존재하지 않는 자연식, 즐겨찾기인 경우"),
+    })
+    @PostMapping("/pets/{petId}/meals/batch")
+    public ResponseEntity<BaseResponse<ReadDailyMealBatchResponseDto>> createDailyMealBatch(@CurrentUserUsername String username, @PathVariable("petId") Long petId, @Valid @RequestBody CreateDailyMealBatchRequestDto requestDto) {
+        ReadDailyMealBatchResponseDto response = dailyMealBatchService.createDailyMealBatch(username, petId, requestDto);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(BaseResponse.createSuccess(response));
+    }
+
+    @Operation(summary = "최근 섭취 음식 조회", description = "자연식, 사료, 포장 간식, 즐겨찾기 중 최근에 먹은 음식을 최근에 먹은 순으로 조회합니다. 같은 음식은 한 번만 포함되며 최대 30개까지 조회할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = OK, description = "최근 섭취 음식 성공적 조회"),
+            @ApiResponse(responseCode = BAD_REQUEST, description = "조회하려는 반려견이 본인의 반려견이 아닌 경우"),
+            @ApiResponse(responseCode = NOT_FOUND, description = "잘못된 petId"),
+    })
+    @GetMapping("/pets/{petId}/foods/recent")
+    public ResponseEntity<BaseResponse<List<ReadRecentFoodResponseDto>>> readRecentFoods(@CurrentUserUsername String username, @PathVariable("petId") Long petId,
+                                                                                         @RequestParam(value = "count", defaultValue = "30") int count) {
+        List<ReadRecentFoodResponseDto> recentFoods = recentFoodService.getRecentFoods(username, petId, count);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(BaseResponse.createSuccess(recentFoods));
+    }
+
+    @Operation(summary = "오늘 섭취량 실시간 구독", description = "Server-Sent Events로 반려견의 오늘 섭취 칼로리, 영양소, 부족/과잉 영양소를 구독합니다. 구독 직후와 다른 기기를 포함해 음식을 기록, 삭제할 때마다 meal 이벤트를 보내며, 이벤트 id는 식사 내역 수정 번호입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = OK, description = "구독 성공"),
+            @ApiResponse(responseCode = BAD_REQUEST, description = "조회하려는 반려견이 본인의 반려견이 아닌 경우"),
+            @ApiResponse(responseCode = NOT_FOUND, description = "잘못된 petId"),
+    })
+    @GetMapping(value = "/pets/{petId}/meals/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMeals(@CurrentUserUsername String username, @PathVariable("petId") Long petId) {
+        return mealStreamService.subscribe(username, petId);
+    }
 }
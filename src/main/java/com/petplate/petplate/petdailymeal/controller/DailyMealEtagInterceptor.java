@@ -0,0 +1,138 @@
+package com.petplate.petplate.petdailymeal.controller;
+
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRevision;
+import com.petplate.petplate.petdailymeal.service.TodayMeal;
+import com.petplate.petplate.petdailymeal.service.TodayMealService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 하루 식사 내역 기반 조회(식사 내역, 섭취 영양소, 칼로리, 영양 분석)의 조건부 GET 처리.
+ * <p>
+ * 식사 내역의 수정 번호(revision)와 적정 섭취량 계산에 쓰이는 반려견 정보로 ETag 를 만들고,
+ * If-None-Match 가 일치하면 컨트롤러, 서비스를 실행하지 않고 304 를 반환한다.
+ * 오늘 식사 내역은 TodayMealService 해시(HMGET 한 번)의 revision, 반려견 정보로 계산하고,
+ * 해시가 없거나 지난 날짜이면 인덱스를 타는 DB 조회 한 번으로 계산한다.
+ * 본인의 반려견이 아니거나 식사 내역이 없으면 아무것도 하지 않고 컨트롤러에서 기존대로 오류를 반환하게 한다.
+ * <p>
+ * 지난 날짜의 식사 내역은 거의 바뀌지 않으므로 PAST_DAY_MAX_AGE 동안 재검증 없이 캐싱하고,
+ * 오늘 식사 내역은 매번 재검증한다.
+ */
+@RequiredArgsConstructor
+public class DailyMealEtagInterceptor implements HandlerInterceptor {
+    // 지난 식사 내역 삭제, 반려견 정보 수정이 반영되기까지의 최대 시간
+    private static final Duration PAST_DAY_MAX_AGE = Duration.ofHours(1);
+
+    private final DailyMealRepository dailyMealRepository;
+    private final TodayMealService todayMealService;  // 없으면 항상 DB 조회
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+
+        String username = currentUsername();
+        Map<String, String> pathVariables = pathVariables(request);
+        if (username == null || pathVariables == null || !pathVariables.containsKey("petId")) {
+            return true;
+        }
+
+        Optional<DailyMealRevision> revision;
+        try {
+            revision = findRevision(request, pathVariables, username);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            // 잘못된 요청은 컨트롤러에서 처리
+            return true;
+        }
+        if (revision.isEmpty()) {
+            return true;
+        }
+
+        boolean pastDay = revision.get().getCreatedAt().toLocalDate().isBefore(LocalDate.now());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, (pastDay
+                ? CacheControl.maxAge(PAST_DAY_MAX_AGE).cachePrivate()
+                : CacheControl.noCache().cachePrivate()).getHeaderValue());
+
+        // 일치하면 304 와 ETag 를 설정한다
+        return !new ServletWebRequest(request, response).checkNotModified(etag(request, revision.get()));
+    }
+
+    private Optional<DailyMealRevision> findRevision(HttpServletRequest request, Map<String, String> pathVariables, String username) {
+        Long petId = Long.valueOf(pathVariables.get("petId"));
+
+        if (pathVariables.containsKey("dailyMealId")) {
+            Long dailyMealId = Long.valueOf(pathVariables.get("dailyMealId"));
+            Optional<DailyMealRevision> today = findTodayRevision(petId, username)
+                    .filter(revision -> revision.getDailyMealId().equals(dailyMealId));
+            return today.isPresent() ? today : dailyMealRepository.findRevisionById(dailyMealId, petId, username);
+        }
+
+        String date = request.getParameter("date");
+        if (date == null && request.getRequestURI().endsWith("/dailyMeals")) {
+            // 날짜가 없으면 모든 식사 내역 목록 조회
+            return Optional.empty();
+        }
+
+        LocalDate day = date == null ? LocalDate.now() : LocalDate.parse(date);
+        if (day.equals(LocalDate.now())) {
+            Optional<DailyMealRevision> today = findTodayRevision(petId, username);
+            if (today.isPresent()) {
+                return today;
+            }
+        }
+        return dailyMealRepository.findRevision(petId, username,
+                LocalDateTime.of(day, LocalTime.of(0, 0, 0)), LocalDateTime.of(day, LocalTime.of(23, 59, 59)));
+    }
+
+    // 오늘 식사 내역 해시가 있고 본인의 반려견이면 DB 를 조회하지 않는다
+    private Optional<DailyMealRevision> findTodayRevision(Long petId, String username) {
+        if (todayMealService == null) {
+            return Optional.empty();
+        }
+
+        Optional<TodayMeal> today = todayMealService.getCached(petId);
+        if (today.isEmpty() || !username.equals(today.get().getOwnerUsername())) {
+            return Optional.empty();
+        }
+        return Optional.of(new DailyMealRevision(today.get().getDailyMealId(), today.get().getRevision(),
+                LocalDate.now().atStartOfDay(), today.get().getPetProfile()));
+    }
+
+    private static String etag(HttpServletRequest request, DailyMealRevision revision) {
+        String source = request.getRequestURI() + "?" + request.getQueryString()
+                + "|" + revision.getDailyMealId() + ":" + revision.getRevision()
+                + "|" + revision.getPetProfile();
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> pathVariables(HttpServletRequest request) {
+        return (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserDetails user ? user.getUsername() : null;
+    }
+}
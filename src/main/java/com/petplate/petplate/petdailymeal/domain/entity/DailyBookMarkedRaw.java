@@ -9,20 +9,25 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_daily_book_marked_raw_daily_meal_id", columnList = "daily_meal_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class DailyBookMarkedRaw extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_book_marked_raw_seq")
+    @SequenceGenerator(name = "daily_book_marked_raw_seq", sequenceName = "daily_book_marked_raw_seq", allocationSize = 50)
     @Column(name = "daily_book_marked_raw_id")
     private Long id;
 
@@ -6,12 +6,14 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_daily_feed_daily_meal_id", columnList = "daily_meal_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class DailyFeed extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_feed_seq")
+    @SequenceGenerator(name = "daily_feed_seq", sequenceName = "daily_feed_seq", allocationSize = 50)
     @Column(name = "daily_feed_id")
     private Long id;
 
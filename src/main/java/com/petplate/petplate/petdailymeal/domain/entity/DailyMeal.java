@@ -11,20 +11,29 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_daily_meal_pet_id_created_at", columnList = "pet_id, created_at"),
+        @Index(name = "idx_daily_meal_created_at", columnList = "created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class DailyMeal extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_meal_seq")
+    @SequenceGenerator(name = "daily_meal_seq", sequenceName = "daily_meal_seq", allocationSize = 50)
     @Column(name = "daily_meal_id")
     private Long id;
 
@@ -38,6 +47,13 @@ public class DailyMeal extends BaseEntity {
     @JoinColumn(name = "pet_id", nullable = false)
     private Pet pet;
 
+    // 칼로리, 영양소가 바뀌어 UPDATE 될 때마다 Hibernate 가 증가시키는 낙관적 락 버전 (조회 응답의 ETag 에도 사용)
+    // 동시에 수정해 충돌하면 기록 생성, 삭제 서비스가 다시 시도한다 (@RetryOnOptimisticLock)
+    // 영양 분석 결과만 바뀐 경우 DailyMealRepository.increaseRevision 으로 증가시킨다
+    @Version
+    @Column(nullable = false)
+    private long revision;
+
     // 이미 펫이 해당 날짜에 DailyMeal이 존재하는 경우 생성되면 안됨.(서비스에서 해결)
     @Builder
     public DailyMeal(Nutrient nutrient, Pet pet, double kcal) {
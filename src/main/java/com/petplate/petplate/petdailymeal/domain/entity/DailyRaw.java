@@ -8,13 +8,15 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_daily_raw_daily_meal_id", columnList = "daily_meal_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @ToString(exclude = {"raw", "dailyMeal"})
 public class DailyRaw extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_raw_seq")
+    @SequenceGenerator(name = "daily_raw_seq", sequenceName = "daily_raw_seq", allocationSize = 50)
     @Column(name = "daily_raw_id")
     private Long id;
 
@@ -0,0 +1,35 @@
+package com.petplate.petplate.petdailymeal.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CreateDailyMealBatchRequestDto {
+    private static final int MAX_FOODS = 50;
+
+    @Builder.Default
+    @Size(max = MAX_FOODS, message = "한 번에 최대 50개의 자연식을 기록할 수 있습니다.")
+    private List<@Valid CreateDailyRawRequestDto> raws = new ArrayList<>();
+    @Builder.Default
+    @Size(max = MAX_FOODS, message = "한 번에 최대 50개의 사료를 기록할 수 있습니다.")
+    private List<@Valid CreateDailyFeedRequestDto> feeds = new ArrayList<>();
+    @Builder.Default
+    @Size(max = MAX_FOODS, message = "한 번에 최대 50개의 포장 간식을 기록할 수 있습니다.")
+    private List<@Valid CreateDailyPackagedSnackRequestDto> packagedSnacks = new ArrayList<>();
+    @Builder.Default
+    @Size(max = MAX_FOODS, message = "한 번에 최대 50개의 즐겨찾기 자연식을 기록할 수 있습니다.")
+    private List<@Valid CreateDailyBookMarkedRawRequestDto> bookMarkedRaws = new ArrayList<>();
+    @Builder.Default
+    @Size(max = MAX_FOODS, message = "한 번에 최대 50개의 즐겨찾기 사료를 기록할 수 있습니다.")
+    private List<@Valid CreateDailyBookMarkedFeedRequestDto> bookMarkedFeeds = new ArrayList<>();
+    @Builder.Default
+    @Size(max = MAX_FOODS, message = "한 번에 최대 50개의 즐겨찾기 포장 간식을 기록할 수 있습니다.")
+    private List<@Valid CreateDailyBookMarkedPackagedSnackRequestDto> bookMarkedPackagedSnacks = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.petplate.petplate.petdailymeal.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PreviewIntakeRequestDto {
+    private static final int MAX_RAWS = 50;
+
+    @NotEmpty(message = "자연식이 입력되지 않았습니다.")
+    @Size(max = MAX_RAWS, message = "한 번에 최대 50개의 자연식을 미리 계산할 수 있습니다.")
+    private List<@Valid CreateDailyRawRequestDto> raws;
+}
@@ -0,0 +1,17 @@
+package com.petplate.petplate.petdailymeal.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class ReadCreatedDailyRawResponseDto {
+    private Long id;  // 생성된 섭취 기록 PK
+    private boolean prohibited;  // 알러지, 질병으로 금지된 자연식이면 true (기록은 저장됨)
+
+    public static ReadCreatedDailyRawResponseDto of(Long id, boolean prohibited) {
+        ReadCreatedDailyRawResponseDto response = new ReadCreatedDailyRawResponseDto();
+        response.id = id;
+        response.prohibited = prohibited;
+
+        return response;
+    }
+}
@@ -0,0 +1,30 @@
+package com.petplate.petplate.petdailymeal.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadDailyMealBatchResponseDto {
+    private Long dailyMealId;
+    private List<Long> dailyRawIds = new ArrayList<>();
+    private List<Long> dailyFeedIds = new ArrayList<>();
+    private List<Long> dailyPackagedSnackIds = new ArrayList<>();
+    private List<Long> dailyBookMarkedRawIds = new ArrayList<>();
+    private List<Long> dailyBookMarkedFeedIds = new ArrayList<>();
+    private List<Long> dailyBookMarkedPackagedSnackIds = new ArrayList<>();
+    private List<Long> prohibitedRawIds = new ArrayList<>();  // 알러지, 질병으로 금지된 자연식 중 이번에 기록된 rawId
+
+    public static ReadDailyMealBatchResponseDto from(Long dailyMealId) {
+        ReadDailyMealBatchResponseDto response = new ReadDailyMealBatchResponseDto();
+        response.dailyMealId = dailyMealId;
+
+        return response;
+    }
+}
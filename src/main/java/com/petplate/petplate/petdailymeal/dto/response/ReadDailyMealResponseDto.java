@@ -22,4 +22,12 @@ public class ReadDailyMealResponseDto {
 
         return responseDto;
     }
+
+    public static ReadDailyMealResponseDto of(Long dailyMealId, LocalDate date) {
+        ReadDailyMealResponseDto responseDto = new ReadDailyMealResponseDto();
+        responseDto.dailyMealId = dailyMealId;
+        responseDto.date = date;
+
+        return responseDto;
+    }
 }
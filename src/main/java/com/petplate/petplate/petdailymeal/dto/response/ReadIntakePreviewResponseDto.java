@@ -0,0 +1,31 @@
+package com.petplate.petplate.petdailymeal.dto.response;
+
+import com.petplate.petplate.pet.dto.response.ReadPetNutrientResponseDto;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadIntakePreviewResponseDto {
+    private double kcal;  // 현재까지 섭취한 칼로리
+    private double previewKcal;  // 입력한 음식을 섭취했을 때의 칼로리
+    private List<ReadPetNutrientResponseDto> nutrients;  // 현재까지 섭취한 영양소 정보
+    private List<ReadPetNutrientResponseDto> previewNutrients;  // 입력한 음식을 섭취했을 때의 영양소 정보
+
+    public static ReadIntakePreviewResponseDto of(double kcal, double previewKcal,
+                                                  List<ReadPetNutrientResponseDto> nutrients,
+                                                  List<ReadPetNutrientResponseDto> previewNutrients) {
+        ReadIntakePreviewResponseDto response = new ReadIntakePreviewResponseDto();
+        response.kcal = kcal;
+        response.previewKcal = previewKcal;
+        response.nutrients = nutrients;
+        response.previewNutrients = previewNutrients;
+
+        return response;
+    }
+}
@@ -0,0 +1,41 @@
+package com.petplate.petplate.petdailymeal.dto.response;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.common.EmbeddedType.StandardNutrient;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.dto.response.ReadPetNutrientResponseDto;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ReadMealStreamResponseDto {
+    private Long dailyMealId;  // 오늘 식사 내역 PK, 없으면 null (날마다 새로 만들어지므로 전날보다 큼)
+    private long revision;  // 같은 식사 내역 안에서의 수정 번호, 날짜가 바뀌면 0부터 다시 시작 (dailyMealId 를 먼저 비교)
+    private double kcal;  // 오늘 섭취 칼로리
+    private double properKcal;  // 적정 섭취 칼로리
+    private double kcalRatio;  // 적정 섭취 칼로리 대비 섭취 칼로리 비율
+    private List<ReadPetNutrientResponseDto> nutrients;  // 오늘 섭취 영양소
+    private List<String> deficientNutrients;  // 부족 영양소 이름
+    private List<String> sufficientNutrients;  // 과잉 영양소 이름
+
+    public static ReadMealStreamResponseDto of(Pet pet, Long dailyMealId, long revision, double kcal, Nutrient nutrient) {
+        ReadMealStreamResponseDto response = new ReadMealStreamResponseDto();
+        response.dailyMealId = dailyMealId;
+        response.revision = revision;
+        response.kcal = kcal;
+        response.properKcal = pet.getProperKcal();
+        response.kcalRatio = kcal / pet.getProperKcal();
+        response.nutrients = ReadPetNutrientResponseDto.listOf(NutrientVector.from(nutrient),
+                pet.getWeight(), pet.getActivity(), pet.getNeutering());
+        response.deficientNutrients = StandardNutrient.findDeficientNutrients(nutrient,
+                        pet.getWeight(), pet.getActivity(), pet.getNeutering())
+                .stream().map(StandardNutrient::getName).toList();
+        response.sufficientNutrients = StandardNutrient.findSufficientNutrients(nutrient,
+                        pet.getWeight(), pet.getActivity(), pet.getNeutering())
+                .stream().map(StandardNutrient::getName).toList();
+
+        return response;
+    }
+}
@@ -0,0 +1,61 @@
+package com.petplate.petplate.petdailymeal.dto.response;
+
+import com.petplate.petplate.petdailymeal.domain.entity.DailyFeed;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyPackagedSnack;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyRaw;
+import com.petplate.petplate.petfood.domain.FoodType;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedFeed;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedPackagedSnack;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadRecentFoodResponseDto {
+    private FoodType foodType;  // 음식 종류
+    private Long foodId;  // 자연식은 rawId, 즐겨찾기는 즐겨찾기 id, 사료와 포장 간식은 마지막으로 기록한 dailyFeedId, dailyPackagedSnackId
+    private String name;
+    private double serving;  // 마지막으로 섭취한 양 (g)
+    private double kcal;
+
+    public static ReadRecentFoodResponseDto of(FoodType foodType, Long foodId, String name, double serving, double kcal) {
+        ReadRecentFoodResponseDto response = new ReadRecentFoodResponseDto();
+        response.foodType = foodType;
+        response.foodId = foodId;
+        response.name = name;
+        response.serving = serving;
+        response.kcal = kcal;
+
+        return response;
+    }
+
+    public static ReadRecentFoodResponseDto from(DailyRaw dailyRaw) {
+        return of(FoodType.RAW, dailyRaw.getRaw().getId(), dailyRaw.getRaw().getName(), dailyRaw.getServing(), dailyRaw.getKcal());
+    }
+
+    public static ReadRecentFoodResponseDto from(DailyFeed dailyFeed) {
+        return of(FoodType.FEED, dailyFeed.getId(), dailyFeed.getName(), dailyFeed.getServing(), dailyFeed.getKcal());
+    }
+
+    public static ReadRecentFoodResponseDto from(DailyPackagedSnack dailyPackagedSnack) {
+        return of(FoodType.PACKAGED_SNACK, dailyPackagedSnack.getId(), dailyPackagedSnack.getName(),
+                dailyPackagedSnack.getServing(), dailyPackagedSnack.getKcal());
+    }
+
+    public static ReadRecentFoodResponseDto from(BookMarkedRaw bookMarkedRaw) {
+        return of(FoodType.BOOK_MARKED_RAW, bookMarkedRaw.getId(), bookMarkedRaw.getName(), bookMarkedRaw.getServing(), bookMarkedRaw.getKcal());
+    }
+
+    public static ReadRecentFoodResponseDto from(BookMarkedFeed bookMarkedFeed) {
+        return of(FoodType.BOOK_MARKED_FEED, bookMarkedFeed.getId(), bookMarkedFeed.getName(), bookMarkedFeed.getServing(), bookMarkedFeed.getKcal());
+    }
+
+    public static ReadRecentFoodResponseDto from(BookMarkedPackagedSnack bookMarkedPackagedSnack) {
+        return of(FoodType.BOOK_MARKED_PACKAGED_SNACK, bookMarkedPackagedSnack.getId(), bookMarkedPackagedSnack.getName(),
+                bookMarkedPackagedSnack.getServing(), bookMarkedPackagedSnack.getKcal());
+    }
+}
@@ -1,13 +1,29 @@
 package com.petplate.petplate.petdailymeal.repository;
 
 import com.petplate.petplate.petdailymeal.domain.entity.DailyBookMarkedFeed;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DailyBookMarkedFeedRepository extends JpaRepository<DailyBookMarkedFeed, Long> {
     List<DailyBookMarkedFeed> findByDailyMealId(Long dailyMealId);
 
+    @EntityGraph(attributePaths = {"bookMarkedFeed"})
+    List<DailyBookMarkedFeed> findByDailyMealIdIn(Collection<Long> dailyMealIds);
+
     List<DailyBookMarkedFeed> findByBookMarkedFeedId(Long bookMarkedFeedId);
+
+    @Query("select d.id from DailyBookMarkedFeed d where d.bookMarkedFeed.id = :bookMarkedFeedId")
+    List<Long> findIdsByBookMarkedFeedId(@Param("bookMarkedFeedId") Long bookMarkedFeedId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update DailyBookMarkedFeed d set d.bookMarkedFeed = null where d.id in :ids")
+    int detachBookMarkedFeed(@Param("ids") List<Long> ids);
 }
@@ -1,9 +1,15 @@
 package com.petplate.petplate.petdailymeal.repository;
 
 import com.petplate.petplate.petdailymeal.domain.entity.DailyBookMarkedPackagedSnack;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -11,5 +17,15 @@ import java.util.OptionalInt;
 public interface DailyBookMarkedPackagedSnackRepository extends JpaRepository<DailyBookMarkedPackagedSnack, Long> {
     List<DailyBookMarkedPackagedSnack> findByDailyMealId(Long dailyMealId);
 
+    @EntityGraph(attributePaths = {"bookMarkedPackagedSnack"})
+    List<DailyBookMarkedPackagedSnack> findByDailyMealIdIn(Collection<Long> dailyMealIds);
+
     List<DailyBookMarkedPackagedSnack> findByBookMarkedPackagedSnackId(Long bookMarkedSnackId);
+
+    @Query("select d.id from DailyBookMarkedPackagedSnack d where d.bookMarkedPackagedSnack.id = :bookMarkedPackagedSnackId")
+    List<Long> findIdsByBookMarkedPackagedSnackId(@Param("bookMarkedPackagedSnackId") Long bookMarkedPackagedSnackId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update DailyBookMarkedPackagedSnack d set d.bookMarkedPackagedSnack = null where d.id in :ids")
+    int detachBookMarkedPackagedSnack(@Param("ids") List<Long> ids);
 }
@@ -1,13 +1,29 @@
 package com.petplate.petplate.petdailymeal.repository;
 
 import com.petplate.petplate.petdailymeal.domain.entity.DailyBookMarkedRaw;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DailyBookMarkedRawRepository extends JpaRepository<DailyBookMarkedRaw, Long> {
     List<DailyBookMarkedRaw> findByBookMarkedRawId(Long bookMarkedRawId);
 
+    @Query("select d.id from DailyBookMarkedRaw d where d.bookMarkedRaw.id = :bookMarkedRawId")
+    List<Long> findIdsByBookMarkedRawId(@Param("bookMarkedRawId") Long bookMarkedRawId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update DailyBookMarkedRaw d set d.bookMarkedRaw = null where d.id in :ids")
+    int detachBookMarkedRaw(@Param("ids") List<Long> ids);
+
     List<DailyBookMarkedRaw> findByDailyMealId(Long dailyMealId);
+
+    @EntityGraph(attributePaths = {"bookMarkedRaw", "bookMarkedRaw.raw"})
+    List<DailyBookMarkedRaw> findByDailyMealIdIn(Collection<Long> dailyMealIds);
 }
@@ -1,8 +1,13 @@
 package com.petplate.petplate.petdailymeal.repository;
 
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,5 +21,26 @@ public interface DailyMealRepository extends JpaRepository<DailyMeal, Long> {
 
     List<DailyMeal> findByPetIdOrderByCreatedAtDesc(Long petId);
 
+    // 최근 식사 내역 몇 개만 필요한 경우. 전체 기록을 불러오지 않는다
+    List<DailyMeal> findByPetIdOrderByCreatedAtDesc(Long petId, Pageable pageable);
+
     Optional<DailyMeal> findById(Long dailyMealId);
+
+    // 식사 내역에 딸린 영양 분석 결과만 바뀐 경우. 행을 잠그고 revision(@Version)을 바로 증가시킨다
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    @Query("select dm from DailyMeal dm where dm.id = :dailyMealId")
+    Optional<DailyMeal> increaseRevision(@Param("dailyMealId") Long dailyMealId);
+
+    // ETag 계산용. 본인의 반려견이 아니거나 식사 내역이 없으면 빈 값
+    @Query("select new com.petplate.petplate.petdailymeal.repository.DailyMealRevision(dm.id, dm.revision, dm.createdAt, p.weight, p.age, p.activity, p.neutering) " +
+            "from DailyMeal dm join dm.pet p " +
+            "where p.id = :petId and p.owner.username = :username and dm.createdAt between :start and :end")
+    Optional<DailyMealRevision> findRevision(@Param("petId") Long petId, @Param("username") String username,
+                                             @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("select new com.petplate.petplate.petdailymeal.repository.DailyMealRevision(dm.id, dm.revision, dm.createdAt, p.weight, p.age, p.activity, p.neutering) " +
+            "from DailyMeal dm join dm.pet p " +
+            "where dm.id = :dailyMealId and p.id = :petId and p.owner.username = :username")
+    Optional<DailyMealRevision> findRevisionById(@Param("dailyMealId") Long dailyMealId, @Param("petId") Long petId,
+                                                 @Param("username") String username);
 }
@@ -0,0 +1,34 @@
+package com.petplate.petplate.petdailymeal.repository;
+
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 식사 내역 조회 응답이 바뀌었는지 판단하는 값.
+ * 식사 내역의 수정 번호와, 적정 섭취량 계산에 쓰이는 반려견 정보(petProfile)로 이루어진다.
+ */
+@Getter
+@AllArgsConstructor
+public class DailyMealRevision {
+    private Long dailyMealId;
+    private long revision;
+    private LocalDateTime createdAt;
+    private String petProfile;
+
+    // JPQL 생성자 표현식용
+    public DailyMealRevision(Long dailyMealId, long revision, LocalDateTime createdAt,
+                             double weight, int age, Activity activity, Neutering neutering) {
+        this(dailyMealId, revision, createdAt, petProfile(weight, age, activity, neutering));
+    }
+
+    /**
+     * @return 체중:나이:활동량:중성화 (TodayMealService 해시에도 같은 값을 저장)
+     */
+    public static String petProfile(double weight, int age, Activity activity, Neutering neutering) {
+        return weight + ":" + age + ":" + activity + ":" + neutering;
+    }
+}
@@ -3,8 +3,11 @@ package com.petplate.petplate.petdailymeal.repository;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyPackagedSnack;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DailyPackagedSnackRepository extends CrudRepository<DailyPackagedSnack, Long> {
     List<DailyPackagedSnack> findByDailyMealId(Long dailyMealId);
+
+    List<DailyPackagedSnack> findByDailyMealIdIn(Collection<Long> dailyMealIds);
 }
@@ -1,10 +1,15 @@
 package com.petplate.petplate.petdailymeal.repository;
 
 import com.petplate.petplate.petdailymeal.domain.entity.DailyRaw;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +21,20 @@ public interface DailyRawRepository extends JpaRepository<DailyRaw, Long> {
     @EntityGraph(attributePaths = {"raw"})
     List<DailyRaw> findByDailyMealId(Long dailyMealId);
 
+    @EntityGraph(attributePaths = {"raw"})
+    List<DailyRaw> findByDailyMealIdIn(Collection<Long> dailyMealIds);
+
     @EntityGraph(attributePaths = {"raw"})
     List<DailyRaw> findAllByDailyMealCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     void deleteByDailyMealId(Long dailyMealId);
 
     List<DailyRaw> findByRawId(Long rawId);
+
+    @Query("select dr.id from DailyRaw dr where dr.raw.id = :rawId")
+    List<Long> findIdsByRawId(@Param("rawId") Long rawId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update DailyRaw dr set dr.raw = null where dr.id in :ids")
+    int detachRaw(@Param("ids") List<Long> ids);
 }
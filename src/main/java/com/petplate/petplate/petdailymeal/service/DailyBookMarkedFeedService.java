@@ -3,12 +3,14 @@ package com.petplate.petplate.petdailymeal.service;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.common.retry.RetryOnOptimisticLock;
 import com.petplate.petplate.pet.domain.entity.Pet;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyBookMarkedFeed;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyBookMarkedFeedRequestDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyBookMarkedFeedResponseDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadRecentFoodResponseDto;
 import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedFeedRepository;
 import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
 import com.petplate.petplate.utils.DailyMealUtil;
@@ -33,6 +35,8 @@ public class DailyBookMarkedFeedService {
     private final DailyBookMarkedFeedRepository dailyBookMarkedFeedRepository;
     private final PetRepository petRepository;
     private final DailyMealRepository dailyMealRepository;
+    private final RecentFoodService recentFoodService;
+    private final TodayMealService todayMealService;
 
     /**
      * 오늘 식사에 즐겨찾기 사료를 추가함
@@ -43,6 +47,7 @@ public class DailyBookMarkedFeedService {
      * @return
      */
     @Transactional
+    @RetryOnOptimisticLock
     public Long createDailyBookMarkedFeed(String username, Long petId, CreateDailyBookMarkedFeedRequestDto requestDto) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
         BookMarkedFeed bookMarkedFeed = bookMarkedFeedRepository.findById(requestDto.getBookMarkedFeedId())
@@ -60,6 +65,9 @@ public class DailyBookMarkedFeedService {
         // dailyMeal에 먹은만큼 칼로리, 영양소 추가
         dailyMealToday.addKcal(dailyBookMarkedFeed.getBookMarkedFeed().getKcal());
         dailyMealToday.addNutrient(dailyBookMarkedFeed.getBookMarkedFeed().getNutrient());
+        todayMealService.refresh(dailyMealToday);
+
+        recentFoodService.record(petId, ReadRecentFoodResponseDto.from(bookMarkedFeed));
 
         return dailyBookMarkedFeed.getId();
     }
@@ -82,6 +90,7 @@ public class DailyBookMarkedFeedService {
     }
 
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyBookMarkedFeed(String username, Long petId, Long dailyBookMarkedFeedId) {
         PetUtil.validUserAndFindPet(username, petId, petRepository);
 
@@ -96,6 +105,7 @@ public class DailyBookMarkedFeedService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
 
         dailyBookMarkedFeedRepository.delete(dailyBookMarkedFeed);
     }
@@ -108,6 +118,7 @@ public class DailyBookMarkedFeedService {
      * @param dailyMealId
      */
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyBookMarkedFeeds(String username, Long petId, Long dailyMealId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
@@ -138,5 +149,6 @@ public class DailyBookMarkedFeedService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
     }
 }
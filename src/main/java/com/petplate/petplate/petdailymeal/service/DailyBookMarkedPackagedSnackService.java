@@ -3,12 +3,14 @@ package com.petplate.petplate.petdailymeal.service;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.common.retry.RetryOnOptimisticLock;
 import com.petplate.petplate.pet.domain.entity.Pet;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyBookMarkedPackagedSnack;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyBookMarkedPackagedSnackRequestDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyBookMarkedPackagedSnackResponseDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadRecentFoodResponseDto;
 import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedPackagedSnackRepository;
 import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
 import com.petplate.petplate.utils.DailyMealUtil;
@@ -33,6 +35,8 @@ public class DailyBookMarkedPackagedSnackService {
     private final DailyBookMarkedPackagedSnackRepository dailyBookMarkedPackagedSnackRepository;
     private final PetRepository petRepository;
     private final DailyMealRepository dailyMealRepository;
+    private final RecentFoodService recentFoodService;
+    private final TodayMealService todayMealService;
 
     /**
      * 오늘 식사에 즐겨찾기 포장간식을 추가함
@@ -43,6 +47,7 @@ public class DailyBookMarkedPackagedSnackService {
      * @return
      */
     @Transactional
+    @RetryOnOptimisticLock
     public Long createDailyBookMarkedPackagedSnack(String username, Long petId, CreateDailyBookMarkedPackagedSnackRequestDto requestDto) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
         BookMarkedPackagedSnack bookMarkedPackagedSnack = bookMarkedPackagedSnackRepository.findById(requestDto.getBookMarkedPackagedSnackId())
@@ -60,6 +65,9 @@ public class DailyBookMarkedPackagedSnackService {
         // dailyMeal에 먹은만큼 칼로리, 영양소 추가
         dailyMealToday.addKcal(dailyBookMarkedPackagedSnack.getBookMarkedPackagedSnack().getKcal());
         dailyMealToday.addNutrient(dailyBookMarkedPackagedSnack.getBookMarkedPackagedSnack().getNutrient());
+        todayMealService.refresh(dailyMealToday);
+
+        recentFoodService.record(petId, ReadRecentFoodResponseDto.from(bookMarkedPackagedSnack));
 
         return dailyBookMarkedPackagedSnack.getId();
     }
@@ -82,6 +90,7 @@ public class DailyBookMarkedPackagedSnackService {
     }
 
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyBookMarkedPackagedSnack(String username, Long petId, Long dailyBookMarkedPackagedSnackId) {
         PetUtil.validUserAndFindPet(username, petId, petRepository);
         DailyBookMarkedPackagedSnack dailyBookMarkedPackagedSnack = dailyBookMarkedPackagedSnackRepository.findById(dailyBookMarkedPackagedSnackId)
@@ -95,6 +104,7 @@ public class DailyBookMarkedPackagedSnackService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
 
         dailyBookMarkedPackagedSnackRepository.delete(dailyBookMarkedPackagedSnack);
     }
@@ -107,6 +117,7 @@ public class DailyBookMarkedPackagedSnackService {
      * @param dailyMealId
      */
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyBookMarkedPackagedSnacks(String username, Long petId, Long dailyMealId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
@@ -137,5 +148,6 @@ public class DailyBookMarkedPackagedSnackService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
     }
 }
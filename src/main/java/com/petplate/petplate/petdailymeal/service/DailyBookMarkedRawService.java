@@ -3,14 +3,19 @@ package com.petplate.petplate.petdailymeal.service;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.common.retry.RetryOnOptimisticLock;
+import com.petplate.petplate.medicalcondition.service.ProhibitedRawService;
 import com.petplate.petplate.pet.domain.entity.Pet;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyBookMarkedRaw;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyBookMarkedRawRequestDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadCreatedDailyRawResponseDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyBookMarkedRawResponseDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadRecentFoodResponseDto;
 import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedRawRepository;
 import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petfood.service.RawPopularityTracker;
 import com.petplate.petplate.utils.DailyMealUtil;
 import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
 import com.petplate.petplate.petfood.dto.response.ReadBookMarkedRawResponseDto;
@@ -18,6 +23,7 @@ import com.petplate.petplate.petfood.repository.BookMarkedRawRepository;
 import com.petplate.petplate.utils.PetUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +40,10 @@ public class DailyBookMarkedRawService {
     private final DailyBookMarkedRawRepository dailyBookMarkedRawRepository;
     private final BookMarkedRawRepository bookMarkedRawRepository;
     private final PetRepository petRepository;
+    private final ProhibitedRawService prohibitedRawService;
+    private final RecentFoodService recentFoodService;
+    private final TodayMealService todayMealService;
+    private final RawPopularityTracker rawPopularityTracker;
 
     /**
      * 오늘 식사에 즐겨찾기 자연식을 추가함
@@ -44,12 +54,19 @@ public class DailyBookMarkedRawService {
      * @return
      */
     @Transactional
-    public Long createDailyBookMarkedRaw(String username, Long petId, CreateDailyBookMarkedRawRequestDto requestDto) {
+    @RetryOnOptimisticLock
+    public ReadCreatedDailyRawResponseDto createDailyBookMarkedRaw(String username, Long petId, CreateDailyBookMarkedRawRequestDto requestDto) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
         BookMarkedRaw bookMarkedRaw = bookMarkedRawRepository.findById(requestDto.getBookMarkedRawId()).orElseThrow(() ->
                 new NotFoundException(ErrorCode.BOOK_MARK_NOT_FOUND)
         );
 
+        // 알러지, 질병으로 금지된 자연식인 경우 기록은 하되 응답으로 경고한다
+        boolean prohibited = bookMarkedRaw.getRaw() != null && prohibitedRawService.isProhibited(petId, bookMarkedRaw.getRaw().getId());
+        if (prohibited) {
+            log.warn("금지된 자연식 섭취 기록 petId={}, bookMarkedRawId={}", petId, bookMarkedRaw.getId());
+        }
+
         DailyMeal dailyMealToday = DailyMealUtil.getDailyMealToday(pet, dailyMealRepository);
 
         DailyBookMarkedRaw dailyBookMarkedRaw = DailyBookMarkedRaw.builder()
@@ -62,8 +79,14 @@ public class DailyBookMarkedRawService {
         // dailyMeal에 먹은만큼 칼로리, 영양소 추가
         dailyMealToday.addKcal(dailyBookMarkedRaw.getBookMarkedRaw().getKcal());
         dailyMealToday.addNutrient(dailyBookMarkedRaw.getBookMarkedRaw().getNutrient());
+        todayMealService.refresh(dailyMealToday);
+
+        recentFoodService.record(petId, ReadRecentFoodResponseDto.from(bookMarkedRaw));
+        if (bookMarkedRaw.getRaw() != null) {
+            rawPopularityTracker.record(bookMarkedRaw.getRaw().getId());
+        }
 
-        return dailyBookMarkedRaw.getId();
+        return ReadCreatedDailyRawResponseDto.of(dailyBookMarkedRaw.getId(), prohibited);
     }
 
     public List<ReadDailyBookMarkedRawResponseDto> getBookMarkedRaws(String username, Long petId, Long dailyMealId) {
@@ -85,12 +108,15 @@ public class DailyBookMarkedRawService {
         return responses;
     }
 
+    /**
+     * @deprecated 최근 섭취 음식은 {@link RecentFoodService#getRecentFoods} 로 조회한다
+     */
+    @Deprecated
     public List<ReadBookMarkedRawResponseDto> getRecentBookMarkedRaws(String username, Long petId, int count) {
         PetUtil.validUserAndFindPet(username, petId, petRepository);
 
         List<ReadBookMarkedRawResponseDto> responses = new ArrayList<>();
-        dailyMealRepository.findByPetIdOrderByCreatedAtDesc(petId).stream()
-                .limit(count)
+        dailyMealRepository.findByPetIdOrderByCreatedAtDesc(petId, PageRequest.of(0, Math.max(1, count))).stream()
                 .flatMap(dailyMeal -> dailyBookMarkedRawRepository.findByDailyMealId(dailyMeal.getId()).stream())
                 .forEach(dailyBookMarkedRaw -> {
                     BookMarkedRaw bookMarkedRaw = dailyBookMarkedRaw.getBookMarkedRaw();
@@ -101,6 +127,7 @@ public class DailyBookMarkedRawService {
     }
 
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyBookMarkedRaw(String username, Long petId, Long dailyBookMarkedRawId) {
         PetUtil.validUserAndFindPet(username, petId, petRepository);
         DailyBookMarkedRaw dailyBookMarkedRaw = dailyBookMarkedRawRepository.findById(dailyBookMarkedRawId).orElseThrow(() -> new NotFoundException(ErrorCode.DAILY_BOOK_MARKED_NOT_FOUND));
@@ -113,6 +140,7 @@ public class DailyBookMarkedRawService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
 
         dailyBookMarkedRawRepository.delete(dailyBookMarkedRaw);
     }
@@ -125,6 +153,7 @@ public class DailyBookMarkedRawService {
      * @param dailyMealId
      */
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyBookMarkedRaws(String username, Long petId, Long dailyMealId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
@@ -155,5 +184,6 @@ public class DailyBookMarkedRawService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
     }
 }
@@ -5,12 +5,14 @@ import com.petplate.petplate.common.EmbeddedType.Vitamin;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.common.retry.RetryOnOptimisticLock;
 import com.petplate.petplate.pet.domain.entity.Pet;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyFeed;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyFeedRequestDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyFeedResponseDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadRecentFoodResponseDto;
 import com.petplate.petplate.petdailymeal.repository.DailyFeedRepository;
 import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
 import com.petplate.petplate.utils.DailyMealUtil;
@@ -28,6 +30,8 @@ public class DailyFeedService {
     private final DailyFeedRepository dailyFeedRepository;
     private final PetRepository petRepository;
     private final DailyMealRepository dailyMealRepository;
+    private final RecentFoodService recentFoodService;
+    private final TodayMealService todayMealService;
 
     // 1 IU retinol = 0.3 mcg RAE
     static final double vitaminAIuRetinolPerGram = 3333333.3333333335; // == 10E6 / 0.3
@@ -48,14 +52,38 @@ public class DailyFeedService {
      * @return
      */
     @Transactional
+    @RetryOnOptimisticLock
     public Long createDailyFeed(String username, Long petId, CreateDailyFeedRequestDto requestDto) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
         DailyMeal dailyMealToday = DailyMealUtil.getDailyMealToday(pet, dailyMealRepository);
 
+        DailyFeed dailyFeed = toDailyFeed(dailyMealToday, requestDto);
+
+        dailyFeedRepository.save(dailyFeed);
+
+
+        // dailyMeal에 먹은만큼 칼로리, 영양소 추가
+        dailyMealToday.addKcal(dailyFeed.getKcal());
+        dailyMealToday.addNutrient(dailyFeed.getNutrient());
+        todayMealService.refresh(dailyMealToday);
+
+        recentFoodService.record(petId, ReadRecentFoodResponseDto.from(dailyFeed));
+
+        return dailyFeed.getId();
+    }
+
+    /**
+     * 입력한 영양소 비율(%)과 섭취량으로 DailyFeed 생성
+     *
+     * @param dailyMeal
+     * @param requestDto
+     * @return 저장되지 않은 DailyFeed
+     */
+    static DailyFeed toDailyFeed(DailyMeal dailyMeal, CreateDailyFeedRequestDto requestDto) {
         double serving = requestDto.getServing();
 
-        DailyFeed dailyFeed = DailyFeed.builder()
-                .dailyMeal(dailyMealToday)
+        return DailyFeed.builder()
+                .dailyMeal(dailyMeal)
                 .name(requestDto.getName())
                 .kcal(requestDto.getKcal())
                 .serving(serving)
@@ -72,18 +100,9 @@ public class DailyFeedService {
                                 .build())
                         .build())
                 .build();
-
-        dailyFeedRepository.save(dailyFeed);
-
-
-        // dailyMeal에 먹은만큼 칼로리, 영양소 추가
-        dailyMealToday.addKcal(dailyFeed.getKcal());
-        dailyMealToday.addNutrient(dailyFeed.getNutrient());
-
-        return dailyFeed.getId();
     }
 
-    private double calculateNutritionAmount(double serving, double nutritionPercent) {
+    private static double calculateNutritionAmount(double serving, double nutritionPercent) {
         return serving * (nutritionPercent / 100);
     }
 
@@ -116,6 +135,7 @@ public class DailyFeedService {
      * @param dailyFeedId
      */
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyFeed(String username, Long petId, Long dailyFeedId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
@@ -134,6 +154,7 @@ public class DailyFeedService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
 
         dailyFeedRepository.deleteById(dailyFeedId);
     }
@@ -146,6 +167,7 @@ public class DailyFeedService {
      * @param dailyMealId
      */
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyFeeds(String username, Long petId, Long dailyMealId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
@@ -166,6 +188,7 @@ public class DailyFeedService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
 
         // 전체 삭제
         dailyFeedRepository.deleteAll(dailyFeeds);
@@ -0,0 +1,246 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.common.response.error.ErrorCode;
+import com.petplate.petplate.common.response.error.exception.BadRequestException;
+import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.common.retry.RetryOnOptimisticLock;
+import com.petplate.petplate.medicalcondition.service.ProhibitedRawService;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.domain.entity.*;
+import com.petplate.petplate.petdailymeal.dto.request.*;
+import com.petplate.petplate.petdailymeal.dto.response.ReadDailyMealBatchResponseDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadRecentFoodResponseDto;
+import com.petplate.petplate.petdailymeal.repository.*;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedFeed;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedPackagedSnack;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
+import com.petplate.petplate.petfood.domain.entity.Raw;
+import com.petplate.petplate.petfood.repository.BookMarkedFeedRepository;
+import com.petplate.petplate.petfood.repository.BookMarkedPackagedSnackRepository;
+import com.petplate.petplate.petfood.repository.BookMarkedRawRepository;
+import com.petplate.petplate.petfood.repository.RawRepository;
+import com.petplate.petplate.petfood.service.RawPopularityTracker;
+import com.petplate.petplate.utils.DailyMealUtil;
+import com.petplate.petplate.utils.PetUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class DailyMealBatchService {
+    private final PetRepository petRepository;
+    private final DailyMealRepository dailyMealRepository;
+    private final RawRepository rawRepository;
+    private final BookMarkedRawRepository bookMarkedRawRepository;
+    private final BookMarkedFeedRepository bookMarkedFeedRepository;
+    private final BookMarkedPackagedSnackRepository bookMarkedPackagedSnackRepository;
+    private final DailyRawRepository dailyRawRepository;
+    private final DailyFeedRepository dailyFeedRepository;
+    private final DailyPackagedSnackRepository dailyPackagedSnackRepository;
+    private final DailyBookMarkedRawRepository dailyBookMarkedRawRepository;
+    private final DailyBookMarkedFeedRepository dailyBookMarkedFeedRepository;
+    private final DailyBookMarkedPackagedSnackRepository dailyBookMarkedPackagedSnackRepository;
+    private final ProhibitedRawService prohibitedRawService;
+    private final RecentFoodService recentFoodService;
+    private final TodayMealService todayMealService;
+    private final RawPopularityTracker rawPopularityTracker;
+
+    /**
+     * 여러 종류의 음식을 한 번에 오늘 식사에 추가.
+     * 반려견 검증과 오늘 식사 조회는 한 번만 수행하고, 음식 종류별로 한 번에 조회/저장한 뒤
+     * 합산한 칼로리, 영양소를 dailyMeal에 한 번만 반영한다.
+     *
+     * @param username
+     * @param petId
+     * @param requestDto
+     * @return dailyMealId와 음식 종류별로 생성된 id
+     */
+    @Transactional
+    @RetryOnOptimisticLock
+    public ReadDailyMealBatchResponseDto createDailyMealBatch(String username, Long petId, CreateDailyMealBatchRequestDto requestDto) {
+        List<CreateDailyRawRequestDto> rawRequests = orEmpty(requestDto.getRaws());
+        List<CreateDailyFeedRequestDto> feedRequests = orEmpty(requestDto.getFeeds());
+        List<CreateDailyPackagedSnackRequestDto> packagedSnackRequests = orEmpty(requestDto.getPackagedSnacks());
+        List<CreateDailyBookMarkedRawRequestDto> bookMarkedRawRequests = orEmpty(requestDto.getBookMarkedRaws());
+        List<CreateDailyBookMarkedFeedRequestDto> bookMarkedFeedRequests = orEmpty(requestDto.getBookMarkedFeeds());
+        List<CreateDailyBookMarkedPackagedSnackRequestDto> bookMarkedPackagedSnackRequests = orEmpty(requestDto.getBookMarkedPackagedSnacks());
+
+        if (rawRequests.isEmpty() && feedRequests.isEmpty() && packagedSnackRequests.isEmpty()
+                && bookMarkedRawRequests.isEmpty() && bookMarkedFeedRequests.isEmpty() && bookMarkedPackagedSnackRequests.isEmpty()) {
+            throw new BadRequestException(ErrorCode.BAD_REQUEST);
+        }
+
+        Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
+
+        // 음식 종류별로 한 번에 조회
+        Map<Long, Raw> raws = findAllById(rawRepository,
+                ids(rawRequests, CreateDailyRawRequestDto::getRawId), Raw::getId, ErrorCode.RAW_NOT_FOUND);
+        Map<Long, BookMarkedRaw> bookMarkedRaws = findAllById(bookMarkedRawRepository,
+                ids(bookMarkedRawRequests, CreateDailyBookMarkedRawRequestDto::getBookMarkedRawId),
+                BookMarkedRaw::getId, ErrorCode.BOOK_MARK_NOT_FOUND);
+        Map<Long, BookMarkedFeed> bookMarkedFeeds = findAllById(bookMarkedFeedRepository,
+                ids(bookMarkedFeedRequests, CreateDailyBookMarkedFeedRequestDto::getBookMarkedFeedId),
+                BookMarkedFeed::getId, ErrorCode.BOOK_MARK_NOT_FOUND);
+        Map<Long, BookMarkedPackagedSnack> bookMarkedPackagedSnacks = findAllById(bookMarkedPackagedSnackRepository,
+                ids(bookMarkedPackagedSnackRequests, CreateDailyBookMarkedPackagedSnackRequestDto::getBookMarkedPackagedSnackId),
+                BookMarkedPackagedSnack::getId, ErrorCode.BOOK_MARK_NOT_FOUND);
+
+        // 즐겨찾기는 본인의 즐겨찾기만 기록할 수 있다
+        bookMarkedRaws.values().forEach(bookMarkedRaw -> validBookMarkOwner(username, bookMarkedRaw.getUser().getUsername()));
+        bookMarkedFeeds.values().forEach(bookMarkedFeed -> validBookMarkOwner(username, bookMarkedFeed.getUser().getUsername()));
+        bookMarkedPackagedSnacks.values().forEach(bookMarkedPackagedSnack -> validBookMarkOwner(username, bookMarkedPackagedSnack.getUser().getUsername()));
+
+        DailyMeal dailyMealToday = DailyMealUtil.getDailyMealToday(pet, dailyMealRepository);
+        BitSet prohibitedRaws = prohibitedRawService.getProhibitedRaws(petId);
+        Set<Long> eatenProhibitedRawIds = new LinkedHashSet<>();
+
+        NutrientVector nutrient = NutrientVector.zero();
+        double kcal = 0;
+
+        List<DailyRaw> dailyRaws = new ArrayList<>();
+        for (CreateDailyRawRequestDto rawRequest : rawRequests) {
+            Raw raw = raws.get(rawRequest.getRawId());
+            warnIfProhibited(petId, raw, prohibitedRaws, eatenProhibitedRawIds);
+
+            DailyRaw dailyRaw = DailyRaw.builder()
+                    .dailyMeal(dailyMealToday).raw(raw).serving(rawRequest.getServing())
+                    .build();
+            dailyRaws.add(dailyRaw);
+            nutrient.add(dailyRaw.getNutrient());
+            kcal += dailyRaw.getKcal();
+        }
+
+        List<DailyFeed> dailyFeeds = new ArrayList<>();
+        for (CreateDailyFeedRequestDto feedRequest : feedRequests) {
+            DailyFeed dailyFeed = DailyFeedService.toDailyFeed(dailyMealToday, feedRequest);
+            dailyFeeds.add(dailyFeed);
+            nutrient.add(dailyFeed.getNutrient());
+            kcal += dailyFeed.getKcal();
+        }
+
+        List<DailyPackagedSnack> dailyPackagedSnacks = new ArrayList<>();
+        for (CreateDailyPackagedSnackRequestDto packagedSnackRequest : packagedSnackRequests) {
+            DailyPackagedSnack dailyPackagedSnack = DailyPackagedSnackService.toDailyPackagedSnack(dailyMealToday, packagedSnackRequest);
+            dailyPackagedSnacks.add(dailyPackagedSnack);
+            nutrient.add(dailyPackagedSnack.getNutrient());
+            kcal += dailyPackagedSnack.getKcal();
+        }
+
+        List<DailyBookMarkedRaw> dailyBookMarkedRaws = new ArrayList<>();
+        for (CreateDailyBookMarkedRawRequestDto bookMarkedRawRequest : bookMarkedRawRequests) {
+            BookMarkedRaw bookMarkedRaw = bookMarkedRaws.get(bookMarkedRawRequest.getBookMarkedRawId());
+            warnIfProhibited(petId, bookMarkedRaw.getRaw(), prohibitedRaws, eatenProhibitedRawIds);
+
+            dailyBookMarkedRaws.add(DailyBookMarkedRaw.builder()
+                    .bookMarkedRaw(bookMarkedRaw).dailyMeal(dailyMealToday)
+                    .build());
+            nutrient.add(bookMarkedRaw.getNutrient());
+            kcal += bookMarkedRaw.getKcal();
+        }
+
+        List<DailyBookMarkedFeed> dailyBookMarkedFeeds = new ArrayList<>();
+        for (CreateDailyBookMarkedFeedRequestDto bookMarkedFeedRequest : bookMarkedFeedRequests) {
+            BookMarkedFeed bookMarkedFeed = bookMarkedFeeds.get(bookMarkedFeedRequest.getBookMarkedFeedId());
+
+            dailyBookMarkedFeeds.add(DailyBookMarkedFeed.builder()
+                    .bookMarkedFeed(bookMarkedFeed).dailyMeal(dailyMealToday)
+                    .build());
+            nutrient.add(bookMarkedFeed.getNutrient());
+            kcal += bookMarkedFeed.getKcal();
+        }
+
+        List<DailyBookMarkedPackagedSnack> dailyBookMarkedPackagedSnacks = new ArrayList<>();
+        for (CreateDailyBookMarkedPackagedSnackRequestDto bookMarkedPackagedSnackRequest : bookMarkedPackagedSnackRequests) {
+            BookMarkedPackagedSnack bookMarkedPackagedSnack = bookMarkedPackagedSnacks.get(bookMarkedPackagedSnackRequest.getBookMarkedPackagedSnackId());
+
+            dailyBookMarkedPackagedSnacks.add(DailyBookMarkedPackagedSnack.builder()
+                    .bookMarkedPackagedSnack(bookMarkedPackagedSnack).dailyMeal(dailyMealToday)
+                    .build());
+            nutrient.add(bookMarkedPackagedSnack.getNutrient());
+            kcal += bookMarkedPackagedSnack.getKcal();
+        }
+
+        ReadDailyMealBatchResponseDto response = ReadDailyMealBatchResponseDto.from(dailyMealToday.getId());
+        response.getProhibitedRawIds().addAll(eatenProhibitedRawIds);
+        dailyRawRepository.saveAll(dailyRaws).forEach(dailyRaw -> response.getDailyRawIds().add(dailyRaw.getId()));
+        dailyFeedRepository.saveAll(dailyFeeds).forEach(dailyFeed -> response.getDailyFeedIds().add(dailyFeed.getId()));
+        dailyPackagedSnackRepository.saveAll(dailyPackagedSnacks).forEach(dailyPackagedSnack -> response.getDailyPackagedSnackIds().add(dailyPackagedSnack.getId()));
+        dailyBookMarkedRawRepository.saveAll(dailyBookMarkedRaws).forEach(dailyBookMarkedRaw -> response.getDailyBookMarkedRawIds().add(dailyBookMarkedRaw.getId()));
+        dailyBookMarkedFeedRepository.saveAll(dailyBookMarkedFeeds).forEach(dailyBookMarkedFeed -> response.getDailyBookMarkedFeedIds().add(dailyBookMarkedFeed.getId()));
+        dailyBookMarkedPackagedSnackRepository.saveAll(dailyBookMarkedPackagedSnacks).forEach(dailyBookMarkedPackagedSnack -> response.getDailyBookMarkedPackagedSnackIds().add(dailyBookMarkedPackagedSnack.getId()));
+
+        // dailyMeal에 먹은만큼 칼로리, 영양소를 한 번에 추가
+        dailyMealToday.addKcal(kcal);
+        dailyMealToday.addNutrient(nutrient.toNutrient());
+        todayMealService.refresh(dailyMealToday);
+
+        List<ReadRecentFoodResponseDto> eatenFoods = new ArrayList<>();
+        dailyRaws.forEach(dailyRaw -> eatenFoods.add(ReadRecentFoodResponseDto.from(dailyRaw)));
+        dailyFeeds.forEach(dailyFeed -> eatenFoods.add(ReadRecentFoodResponseDto.from(dailyFeed)));
+        dailyPackagedSnacks.forEach(dailyPackagedSnack -> eatenFoods.add(ReadRecentFoodResponseDto.from(dailyPackagedSnack)));
+        dailyBookMarkedRaws.forEach(dailyBookMarkedRaw -> eatenFoods.add(ReadRecentFoodResponseDto.from(dailyBookMarkedRaw.getBookMarkedRaw())));
+        dailyBookMarkedFeeds.forEach(dailyBookMarkedFeed -> eatenFoods.add(ReadRecentFoodResponseDto.from(dailyBookMarkedFeed.getBookMarkedFeed())));
+        dailyBookMarkedPackagedSnacks.forEach(dailyBookMarkedPackagedSnack ->
+                eatenFoods.add(ReadRecentFoodResponseDto.from(dailyBookMarkedPackagedSnack.getBookMarkedPackagedSnack())));
+        recentFoodService.record(petId, eatenFoods);
+
+        List<Long> eatenRawIds = new ArrayList<>();
+        dailyRaws.forEach(dailyRaw -> eatenRawIds.add(dailyRaw.getRaw().getId()));
+        dailyBookMarkedRaws.forEach(dailyBookMarkedRaw -> {
+            if (dailyBookMarkedRaw.getBookMarkedRaw().getRaw() != null) {
+                eatenRawIds.add(dailyBookMarkedRaw.getBookMarkedRaw().getRaw().getId());
+            }
+        });
+        rawPopularityTracker.record(eatenRawIds);
+
+        return response;
+    }
+
+    private void warnIfProhibited(Long petId, Raw raw, BitSet prohibitedRaws, Set<Long> eatenProhibitedRawIds) {
+        // 알러지, 질병으로 금지된 자연식인 경우 기록은 하되 응답으로 경고한다
+        if (raw != null && prohibitedRaws.get(Math.toIntExact(raw.getId()))) {
+            log.warn("금지된 자연식 섭취 기록 petId={}, rawId={}", petId, raw.getId());
+            eatenProhibitedRawIds.add(raw.getId());
+        }
+    }
+
+    private static void validBookMarkOwner(String username, String ownerUsername) {
+        if (!ownerUsername.equals(username)) {
+            throw new BadRequestException(ErrorCode.NOT_USER_BOOK_MARK);
+        }
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    private static <T> Set<Long> ids(List<T> requests, Function<T, Long> idGetter) {
+        return requests.stream().map(idGetter).collect(Collectors.toSet());
+    }
+
+    // 요청한 id가 모두 조회되지 않은 경우 예외 발생
+    private static <E> Map<Long, E> findAllById(JpaRepository<E, Long> repository, Set<Long> ids,
+                                                Function<E, Long> idGetter, ErrorCode notFound) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, E> entitiesById = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(idGetter, Function.identity()));
+        if (entitiesById.size() != ids.size()) {
+            throw new NotFoundException(notFound);
+        }
+        return entitiesById;
+    }
+}
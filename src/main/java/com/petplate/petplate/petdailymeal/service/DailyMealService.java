@@ -7,7 +7,7 @@ import com.petplate.petplate.common.response.error.exception.BadRequestException
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
 import com.petplate.petplate.pet.domain.entity.Pet;
 import com.petplate.petplate.pet.repository.PetRepository;
-import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.domain.entity.*;
 import com.petplate.petplate.petdailymeal.dto.response.*;
 import com.petplate.petplate.petdailymeal.repository.*;
 import com.petplate.petplate.petdailymeal.repository.DailyFeedRepository;
@@ -22,6 +22,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -36,6 +40,7 @@ public class DailyMealService {
     private final DailyBookMarkedRawRepository dailyBookMarkedRawRepository;
     private final DailyBookMarkedFeedRepository dailyBookMarkedFeedRepository;
     private final DailyBookMarkedPackagedSnackRepository dailyBookMarkedPackagedSnackRepository;
+    private final TodayMealService todayMealService;
 
     @Transactional
     public DailyMeal createDailyMeal(String username, Long petId) {
@@ -96,6 +101,13 @@ public class DailyMealService {
     public ReadDailyMealResponseDto getDailyMeal(String username, Long petId, LocalDate date) {
         PetUtil.validUserAndFindPet(username, petId, petRepository);
 
+        // 오늘 식사 내역은 TodayMealService 의 읽기 모델에서 조회
+        if (date.equals(LocalDate.now())) {
+            TodayMeal todayMeal = todayMealService.getToday(petId)
+                    .orElseThrow(() -> new NotFoundException(ErrorCode.DAILY_MEAL_NOT_FOUND));
+            return ReadDailyMealResponseDto.of(todayMeal.getDailyMealId(), date);
+        }
+
         LocalDateTime startDatetime = LocalDateTime.of(date, LocalTime.of(0, 0, 0));
         LocalDateTime endDatetime = LocalDateTime.of(date, LocalTime.of(23, 59, 59));
 
@@ -267,6 +279,13 @@ public class DailyMealService {
     public ReadDailyMealFoodResponseDto getDailyMealWithFoods(String username, Long petId, Long dailyMealId) {
         PetUtil.validUserAndFindPet(username, petId, petRepository);
 
+        // 오늘 식사 내역이 저장되어 있으면 음식 목록을 조회하지 않는다
+        Optional<TodayMeal> todayMeal = todayMealService.getCached(petId)
+                .filter(today -> today.getDailyMealId().equals(dailyMealId));
+        if (todayMeal.isPresent()) {
+            return todayMeal.get().getFoods();
+        }
+
         DailyMeal dailyMeal = dailyMealRepository.findById(dailyMealId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.DAILY_MEAL_NOT_FOUND));
 
@@ -282,6 +301,7 @@ public class DailyMealService {
 
     /**
      * 반려견의 모든 식사 내역을 섭취 음식과 함께 반환
+     * 식사마다 조회하지 않고 음식 종류별로 한 번씩 조회한 뒤 식사별로 나눈다.
      *
      * @param username
      * @param petId
@@ -290,20 +310,39 @@ public class DailyMealService {
     public List<ReadDailyMealFoodResponseDto> getDailyMealsWithAllFoods(String username, Long petId) {
         PetUtil.validUserAndFindPet(username, petId, petRepository);
 
+        List<DailyMeal> dailyMeals = dailyMealRepository.findByPetIdOrderByCreatedAtDesc(petId);
+        if (dailyMeals.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> dailyMealIds = dailyMeals.stream().map(DailyMeal::getId).toList();
+        Map<Long, List<DailyRaw>> dailyRaws = groupByDailyMeal(dailyRawRepository.findByDailyMealIdIn(dailyMealIds), DailyRaw::getDailyMeal);
+        Map<Long, List<DailyFeed>> dailyFeeds = groupByDailyMeal(dailyFeedRepository.findByDailyMealIdIn(dailyMealIds), DailyFeed::getDailyMeal);
+        Map<Long, List<DailyPackagedSnack>> dailyPackagedSnacks = groupByDailyMeal(dailyPackagedSnackRepository.findByDailyMealIdIn(dailyMealIds), DailyPackagedSnack::getDailyMeal);
+        Map<Long, List<DailyBookMarkedRaw>> dailyBookMarkedRaws = groupByDailyMeal(dailyBookMarkedRawRepository.findByDailyMealIdIn(dailyMealIds), DailyBookMarkedRaw::getDailyMeal);
+        Map<Long, List<DailyBookMarkedFeed>> dailyBookMarkedFeeds = groupByDailyMeal(dailyBookMarkedFeedRepository.findByDailyMealIdIn(dailyMealIds), DailyBookMarkedFeed::getDailyMeal);
+        Map<Long, List<DailyBookMarkedPackagedSnack>> dailyBookMarkedPackagedSnacks = groupByDailyMeal(dailyBookMarkedPackagedSnackRepository.findByDailyMealIdIn(dailyMealIds), DailyBookMarkedPackagedSnack::getDailyMeal);
+
         List<ReadDailyMealFoodResponseDto> response = new ArrayList<>();
-        dailyMealRepository.findByPetIdOrderByCreatedAtDesc(petId).forEach(dailyMeal -> {
+        dailyMeals.forEach(dailyMeal -> {
+            Long dailyMealId = dailyMeal.getId();
 
             response.add(ReadDailyMealFoodResponseDto.of(dailyMeal,
-                            dailyRawRepository.findByDailyMealId(dailyMeal.getId()),
-                            dailyFeedRepository.findByDailyMealId(dailyMeal.getId()),
-                            dailyPackagedSnackRepository.findByDailyMealId(dailyMeal.getId()),
-                            dailyBookMarkedRawRepository.findByDailyMealId(dailyMeal.getId()),
-                            dailyBookMarkedFeedRepository.findByDailyMealId(dailyMeal.getId()),
-                            dailyBookMarkedPackagedSnackRepository.findByDailyMealId(dailyMeal.getId())
+                            dailyRaws.getOrDefault(dailyMealId, List.of()),
+                            dailyFeeds.getOrDefault(dailyMealId, List.of()),
+                            dailyPackagedSnacks.getOrDefault(dailyMealId, List.of()),
+                            dailyBookMarkedRaws.getOrDefault(dailyMealId, List.of()),
+                            dailyBookMarkedFeeds.getOrDefault(dailyMealId, List.of()),
+                            dailyBookMarkedPackagedSnacks.getOrDefault(dailyMealId, List.of())
                     )
             );
         });
 
         return response;
     }
+
+    // 식사 프록시의 id만 사용하므로 식사를 다시 조회하지 않는다
+    private static <T> Map<Long, List<T>> groupByDailyMeal(List<T> foods, Function<T, DailyMeal> dailyMealGetter) {
+        return foods.stream().collect(Collectors.groupingBy(food -> dailyMealGetter.apply(food).getId()));
+    }
 }
@@ -5,12 +5,14 @@ import com.petplate.petplate.common.EmbeddedType.Vitamin;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.common.retry.RetryOnOptimisticLock;
 import com.petplate.petplate.pet.domain.entity.Pet;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyPackagedSnack;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyPackagedSnackRequestDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyPackagedSnackResponseDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadRecentFoodResponseDto;
 import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
 import com.petplate.petplate.petdailymeal.repository.DailyPackagedSnackRepository;
 import com.petplate.petplate.utils.DailyMealUtil;
@@ -28,6 +30,8 @@ public class DailyPackagedSnackService {
     private final DailyPackagedSnackRepository dailyPackagedSnackRepository;
     private final PetRepository petRepository;
     private final DailyMealRepository dailyMealRepository;
+    private final RecentFoodService recentFoodService;
+    private final TodayMealService todayMealService;
 
     // 1 IU retinol = 0.3 mcg RAE
     static final double vitaminAIuRetinolPerGram = 3333333.3333333335; // == 10E6 / 0.3
@@ -48,14 +52,38 @@ public class DailyPackagedSnackService {
      * @return
      */
     @Transactional
+    @RetryOnOptimisticLock
     public Long createDailyPackagedSnack(String username, Long petId, CreateDailyPackagedSnackRequestDto requestDto) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
         DailyMeal dailyMealToday = DailyMealUtil.getDailyMealToday(pet,dailyMealRepository);
 
+        DailyPackagedSnack dailyPackagedSnack = toDailyPackagedSnack(dailyMealToday, requestDto);
+
+        dailyPackagedSnackRepository.save(dailyPackagedSnack);
+
+
+        // dailyMeal에 먹은만큼 칼로리, 영양소 추가
+        dailyMealToday.addKcal(dailyPackagedSnack.getKcal());
+        dailyMealToday.addNutrient(dailyPackagedSnack.getNutrient());
+        todayMealService.refresh(dailyMealToday);
+
+        recentFoodService.record(petId, ReadRecentFoodResponseDto.from(dailyPackagedSnack));
+
+        return dailyPackagedSnack.getId();
+    }
+
+    /**
+     * 입력한 영양소 비율(%)과 섭취량으로 DailyPackagedSnack 생성
+     *
+     * @param dailyMeal
+     * @param requestDto
+     * @return 저장되지 않은 DailyPackagedSnack
+     */
+    static DailyPackagedSnack toDailyPackagedSnack(DailyMeal dailyMeal, CreateDailyPackagedSnackRequestDto requestDto) {
         double serving = requestDto.getServing();
 
-        DailyPackagedSnack dailyPackagedSnack = DailyPackagedSnack.builder()
-                .dailyMeal(dailyMealToday)
+        return DailyPackagedSnack.builder()
+                .dailyMeal(dailyMeal)
                 .name(requestDto.getName())
                 .kcal(requestDto.getKcal())
                 .serving(serving)
@@ -72,18 +100,9 @@ public class DailyPackagedSnackService {
                                 .build())
                         .build())
                 .build();
-
-        dailyPackagedSnackRepository.save(dailyPackagedSnack);
-
-
-        // dailyMeal에 먹은만큼 칼로리, 영양소 추가
-        dailyMealToday.addKcal(dailyPackagedSnack.getKcal());
-        dailyMealToday.addNutrient(dailyPackagedSnack.getNutrient());
-
-        return dailyPackagedSnack.getId();
     }
 
-    private double calculateNutritionAmount(double serving, double nutritionPercent) {
+    private static double calculateNutritionAmount(double serving, double nutritionPercent) {
         return serving * (nutritionPercent / 100);
     }
 
@@ -116,6 +135,7 @@ public class DailyPackagedSnackService {
      * @param dailyPackagedSnackId
      */
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyPackagedSnack(String username, Long petId, Long dailyPackagedSnackId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
@@ -134,6 +154,7 @@ public class DailyPackagedSnackService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
 
         dailyPackagedSnackRepository.deleteById(dailyPackagedSnackId);
     }
@@ -146,6 +167,7 @@ public class DailyPackagedSnackService {
      * @param dailyMealId
      */
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyPackagedSnacks(String username, Long petId, Long dailyMealId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
@@ -166,6 +188,7 @@ public class DailyPackagedSnackService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
 
         // 전체 삭제
         dailyPackagedSnackRepository.deleteAll(dailyPackagedSnacks);
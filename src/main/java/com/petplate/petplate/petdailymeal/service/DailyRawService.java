@@ -3,21 +3,27 @@ package com.petplate.petplate.petdailymeal.service;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.common.retry.RetryOnOptimisticLock;
+import com.petplate.petplate.medicalcondition.service.ProhibitedRawService;
 import com.petplate.petplate.pet.domain.entity.Pet;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyRaw;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyRawRequestDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadCreatedDailyRawResponseDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyRawResponseDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyRawWithRawIdResponseDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadRecentFoodResponseDto;
 import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
 import com.petplate.petplate.petdailymeal.repository.DailyRawRepository;
+import com.petplate.petplate.petfood.service.RawPopularityTracker;
 import com.petplate.petplate.utils.DailyMealUtil;
 import com.petplate.petplate.petfood.domain.entity.Raw;
 import com.petplate.petplate.petfood.repository.RawRepository;
 import com.petplate.petplate.utils.PetUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +39,10 @@ public class DailyRawService {
     private final DailyMealRepository dailyMealRepository;
     private final DailyRawRepository dailyRawRepository;
     private final PetRepository petRepository;
+    private final ProhibitedRawService prohibitedRawService;
+    private final RecentFoodService recentFoodService;
+    private final TodayMealService todayMealService;
+    private final RawPopularityTracker rawPopularityTracker;
 
     /**
      * RawDailyMeal 생성
@@ -40,10 +50,11 @@ public class DailyRawService {
      * @param username
      * @param petId
      * @param requestDto
-     * @return DailyRaw를 생성 후 id를 반환.
+     * @return 생성된 DailyRaw id 와 금지된 자연식 여부
      */
     @Transactional
-    public Long createDailyRaw(String username, Long petId, CreateDailyRawRequestDto requestDto) {
+    @RetryOnOptimisticLock
+    public ReadCreatedDailyRawResponseDto createDailyRaw(String username, Long petId, CreateDailyRawRequestDto requestDto) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
         // 오늘의 dailyMeal
@@ -53,6 +64,12 @@ public class DailyRawService {
         Raw raw = rawRepository.findById(requestDto.getRawId()).orElseThrow(
                 () -> new NotFoundException(ErrorCode.RAW_NOT_FOUND));
 
+        // 알러지, 질병으로 금지된 자연식인 경우 기록은 하되 응답으로 경고한다
+        boolean prohibited = prohibitedRawService.isProhibited(petId, raw.getId());
+        if (prohibited) {
+            log.warn("금지된 자연식 섭취 기록 petId={}, rawId={}", petId, raw.getId());
+        }
+
         DailyRaw dailyRaw = DailyRaw.builder()
                 .dailyMeal(dailyMeal).raw(raw).serving(requestDto.getServing())
                 .build();
@@ -62,8 +79,12 @@ public class DailyRawService {
         // dailyMeal에 먹은만큼 칼로리, 영양소 추가
         dailyMeal.addKcal(dailyRaw.getKcal());
         dailyMeal.addNutrient(dailyRaw.getNutrient());
+        todayMealService.refresh(dailyMeal);
+
+        recentFoodService.record(petId, ReadRecentFoodResponseDto.from(dailyRaw));
+        rawPopularityTracker.record(raw.getId());
 
-        return dailyRaw.getId();
+        return ReadCreatedDailyRawResponseDto.of(dailyRaw.getId(), prohibited);
     }
 
     /**
@@ -99,12 +120,14 @@ public class DailyRawService {
      * @param petId
      * @param count
      * @return
+     * @deprecated 최근 섭취 음식은 {@link RecentFoodService#getRecentFoods} 로 조회한다
      */
+    @Deprecated
     public List<ReadDailyRawWithRawIdResponseDto> getRecentDailyRaws(String username, Long petId, int count) {
         PetUtil.validUserAndFindPet(username, petId, petRepository);
 
         List<ReadDailyRawWithRawIdResponseDto> responses = new ArrayList<>();
-        dailyMealRepository.findByPetIdOrderByCreatedAtDesc(petId).stream().limit(count)
+        dailyMealRepository.findByPetIdOrderByCreatedAtDesc(petId, PageRequest.of(0, Math.max(1, count)))
                 .forEach(dailyMeal -> {
 
                     dailyRawRepository.findByDailyMealId(dailyMeal.getId()).forEach(dailyRaw -> {
@@ -145,6 +168,7 @@ public class DailyRawService {
      * @param dailyRawId
      */
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyRaw(String username, Long petId, Long dailyRawId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
         DailyRaw dailyRaw =
@@ -161,6 +185,7 @@ public class DailyRawService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
 
         dailyRawRepository.delete(dailyRaw);
     }
@@ -173,6 +198,7 @@ public class DailyRawService {
      * @param dailyMealId
      */
     @Transactional
+    @RetryOnOptimisticLock
     public void deleteDailyRaws(String username, Long petId, Long dailyMealId) {
         Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
 
@@ -193,6 +219,7 @@ public class DailyRawService {
 
         // 영양소 보정
         DailyMealUtil.compensatingNutrient(dailyMeal);
+        todayMealService.refresh(dailyMeal);
 
         // 전체 삭제
         dailyRawRepository.deleteAll(dailyRaws);
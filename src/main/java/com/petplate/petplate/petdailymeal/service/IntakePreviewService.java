@@ -0,0 +1,71 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.common.response.error.ErrorCode;
+import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.dto.response.ReadPetNutrientResponseDto;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.dto.request.CreateDailyRawRequestDto;
+import com.petplate.petplate.petdailymeal.dto.request.PreviewIntakeRequestDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadIntakePreviewResponseDto;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petfood.service.RawNutrientDensityMatrix;
+import com.petplate.petplate.utils.PetUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class IntakePreviewService {
+    private final PetRepository petRepository;
+    private final DailyMealRepository dailyMealRepository;
+    private final RawNutrientDensityMatrix rawNutrientDensityMatrix;
+
+    /**
+     * 자연식들을 오늘 섭취했을 때의 칼로리, 영양소 변화를 저장하지 않고 계산
+     *
+     * @param username
+     * @param petId
+     * @param requestDto
+     * @return 현재 칼로리, 섭취 후 칼로리, 현재 영양소 정보, 섭취 후 영양소 정보
+     */
+    public ReadIntakePreviewResponseDto previewIntake(String username, Long petId, PreviewIntakeRequestDto requestDto) {
+        Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
+
+        LocalDateTime startDatetime = LocalDateTime.of(LocalDate.now(), LocalTime.of(0, 0, 0));
+        LocalDateTime endDatetime = LocalDateTime.of(LocalDate.now(), LocalTime.of(23, 59, 59));
+        Optional<DailyMeal> dailyMealToday = dailyMealRepository.findByPetIdAndCreatedAtBetween(petId, startDatetime, endDatetime);
+
+        NutrientVector intake = dailyMealToday.map(dailyMeal -> NutrientVector.from(dailyMeal.getNutrient()))
+                .orElseGet(NutrientVector::zero);
+        double kcal = dailyMealToday.map(DailyMeal::getKcal).orElse(0.0);
+
+        // 밀도 행렬로 섭취량만큼 영양소를 더함
+        RawNutrientDensityMatrix.Snapshot matrix = rawNutrientDensityMatrix.getSnapshot();
+        NutrientVector previewIntake = NutrientVector.zero().add(intake);
+        double previewKcal = kcal;
+
+        for (CreateDailyRawRequestDto raw : requestDto.getRaws()) {
+            int row = matrix.rowOf(raw.getRawId());
+            if (row < 0) {
+                throw new NotFoundException(ErrorCode.RAW_NOT_FOUND);
+            }
+
+            previewIntake.addScaled(matrix.getMatrix(), matrix.offsetOf(row), raw.getServing());
+            previewKcal += matrix.kcalOf(row, raw.getServing());
+        }
+
+        return ReadIntakePreviewResponseDto.of(kcal, previewKcal,
+                ReadPetNutrientResponseDto.listOf(intake, pet.getWeight(), pet.getActivity(), pet.getNeutering()),
+                ReadPetNutrientResponseDto.listOf(previewIntake, pet.getWeight(), pet.getActivity(), pet.getNeutering()));
+    }
+}
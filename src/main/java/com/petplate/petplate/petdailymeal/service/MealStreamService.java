@@ -0,0 +1,178 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.dto.response.ReadMealStreamResponseDto;
+import com.petplate.petplate.utils.PetUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 반려견별 오늘 섭취량 실시간 전송 (Server-Sent Events).
+ * <p>
+ * 구독한 연결(SseEmitter)은 인스턴스마다 반려견 id 별로 보관한다.
+ * 오늘 식사 내역이 커밋되면(TodayMealChangedEvent) meal-stream 채널에 반려견 id 를 발행하고,
+ * 채널을 구독한 모든 인스턴스는 해당 반려견을 구독한 연결이 있을 때만 TodayMealService 에서 섭취량을 읽어
+ * 칼로리, 영양소, 부족/과잉 영양소를 한 번 계산한 뒤 연결마다 meal 이벤트로 보낸다.
+ * <p>
+ * 이벤트 id 는 {dailyMealId}:{revision} 이며 클라이언트는 dailyMealId 를 먼저 비교해 늦게 도착한 이벤트를 무시한다.
+ * 구독 직후에도 현재 섭취량을 보내며, 프록시가 유휴 연결을 끊지 않도록 meal-stream.heartbeat-interval-ms 마다 주석을 보낸다.
+ * Redis 발행에 실패하면 현재 인스턴스의 연결에만 보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MealStreamService implements MessageListener {
+    static final String CHANNEL = "meal-stream";
+    private static final String EVENT_NAME = "meal";
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+    private static final String CALLER = "MealStreamService";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisOperationTimer redisOperationTimer;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PetRepository petRepository;
+    private final TodayMealService todayMealService;
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeChannel() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 반려견의 오늘 섭취량 구독
+     *
+     * @param username
+     * @param petId
+     * @return 구독 직후 현재 섭취량을 보낸 연결
+     */
+    public SseEmitter subscribe(String username, Long petId) {
+        return subscribe(username, petId, new SseEmitter(TIMEOUT.toMillis()));
+    }
+
+    SseEmitter subscribe(String username, Long petId, SseEmitter emitter) {
+        Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
+
+        emitters.compute(petId, (key, petEmitters) -> {
+            Set<SseEmitter> added = petEmitters == null ? ConcurrentHashMap.newKeySet() : petEmitters;
+            added.add(emitter);
+            return added;
+        });
+
+        emitter.onCompletion(() -> remove(petId, emitter));
+        emitter.onTimeout(() -> remove(petId, emitter));
+        emitter.onError(e -> remove(petId, emitter));
+
+        send(petId, emitter, current(pet));
+        return emitter;
+    }
+
+    /**
+     * 커밋된 식사 내역 변경을 모든 인스턴스에 알린다
+     */
+    @EventListener
+    public void onTodayMealChanged(TodayMealChangedEvent event) {
+        try {
+            redisOperationTimer.run(CALLER, "publish",
+                    () -> stringRedisTemplate.convertAndSend(CHANNEL, event.getPetId().toString()));
+        } catch (RuntimeException e) {
+            log.warn("오늘 섭취량 발행 실패 petId={}", event.getPetId(), e);
+            push(event.getPetId());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            push(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (RuntimeException e) {
+            log.warn("오늘 섭취량 전송 실패", e);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${meal-stream.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        emitters.forEach((petId, petEmitters) -> petEmitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                remove(petId, emitter);
+            }
+        }));
+    }
+
+    // 구독한 연결이 있으면 섭취량을 한 번만 계산해서 보낸다
+    private void push(Long petId) {
+        Set<SseEmitter> petEmitters = emitters.get(petId);
+        if (petEmitters == null || petEmitters.isEmpty()) {
+            return;
+        }
+
+        Optional<Pet> pet = petRepository.findById(petId);
+        if (pet.isEmpty()) {
+            petEmitters.forEach(SseEmitter::complete);
+            return;
+        }
+
+        ReadMealStreamResponseDto response = current(pet.get());
+        petEmitters.forEach(emitter -> send(petId, emitter, response));
+    }
+
+    private ReadMealStreamResponseDto current(Pet pet) {
+        return todayMealService.getToday(pet.getId())
+                .map(today -> ReadMealStreamResponseDto.of(pet, today.getDailyMealId(), today.getRevision(),
+                        today.getKcal(), today.getNutrient()))
+                .orElseGet(() -> ReadMealStreamResponseDto.of(pet, null, 0, 0, NutrientVector.zero().toNutrient()));
+    }
+
+    private void send(Long petId, SseEmitter emitter, ReadMealStreamResponseDto response) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .id(eventId(response))
+                    .data(response));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우
+            remove(petId, emitter);
+        }
+    }
+
+    /**
+     * 이벤트 id {dailyMealId}:{revision}. 식사 내역 PK 는 날마다 새로 만들어지며 증가하므로
+     * dailyMealId, revision 순서로 비교하면 날짜가 바뀌어 revision 이 0부터 다시 시작해도 순서를 알 수 있다.
+     * 오늘 식사 내역이 없으면 0:0
+     */
+    static String eventId(ReadMealStreamResponseDto response) {
+        long dailyMealId = response.getDailyMealId() == null ? 0 : response.getDailyMealId();
+        return dailyMealId + ":" + response.getRevision();
+    }
+
+    private void remove(Long petId, SseEmitter emitter) {
+        emitters.computeIfPresent(petId, (key, petEmitters) -> {
+            petEmitters.remove(emitter);
+            return petEmitters.isEmpty() ? null : petEmitters;
+        });
+    }
+}
@@ -0,0 +1,220 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.dto.response.ReadRecentFoodResponseDto;
+import com.petplate.petplate.petfood.domain.FoodType;
+import com.petplate.petplate.utils.PetUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 반려견별 최근 섭취 음식 목록 (다시 먹이기 선택 목록).
+ * <p>
+ * recent-food:{petId} 리스트에 최근에 먹은 음식부터 스냅샷(JSON)을 최대 MAX_SIZE 개 저장하므로 조회는 LRANGE 한 번이다.
+ * 같은 음식은 한 번만 남도록 recent-food:{petId}:index 해시에 음식 키 -> 리스트에 들어있는 스냅샷을 저장하고,
+ * 다시 먹으면 이전 스냅샷을 리스트에서 지운 뒤 맨 앞에 넣는다.
+ * 음식 키는 자연식, 즐겨찾기는 id이며, 매번 새로 입력하는 사료와 포장 간식은 이름이다.
+ * <p>
+ * 식사 기록이 커밋된 뒤에 반영하며, Redis 오류는 식사 기록에 영향을 주지 않도록 로그만 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecentFoodService {
+    static final int MAX_SIZE = 30;
+    private static final Duration TTL = Duration.ofDays(30);
+    private static final String KEY_PREFIX = "recent-food:";
+    private static final String CALLER = "RecentFoodService";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisOperationTimer redisOperationTimer;
+    private final ObjectMapper objectMapper;
+    private final PetRepository petRepository;
+
+    /**
+     * 최근 섭취 음식 조회 (최근에 먹은 순)
+     *
+     * @param username
+     * @param petId
+     * @param count
+     * @return
+     */
+    public List<ReadRecentFoodResponseDto> getRecentFoods(String username, Long petId, int count) {
+        PetUtil.validUserAndFindPet(username, petId, petRepository);
+
+        int size = Math.max(1, Math.min(count, MAX_SIZE));
+        List<String> snapshots = redisOperationTimer.record(CALLER, "lrange",
+                () -> stringRedisTemplate.opsForList().range(listKey(petId), 0, size - 1));
+
+        List<ReadRecentFoodResponseDto> responses = new ArrayList<>();
+        if (snapshots == null) {
+            return responses;
+        }
+
+        // 동시에 같은 음식을 기록한 경우 중복이 남을 수 있으므로 한 번 더 거른다
+        Set<String> foodKeys = new HashSet<>();
+        for (String snapshot : snapshots) {
+            ReadRecentFoodResponseDto food = read(snapshot);
+            if (food != null && foodKeys.add(foodKey(food))) {
+                responses.add(food);
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * 섭취한 음식을 최근 섭취 목록에 추가. 트랜잭션 내에서 호출되면 커밋 이후에 추가한다.
+     *
+     * @param petId
+     * @param foods 먹은 순서대로 (마지막 음식이 가장 최근)
+     */
+    public void record(Long petId, List<ReadRecentFoodResponseDto> foods) {
+        if (foods.isEmpty()) {
+            return;
+        }
+
+        afterCommit(petId, () -> push(petId, foods));
+    }
+
+    public void record(Long petId, ReadRecentFoodResponseDto food) {
+        record(petId, List.of(food));
+    }
+
+    public void evict(Long petId) {
+        afterCommit(petId, () -> redisOperationTimer.run(CALLER, "delete",
+                () -> stringRedisTemplate.delete(List.of(listKey(petId), indexKey(petId)))));
+    }
+
+    private void push(Long petId, List<ReadRecentFoodResponseDto> eatenFoods) {
+        String listKey = listKey(petId);
+        String indexKey = indexKey(petId);
+
+        // 한 번에 같은 음식을 여러 번 기록한 경우 마지막 것만 남김
+        Map<String, ReadRecentFoodResponseDto> foodsByKey = new LinkedHashMap<>();
+        eatenFoods.forEach(food -> {
+            foodsByKey.remove(foodKey(food));
+            foodsByKey.put(foodKey(food), food);
+        });
+        List<String> foodKeys = new ArrayList<>(foodsByKey.keySet());
+        List<ReadRecentFoodResponseDto> foods = new ArrayList<>(foodsByKey.values());
+
+        // 이전 스냅샷 조회
+        List<Object> previousSnapshots = pipeline("hget", connection ->
+                foodKeys.forEach(foodKey -> connection.hGet(indexKey, foodKey)));
+
+        List<Object> results = pipeline("push", connection -> {
+            for (int i = 0; i < foods.size(); i++) {
+                String snapshot = write(foods.get(i));
+                if (previousSnapshots.get(i) != null) {
+                    connection.lRem(listKey, 1, (String) previousSnapshots.get(i));
+                }
+                connection.lPush(listKey, snapshot);
+                connection.hSet(indexKey, foodKeys.get(i), snapshot);
+            }
+            connection.expire(listKey, TTL.toSeconds());
+            connection.expire(indexKey, TTL.toSeconds());
+            connection.lRange(listKey, MAX_SIZE, -1);
+        });
+
+        // MAX_SIZE 를 넘어 밀려난 음식은 목록과 해시에서 제거
+        @SuppressWarnings("unchecked")
+        List<String> evicted = (List<String>) results.get(results.size() - 1);
+        if (evicted == null || evicted.isEmpty()) {
+            return;
+        }
+
+        String[] evictedKeys = evicted.stream().map(this::read)
+                .filter(food -> food != null && !foodKeys.contains(foodKey(food)))
+                .map(RecentFoodService::foodKey)
+                .toArray(String[]::new);
+        pipeline("trim", connection -> {
+            connection.lTrim(listKey, 0, MAX_SIZE - 1);
+            if (evictedKeys.length > 0) {
+                connection.hDel(indexKey, evictedKeys);
+            }
+        });
+    }
+
+    private List<Object> pipeline(String operation, Consumer<StringRedisConnection> commands) {
+        return redisOperationTimer.record(CALLER, operation, () ->
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+                    commands.accept((StringRedisConnection) connection);
+                    return null;
+                }));
+    }
+
+    private String write(ReadRecentFoodResponseDto food) {
+        try {
+            return objectMapper.writeValueAsString(food);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("최근 섭취 음식 직렬화 실패", e);
+        }
+    }
+
+    private ReadRecentFoodResponseDto read(String snapshot) {
+        try {
+            return objectMapper.readValue(snapshot, ReadRecentFoodResponseDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("최근 섭취 음식 역직렬화 실패: {}", snapshot, e);
+            return null;
+        }
+    }
+
+    private static String foodKey(ReadRecentFoodResponseDto food) {
+        FoodType foodType = food.getFoodType();
+        if (foodType == FoodType.FEED || foodType == FoodType.PACKAGED_SNACK) {
+            return foodType + ":" + food.getName().trim().toLowerCase(Locale.ROOT);
+        }
+        return foodType + ":" + food.getFoodId();
+    }
+
+    private static String listKey(Long petId) {
+        return KEY_PREFIX + petId;
+    }
+
+    private static String indexKey(Long petId) {
+        return KEY_PREFIX + petId + ":index";
+    }
+
+    private static void afterCommit(Long petId, Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("최근 섭취 음식 갱신 실패 petId={}", petId, e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+}
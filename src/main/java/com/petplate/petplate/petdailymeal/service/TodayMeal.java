@@ -0,0 +1,22 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.petdailymeal.dto.response.ReadDailyMealFoodResponseDto;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 반려견의 오늘 식사 내역 스냅샷 (TodayMealService 의 Redis 해시 한 개)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class TodayMeal {
+    private final Long dailyMealId;
+    private final long revision;
+    private final double kcal;  // 오늘 섭취 총 칼로리
+    private final Nutrient nutrient;  // 오늘 섭취 총 영양소
+    private final ReadDailyMealFoodResponseDto foods;  // 오늘 섭취한 음식 목록
+    private final String ownerUsername;  // 반려견 주인 (ETag 계산 시 본인 확인)
+    private final String petProfile;  // 적정 섭취량 계산에 쓰이는 반려견 정보 (DailyMealRevision.petProfile)
+}
@@ -0,0 +1,13 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 오늘 식사 내역이 커밋된 뒤 발행 (TodayMealService -> MealStreamService)
+ */
+@Getter
+@AllArgsConstructor
+public class TodayMealChangedEvent {
+    private final Long petId;
+}
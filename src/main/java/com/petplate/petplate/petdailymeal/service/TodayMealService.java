@@ -0,0 +1,341 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.dto.response.ReadDailyMealFoodResponseDto;
+import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedFeedRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedPackagedSnackRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedRawRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyFeedRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRevision;
+import com.petplate.petplate.petdailymeal.repository.DailyPackagedSnackRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyRawRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 반려견별 오늘 식사 내역 읽기 모델.
+ * <p>
+ * today-meal:{petId}:{yyyy-MM-dd} 해시에 오늘 섭취 칼로리, 영양소 합계와 섭취 음식 목록(JSON)을 저장하므로
+ * 오늘 섭취량 조회는 HMGET 한 번이다. 반려견 주인과 반려견 정보도 함께 저장하여 ETag 계산(DailyMealEtagInterceptor)에도 쓴다.
+ * 반려견 정보가 바뀌면 PetService 에서 evict 한다.
+ * <p>
+ * 음식 기록, 삭제 시 refresh 를 호출하면 같은 트랜잭션의 커밋 직전에 DB 상태로 스냅샷을 만들고, 커밋된 뒤에 해시를 덮어쓴다.
+ * 한 트랜잭션에서 여러 번 호출해도 반려견마다 한 번만 만든다.
+ * 해시가 없으면 DB 에서 다시 만들어 조회 트랜잭션이 끝난 뒤에 저장한다(rebuild-on-miss).
+ * 커밋 직전에는 해시를 지워 커밋 이후 저장 전까지 이전 revision 을 읽지 않게 한다.
+ * 저장은 WRITE_SCRIPT 하나로 revision 비교, HSET, EXPIRE 를 함께 실행하므로
+ * 순서가 뒤바뀐 저장이 더 새로운 revision 을 덮어쓰거나, TTL 없는 해시가 남지 않는다.
+ * 커밋 이후 저장한 뒤에는 TodayMealChangedEvent 를 발행한다.
+ * 자연식 이름 변경은 TTL 이 지나면 DB 에서 다시 읽어 반영한다.
+ * <p>
+ * Redis 오류는 식사 기록에 영향을 주지 않도록 로그만 남기고, 조회는 DB 로 대신한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class TodayMealService {
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String KEY_PREFIX = "today-meal:";
+    private static final String CALLER = "TodayMealService";
+    // 트랜잭션마다 스냅샷을 만들 반려견 id -> 식사 내역
+    private static final Object PENDING_RESOURCE = new Object();
+
+    private static final String DAILY_MEAL_ID = "dailyMealId";
+    private static final String REVISION = "revision";
+    private static final String KCAL = "kcal";
+    private static final String CARBON_HYDRATE = "carbonHydrate";
+    private static final String PROTEIN = "protein";
+    private static final String FAT = "fat";
+    private static final String CALCIUM = "calcium";
+    private static final String PHOSPHORUS = "phosphorus";
+    private static final String VITAMIN_A = "vitaminA";
+    private static final String VITAMIN_D = "vitaminD";
+    private static final String VITAMIN_E = "vitaminE";
+    private static final String FOODS = "foods";
+    private static final String OWNER = "owner";
+    private static final String PET_PROFILE = "petProfile";
+    private static final List<Object> FIELDS = List.of(DAILY_MEAL_ID, REVISION, KCAL,
+            CARBON_HYDRATE, PROTEIN, FAT, CALCIUM, PHOSPHORUS, VITAMIN_A, VITAMIN_D, VITAMIN_E, FOODS, OWNER, PET_PROFILE);
+
+    // KEYS[1] 해시, ARGV[1] TTL(초), ARGV[2] dailyMealId, ARGV[3] revision, ARGV[4..] 필드, 값
+    // 같은 식사 내역의 revision 이 같거나 큰 해시가 이미 있으면 저장하지 않는다
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+            "local cached = redis.call('HMGET', KEYS[1], '" + DAILY_MEAL_ID + "', '" + REVISION + "') " +
+            "if cached[1] == ARGV[2] and cached[2] and tonumber(cached[2]) >= tonumber(ARGV[3]) then return 0 end " +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 4)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisOperationTimer redisOperationTimer;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DailyMealRepository dailyMealRepository;
+    private final DailyRawRepository dailyRawRepository;
+    private final DailyFeedRepository dailyFeedRepository;
+    private final DailyPackagedSnackRepository dailyPackagedSnackRepository;
+    private final DailyBookMarkedRawRepository dailyBookMarkedRawRepository;
+    private final DailyBookMarkedFeedRepository dailyBookMarkedFeedRepository;
+    private final DailyBookMarkedPackagedSnackRepository dailyBookMarkedPackagedSnackRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 오늘 식사 내역 조회. 해시가 없으면 DB 에서 다시 만든다.
+     * 본인의 반려견인지는 호출하는 쪽에서 확인한다.
+     *
+     * @param petId
+     * @return 오늘 식사 내역이 없으면 empty
+     */
+    public Optional<TodayMeal> getToday(Long petId) {
+        Optional<TodayMeal> cached = getCached(petId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        LocalDateTime startDatetime = LocalDateTime.of(LocalDate.now(), LocalTime.of(0, 0, 0));
+        LocalDateTime endDatetime = LocalDateTime.of(LocalDate.now(), LocalTime.of(23, 59, 59));
+        Optional<DailyMeal> dailyMeal = dailyMealRepository.findByPetIdAndCreatedAtBetween(petId, startDatetime, endDatetime);
+        if (dailyMeal.isEmpty()) {
+            return Optional.empty();
+        }
+
+        TodayMeal today = snapshot(dailyMeal.get());
+        String key = key(petId, LocalDate.now());
+        afterCommit(petId, () -> write(key, today));
+        return Optional.of(today);
+    }
+
+    /**
+     * 저장된 오늘 식사 내역만 조회 (DB 를 조회하지 않음)
+     *
+     * @param petId
+     * @return 해시가 없거나 Redis 오류인 경우 empty
+     */
+    public Optional<TodayMeal> getCached(Long petId) {
+        try {
+            List<Object> values = redisOperationTimer.record(CALLER, "hmget",
+                    () -> stringRedisTemplate.opsForHash().multiGet(key(petId, LocalDate.now()), FIELDS));
+            return Optional.ofNullable(read(values));
+        } catch (RuntimeException e) {
+            log.warn("오늘 식사 내역 조회 실패 petId={}", petId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 오늘 식사 내역이 바뀐 경우 호출. 트랜잭션 내에서 호출되면 커밋 직전에 스냅샷을 만들고 커밋 이후에 저장한다.
+     * 지난 날짜의 식사 내역은 무시한다.
+     *
+     * @param dailyMeal 칼로리, 영양소를 반영한 식사 내역
+     */
+    public void refresh(DailyMeal dailyMeal) {
+        if (dailyMeal.getCreatedAt() == null || !dailyMeal.getCreatedAt().toLocalDate().equals(LocalDate.now())) {
+            return;
+        }
+
+        Long petId = dailyMeal.getPet().getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safely(petId, () -> write(key(petId, dailyMeal.getCreatedAt().toLocalDate()), snapshot(dailyMeal)));
+            eventPublisher.publishEvent(new TodayMealChangedEvent(petId));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, DailyMeal> pending = (Map<Long, DailyMeal>) TransactionSynchronizationManager.getResource(PENDING_RESOURCE);
+        if (pending == null) {
+            pending = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(PENDING_RESOURCE, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingSnapshots(pending));
+        }
+        pending.put(petId, dailyMeal);
+    }
+
+    public void evict(Long petId) {
+        String key = key(petId, LocalDate.now());
+        afterCommit(petId, () -> redisOperationTimer.run(CALLER, "delete", () -> stringRedisTemplate.delete(key)));
+    }
+
+    private TodayMeal snapshot(DailyMeal dailyMeal) {
+        Long dailyMealId = dailyMeal.getId();
+        ReadDailyMealFoodResponseDto foods = ReadDailyMealFoodResponseDto.of(dailyMeal,
+                dailyRawRepository.findByDailyMealId(dailyMealId),
+                dailyFeedRepository.findByDailyMealId(dailyMealId),
+                dailyPackagedSnackRepository.findByDailyMealId(dailyMealId),
+                dailyBookMarkedRawRepository.findByDailyMealId(dailyMealId),
+                dailyBookMarkedFeedRepository.findByDailyMealId(dailyMealId),
+                dailyBookMarkedPackagedSnackRepository.findByDailyMealId(dailyMealId));
+
+        Pet pet = dailyMeal.getPet();
+        return new TodayMeal(dailyMealId, dailyMeal.getRevision(), dailyMeal.getKcal(), dailyMeal.getNutrient(), foods,
+                pet.getOwner().getUsername(),
+                DailyMealRevision.petProfile(pet.getWeight(), pet.getAge(), pet.getActivity(), pet.getNeutering()));
+    }
+
+    /**
+     * 해시 저장 (compare-and-set). 저장된 revision 이 같거나 크면 저장하지 않는다.
+     *
+     * @return 저장했으면 true
+     */
+    boolean write(String key, TodayMeal today) {
+        Map<String, String> fields = fields(today);
+        List<String> args = new ArrayList<>(3 + fields.size() * 2);
+        args.add(Long.toString(TTL.toSeconds()));
+        args.add(today.getDailyMealId().toString());
+        args.add(Long.toString(today.getRevision()));
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        Long written = redisOperationTimer.record(CALLER, "write",
+                () -> stringRedisTemplate.execute(WRITE_SCRIPT, List.of(key), args.toArray()));
+        return written != null && written == 1;
+    }
+
+    private Map<String, String> fields(TodayMeal today) {
+        Nutrient nutrient = today.getNutrient();
+        Map<String, String> fields = new HashMap<>();
+        fields.put(DAILY_MEAL_ID, today.getDailyMealId().toString());
+        fields.put(REVISION, Long.toString(today.getRevision()));
+        fields.put(KCAL, Double.toString(today.getKcal()));
+        fields.put(CARBON_HYDRATE, Double.toString(nutrient.getCarbonHydrate()));
+        fields.put(PROTEIN, Double.toString(nutrient.getProtein()));
+        fields.put(FAT, Double.toString(nutrient.getFat()));
+        fields.put(CALCIUM, Double.toString(nutrient.getCalcium()));
+        fields.put(PHOSPHORUS, Double.toString(nutrient.getPhosphorus()));
+        fields.put(VITAMIN_A, Double.toString(nutrient.getVitamin().getVitaminA()));
+        fields.put(VITAMIN_D, Double.toString(nutrient.getVitamin().getVitaminD()));
+        fields.put(VITAMIN_E, Double.toString(nutrient.getVitamin().getVitaminE()));
+        try {
+            fields.put(FOODS, objectMapper.writeValueAsString(today.getFoods()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("오늘 섭취 음식 직렬화 실패", e);
+        }
+        fields.put(OWNER, today.getOwnerUsername());
+        fields.put(PET_PROFILE, today.getPetProfile());
+        return fields;
+    }
+
+    // 필드가 하나라도 없으면 (다시 만드는 중이거나 없는 해시) null
+    private TodayMeal read(List<Object> values) {
+        if (values == null || values.size() != FIELDS.size() || values.contains(null)) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>(values.size());
+        values.forEach(value -> fields.add((String) value));
+
+        Nutrient nutrient = Nutrient.builder()
+                .carbonHydrate(Double.parseDouble(fields.get(3)))
+                .protein(Double.parseDouble(fields.get(4)))
+                .fat(Double.parseDouble(fields.get(5)))
+                .calcium(Double.parseDouble(fields.get(6)))
+                .phosphorus(Double.parseDouble(fields.get(7)))
+                .vitamin(Vitamin.builder()
+                        .vitaminA(Double.parseDouble(fields.get(8)))
+                        .vitaminD(Double.parseDouble(fields.get(9)))
+                        .vitaminE(Double.parseDouble(fields.get(10)))
+                        .build())
+                .build();
+
+        try {
+            ReadDailyMealFoodResponseDto foods = objectMapper.readValue(fields.get(11), ReadDailyMealFoodResponseDto.class);
+            return new TodayMeal(Long.valueOf(fields.get(0)), Long.parseLong(fields.get(1)),
+                    Double.parseDouble(fields.get(2)), nutrient, foods, fields.get(12), fields.get(13));
+        } catch (JsonProcessingException e) {
+            log.warn("오늘 섭취 음식 역직렬화 실패: {}", fields.get(11), e);
+            return null;
+        }
+    }
+
+    static String key(Long petId, LocalDate date) {
+        return KEY_PREFIX + petId + ":" + date;
+    }
+
+    private static void safely(Long petId, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("오늘 식사 내역 갱신 실패 petId={}", petId, e);
+        }
+    }
+
+    // 커밋되지 않은 내용이 저장되지 않도록 조회 트랜잭션도 커밋된 뒤에 저장한다
+    private static void afterCommit(Long petId, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safely(petId, action);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safely(petId, action);
+            }
+        });
+    }
+
+    /**
+     * 커밋 직전에 반려견마다 스냅샷을 만들고, 커밋된 뒤에 저장한다.
+     */
+    private class PendingSnapshots implements TransactionSynchronization {
+        private final Map<Long, DailyMeal> pending;
+        private final Map<Long, Map.Entry<String, TodayMeal>> snapshots = new LinkedHashMap<>();  // 반려견 id -> 키, 스냅샷
+
+        private PendingSnapshots(Map<Long, DailyMeal> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // revision(@Version)은 UPDATE 할 때 증가하므로 먼저 flush 한다 (동시 수정이면 여기서 실패하고 롤백)
+            entityManager.flush();
+            pending.forEach((petId, dailyMeal) -> safely(petId, () ->
+                    snapshots.put(petId, Map.entry(key(petId, dailyMeal.getCreatedAt().toLocalDate()), snapshot(dailyMeal)))));
+            // 커밋부터 저장까지, 또는 저장에 실패한 경우 이전 revision 으로 ETag 를 계산하지 않도록 먼저 지운다
+            snapshots.forEach((petId, snapshot) -> safely(petId, () ->
+                    redisOperationTimer.run(CALLER, "delete", () -> stringRedisTemplate.delete(snapshot.getKey()))));
+        }
+
+        @Override
+        public void afterCommit() {
+            snapshots.forEach((petId, snapshot) -> {
+                safely(petId, () -> write(snapshot.getKey(), snapshot.getValue()));
+                eventPublisher.publishEvent(new TodayMealChangedEvent(petId));
+            });
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_RESOURCE);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.petplate.petplate.petfood.controller;
 
+import com.petplate.petplate.auth.interfaces.CurrentUserPK;
 import com.petplate.petplate.auth.interfaces.CurrentUserUsername;
 import com.petplate.petplate.common.response.BaseResponse;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyBookMarkedFeedRequestDto;
@@ -39,8 +40,11 @@ public class BookMarkedFeedController {
             @ApiResponse(responseCode = NOT_FOUND, description = "해당 username을 가지는 유저가 존재하지 않는 경우")
     })
     @PostMapping("/bookmark/feeds")
-    public ResponseEntity<BaseResponse<Long>> createBookMarkedFeed(@CurrentUserUsername String username, @Valid @RequestBody CreateBookMarkedFeedRequestDto requestDto) {
-        Long bookMarkedFeedId = bookMarkedFeedService.createBookMarkedFeed(username, requestDto);
+    public ResponseEntity<BaseResponse<Long>> createBookMarkedFeed(@CurrentUserPK Long userId, @CurrentUserUsername String username, @Valid @RequestBody CreateBookMarkedFeedRequestDto requestDto) {
+        // uid 클레임이 없는 이전 토큰은 username 으로 유저를 조회한다
+        Long bookMarkedFeedId = userId != null
+                ? bookMarkedFeedService.createBookMarkedFeed(userId, requestDto)
+                : bookMarkedFeedService.createBookMarkedFeed(username, requestDto);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(BaseResponse.createSuccess(bookMarkedFeedId));
@@ -1,5 +1,6 @@
 package com.petplate.petplate.petfood.controller;
 
+import com.petplate.petplate.auth.interfaces.CurrentUserPK;
 import com.petplate.petplate.auth.interfaces.CurrentUserUsername;
 import com.petplate.petplate.common.response.BaseResponse;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyBookMarkedPackagedSnackRequestDto;
@@ -39,8 +40,11 @@ public class BookMarkedPackagedSnackController {
             @ApiResponse(responseCode = NOT_FOUND, description = "해당 username을 가지는 유저가 존재하지 않는 경우")
     })
     @PostMapping("/bookmark/PackagedSnacks")
-    public ResponseEntity<BaseResponse<Long>> createBookMarkedPackagedSnack(@CurrentUserUsername String username, @Valid @RequestBody CreateBookMarkedPackagedSnackRequestDto requestDto) {
-        Long bookMarkedPackagedSnackId = bookMarkedPackagedSnackService.createBookMarkedPackagedSnack(username, requestDto);
+    public ResponseEntity<BaseResponse<Long>> createBookMarkedPackagedSnack(@CurrentUserPK Long userId, @CurrentUserUsername String username, @Valid @RequestBody CreateBookMarkedPackagedSnackRequestDto requestDto) {
+        // uid 클레임이 없는 이전 토큰은 username 으로 유저를 조회한다
+        Long bookMarkedPackagedSnackId = userId != null
+                ? bookMarkedPackagedSnackService.createBookMarkedPackagedSnack(userId, requestDto)
+                : bookMarkedPackagedSnackService.createBookMarkedPackagedSnack(username, requestDto);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(BaseResponse.createSuccess(bookMarkedPackagedSnackId));
@@ -1,8 +1,10 @@
 package com.petplate.petplate.petfood.controller;
 
+import com.petplate.petplate.auth.interfaces.CurrentUserPK;
 import com.petplate.petplate.auth.interfaces.CurrentUserUsername;
 import com.petplate.petplate.common.response.BaseResponse;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyBookMarkedRawRequestDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadCreatedDailyRawResponseDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyBookMarkedRawResponseDto;
 import com.petplate.petplate.petdailymeal.service.DailyBookMarkedRawService;
 import com.petplate.petplate.petfood.dto.request.CreateBookMarkedRawRequestDto;
@@ -44,8 +46,11 @@ public class BookMarkedRawController {
             @ApiResponse(responseCode = NOT_FOUND, description = "해당 username을 가지는 유저가 존재하지 않는 경우, 존재하지 않는 rawId")
     })
     @PostMapping("/bookmark/raws")
-    public ResponseEntity<BaseResponse<Long>> createBookMarkedRaws(@CurrentUserUsername String username, @RequestBody @Valid CreateBookMarkedRawRequestDto requestDto) {
-        Long bookMarkedRawId = bookMarkedRawService.createBookMarkedRaw(username, requestDto);
+    public ResponseEntity<BaseResponse<Long>> createBookMarkedRaws(@CurrentUserPK Long userId, @CurrentUserUsername String username, @RequestBody @Valid CreateBookMarkedRawRequestDto requestDto) {
+        // uid 클레임이 없는 이전 토큰은 username 으로 유저를 조회한다
+        Long bookMarkedRawId = userId != null
+                ? bookMarkedRawService.createBookMarkedRaw(userId, requestDto)
+                : bookMarkedRawService.createBookMarkedRaw(username, requestDto);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(BaseResponse.createSuccess(bookMarkedRawId));
@@ -93,16 +98,16 @@ public class BookMarkedRawController {
 
     @Operation(summary = "오늘 식사내역에 섭취한 즐겨찾기 자연식 저장", description = "오늘 식사 내역에 즐겨찾기한 자연식을 추가합니다")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = CREATED, description = "즐겨찾기 자연식 하루식사에 성공적 저장"),
+            @ApiResponse(responseCode = CREATED, description = "즐겨찾기 자연식 하루식사에 성공적 저장 (금지된 자연식이면 prohibited=true)"),
             @ApiResponse(responseCode = BAD_REQUEST, description = "조회하려는 반려견이 본인의 반려견이 아닌 경우"),
             @ApiResponse(responseCode = NOT_FOUND, description = "존재하지 않는 petId, 존재하지 않는 bookMarkedRawId"),
     })
     @PostMapping("/pet/{petId}/bookmark/raws")
-    public ResponseEntity<BaseResponse<Long>> createDailyBookMarkRaw(@CurrentUserUsername String username, @PathVariable("petId") Long petId, @RequestBody @Valid CreateDailyBookMarkedRawRequestDto requestDto) {
-        Long id = dailyBookMarkedRawService.createDailyBookMarkedRaw(username, petId, requestDto);
+    public ResponseEntity<BaseResponse<ReadCreatedDailyRawResponseDto>> createDailyBookMarkRaw(@CurrentUserUsername String username, @PathVariable("petId") Long petId, @RequestBody @Valid CreateDailyBookMarkedRawRequestDto requestDto) {
+        ReadCreatedDailyRawResponseDto dailyBookMarkedRaw = dailyBookMarkedRawService.createDailyBookMarkedRaw(username, petId, requestDto);
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(BaseResponse.createSuccess(id));
+                .body(BaseResponse.createSuccess(dailyBookMarkedRaw));
     }
 
     @Operation(summary = "식사내역에서 섭취한 즐겨찾기 자연식 제거", description = "식사내역에서 즐겨찾기 자연식의 섭취 내역을 제거합니다")
@@ -0,0 +1,48 @@
+package com.petplate.petplate.petfood.controller;
+
+import com.petplate.petplate.auth.interfaces.CurrentUserUsername;
+import com.petplate.petplate.common.response.BaseResponse;
+import com.petplate.petplate.petfood.dto.response.ReadFoodRecommendResponseDto;
+import com.petplate.petplate.petfood.service.FoodRecommendService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "음식 추천 컨트롤러", description = "반려견의 오늘 부족한 영양소를 채우기 위한 음식 추천 컨트롤러 입니다")
+public class FoodRecommendController {
+    private final FoodRecommendService foodRecommendService;
+
+    private static final String OK = "200";
+    private static final String BAD_REQUEST = "400";
+    private static final String NOT_FOUND = "404";
+
+    @Operation(summary = "오늘 부족한 영양소를 채우는 음식 조합 추천",
+            description = "자연식 전체와 즐겨찾기 중에서 최대 허용 섭취량을 넘지 않으면서 부족한 영양소를 가장 많이 채우는 음식들을 추천합니다 (최대 5개)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = OK, description = "추천 음식 성공적 조회"),
+            @ApiResponse(responseCode = BAD_REQUEST, description = "유저의 반려견이 아님"),
+            @ApiResponse(responseCode = NOT_FOUND, description = "존재하지 않은 반려견")
+    })
+    @GetMapping("/pets/{petId}/foods/recommend")
+    public ResponseEntity<BaseResponse<List<ReadFoodRecommendResponseDto>>> recommendFoods(@CurrentUserUsername String username, @PathVariable("petId") Long petId,
+                                                                                          @RequestParam(value = "maxItems", defaultValue = "3") int maxItems) {
+        List<ReadFoodRecommendResponseDto> responses = foodRecommendService.recommendFoods(username, petId, maxItems);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(BaseResponse.createSuccess(responses));
+    }
+}
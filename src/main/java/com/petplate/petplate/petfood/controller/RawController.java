@@ -3,12 +3,14 @@ package com.petplate.petplate.petfood.controller;
 import com.petplate.petplate.auth.interfaces.CurrentUserUsername;
 import com.petplate.petplate.common.response.BaseResponse;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyRawRequestDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadCreatedDailyRawResponseDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyRawResponseDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyRawWithRawIdResponseDto;
 import com.petplate.petplate.petdailymeal.service.DailyMealService;
 import com.petplate.petplate.petdailymeal.service.DailyRawService;
 import com.petplate.petplate.petfood.dto.request.CreateRawRequestDto;
 import com.petplate.petplate.petfood.dto.response.ReadRawResponseDto;
+import com.petplate.petplate.petfood.dto.response.ReadRawSuggestionResponseDto;
 import com.petplate.petplate.petfood.service.RawService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -62,17 +64,32 @@ import java.util.List;
                 .body(BaseResponse.createSuccess(response));
     }
 
-    @Operation(summary = "keyword가 포함된 자연식 조회")
+    @Operation(summary = "keyword가 포함된 자연식 조회", description = "petId를 함께 전달하면 해당 반려견의 알러지, 질병으로 금지된 자연식은 제외됩니다")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = OK, description = "자연식 성공적 조회")
+            @ApiResponse(responseCode = OK, description = "자연식 성공적 조회"),
+            @ApiResponse(responseCode = BAD_REQUEST, description = "유저의 반려견이 아님"),
+            @ApiResponse(responseCode = NOT_FOUND, description = "존재하지 않은 반려견")
     })
     @GetMapping("/raws")
-    public ResponseEntity<BaseResponse<List<ReadRawResponseDto>>> readRawByKeyword(@RequestParam("keyword") String keyword) {
-        List<ReadRawResponseDto> responses = rawService.getRawByKeyword(keyword);
+    public ResponseEntity<BaseResponse<List<ReadRawResponseDto>>> readRawByKeyword(@CurrentUserUsername String username, @RequestParam("keyword") String keyword,
+                                                                                   @RequestParam(value = "petId", required = false) Long petId) {
+        List<ReadRawResponseDto> responses = (petId == null)
+                ? rawService.getRawByKeyword(keyword)
+                : rawService.getSafeRawByKeyword(username, petId, keyword);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(BaseResponse.createSuccess(responses));
+    }
+
+    @Operation(summary = "자연식 자동완성", description = "keyword가 포함된 자연식 이름을 인기 순으로 최대 size개(기본 10개, 최대 50개) 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = OK, description = "자동완성 성공적 조회")
+    })
+    @GetMapping("/raws/autocomplete")
+    public ResponseEntity<BaseResponse<List<ReadRawSuggestionResponseDto>>> readRawSuggestions(@RequestParam("keyword") String keyword,
+                                                                                             @RequestParam(value = "size", defaultValue = "10") int size) {
+        List<ReadRawSuggestionResponseDto> responses = rawService.getRawSuggestions(keyword, Math.min(size, 50));
 
-        for (ReadRawResponseDto response : responses) {
-            System.out.println("response.getName() = " + response.getName());
-        }
         return ResponseEntity.status(HttpStatus.OK)
                 .body(BaseResponse.createSuccess(responses));
     }
@@ -92,23 +109,24 @@ import java.util.List;
 
     @Operation(summary = "오늘 식사내역에 자연식을 저장")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = CREATED, description = "섭취 자연식 성공적 저장"),
+            @ApiResponse(responseCode = CREATED, description = "섭취 자연식 성공적 저장 (금지된 자연식이면 prohibited=true)"),
             @ApiResponse(responseCode = NOT_FOUND, description = "자연식 ID(rawId)가 제대로 입력되지 않음")
     })
     @PostMapping("/pets/{petId}/raws")
-    public ResponseEntity<BaseResponse<Long>> createDailyRaw(@CurrentUserUsername String username, @PathVariable("petId") Long petId, @Valid @RequestBody CreateDailyRawRequestDto requestDto) {
-        Long dailyRawId = dailyRawService.createDailyRaw(username, petId, requestDto);
+    public ResponseEntity<BaseResponse<ReadCreatedDailyRawResponseDto>> createDailyRaw(@CurrentUserUsername String username, @PathVariable("petId") Long petId, @Valid @RequestBody CreateDailyRawRequestDto requestDto) {
+        ReadCreatedDailyRawResponseDto dailyRaw = dailyRawService.createDailyRaw(username, petId, requestDto);
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(BaseResponse.createSuccess(dailyRawId));
+                .body(BaseResponse.createSuccess(dailyRaw));
     }
 
-    @Operation(summary = "가장 최근 두번의 식사에서 섭취한 자연식들 조회")
+    @Operation(summary = "가장 최근 두번의 식사에서 섭취한 자연식들 조회", description = "GET /pets/{petId}/foods/recent 를 사용하세요", deprecated = true)
     @ApiResponses(value = {
             @ApiResponse(responseCode = OK, description = "섭취 자연식 성공적 조회"),
             @ApiResponse(responseCode = BAD_REQUEST, description = "유저의 반려견이 아님"),
             @ApiResponse(responseCode = NOT_FOUND, description = "존재하지 않은 반려견")
     })
+    @Deprecated
     @GetMapping("/pets/{petId}/raws/recent")
     public ResponseEntity<BaseResponse<List<ReadDailyRawWithRawIdResponseDto>>> getRecentDailyRaws(@CurrentUserUsername String username, @PathVariable("petId") Long petId) {
         int days = 2;
@@ -0,0 +1,19 @@
+package com.petplate.petplate.petfood.domain;
+
+import lombok.Getter;
+
+public enum FoodType {
+    RAW("자연식"),
+    FEED("사료"),
+    PACKAGED_SNACK("포장 간식"),
+    BOOK_MARKED_RAW("즐겨찾기 자연식"),
+    BOOK_MARKED_FEED("즐겨찾기 사료"),
+    BOOK_MARKED_PACKAGED_SNACK("즐겨찾기 포장 간식");
+
+    @Getter
+    private String description;
+
+    FoodType(String description) {
+        this.description = description;
+    }
+}
@@ -10,20 +10,25 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_book_marked_feed_user_id_name_serving", columnList = "user_id, name, serving"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class BookMarkedFeed extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_marked_feed_seq")
+    @SequenceGenerator(name = "book_marked_feed_seq", sequenceName = "book_marked_feed_seq", allocationSize = 50)
     @Column(name = "book_marked_feed_id")
     private Long id;
 
@@ -11,21 +11,26 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_book_marked_raw_user_id_raw_id_serving", columnList = "user_id, raw_id, serving"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class BookMarkedRaw extends BaseEntity{
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_marked_raw_seq")
+    @SequenceGenerator(name = "book_marked_raw_seq", sequenceName = "book_marked_raw_seq", allocationSize = 50)
     @Column(name = "book_marked_raw_id")
     private Long id;
 
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.*;
 
 @Entity
@@ -17,7 +18,8 @@ import lombok.*;
 public class Raw extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "raw_seq")
+    @SequenceGenerator(name = "raw_seq", sequenceName = "raw_seq", allocationSize = 50)
     @Column(name = "raw_id")
     private Long id;
 
@@ -0,0 +1,29 @@
+package com.petplate.petplate.petfood.dto.response;
+
+import com.petplate.petplate.petfood.domain.FoodType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadFoodRecommendResponseDto {
+    private FoodType foodType;  // 음식 종류
+    private Long foodId;  // 음식 종류에 따른 rawId 혹은 즐겨찾기 id
+    private String name;
+    private double serving;  // 추천 섭취량 (g)
+    private double kcal;
+
+    public static ReadFoodRecommendResponseDto of(FoodType foodType, Long foodId, String name, double serving, double kcal) {
+        ReadFoodRecommendResponseDto response = new ReadFoodRecommendResponseDto();
+        response.foodType = foodType;
+        response.foodId = foodId;
+        response.name = name;
+        response.serving = serving;
+        response.kcal = kcal;
+
+        return response;
+    }
+}
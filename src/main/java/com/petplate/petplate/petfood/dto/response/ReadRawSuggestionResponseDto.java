@@ -0,0 +1,18 @@
+package com.petplate.petplate.petfood.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadRawSuggestionResponseDto {
+    private Long rawId;
+    private String name;
+
+    public static ReadRawSuggestionResponseDto of(Long rawId, String name) {
+        return new ReadRawSuggestionResponseDto(rawId, name);
+    }
+}
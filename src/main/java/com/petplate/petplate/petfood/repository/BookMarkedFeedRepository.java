@@ -15,4 +15,5 @@ public interface BookMarkedFeedRepository extends JpaRepository<BookMarkedFeed,
 
     boolean existsByUserUsernameAndId(String username, Long bookMarkedFeedId);
     boolean existsByUserUsernameAndNameAndServing(String username, String name, double serving);
+    boolean existsByUserIdAndNameAndServing(Long userId, String name, double serving);
 }
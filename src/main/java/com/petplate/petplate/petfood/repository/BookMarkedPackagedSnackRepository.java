@@ -12,4 +12,5 @@ public interface BookMarkedPackagedSnackRepository extends JpaRepository<BookMar
     List<BookMarkedPackagedSnack> findByUserUsername(String username);
     Optional<BookMarkedPackagedSnack> findByUserUsernameAndId(String username, Long bookMarkedPackagedSnackId);
     boolean existsByUserUsernameAndNameAndServing(String username, String name, double serving);
+    boolean existsByUserIdAndNameAndServing(Long userId, String name, double serving);
 }
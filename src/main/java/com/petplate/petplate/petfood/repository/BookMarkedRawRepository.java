@@ -1,10 +1,12 @@
 package com.petplate.petplate.petfood.repository;
 
 import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,6 +17,13 @@ public interface BookMarkedRawRepository extends JpaRepository<BookMarkedRaw, Lo
     List<BookMarkedRaw> findByUserId(Long userId);
     List<BookMarkedRaw> findByUserUsername(String username);
     List<BookMarkedRaw> findByRawId(Long rawId);
+
+    @Query("select b.id from BookMarkedRaw b where b.raw.id = :rawId")
+    List<Long> findIdsByRawId(@Param("rawId") Long rawId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update BookMarkedRaw b set b.raw = null, b.name = :name where b.id in :ids")
+    int detachRaw(@Param("ids") List<Long> ids, @Param("name") String name);
     Optional<BookMarkedRaw> findByUserIdAndRawId(Long userId, Long rawId);
     Optional<BookMarkedRaw> findByUserIdAndRawIdAndServing(Long userId, Long rawId, double serving);
 }
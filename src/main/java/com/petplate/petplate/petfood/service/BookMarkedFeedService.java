@@ -7,7 +7,6 @@ import com.petplate.petplate.common.response.error.exception.BadRequestException
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyBookMarkedFeedResponseDto;
-import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedFeedRepository;
 import com.petplate.petplate.petfood.domain.entity.BookMarkedFeed;
 import com.petplate.petplate.petfood.dto.request.CreateBookMarkedFeedRequestDto;
 import com.petplate.petplate.petfood.dto.response.ReadBookMarkedFeedResponseDto;
@@ -15,8 +14,10 @@ import com.petplate.petplate.petfood.repository.BookMarkedFeedRepository;
 import com.petplate.petplate.user.domain.entity.User;
 import com.petplate.petplate.user.repository.UserRepository;
 import com.petplate.petplate.user.service.UserService;
+import com.petplate.petplate.utils.UserUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -28,7 +29,7 @@ import java.util.List;
 public class BookMarkedFeedService {
     private final BookMarkedFeedRepository bookMarkedFeedRepository;
     private final UserRepository userRepository;
-    private final DailyBookMarkedFeedRepository dailyBookMarkedFeedRepository;
+    private final FoodReferenceDetachService foodReferenceDetachService;
 
     // 1 IU retinol = 0.3 mcg RAE
     static final double vitaminAIuRetinolPerGram = 3333333.3333333335; // == 10E6 / 0.3
@@ -46,8 +47,18 @@ public class BookMarkedFeedService {
                 new NotFoundException(ErrorCode.USER_NOT_FOUND)
         );
 
+        return createBookMarkedFeed(user, requestDto);
+    }
+
+    // 토큰의 유저 PK로 유저 조회 없이 등록
+    @Transactional
+    public Long createBookMarkedFeed(Long userId, CreateBookMarkedFeedRequestDto requestDto) {
+        return createBookMarkedFeed(UserUtil.getActiveUserReference(userId, userRepository), requestDto);
+    }
+
+    private Long createBookMarkedFeed(User user, CreateBookMarkedFeedRequestDto requestDto) {
         // 중복되는 이름과 섭취량의 즐겨찾기 사료 존재시 예외 발생
-        if (bookMarkedFeedRepository.existsByUserUsernameAndNameAndServing(username, requestDto.getName(), requestDto.getServing())) {
+        if (bookMarkedFeedRepository.existsByUserIdAndNameAndServing(user.getId(), requestDto.getName(), requestDto.getServing())) {
             throw new BadRequestException(ErrorCode.BOOK_MARK_ALREADY_EXISTS);
         }
 
@@ -101,7 +112,8 @@ public class BookMarkedFeedService {
         return ReadBookMarkedFeedResponseDto.from(bookMarkedFeed);
     }
 
-    @Transactional
+    // 연관관계 제거는 청크마다 커밋하고 삭제는 마지막 트랜잭션에서 하므로 트랜잭션을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteBookMarkedFeed(String username, Long bookMarkedFeedId) {
         if (!bookMarkedFeedRepository.existsById(bookMarkedFeedId)) {
             throw new NotFoundException(ErrorCode.BOOK_MARK_NOT_FOUND);
@@ -110,12 +122,8 @@ public class BookMarkedFeedService {
         BookMarkedFeed bookMarkedFeed = bookMarkedFeedRepository.findByUserUsernameAndId(username, bookMarkedFeedId).orElseThrow(() ->
                 new BadRequestException(ErrorCode.NOT_USER_BOOK_MARK));
 
-        // 연관관계 제거
-        dailyBookMarkedFeedRepository.findByBookMarkedFeedId(bookMarkedFeed.getId())
-                .forEach(dailyBookMarkedFeed ->
-                        dailyBookMarkedFeed.updateBookMarkedFeed(null));
-
-        bookMarkedFeedRepository.delete(bookMarkedFeed);
+        // 연관관계 제거 후 삭제
+        foodReferenceDetachService.deleteBookMarkedFeed(bookMarkedFeed.getId(), () -> bookMarkedFeedRepository.deleteById(bookMarkedFeed.getId()));
     }
 
 
@@ -5,15 +5,16 @@ import com.petplate.petplate.common.EmbeddedType.Vitamin;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
-import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedPackagedSnackRepository;
 import com.petplate.petplate.petfood.domain.entity.BookMarkedPackagedSnack;
 import com.petplate.petplate.petfood.dto.request.CreateBookMarkedPackagedSnackRequestDto;
 import com.petplate.petplate.petfood.dto.response.ReadBookMarkedPackagedSnackResponseDto;
 import com.petplate.petplate.petfood.repository.BookMarkedPackagedSnackRepository;
 import com.petplate.petplate.user.domain.entity.User;
 import com.petplate.petplate.user.repository.UserRepository;
+import com.petplate.petplate.utils.UserUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -25,7 +26,7 @@ import java.util.List;
 public class BookMarkedPackagedSnackService {
     private final BookMarkedPackagedSnackRepository bookMarkedPackagedSnackRepository;
     private final UserRepository userRepository;
-    private final DailyBookMarkedPackagedSnackRepository dailyBookMarkedPackagedSnackRepository;
+    private final FoodReferenceDetachService foodReferenceDetachService;
 
     // 1 IU retinol = 0.3 mcg RAE
     static final double vitaminAIuRetinolPerGram = 3333333.3333333335; // == 10E6 / 0.3
@@ -43,8 +44,18 @@ public class BookMarkedPackagedSnackService {
                 new NotFoundException(ErrorCode.USER_NOT_FOUND)
         );
 
+        return createBookMarkedPackagedSnack(user, requestDto);
+    }
+
+    // 토큰의 유저 PK로 유저 조회 없이 등록
+    @Transactional
+    public Long createBookMarkedPackagedSnack(Long userId, CreateBookMarkedPackagedSnackRequestDto requestDto) {
+        return createBookMarkedPackagedSnack(UserUtil.getActiveUserReference(userId, userRepository), requestDto);
+    }
+
+    private Long createBookMarkedPackagedSnack(User user, CreateBookMarkedPackagedSnackRequestDto requestDto) {
         // 중복되는 이름과 섭취량의 즐겨찾기 사료 존재시 예외 발생
-        if (bookMarkedPackagedSnackRepository.existsByUserUsernameAndNameAndServing(username, requestDto.getName(), requestDto.getServing())) {
+        if (bookMarkedPackagedSnackRepository.existsByUserIdAndNameAndServing(user.getId(), requestDto.getName(), requestDto.getServing())) {
             throw new BadRequestException(ErrorCode.BOOK_MARK_ALREADY_EXISTS);
         }
 
@@ -98,7 +109,8 @@ public class BookMarkedPackagedSnackService {
         return ReadBookMarkedPackagedSnackResponseDto.from(bookMarkedPackagedSnack);
     }
 
-    @Transactional
+    // 연관관계 제거는 청크마다 커밋하고 삭제는 마지막 트랜잭션에서 하므로 트랜잭션을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteBookMarkedPackagedSnack(String username, Long bookMarkedPackagedSnackId) {
         if (!bookMarkedPackagedSnackRepository.existsById(bookMarkedPackagedSnackId)) {
             throw new NotFoundException(ErrorCode.BOOK_MARK_NOT_FOUND);
@@ -107,11 +119,8 @@ public class BookMarkedPackagedSnackService {
         BookMarkedPackagedSnack bookMarkedPackagedSnack = bookMarkedPackagedSnackRepository.findByUserUsernameAndId(username, bookMarkedPackagedSnackId).orElseThrow(() ->
                 new BadRequestException(ErrorCode.NOT_USER_BOOK_MARK));
 
-        // 연관관계 제거
-        dailyBookMarkedPackagedSnackRepository.findByBookMarkedPackagedSnackId(bookMarkedPackagedSnack.getId())
-                .forEach(dailyBookMarkedPackagedSnack ->
-                        dailyBookMarkedPackagedSnack.updateBookMarkedPackagedSnack(null));
-
-        bookMarkedPackagedSnackRepository.delete(bookMarkedPackagedSnack);
+        // 연관관계 제거 후 삭제
+        foodReferenceDetachService.deleteBookMarkedPackagedSnack(bookMarkedPackagedSnack.getId(),
+                () -> bookMarkedPackagedSnackRepository.deleteById(bookMarkedPackagedSnack.getId()));
     }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.InternalServerErrorException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
-import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedRawRepository;
 import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
 import com.petplate.petplate.petfood.domain.entity.Raw;
 import com.petplate.petplate.petfood.dto.request.CreateBookMarkedRawRequestDto;
@@ -13,8 +12,10 @@ import com.petplate.petplate.petfood.repository.BookMarkedRawRepository;
 import com.petplate.petplate.petfood.repository.RawRepository;
 import com.petplate.petplate.user.domain.entity.User;
 import com.petplate.petplate.user.repository.UserRepository;
+import com.petplate.petplate.utils.UserUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -28,7 +29,8 @@ public class BookMarkedRawService {
     private final UserRepository userRepository;
     private final RawRepository rawRepository;
     private final BookMarkedRawRepository bookMarkedRawRepository;
-    private final DailyBookMarkedRawRepository dailyBookMarkedRawRepository;
+    private final FoodReferenceDetachService foodReferenceDetachService;
+    private final RawPopularityTracker rawPopularityTracker;
 
     @Transactional
     public Long createBookMarkedRaw(String username, CreateBookMarkedRawRequestDto requestDto) {
@@ -36,6 +38,16 @@ public class BookMarkedRawService {
                 new NotFoundException(ErrorCode.USER_NOT_FOUND)
         );
 
+        return createBookMarkedRaw(user, requestDto);
+    }
+
+    // 토큰의 유저 PK로 유저 조회 없이 등록
+    @Transactional
+    public Long createBookMarkedRaw(Long userId, CreateBookMarkedRawRequestDto requestDto) {
+        return createBookMarkedRaw(UserUtil.getActiveUserReference(userId, userRepository), requestDto);
+    }
+
+    private Long createBookMarkedRaw(User user, CreateBookMarkedRawRequestDto requestDto) {
         Raw raw = rawRepository.findById(requestDto.getRawId()).orElseThrow(
                 () -> new NotFoundException(ErrorCode.RAW_NOT_FOUND));
 
@@ -50,6 +62,7 @@ public class BookMarkedRawService {
                 .build();
 
         bookMarkedRawRepository.save(bookMarkedRaw);
+        rawPopularityTracker.record(raw.getId());
 
         return bookMarkedRaw.getId();
     }
@@ -74,7 +87,8 @@ public class BookMarkedRawService {
         return ReadBookMarkedRawResponseDto.from(bookMarkedRaw);
     }
 
-    @Transactional
+    // 연관관계 제거는 청크마다 커밋하고 삭제는 마지막 트랜잭션에서 하므로 트랜잭션을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteBookMarkedRaw(String username, Long bookMarkedRawId) {
         BookMarkedRaw bookMarkedRaw = bookMarkedRawRepository.findById(bookMarkedRawId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.BOOK_MARK_NOT_FOUND));
@@ -83,11 +97,8 @@ public class BookMarkedRawService {
             throw new BadRequestException(ErrorCode.NOT_USER_BOOK_MARK);
         }
 
-        // 연관관계 제거
-        dailyBookMarkedRawRepository.findByBookMarkedRawId(bookMarkedRawId)
-                .forEach(dailyBookMarkedRaw -> dailyBookMarkedRaw.updateBookMarkedRaw(null));
-
-        bookMarkedRawRepository.delete(bookMarkedRaw);
+        // 연관관계 제거 후 삭제
+        foodReferenceDetachService.deleteBookMarkedRaw(bookMarkedRawId, () -> bookMarkedRawRepository.deleteById(bookMarkedRawId));
     }
 
 }
@@ -0,0 +1,146 @@
+package com.petplate.petplate.petfood.service;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.medicalcondition.service.ProhibitedRawService;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petfood.domain.FoodType;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedFeed;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedPackagedSnack;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
+import com.petplate.petplate.petfood.dto.response.ReadFoodRecommendResponseDto;
+import com.petplate.petplate.petfood.repository.BookMarkedFeedRepository;
+import com.petplate.petplate.petfood.repository.BookMarkedPackagedSnackRepository;
+import com.petplate.petplate.petfood.repository.BookMarkedRawRepository;
+import com.petplate.petplate.utils.NutrientGapSolver;
+import com.petplate.petplate.utils.PetUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FoodRecommendService {
+    private static final int SIZE = NutrientVector.SIZE;
+    public static final int MAX_ITEMS = 5;
+
+    private final PetRepository petRepository;
+    private final DailyMealRepository dailyMealRepository;
+    private final RawNutrientDensityMatrix rawNutrientDensityMatrix;
+    private final BookMarkedRawRepository bookMarkedRawRepository;
+    private final BookMarkedFeedRepository bookMarkedFeedRepository;
+    private final BookMarkedPackagedSnackRepository bookMarkedPackagedSnackRepository;
+    private final ProhibitedRawService prohibitedRawService;
+
+    /**
+     * 오늘 부족한 영양소를 최대 허용 섭취량을 넘지 않으면서 채울 수 있는 음식 조합 추천.
+     * 전체 자연식과 유저의 즐겨찾기(자연식, 사료, 포장 간식) 중에서 선택하며,
+     * 반려견의 알러지, 질병으로 금지된 자연식은 제외한다.
+     *
+     * @param username
+     * @param petId
+     * @param maxItems 최대 추천 음식 수
+     * @return 음식 종류, id, 이름, 추천 섭취량, 칼로리
+     */
+    public List<ReadFoodRecommendResponseDto> recommendFoods(String username, Long petId, int maxItems) {
+        Pet pet = PetUtil.validUserAndFindPet(username, petId, petRepository);
+
+        LocalDateTime startDatetime = LocalDateTime.of(LocalDate.now(), LocalTime.of(0, 0, 0));
+        LocalDateTime endDatetime = LocalDateTime.of(LocalDate.now(), LocalTime.of(23, 59, 59));
+        NutrientVector intake = dailyMealRepository.findByPetIdAndCreatedAtBetween(petId, startDatetime, endDatetime)
+                .map(dailyMeal -> NutrientVector.from(dailyMeal.getNutrient()))
+                .orElseGet(NutrientVector::zero);
+
+        NutrientVector proper = NutrientVector.properOf(pet.getWeight(), pet.getActivity(), pet.getNeutering());
+        NutrientVector maximum = NutrientVector.maximumOf(pet.getWeight(), pet.getActivity(), pet.getNeutering());
+
+        RawNutrientDensityMatrix.Snapshot catalog = rawNutrientDensityMatrix.getSnapshot();
+        BitSet prohibitedRaws = prohibitedRawService.getProhibitedRaws(petId);
+        BitSet excludedRows = new BitSet(catalog.getRows());
+        for (int rawId = prohibitedRaws.nextSetBit(0); rawId >= 0; rawId = prohibitedRaws.nextSetBit(rawId + 1)) {
+            int row = catalog.rowOf((long) rawId);
+            if (row >= 0) {
+                excludedRows.set(row);
+            }
+        }
+
+        Portions portions = loadBookMarkedPortions(username, prohibitedRaws);
+
+        List<NutrientGapSolver.Pick> picks = new NutrientGapSolver(intake, proper, maximum)
+                .solve(catalog.getMatrix(), catalog.getRows(), excludedRows, portions.matrix, portions.rows, Math.min(maxItems, MAX_ITEMS));
+
+        List<ReadFoodRecommendResponseDto> responses = new ArrayList<>();
+        picks.forEach(pick -> {
+            int row = pick.getRow();
+            if (pick.isPortion()) {
+                responses.add(ReadFoodRecommendResponseDto.of(portions.foodTypes.get(row), portions.foodIds.get(row),
+                        portions.names.get(row), portions.servings.get(row), portions.kcals.get(row)));
+            } else {
+                responses.add(ReadFoodRecommendResponseDto.of(FoodType.RAW, catalog.getRawIds()[row], catalog.getNames()[row],
+                        pick.getAmount(), catalog.kcalOf(row, pick.getAmount())));
+            }
+        });
+
+        return responses;
+    }
+
+    private Portions loadBookMarkedPortions(String username, BitSet prohibitedRaws) {
+        List<BookMarkedRaw> bookMarkedRaws = bookMarkedRawRepository.findByUserUsername(username);
+        List<BookMarkedFeed> bookMarkedFeeds = bookMarkedFeedRepository.findByUserUsername(username);
+        List<BookMarkedPackagedSnack> bookMarkedPackagedSnacks = bookMarkedPackagedSnackRepository.findByUserUsername(username);
+
+        Portions portions = new Portions(bookMarkedRaws.size() + bookMarkedFeeds.size() + bookMarkedPackagedSnacks.size());
+
+        bookMarkedRaws.forEach(bookMarkedRaw -> {
+            // 삭제된 자연식이거나 금지된 자연식인 경우 제외
+            if (bookMarkedRaw.getRaw() == null || prohibitedRaws.get(Math.toIntExact(bookMarkedRaw.getRaw().getId()))) {
+                return;
+            }
+            portions.add(FoodType.BOOK_MARKED_RAW, bookMarkedRaw.getId(), bookMarkedRaw.getName(),
+                    bookMarkedRaw.getServing(), bookMarkedRaw.getKcal(), bookMarkedRaw.getNutrient());
+        });
+        bookMarkedFeeds.forEach(bookMarkedFeed -> portions.add(FoodType.BOOK_MARKED_FEED, bookMarkedFeed.getId(),
+                bookMarkedFeed.getName(), bookMarkedFeed.getServing(), bookMarkedFeed.getKcal(), bookMarkedFeed.getNutrient()));
+        bookMarkedPackagedSnacks.forEach(bookMarkedPackagedSnack -> portions.add(FoodType.BOOK_MARKED_PACKAGED_SNACK,
+                bookMarkedPackagedSnack.getId(), bookMarkedPackagedSnack.getName(), bookMarkedPackagedSnack.getServing(),
+                bookMarkedPackagedSnack.getKcal(), bookMarkedPackagedSnack.getNutrient()));
+
+        return portions;
+    }
+
+    // 유저의 즐겨찾기 1회분 영양소 행렬 (행 우선)
+    private static final class Portions {
+        private final double[] matrix;
+        private int rows;
+        private final List<FoodType> foodTypes = new ArrayList<>();
+        private final List<Long> foodIds = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<Double> servings = new ArrayList<>();
+        private final List<Double> kcals = new ArrayList<>();
+
+        private Portions(int capacity) {
+            this.matrix = new double[capacity * SIZE];
+        }
+
+        private void add(FoodType foodType, Long foodId, String name, double serving, double kcal,
+                         Nutrient nutrient) {
+            NutrientVector.write(nutrient, 1, matrix, rows * SIZE);
+            foodTypes.add(foodType);
+            foodIds.add(foodId);
+            names.add(name);
+            servings.add(serving);
+            kcals.add(kcal);
+            rows++;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.petplate.petplate.petfood.service;
+
+import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedFeedRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedPackagedSnackRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedRawRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyRawRepository;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedFeed;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedPackagedSnack;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
+import com.petplate.petplate.petfood.domain.entity.Raw;
+import com.petplate.petplate.petfood.repository.BookMarkedRawRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 음식(자연식, 즐겨찾기)을 삭제하기 전에 그 음식을 참조하는 기록 행의 연관관계를 끊는다.
+ * 엔티티를 하나씩 불러와 null 로 바꾸는 대신, id를 CHUNK_SIZE 개씩 조회해 bulk update 하고 청크마다 커밋한다.
+ * 영속성 컨텍스트에 엔티티를 올리지 않으므로 참조 행이 많아도 메모리 사용량이 일정하다.
+ * 호출하는 쪽에 트랜잭션이 있으면 그 트랜잭션에 참여한다.
+ * <p>
+ * delete* 는 청크 단위로 연관관계를 끊은 뒤, 마지막 트랜잭션에서 음식 행을 잠그고 남은 참조를 다시 끊고 삭제한다.
+ * 청크 처리 중에 새로 추가된 참조도 함께 끊기며, 잠금 이후에 추가하려는 참조는 삭제가 커밋될 때까지 기다렸다가 FK 제약으로 실패한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FoodReferenceDetachService {
+    static final int CHUNK_SIZE = 1000;
+    static final String DELETED_RAW_NAME = "존재하지 않는 자연식입니다.";
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final DailyRawRepository dailyRawRepository;
+    private final BookMarkedRawRepository bookMarkedRawRepository;
+    private final DailyBookMarkedRawRepository dailyBookMarkedRawRepository;
+    private final DailyBookMarkedFeedRepository dailyBookMarkedFeedRepository;
+    private final DailyBookMarkedPackagedSnackRepository dailyBookMarkedPackagedSnackRepository;
+
+    /**
+     * 자연식을 참조하는 DailyRaw, BookMarkedRaw 연관관계 제거
+     * @param rawId
+     * @return 변경된 행 수
+     */
+    public int detachRaw(Long rawId) {
+        int detached = detachInChunks("daily_raw", rawId,
+                pageable -> dailyRawRepository.findIdsByRawId(rawId, pageable),
+                dailyRawRepository::detachRaw);
+
+        return detached + detachInChunks("book_marked_raw", rawId,
+                pageable -> bookMarkedRawRepository.findIdsByRawId(rawId, pageable),
+                ids -> bookMarkedRawRepository.detachRaw(ids, DELETED_RAW_NAME));
+    }
+
+    /**
+     * 자연식을 참조하는 연관관계를 모두 제거한 뒤 삭제
+     * @param rawId
+     * @param delete 자연식 삭제, 남은 참조 제거와 같은 트랜잭션에서 실행
+     */
+    public void deleteRaw(Long rawId, Runnable delete) {
+        detachRaw(rawId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            lock(Raw.class, rawId);
+            detachRemaining(pageable -> dailyRawRepository.findIdsByRawId(rawId, pageable),
+                    dailyRawRepository::detachRaw);
+            detachRemaining(pageable -> bookMarkedRawRepository.findIdsByRawId(rawId, pageable),
+                    ids -> bookMarkedRawRepository.detachRaw(ids, DELETED_RAW_NAME));
+            delete.run();
+        });
+    }
+
+    public void deleteBookMarkedRaw(Long bookMarkedRawId, Runnable delete) {
+        detachBookMarkedRaw(bookMarkedRawId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            lock(BookMarkedRaw.class, bookMarkedRawId);
+            detachRemaining(pageable -> dailyBookMarkedRawRepository.findIdsByBookMarkedRawId(bookMarkedRawId, pageable),
+                    dailyBookMarkedRawRepository::detachBookMarkedRaw);
+            delete.run();
+        });
+    }
+
+    public void deleteBookMarkedFeed(Long bookMarkedFeedId, Runnable delete) {
+        detachBookMarkedFeed(bookMarkedFeedId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            lock(BookMarkedFeed.class, bookMarkedFeedId);
+            detachRemaining(pageable -> dailyBookMarkedFeedRepository.findIdsByBookMarkedFeedId(bookMarkedFeedId, pageable),
+                    dailyBookMarkedFeedRepository::detachBookMarkedFeed);
+            delete.run();
+        });
+    }
+
+    public void deleteBookMarkedPackagedSnack(Long bookMarkedPackagedSnackId, Runnable delete) {
+        detachBookMarkedPackagedSnack(bookMarkedPackagedSnackId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            lock(BookMarkedPackagedSnack.class, bookMarkedPackagedSnackId);
+            detachRemaining(pageable -> dailyBookMarkedPackagedSnackRepository.findIdsByBookMarkedPackagedSnackId(bookMarkedPackagedSnackId, pageable),
+                    dailyBookMarkedPackagedSnackRepository::detachBookMarkedPackagedSnack);
+            delete.run();
+        });
+    }
+
+    public int detachBookMarkedRaw(Long bookMarkedRawId) {
+        return detachInChunks("daily_book_marked_raw", bookMarkedRawId,
+                pageable -> dailyBookMarkedRawRepository.findIdsByBookMarkedRawId(bookMarkedRawId, pageable),
+                dailyBookMarkedRawRepository::detachBookMarkedRaw);
+    }
+
+    public int detachBookMarkedFeed(Long bookMarkedFeedId) {
+        return detachInChunks("daily_book_marked_feed", bookMarkedFeedId,
+                pageable -> dailyBookMarkedFeedRepository.findIdsByBookMarkedFeedId(bookMarkedFeedId, pageable),
+                dailyBookMarkedFeedRepository::detachBookMarkedFeed);
+    }
+
+    public int detachBookMarkedPackagedSnack(Long bookMarkedPackagedSnackId) {
+        return detachInChunks("daily_book_marked_packaged_snack", bookMarkedPackagedSnackId,
+                pageable -> dailyBookMarkedPackagedSnackRepository.findIdsByBookMarkedPackagedSnackId(bookMarkedPackagedSnackId, pageable),
+                dailyBookMarkedPackagedSnackRepository::detachBookMarkedPackagedSnack);
+    }
+
+    // 연관관계를 끊은 행은 다음 조회에서 빠지므로 항상 첫 페이지를 조회한다
+    private int detachInChunks(String table, Long foodId,
+                               Function<Pageable, List<Long>> findIds, ToIntFunction<List<Long>> detach) {
+        Pageable firstChunk = PageRequest.of(0, CHUNK_SIZE);
+        int total = 0;
+
+        while (true) {
+            Integer detached = transactionTemplate.execute(status -> {
+                List<Long> ids = findIds.apply(firstChunk);
+                return ids.isEmpty() ? 0 : detach.applyAsInt(ids);
+            });
+
+            if (detached == null || detached == 0) {
+                break;
+            }
+
+            total += detached;
+            log.info("{} 연관관계 제거 진행 중: foodId={}, {}건", table, foodId, total);
+        }
+
+        return total;
+    }
+
+    // 음식 행을 잠가 이후 참조 추가(FK 확인)가 삭제 커밋까지 기다리게 한다
+    private void lock(Class<?> foodType, Long foodId) {
+        entityManager.find(foodType, foodId, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    // 호출한 트랜잭션 안에서 남은 참조를 끊는다. 청크 처리 이후 추가된 행만 남아 있으므로 보통 한 번에 끝난다
+    private void detachRemaining(Function<Pageable, List<Long>> findIds, ToIntFunction<List<Long>> detach) {
+        Pageable firstChunk = PageRequest.of(0, CHUNK_SIZE);
+        List<Long> ids;
+        while (!(ids = findIds.apply(firstChunk)).isEmpty()) {
+            detach.applyAsInt(ids);
+        }
+    }
+}
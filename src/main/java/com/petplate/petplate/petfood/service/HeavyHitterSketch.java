@@ -0,0 +1,114 @@
+package com.petplate.petplate.petfood.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Count-Min 스케치와 최소 힙으로 가장 많이 기록된 id 를 추적한다. 스레드 안전하지 않다.
+ * <p>
+ * 스케치는 depth * width 개의 카운터만 사용하므로 기록되는 id 수와 관계없이 메모리가 일정하며,
+ * 추정치는 실제 가중치보다 작지 않다 (초과분은 높은 확률로 전체 가중치의 e / width 이하).
+ * 추정치가 가장 큰 capacity 개의 id 만 후보로 남기고, 후보 중 최솟값은 힙으로 찾는다.
+ */
+final class HeavyHitterSketch {
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L};
+
+    private final int width;
+    private final int capacity;
+    private final double[][] counters;
+    private final Map<Long, Double> candidates;
+    // 후보가 힙에 들어갈 때의 추정치. 추정치는 줄어들지 않으므로 최솟값을 찾을 때 갱신한다.
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingDouble(Candidate::estimate));
+
+    HeavyHitterSketch(int depth, int width, int capacity) {
+        if (depth < 1 || depth > SEEDS.length || width < 1 || capacity < 1) {
+            throw new IllegalArgumentException("잘못된 스케치 크기 depth=" + depth + ", width=" + width + ", capacity=" + capacity);
+        }
+
+        this.width = width;
+        this.capacity = capacity;
+        this.counters = new double[depth][width];
+        this.candidates = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * @param id
+     * @param weight 0보다 커야 한다
+     * @return 추가한 뒤의 추정치
+     */
+    double add(long id, double weight) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            int column = column(id, row);
+            counters[row][column] += weight;
+            estimate = Math.min(estimate, counters[row][column]);
+        }
+
+        if (candidates.containsKey(id)) {
+            candidates.put(id, estimate);
+        } else if (candidates.size() < capacity) {
+            offer(id, estimate);
+        } else {
+            Candidate min = peekMin();
+            if (estimate > min.estimate()) {
+                heap.poll();
+                candidates.remove(min.id());
+                offer(id, estimate);
+            }
+        }
+
+        return estimate;
+    }
+
+    double estimate(long id) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            estimate = Math.min(estimate, counters[row][column(id, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * @return 후보 id -> 추정치 (복사본)
+     */
+    Map<Long, Double> topK() {
+        return new HashMap<>(candidates);
+    }
+
+    boolean isEmpty() {
+        return candidates.isEmpty();
+    }
+
+    private void offer(long id, double estimate) {
+        candidates.put(id, estimate);
+        heap.add(new Candidate(id, estimate));
+    }
+
+    private Candidate peekMin() {
+        while (true) {
+            Candidate min = heap.peek();
+            double current = candidates.get(min.id());
+            if (current == min.estimate()) {
+                return min;
+            }
+            heap.poll();
+            heap.add(new Candidate(min.id(), current));
+        }
+    }
+
+    private int column(long id, int row) {
+        // splitmix64 finalizer
+        long hash = id ^ SEEDS[row];
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash = hash ^ (hash >>> 31);
+        return (int) Math.floorMod(hash, (long) width);
+    }
+
+    private record Candidate(long id, double estimate) {
+    }
+}
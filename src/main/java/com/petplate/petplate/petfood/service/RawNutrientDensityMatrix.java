@@ -0,0 +1,186 @@
+package com.petplate.petplate.petfood.service;
+
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.common.metrics.CacheMetrics;
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import com.petplate.petplate.petfood.domain.entity.Raw;
+import com.petplate.petplate.petfood.repository.RawRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자연식(Raw) 카탈로그의 그램당 영양소 밀도 행렬.
+ * 한 행은 자연식 1g에 들어있는 영양소를 StandardNutrient 순서로 담고 있으며 (NutrientVector.SIZE 칸),
+ * 전체 행렬은 하나의 double 배열에 행 우선으로 저장된다.
+ * 카탈로그가 변경되면 invalidate()로 무효화되고, 다음 조회 시 다시 생성된다.
+ * <p>
+ * 무효화는 raw-catalog 채널로 발행하여 모든 인스턴스에서 행렬을 버리며,
+ * 발행에 실패해도 생성 후 TTL 이 지나면 다시 생성한다.
+ */
+@Component
+@Slf4j
+public class RawNutrientDensityMatrix implements MessageListener {
+    public static final int COLUMNS = NutrientVector.SIZE;
+    static final String CHANNEL = "raw-catalog";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String CALLER = "RawNutrientDensityMatrix";
+
+    private final RawRepository rawRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisOperationTimer redisOperationTimer;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final CacheMetrics cacheMetrics;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public RawNutrientDensityMatrix(RawRepository rawRepository,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    RedisOperationTimer redisOperationTimer,
+                                    RedisMessageListenerContainer redisMessageListenerContainer,
+                                    MeterRegistry meterRegistry) {
+        this.rawRepository = rawRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisOperationTimer = redisOperationTimer;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.cacheMetrics = new CacheMetrics(meterRegistry, "rawNutrientDensityMatrix");
+    }
+
+    @PostConstruct
+    void subscribeChannel() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 현재 카탈로그의 밀도 행렬 반환. 반환된 스냅샷은 읽기 전용이다.
+     *
+     * @return 밀도 행렬 스냅샷
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAt < TTL.toNanos()) {
+            cacheMetrics.hit();
+            return current;
+        }
+        cacheMetrics.miss();
+
+        // 생성하는 도중 카탈로그가 변경된 경우, 생성한 스냅샷은 사용하되 캐싱하지 않는다.
+        long versionBeforeLoad = version.get();
+        Snapshot loaded = Snapshot.from(rawRepository.findAll());
+        if (version.get() == versionBeforeLoad) {
+            snapshot = loaded;
+        }
+
+        return loaded;
+    }
+
+    /**
+     * 자연식 카탈로그가 변경된 경우 모든 인스턴스의 밀도 행렬 무효화.
+     * 트랜잭션 내에서 호출되면 트랜잭션이 끝난 뒤에 무효화한다.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAll();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        clear();
+    }
+
+    private void invalidateAll() {
+        clear();
+        try {
+            redisOperationTimer.run(CALLER, "publish", () -> stringRedisTemplate.convertAndSend(CHANNEL, "invalidate"));
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 TTL 이 지나면 다시 생성한다
+            log.warn("자연식 밀도 행렬 무효화 발행 실패", e);
+        }
+    }
+
+    private void clear() {
+        version.incrementAndGet();
+        snapshot = null;
+    }
+
+    @Getter
+    public static final class Snapshot {
+        private final int rows;
+        private final long[] rawIds;
+        private final String[] names;
+        private final double[] kcalPerGram;
+        private final double[] matrix;  // rows * COLUMNS
+        private final Map<Long, Integer> rowByRawId;
+        private final long loadedAt = System.nanoTime();
+
+        private Snapshot(int rows) {
+            this.rows = rows;
+            this.rawIds = new long[rows];
+            this.names = new String[rows];
+            this.kcalPerGram = new double[rows];
+            this.matrix = new double[rows * COLUMNS];
+            this.rowByRawId = new HashMap<>(rows * 2);
+        }
+
+        private static Snapshot from(List<Raw> raws) {
+            Snapshot snapshot = new Snapshot(raws.size());
+
+            for (int row = 0; row < raws.size(); row++) {
+                Raw raw = raws.get(row);
+                double perGram = raw.getStandardAmount() > 0 ? 1 / raw.getStandardAmount() : 0;
+
+                snapshot.rawIds[row] = raw.getId();
+                snapshot.names[row] = raw.getName();
+                snapshot.kcalPerGram[row] = raw.getKcal() * perGram;
+                snapshot.rowByRawId.put(raw.getId(), row);
+                NutrientVector.write(raw.getNutrient(), perGram, snapshot.matrix, row * COLUMNS);
+            }
+
+            return snapshot;
+        }
+
+        /**
+         * @param rawId
+         * @return rawId에 해당하는 행, 없는 경우 -1
+         */
+        public int rowOf(Long rawId) {
+            Integer row = rowByRawId.get(rawId);
+            return row == null ? -1 : row;
+        }
+
+        // 행의 시작 위치
+        public int offsetOf(int row) {
+            return row * COLUMNS;
+        }
+
+        // serving(g)만큼 섭취했을 때의 칼로리
+        public double kcalOf(int row, double serving) {
+            return kcalPerGram[row] * serving;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.petplate.petplate.petfood.service;
+
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 자연식(Raw) 인기 순위.
+ * <p>
+ * 섭취, 즐겨찾기 기록은 인스턴스의 HeavyHitterSketch 에 모으고, flush 주기마다 추정치가 큰 TOP_K 개만
+ * food-popularity:raw 정렬 집합(ZSET)에 ZINCRBY 한 뒤 스케치를 비운다. 기록할 때는 Redis 를 호출하지 않는다.
+ * ZSET 은 decay 주기마다 한 인스턴스가 ZUNIONSTORE WEIGHTS 로 점수를 줄여 오래된 기록의 비중을 낮추고,
+ * 점수가 큰 MAX_RANKED 개만 유지한다.
+ * 검색 정렬에는 flush 때 읽어온 ZSET 스냅샷을 사용하므로 검색 시 Redis, DB 집계 쿼리를 실행하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RawPopularityTracker {
+    static final String KEY = "food-popularity:raw";
+    private static final String DECAY_LOCK_KEY = KEY + ":decay";
+    static final int TOP_K = 100;
+    static final int MAX_RANKED = 1000;
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+    private static final String CALLER = "RawPopularityTracker";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisOperationTimer redisOperationTimer;
+
+    @Value("${food-popularity.half-life-hours:72}")
+    private long halfLifeHours;
+
+    @Value("${food-popularity.decay-interval-ms:3600000}")
+    private long decayIntervalMillis;
+
+    private HeavyHitterSketch sketch = newSketch();  // this 로 동기화
+    private volatile Map<Long, Double> scores = Map.of();
+
+    /**
+     * 자연식 기록. 트랜잭션 내에서 호출되면 커밋 이후에 기록한다.
+     *
+     * @param rawIds 섭취, 즐겨찾기한 자연식 (null 은 무시)
+     */
+    public void record(Collection<Long> rawIds) {
+        List<Long> recorded = rawIds.stream().filter(rawId -> rawId != null).toList();
+        if (recorded.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(recorded);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(recorded);
+            }
+        });
+    }
+
+    public void record(Long rawId) {
+        record(Collections.singletonList(rawId));
+    }
+
+    /**
+     * @param rawId
+     * @return 인기 점수, 순위에 없으면 0
+     */
+    public double getScore(Long rawId) {
+        return scores.getOrDefault(rawId, 0.0);
+    }
+
+    /**
+     * 인기 순으로 정렬. 점수가 같으면 기존 순서를 유지한다.
+     *
+     * @param items
+     * @param rawId 항목의 자연식 id
+     */
+    public <T> List<T> sortByPopularity(List<T> items, Function<T, Long> rawId) {
+        Map<Long, Double> current = scores;
+        if (current.isEmpty()) {
+            return items;
+        }
+
+        return items.stream()
+                .sorted(Comparator.comparingDouble((T item) -> current.getOrDefault(rawId.apply(item), 0.0)).reversed())
+                .toList();
+    }
+
+    /**
+     * 모은 기록을 Redis 에 반영하고 순위 스냅샷을 다시 읽는다.
+     * 다른 인스턴스가 반영한 기록도 읽어오므로 기록이 없어도 실행한다.
+     */
+    @Scheduled(fixedDelayString = "${food-popularity.flush-interval-ms:60000}")
+    public void flush() {
+        Map<Long, Double> topK;
+        synchronized (this) {
+            topK = sketch.isEmpty() ? Map.of() : sketch.topK();
+            sketch = topK.isEmpty() ? sketch : newSketch();
+        }
+
+        try {
+            if (!topK.isEmpty()) {
+                redisOperationTimer.run(CALLER, "zincrby", () ->
+                        stringRedisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+                            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                            topK.forEach((rawId, weight) -> stringConnection.zIncrBy(KEY, weight, rawId.toString()));
+                            stringConnection.zRemRange(KEY, 0, -(MAX_RANKED + 1));
+                            return null;
+                        }));
+            }
+
+            Set<TypedTuple<String>> ranked = redisOperationTimer.record(CALLER, "zrange",
+                    () -> stringRedisTemplate.opsForZSet().rangeWithScores(KEY, 0, -1));
+            scores = toScores(ranked);
+        } catch (RuntimeException e) {
+            // 반영하지 못한 기록은 버린다 (인기 순위는 근사치)
+            log.warn("자연식 인기 순위 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 점수를 반감기에 맞춰 줄인다. 여러 인스턴스 중 잠금을 얻은 한 곳에서만 실행한다.
+     */
+    @Scheduled(initialDelayString = "${food-popularity.decay-interval-ms:3600000}", fixedDelayString = "${food-popularity.decay-interval-ms:3600000}")
+    public void decay() {
+        try {
+            Boolean acquired = redisOperationTimer.record(CALLER, "setnx", () -> stringRedisTemplate.opsForValue()
+                    .setIfAbsent(DECAY_LOCK_KEY, "1", Duration.ofMillis(decayIntervalMillis).minusSeconds(1)));
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+
+            double factor = Math.pow(0.5, (double) decayIntervalMillis / Duration.ofHours(halfLifeHours).toMillis());
+            redisOperationTimer.run(CALLER, "zunionstore", () -> stringRedisTemplate.opsForZSet()
+                    .unionAndStore(KEY, List.of(), KEY, Aggregate.SUM, Weights.of(factor)));
+        } catch (RuntimeException e) {
+            log.warn("자연식 인기 점수 감쇠 실패", e);
+        }
+    }
+
+    private synchronized void add(List<Long> rawIds) {
+        rawIds.forEach(rawId -> sketch.add(rawId, 1));
+    }
+
+    private static Map<Long, Double> toScores(Set<TypedTuple<String>> ranked) {
+        if (ranked == null || ranked.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>(ranked.size() * 2);
+        for (TypedTuple<String> tuple : ranked) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                scores.put(Long.valueOf(tuple.getValue()), tuple.getScore());
+            }
+        }
+        return scores;
+    }
+
+    private static HeavyHitterSketch newSketch() {
+        return new HeavyHitterSketch(SKETCH_DEPTH, SKETCH_WIDTH, TOP_K);
+    }
+}
@@ -6,18 +6,25 @@ import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.InternalServerErrorException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
-import com.petplate.petplate.petdailymeal.repository.DailyRawRepository;
+import com.petplate.petplate.medicalcondition.service.ProhibitedRawService;
+import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.petfood.domain.entity.Raw;
 import com.petplate.petplate.petfood.dto.request.CreateRawRequestDto;
 import com.petplate.petplate.petfood.dto.response.ReadRawResponseDto;
+import com.petplate.petplate.petfood.dto.response.ReadRawSuggestionResponseDto;
 import com.petplate.petplate.petfood.repository.BookMarkedRawRepository;
 import com.petplate.petplate.petfood.repository.RawRepository;
+import com.petplate.petplate.utils.PetUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 @Transactional(readOnly = true)
@@ -25,8 +32,12 @@ import java.util.List;
 public class RawService {
     private final RawRepository rawRepository;
     private final BookMarkedRawRepository BookMarkedRawRepository;
-    private final DailyRawRepository dailyRawRepository;
     private final BookMarkedRawRepository bookMarkedRawRepository;
+    private final PetRepository petRepository;
+    private final ProhibitedRawService prohibitedRawService;
+    private final RawNutrientDensityMatrix rawNutrientDensityMatrix;
+    private final FoodReferenceDetachService foodReferenceDetachService;
+    private final RawPopularityTracker rawPopularityTracker;
 
     /**
      * Raw 추가
@@ -60,6 +71,7 @@ public class RawService {
                 .build();
 
         rawRepository.save(raw);
+        rawNutrientDensityMatrix.invalidate();
 
         return raw.getId();
     }
@@ -77,7 +89,7 @@ public class RawService {
     }
 
     /**
-     * 키워드가 포함된 이름을 가진 Raw 조회
+     * 키워드가 포함된 이름을 가진 Raw 조회 (인기 순)
      * @param keyword
      * @return rawId, standardAmount, name, description, kcal, carbonHydrate, protein, fat, calcium, phosphorus, vitaminA, vitaminD, vitaminE
      */
@@ -89,7 +101,62 @@ public class RawService {
                     responses.add(ReadRawResponseDto.from(raw));
                 });
 
-        return responses;
+        return rawPopularityTracker.sortByPopularity(responses, ReadRawResponseDto::getRawId);
+    }
+
+    /**
+     * 키워드가 포함된 이름을 가진 Raw 중 반려견의 알러지, 질병으로 금지되지 않은 Raw 조회 (인기 순)
+     * @param username
+     * @param petId
+     * @param keyword
+     * @return rawId, standardAmount, name, description, kcal, carbonHydrate, protein, fat, calcium, phosphorus, vitaminA, vitaminD, vitaminE
+     */
+    public List<ReadRawResponseDto> getSafeRawByKeyword(String username, Long petId, String keyword) {
+        PetUtil.validUserAndFindPet(username, petId, petRepository);
+        BitSet prohibitedRaws = prohibitedRawService.getProhibitedRaws(petId);
+
+        List<ReadRawResponseDto> responses = new ArrayList<>();
+
+        rawRepository.findByKeyword(keyword)
+                .forEach(raw -> {
+                    if (!prohibitedRaws.get(Math.toIntExact(raw.getId()))) {
+                        responses.add(ReadRawResponseDto.from(raw));
+                    }
+                });
+
+        return rawPopularityTracker.sortByPopularity(responses, ReadRawResponseDto::getRawId);
+    }
+
+    /**
+     * 자동완성. 키워드가 포함된 이름을 가진 Raw 를 인기 순, 키워드로 시작하는 이름 순으로 size 개 조회.
+     * 메모리에 있는 카탈로그 스냅샷에서 찾으므로 DB를 조회하지 않는다.
+     * @param keyword
+     * @param size
+     * @return rawId, name
+     */
+    public List<ReadRawSuggestionResponseDto> getRawSuggestions(String keyword, int size) {
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || size < 1) {
+            return List.of();
+        }
+
+        RawNutrientDensityMatrix.Snapshot snapshot = rawNutrientDensityMatrix.getSnapshot();
+        List<Integer> rows = new ArrayList<>();
+        for (int row = 0; row < snapshot.getRows(); row++) {
+            if (snapshot.getNames()[row].toLowerCase(Locale.ROOT).contains(normalized)) {
+                rows.add(row);
+            }
+        }
+
+        Comparator<Integer> byPopularity = Comparator.comparingDouble(row -> rawPopularityTracker.getScore(snapshot.getRawIds()[row]));
+        Comparator<Integer> byPrefix = Comparator.comparing(row -> snapshot.getNames()[row].toLowerCase(Locale.ROOT).startsWith(normalized));
+        Comparator<Integer> byName = Comparator.comparing(row -> snapshot.getNames()[row]);
+
+        return rows.stream()
+                .sorted(byPopularity.reversed().thenComparing(byPrefix.reversed()).thenComparing(byName))
+                .limit(size)
+                .map(row -> ReadRawSuggestionResponseDto.of(snapshot.getRawIds()[row], snapshot.getNames()[row]))
+                .toList();
     }
 
     /**
@@ -109,21 +176,15 @@ public class RawService {
      * DailyRaw, BookMarkedDailyRaw의 Raw는 null로 수정됨.
      * @param rawId
      */
-    @Transactional
+    // 연관관계 제거는 청크마다 커밋하고 삭제는 마지막 트랜잭션에서 하므로 트랜잭션을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteRawById(Long rawId) {
         if (!rawRepository.existsById(rawId)) {
             throw new NotFoundException(ErrorCode.RAW_NOT_FOUND);
         }
 
-        dailyRawRepository.findByRawId(rawId).forEach(dailyRaw->{
-            dailyRaw.updateRaw(null);
-        });
-
-        bookMarkedRawRepository.findByRawId(rawId).forEach(bookMarkedRaw->{
-            bookMarkedRaw.updateRaw(null);
-            bookMarkedRaw.updateName("존재하지 않는 자연식입니다.");
-        });
-
-        rawRepository.deleteById(rawId);
+        // 참조하는 기록은 청크 단위 bulk update 로 연관관계 제거 (청크마다 커밋), 남은 참조 제거와 삭제는 한 트랜잭션
+        foodReferenceDetachService.deleteRaw(rawId, () -> rawRepository.deleteById(rawId));
+        rawNutrientDensityMatrix.invalidate();
     }
 }
@@ -0,0 +1,5 @@
+package com.petplate.petplate.purge.domain;
+
+public enum PurgeStatus {
+    PENDING, DONE, FAILED
+}
@@ -0,0 +1,92 @@
+package com.petplate.petplate.purge.domain.entity;
+
+import com.petplate.petplate.common.Inheritance.BaseEntity;
+import com.petplate.petplate.purge.domain.PurgeStatus;
+import com.petplate.petplate.purge.domain.PurgeTargetType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 유저, 반려견의 남은 기록을 지우는 작업.
+ * nextAttemptAt 은 다음 처리 시각이며, 처리 중에는 다른 인스턴스가 가져가지 못하도록 임대 만료 시각으로 쓰인다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_purge_request_status_next_attempt_at", columnList = "status, next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PurgeRequest extends BaseEntity {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purge_request_seq")
+    @SequenceGenerator(name = "purge_request_seq", sequenceName = "purge_request_seq", allocationSize = 50)
+    @Column(name = "purge_request_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PurgeTargetType targetType;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PurgeStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private long purgedRows;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public PurgeRequest(PurgeTargetType targetType, Long targetId) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.status = PurgeStatus.PENDING;
+        this.attempts = 0;
+        this.purgedRows = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void recordProgress(long purgedRows, LocalDateTime nextAttemptAt) {
+        this.purgedRows += purgedRows;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void complete() {
+        this.status = PurgeStatus.DONE;
+        this.lastError = null;
+    }
+
+    public void retryLater(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void fail(String error) {
+        this.attempts++;
+        this.status = PurgeStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,25 @@
+package com.petplate.petplate.purge.repository;
+
+import com.petplate.petplate.purge.domain.PurgeStatus;
+import com.petplate.petplate.purge.domain.PurgeTargetType;
+import com.petplate.petplate.purge.domain.entity.PurgeRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PurgeRequestRepository extends JpaRepository<PurgeRequest, Long> {
+    List<PurgeRequest> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(PurgeStatus status, LocalDateTime now, Pageable pageable);
+
+    boolean existsByTargetTypeAndTargetIdAndStatus(PurgeTargetType targetType, Long targetId, PurgeStatus status);
+
+    // 조회한 뒤 다른 인스턴스가 먼저 가져가지 않았을 때만 임대 시각을 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("update PurgeRequest p set p.nextAttemptAt = :leaseUntil " +
+            "where p.id = :id and p.status = com.petplate.petplate.purge.domain.PurgeStatus.PENDING and p.nextAttemptAt = :nextAttemptAt")
+    int claim(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -0,0 +1,94 @@
+package com.petplate.petplate.purge.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 삭제된 유저, 반려견의 기록을 지우는 SQL.
+ * 엔티티를 불러오지 않고 id 목록 단위로 지우며, 외래키를 참조하는 쪽(자식)부터 지운다.
+ * soft delete 되는 users, pet 도 여기서는 실제로 지운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PurgeTargetRepository {
+    // daily_meal 을 참조하는 테이블
+    private static final List<String> DAILY_MEAL_CHILD_TABLES = List.of(
+            "daily_raw", "daily_feed", "daily_packaged_snack",
+            "daily_book_marked_raw", "daily_book_marked_feed", "daily_book_marked_packaged_snack",
+            "deficient_nutrient", "proper_nutrient", "sufficient_nutrient");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public enum BookMarkTable {
+        RAW("book_marked_raw", "book_marked_raw_id", "daily_book_marked_raw"),
+        FEED("book_marked_feed", "book_marked_feed_id", "daily_book_marked_feed"),
+        PACKAGED_SNACK("book_marked_packaged_snack", "book_marked_packaged_snack_id", "daily_book_marked_packaged_snack");
+
+        private final String table;
+        private final String idColumn;
+        private final String dailyTable;
+
+        BookMarkTable(String table, String idColumn, String dailyTable) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.dailyTable = dailyTable;
+        }
+    }
+
+    public List<Long> findDailyMealIds(Long petId, int limit) {
+        return jdbcTemplate.queryForList(
+                "select daily_meal_id from daily_meal where pet_id = :petId order by daily_meal_id limit :limit",
+                Map.of("petId", petId, "limit", limit), Long.class);
+    }
+
+    public int deleteDailyMeals(List<Long> dailyMealIds) {
+        Map<String, Object> params = Map.of("ids", dailyMealIds);
+
+        int deleted = 0;
+        for (String table : DAILY_MEAL_CHILD_TABLES) {
+            deleted += jdbcTemplate.update("delete from " + table + " where daily_meal_id in (:ids)", params);
+        }
+        return deleted + jdbcTemplate.update("delete from daily_meal where daily_meal_id in (:ids)", params);
+    }
+
+    public int deletePet(Long petId) {
+        Map<String, Object> params = Map.of("petId", petId);
+
+        int deleted = jdbcTemplate.update("delete from pet_allergy where pet_id = :petId", params);
+        deleted += jdbcTemplate.update("delete from pet_disease where pet_id = :petId", params);
+        return deleted + jdbcTemplate.update("delete from pet where pet_id = :petId", params);
+    }
+
+    // soft delete 된 반려견도 포함
+    public List<Long> findPetIds(Long userId, int limit) {
+        return jdbcTemplate.queryForList(
+                "select pet_id from pet where user_id = :userId order by pet_id limit :limit",
+                Map.of("userId", userId, "limit", limit), Long.class);
+    }
+
+    public List<Long> findBookMarkIds(BookMarkTable bookMark, Long userId, int limit) {
+        return jdbcTemplate.queryForList(
+                "select " + bookMark.idColumn + " from " + bookMark.table + " where user_id = :userId order by " + bookMark.idColumn + " limit :limit",
+                Map.of("userId", userId, "limit", limit), Long.class);
+    }
+
+    // 다른 반려견의 식사 기록이 참조하고 있을 수 있으므로 참조는 끊기만 한다
+    public int deleteBookMarks(BookMarkTable bookMark, List<Long> bookMarkIds) {
+        Map<String, Object> params = Map.of("ids", bookMarkIds);
+
+        int detached = jdbcTemplate.update(
+                "update " + bookMark.dailyTable + " set " + bookMark.idColumn + " = null where " + bookMark.idColumn + " in (:ids)", params);
+        return detached + jdbcTemplate.update("delete from " + bookMark.table + " where " + bookMark.idColumn + " in (:ids)", params);
+    }
+
+    public int deleteUser(Long userId) {
+        Map<String, Object> params = Map.of("userId", userId);
+
+        int deleted = jdbcTemplate.update("delete from user_member_ship where user_id = :userId", params);
+        return deleted + jdbcTemplate.update("delete from users where user_id = :userId and deleted = true", params);
+    }
+}
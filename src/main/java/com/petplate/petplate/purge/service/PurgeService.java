@@ -0,0 +1,124 @@
+package com.petplate.petplate.purge.service;
+
+import com.petplate.petplate.purge.domain.PurgeStatus;
+import com.petplate.petplate.purge.domain.PurgeTargetType;
+import com.petplate.petplate.purge.domain.entity.PurgeRequest;
+import com.petplate.petplate.purge.repository.PurgeRequestRepository;
+import com.petplate.petplate.purge.repository.PurgeTargetRepository;
+import com.petplate.petplate.purge.repository.PurgeTargetRepository.BookMarkTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PurgeService {
+    private final PurgeRequestRepository purgeRequestRepository;
+    private final PurgeTargetRepository purgeTargetRepository;
+
+    // 한 트랜잭션에서 지울 식사 기록(daily_meal) 또는 즐겨찾기 수
+    @Value("${purge.chunk-size:200}")
+    private int chunkSize;
+
+    /**
+     * 삭제 작업 등록. 같은 대상의 작업이 대기 중이면 새로 등록하지 않는다.
+     * @param targetType
+     * @param targetId
+     */
+    @Transactional
+    public void requestPurge(PurgeTargetType targetType, Long targetId) {
+        if (purgeRequestRepository.existsByTargetTypeAndTargetIdAndStatus(targetType, targetId, PurgeStatus.PENDING)) {
+            return;
+        }
+
+        purgeRequestRepository.save(PurgeRequest.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .build());
+    }
+
+    public List<PurgeRequest> findDueRequests(LocalDateTime now, int limit) {
+        return purgeRequestRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                PurgeStatus.PENDING, now, PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    public boolean claim(PurgeRequest purgeRequest, LocalDateTime leaseUntil) {
+        return purgeRequestRepository.claim(purgeRequest.getId(), purgeRequest.getNextAttemptAt(), leaseUntil) == 1;
+    }
+
+    /**
+     * 청크 하나를 지우고 커밋한다. 자식 테이블부터 지우며, 더 지울 행이 없으면 0을 반환한다.
+     * 유저: 반려견(식사 기록 -> 알러지, 질병 -> 반려견) -> 즐겨찾기 -> 멤버십, 유저
+     * 반려견: 식사 기록(영양소 분석, 섭취 음식 -> daily_meal) -> 알러지, 질병 -> 반려견
+     * @param targetType
+     * @param targetId
+     * @return 삭제(또는 연관관계 제거)된 행 수
+     */
+    @Transactional
+    public int purgeChunk(PurgeTargetType targetType, Long targetId) {
+        if (targetType == PurgeTargetType.PET) {
+            return purgePetChunk(targetId);
+        }
+
+        List<Long> petIds = purgeTargetRepository.findPetIds(targetId, 1);
+        if (!petIds.isEmpty()) {
+            return purgePetChunk(petIds.get(0));
+        }
+
+        for (BookMarkTable bookMark : BookMarkTable.values()) {
+            List<Long> bookMarkIds = purgeTargetRepository.findBookMarkIds(bookMark, targetId, chunkSize);
+            if (!bookMarkIds.isEmpty()) {
+                return purgeTargetRepository.deleteBookMarks(bookMark, bookMarkIds);
+            }
+        }
+
+        return purgeTargetRepository.deleteUser(targetId);
+    }
+
+    @Transactional
+    public void recordProgress(Long purgeRequestId, long purgedRows, LocalDateTime nextAttemptAt) {
+        findPurgeRequest(purgeRequestId).recordProgress(purgedRows, nextAttemptAt);
+    }
+
+    @Transactional
+    public void complete(Long purgeRequestId, long purgedRows) {
+        PurgeRequest purgeRequest = findPurgeRequest(purgeRequestId);
+        purgeRequest.recordProgress(purgedRows, LocalDateTime.now());
+        purgeRequest.complete();
+    }
+
+    @Transactional
+    public void retryLater(Long purgeRequestId, long purgedRows, String error, LocalDateTime nextAttemptAt) {
+        PurgeRequest purgeRequest = findPurgeRequest(purgeRequestId);
+        purgeRequest.recordProgress(purgedRows, nextAttemptAt);
+        purgeRequest.retryLater(error, nextAttemptAt);
+    }
+
+    @Transactional
+    public void fail(Long purgeRequestId, long purgedRows, String error) {
+        PurgeRequest purgeRequest = findPurgeRequest(purgeRequestId);
+        purgeRequest.recordProgress(purgedRows, LocalDateTime.now());
+        purgeRequest.fail(error);
+    }
+
+    private int purgePetChunk(Long petId) {
+        List<Long> dailyMealIds = purgeTargetRepository.findDailyMealIds(petId, chunkSize);
+        if (!dailyMealIds.isEmpty()) {
+            return purgeTargetRepository.deleteDailyMeals(dailyMealIds);
+        }
+
+        return purgeTargetRepository.deletePet(petId);
+    }
+
+    private PurgeRequest findPurgeRequest(Long purgeRequestId) {
+        return purgeRequestRepository.findById(purgeRequestId)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 삭제 작업입니다. id=" + purgeRequestId));
+    }
+}
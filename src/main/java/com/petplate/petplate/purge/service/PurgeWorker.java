@@ -0,0 +1,102 @@
+package com.petplate.petplate.purge.service;
+
+import com.petplate.petplate.purge.domain.entity.PurgeRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 대기 중인 삭제 작업을 주기적으로 처리한다.
+ * <p>
+ * 청크마다 커밋하므로 잠금은 청크 하나를 지우는 동안만 유지된다.
+ * 청크 사이에는 직전 청크에 걸린 시간 이상 쉬어서 삭제가 DB 처리량의 절반 이상을 쓰지 않게 하고,
+ * 한 번에 maxChunksPerRun 개까지만 처리한 뒤 다음 주기로 넘겨 여러 작업이 번갈아 처리되도록 한다.
+ * 실패하면 지수 백오프로 다시 시도하고, MAX_ATTEMPTS 번 실패하면 FAILED 로 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PurgeWorker {
+    static final int MAX_ATTEMPTS = 8;
+    private static final int REQUESTS_PER_RUN = 10;
+    private static final Duration LEASE = Duration.ofMinutes(10);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final PurgeService purgeService;
+
+    @Value("${purge.max-chunks-per-run:50}")
+    private int maxChunksPerRun;
+
+    @Value("${purge.min-pause-ms:50}")
+    private long minPauseMillis;
+
+    @Scheduled(initialDelayString = "${purge.poll-interval-ms:10000}", fixedDelayString = "${purge.poll-interval-ms:10000}")
+    public void purgeDueRequests() {
+        for (PurgeRequest purgeRequest : purgeService.findDueRequests(LocalDateTime.now(), REQUESTS_PER_RUN)) {
+            // 다른 인스턴스가 먼저 가져간 작업은 건너뜀
+            if (purgeService.claim(purgeRequest, LocalDateTime.now().plus(LEASE))) {
+                process(purgeRequest);
+            }
+        }
+    }
+
+    void process(PurgeRequest purgeRequest) {
+        long purgedRows = 0;
+
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                long startedAt = System.nanoTime();
+                int deleted = purgeService.purgeChunk(purgeRequest.getTargetType(), purgeRequest.getTargetId());
+
+                if (deleted == 0) {
+                    purgeService.complete(purgeRequest.getId(), purgedRows);
+                    log.info("삭제 작업 완료: {} {}, {}건", purgeRequest.getTargetType(), purgeRequest.getTargetId(),
+                            purgeRequest.getPurgedRows() + purgedRows);
+                    return;
+                }
+
+                purgedRows += deleted;
+                pause(Math.max(minPauseMillis, Duration.ofNanos(System.nanoTime() - startedAt).toMillis()));
+            }
+
+            // 남은 청크는 다음 주기에 이어서 처리
+            purgeService.recordProgress(purgeRequest.getId(), purgedRows, LocalDateTime.now());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            purgeService.recordProgress(purgeRequest.getId(), purgedRows, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            handleFailure(purgeRequest, purgedRows, e);
+        }
+    }
+
+    private void handleFailure(PurgeRequest purgeRequest, long purgedRows, RuntimeException e) {
+        int attempts = purgeRequest.getAttempts() + 1;
+
+        if (attempts >= MAX_ATTEMPTS) {
+            log.error("삭제 작업 실패: {} {}", purgeRequest.getTargetType(), purgeRequest.getTargetId(), e);
+            purgeService.fail(purgeRequest.getId(), purgedRows, e.getMessage());
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        log.warn("삭제 작업 재시도 예정: {} {}, {}번째 실패, 다음 시도 {}", purgeRequest.getTargetType(),
+                purgeRequest.getTargetId(), attempts, nextAttemptAt, e);
+        purgeService.retryLater(purgeRequest.getId(), purgedRows, e.getMessage(), nextAttemptAt);
+    }
+
+    // 30초, 1분, 2분, ... 최대 1시간
+    static Duration backoff(int attempts) {
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private static void pause(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+}
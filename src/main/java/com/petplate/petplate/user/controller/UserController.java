@@ -1,5 +1,6 @@
 package com.petplate.petplate.user.controller;
 
+import com.petplate.petplate.auth.interfaces.CurrentUserPK;
 import com.petplate.petplate.auth.interfaces.CurrentUserUsername;
 import com.petplate.petplate.common.response.BaseResponse;
 import com.petplate.petplate.user.dto.request.SecretCodeRequestDto;
@@ -37,9 +38,14 @@ public class UserController {
             @ApiResponse(responseCode = "200",description = "자신의 프로필 성공적 반환"),
             @ApiResponse(responseCode = "404",description = "로그인이 풀려서 ID 기반으로 유저를 찾아올 때 없을 때")
     })
-    public ResponseEntity<BaseResponse<MyProfileResponseDto>> showMyProfile(@CurrentUserUsername String username){
+    public ResponseEntity<BaseResponse<MyProfileResponseDto>> showMyProfile(@CurrentUserPK Long userId, @CurrentUserUsername String username){
 
-        return ResponseEntity.ok(BaseResponse.createSuccess(userService.showMyProfile(username)));
+        // uid 클레임이 없는 이전 토큰은 username 으로 유저를 조회한다
+        MyProfileResponseDto myProfile = userId != null
+                ? userService.showMyProfile(userId)
+                : userService.showMyProfile(username);
+
+        return ResponseEntity.ok(BaseResponse.createSuccess(myProfile));
 
     }
 
@@ -0,0 +1,5 @@
+package com.petplate.petplate.user.domain;
+
+public enum SocialUnlinkStatus {
+    PENDING, DONE, FAILED, SKIPPED
+}
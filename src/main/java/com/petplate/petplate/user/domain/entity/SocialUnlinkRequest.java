@@ -0,0 +1,90 @@
+package com.petplate.petplate.user.domain.entity;
+
+import com.petplate.petplate.common.Inheritance.BaseEntity;
+import com.petplate.petplate.user.domain.SocialUnlinkStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴한 유저의 소셜 로그인 연동 해제 작업 (outbox).
+ * 유저 삭제와 같은 트랜잭션에서 저장하며, 유저 행은 삭제되므로 연동 해제에 필요한 리프레시 토큰을 함께 보관한다.
+ * nextAttemptAt 은 다음 처리 시각이며, 처리 중에는 다른 인스턴스가 가져가지 못하도록 임대 만료 시각으로 쓰인다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_social_unlink_request_status_next_attempt_at", columnList = "status, next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class SocialUnlinkRequest extends BaseEntity {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "social_unlink_request_seq")
+    @SequenceGenerator(name = "social_unlink_request_seq", sequenceName = "social_unlink_request_seq", allocationSize = 50)
+    @Column(name = "social_unlink_request_id")
+    private Long id;
+
+    @Column(length = 50, nullable = false)
+    private String username;
+
+    private String socialLoginRefreshToken;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SocialUnlinkStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public SocialUnlinkRequest(String username, String socialLoginRefreshToken) {
+        this.username = username;
+        this.socialLoginRefreshToken = socialLoginRefreshToken;
+        this.status = SocialUnlinkStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = SocialUnlinkStatus.DONE;
+        this.socialLoginRefreshToken = null;
+        this.lastError = null;
+    }
+
+    // 같은 username 으로 다시 가입해 연동 해제하면 새 계정의 연동이 끊기므로 건너뜀
+    public void skip() {
+        this.status = SocialUnlinkStatus.SKIPPED;
+        this.socialLoginRefreshToken = null;
+        this.lastError = null;
+    }
+
+    public void retryLater(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void fail(String error) {
+        this.attempts++;
+        this.status = SocialUnlinkStatus.FAILED;
+        this.socialLoginRefreshToken = null;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
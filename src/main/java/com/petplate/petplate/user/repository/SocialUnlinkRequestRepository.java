@@ -0,0 +1,22 @@
+package com.petplate.petplate.user.repository;
+
+import com.petplate.petplate.user.domain.SocialUnlinkStatus;
+import com.petplate.petplate.user.domain.entity.SocialUnlinkRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SocialUnlinkRequestRepository extends JpaRepository<SocialUnlinkRequest, Long> {
+    List<SocialUnlinkRequest> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(SocialUnlinkStatus status, LocalDateTime now, Pageable pageable);
+
+    // 조회한 뒤 다른 인스턴스가 먼저 가져가지 않았을 때만 임대 시각을 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("update SocialUnlinkRequest s set s.nextAttemptAt = :leaseUntil " +
+            "where s.id = :id and s.status = com.petplate.petplate.user.domain.SocialUnlinkStatus.PENDING and s.nextAttemptAt = :nextAttemptAt")
+    int claim(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
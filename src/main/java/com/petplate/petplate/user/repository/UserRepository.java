@@ -14,4 +14,11 @@ public interface UserRepository extends JpaRepository<User,Long> {
 
     Optional<User> findByUsername(String username);
 
+    // @Where 로 탈퇴하지 않은 유저만 (SocialUnlinkService.isResignedUp)
+    boolean existsByUsername(String username);
+
+    // 탈퇴(soft delete)하지 않은 유저만 (UserUtil.getActiveUserReference)
+    @Query("select count(u) > 0 from User u where u.id = :id and u.deleted = false")
+    boolean existsActiveById(@Param("id") Long id);
+
 }
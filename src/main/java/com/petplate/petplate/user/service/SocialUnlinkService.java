@@ -0,0 +1,78 @@
+package com.petplate.petplate.user.service;
+
+import com.petplate.petplate.user.domain.SocialUnlinkStatus;
+import com.petplate.petplate.user.domain.entity.SocialUnlinkRequest;
+import com.petplate.petplate.user.repository.SocialUnlinkRequestRepository;
+import com.petplate.petplate.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SocialUnlinkService {
+    private final SocialUnlinkRequestRepository socialUnlinkRequestRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 연동 해제 작업 등록. 호출한 트랜잭션(유저 삭제)과 함께 커밋된다.
+     * @param username
+     * @param socialLoginRefreshToken
+     */
+    @Transactional
+    public void requestUnlink(String username, String socialLoginRefreshToken) {
+        socialUnlinkRequestRepository.save(SocialUnlinkRequest.builder()
+                .username(username)
+                .socialLoginRefreshToken(socialLoginRefreshToken)
+                .build());
+    }
+
+    public List<SocialUnlinkRequest> findDueRequests(LocalDateTime now, int limit) {
+        return socialUnlinkRequestRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                SocialUnlinkStatus.PENDING, now, PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    public boolean claim(SocialUnlinkRequest socialUnlinkRequest, LocalDateTime leaseUntil) {
+        return socialUnlinkRequestRepository.claim(socialUnlinkRequest.getId(), socialUnlinkRequest.getNextAttemptAt(), leaseUntil) == 1;
+    }
+
+    /**
+     * 탈퇴 후 같은 username 으로 다시 가입했는지 확인.
+     * 네이버 연동과 액세스 토큰 캐시는 username 기준이므로, 다시 가입한 경우 연동 해제하면 새 계정의 연동이 끊긴다.
+     * @param username
+     */
+    public boolean isResignedUp(String username) {
+        return userRepository.existsByUsername(username);
+    }
+
+    @Transactional
+    public void complete(Long socialUnlinkRequestId) {
+        findSocialUnlinkRequest(socialUnlinkRequestId).complete();
+    }
+
+    @Transactional
+    public void skip(Long socialUnlinkRequestId) {
+        findSocialUnlinkRequest(socialUnlinkRequestId).skip();
+    }
+
+    @Transactional
+    public void retryLater(Long socialUnlinkRequestId, String error, LocalDateTime nextAttemptAt) {
+        findSocialUnlinkRequest(socialUnlinkRequestId).retryLater(error, nextAttemptAt);
+    }
+
+    @Transactional
+    public void fail(Long socialUnlinkRequestId, String error) {
+        findSocialUnlinkRequest(socialUnlinkRequestId).fail(error);
+    }
+
+    private SocialUnlinkRequest findSocialUnlinkRequest(Long socialUnlinkRequestId) {
+        return socialUnlinkRequestRepository.findById(socialUnlinkRequestId)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 연동 해제 작업입니다. id=" + socialUnlinkRequestId));
+    }
+}
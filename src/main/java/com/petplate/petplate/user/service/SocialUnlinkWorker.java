@@ -0,0 +1,80 @@
+package com.petplate.petplate.user.service;
+
+import com.petplate.petplate.auth.oauth.service.SocialLoginTokenUtil;
+import com.petplate.petplate.user.domain.entity.SocialUnlinkRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 대기 중인 소셜 로그인 연동 해제 작업을 주기적으로 처리한다.
+ * <p>
+ * 네이버 호출은 트랜잭션 밖에서 하고, 작업 상태 변경만 짧은 트랜잭션으로 커밋하므로
+ * 네이버 응답이 느려도 DB 커넥션을 잡고 있지 않는다.
+ * 실패하면 지수 백오프로 다시 시도하고, MAX_ATTEMPTS 번 실패하면 FAILED 로 남긴다.
+ * 처리 전에 같은 username 으로 다시 가입했다면 연동 해제하지 않고 SKIPPED 로 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SocialUnlinkWorker {
+    static final int MAX_ATTEMPTS = 8;
+    private static final int REQUESTS_PER_RUN = 20;
+    private static final Duration LEASE = Duration.ofMinutes(1);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final SocialUnlinkService socialUnlinkService;
+    private final SocialLoginTokenUtil socialLoginTokenUtil;
+
+    @Scheduled(initialDelayString = "${social-unlink.poll-interval-ms:10000}", fixedDelayString = "${social-unlink.poll-interval-ms:10000}")
+    public void unlinkDueRequests() {
+        for (SocialUnlinkRequest socialUnlinkRequest : socialUnlinkService.findDueRequests(LocalDateTime.now(), REQUESTS_PER_RUN)) {
+            // 다른 인스턴스가 먼저 가져간 작업은 건너뜀
+            if (socialUnlinkService.claim(socialUnlinkRequest, LocalDateTime.now().plus(LEASE))) {
+                process(socialUnlinkRequest);
+            }
+        }
+    }
+
+    void process(SocialUnlinkRequest socialUnlinkRequest) {
+        // 다시 가입한 유저의 연동까지 해제하지 않도록 건너뜀
+        if (socialUnlinkService.isResignedUp(socialUnlinkRequest.getUsername())) {
+            log.info("연동 해제 건너뜀, 같은 username 으로 다시 가입: {}", socialUnlinkRequest.getUsername());
+            socialUnlinkService.skip(socialUnlinkRequest.getId());
+            return;
+        }
+
+        try {
+            socialLoginTokenUtil.unlinkNaver(socialUnlinkRequest.getUsername(), socialUnlinkRequest.getSocialLoginRefreshToken());
+            socialUnlinkService.complete(socialUnlinkRequest.getId());
+        } catch (RuntimeException e) {
+            handleFailure(socialUnlinkRequest, e);
+        }
+    }
+
+    private void handleFailure(SocialUnlinkRequest socialUnlinkRequest, RuntimeException e) {
+        int attempts = socialUnlinkRequest.getAttempts() + 1;
+
+        if (attempts >= MAX_ATTEMPTS) {
+            log.error("연동 해제 실패: {}", socialUnlinkRequest.getUsername(), e);
+            socialUnlinkService.fail(socialUnlinkRequest.getId(), e.getMessage());
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        log.warn("연동 해제 재시도 예정: {}, {}번째 실패, 다음 시도 {}", socialUnlinkRequest.getUsername(),
+                attempts, nextAttemptAt, e);
+        socialUnlinkService.retryLater(socialUnlinkRequest.getId(), e.getMessage(), nextAttemptAt);
+    }
+
+    // 30초, 1분, 2분, ... 최대 1시간
+    static Duration backoff(int attempts) {
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
@@ -1,9 +1,10 @@
 package com.petplate.petplate.user.service;
 
-import com.petplate.petplate.auth.oauth.service.SocialLoginTokenUtil;
 import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.purge.domain.PurgeTargetType;
+import com.petplate.petplate.purge.service.PurgeService;
 import com.petplate.petplate.user.domain.entity.User;
 import com.petplate.petplate.user.dto.request.SecretCodeRequestDto;
 import com.petplate.petplate.user.dto.response.MyProfileResponseDto;
@@ -19,7 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final SocialLoginTokenUtil socialLoginTokenUtil;
+    private final SocialUnlinkService socialUnlinkService;
+    private final PurgeService purgeService;
 
     @Value("${manager.secretCode}")
     private String secretCode;
@@ -32,14 +34,27 @@ public class UserService {
 
     }
 
+    public MyProfileResponseDto showMyProfile(Long userId){
+
+        User findUser = userRepository.findById(userId).orElseThrow(()->new NotFoundException(
+                ErrorCode.USER_NOT_FOUND));
+
+        return MyProfileResponseDto.from(findUser);
+
+    }
+
     @Transactional
     public void deleteUser(final String username){
 
-        socialLoginTokenUtil.unlinkNaver(username);
-
         User findUser = findUserByUsername(username);
         userRepository.delete(findUser);
 
+        // 반려견, 식사 기록, 즐겨찾기는 purge 작업이 나누어 지운다
+        purgeService.requestPurge(PurgeTargetType.USER, findUser.getId());
+
+        // 네이버 연동 해제는 커밋 후 SocialUnlinkWorker 가 트랜잭션 밖에서 처리한다
+        socialUnlinkService.requestUnlink(findUser.getUsername(), findUser.getSocialLoginRefreshToken());
+
     }
 
     @Transactional
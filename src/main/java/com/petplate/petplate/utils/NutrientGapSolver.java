@@ -0,0 +1,177 @@
+package com.petplate.petplate.utils;
+
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 부족한 영양소를 채우는 음식 조합을 찾는 제한된 탐욕(greedy) 탐색기.
+ * <p>
+ * 음식은 두 종류의 영양소 행렬(행 우선, 한 행 = NutrientVector.SIZE 칸)로 전달된다.
+ * - 그램당 행렬: 섭취량을 자유롭게 정할 수 있는 음식 (자연식). 섭취량(g)을 함께 결정한다.
+ * - 1회분 행렬: 섭취량이 고정된 음식 (즐겨찾기). 선택 여부만 결정한다.
+ * <p>
+ * 매 단계마다 최대 허용 섭취량을 넘지 않으면서 부족분(적정 섭취량 대비 비율)을 가장 많이 채우는 음식을 고르며,
+ * 이미 고른 음식은 다시 고르지 않는다. 단계 수가 제한되어 있으므로 시간 복잡도는 O(maxItems * 음식 수 * 영양소 수)이다.
+ */
+public class NutrientGapSolver {
+    private static final int SIZE = NutrientVector.SIZE;
+    private static final double EPSILON = 1e-9;
+
+    public static final double MIN_SERVING = 5;  // 추천하는 최소 섭취량 (g)
+    public static final double MAX_SERVING = 500;  // 추천하는 최대 섭취량 (g)
+    public static final double SERVING_UNIT = 5;  // 섭취량 단위 (g)
+
+    private final double[] deficit;  // 영양소별 남은 부족량
+    private final double[] room;  // 영양소별 최대 허용 섭취량까지 남은 양
+    private final double[] weight;  // 영양소별 가중치 (1 / 적정 섭취량)
+
+    /**
+     * @param intake  현재 섭취량
+     * @param proper  적정 섭취량
+     * @param maximum 최대 허용 섭취량
+     */
+    public NutrientGapSolver(NutrientVector intake, NutrientVector proper, NutrientVector maximum) {
+        this.deficit = new double[SIZE];
+        this.room = new double[SIZE];
+        this.weight = new double[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            deficit[i] = Math.max(0, proper.get(i) - intake.get(i));
+            room[i] = Math.max(0, maximum.get(i) - intake.get(i));
+            weight[i] = proper.get(i) > 0 ? 1 / proper.get(i) : 0;
+        }
+    }
+
+    /**
+     * @param perGramMatrix  그램당 영양소 행렬
+     * @param perGramRows    그램당 행렬의 행 수
+     * @param excludedRows   그램당 행렬에서 제외할 행 (null 가능)
+     * @param portionMatrix  1회분 영양소 행렬
+     * @param portionRows    1회분 행렬의 행 수
+     * @param maxItems       최대 추천 음식 수
+     * @return 선택된 음식들 (선택 순서)
+     */
+    public List<Pick> solve(double[] perGramMatrix, int perGramRows, BitSet excludedRows,
+                            double[] portionMatrix, int portionRows, int maxItems) {
+        BitSet usedPerGramRows = excludedRows == null ? new BitSet(perGramRows) : (BitSet) excludedRows.clone();
+        BitSet usedPortionRows = new BitSet(portionRows);
+        List<Pick> picks = new ArrayList<>();
+
+        for (int step = 0; step < maxItems && hasDeficit(); step++) {
+            Pick best = null;
+
+            for (int row = usedPerGramRows.nextClearBit(0); row < perGramRows; row = usedPerGramRows.nextClearBit(row + 1)) {
+                double serving = findServing(perGramMatrix, row * SIZE);
+                if (serving < MIN_SERVING) {
+                    continue;
+                }
+
+                double score = score(perGramMatrix, row * SIZE, serving);
+                if (best == null || score > best.score) {
+                    best = new Pick(false, row, serving, score);
+                }
+            }
+
+            for (int row = usedPortionRows.nextClearBit(0); row < portionRows; row = usedPortionRows.nextClearBit(row + 1)) {
+                if (!fits(portionMatrix, row * SIZE)) {
+                    continue;
+                }
+
+                double score = score(portionMatrix, row * SIZE, 1);
+                if (best == null || score > best.score) {
+                    best = new Pick(true, row, 1, score);
+                }
+            }
+
+            if (best == null || best.score <= EPSILON) {
+                break;
+            }
+
+            if (best.portion) {
+                usedPortionRows.set(best.row);
+                apply(portionMatrix, best.row * SIZE, 1);
+            } else {
+                usedPerGramRows.set(best.row);
+                apply(perGramMatrix, best.row * SIZE, best.amount);
+            }
+            picks.add(best);
+        }
+
+        return picks;
+    }
+
+    private boolean hasDeficit() {
+        for (int i = 0; i < SIZE; i++) {
+            if (deficit[i] > EPSILON) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 최대 허용 섭취량을 넘지 않는 범위에서 가장 큰 부족분을 채우는 섭취량 (SERVING_UNIT 단위로 내림)
+    private double findServing(double[] matrix, int offset) {
+        double maxServing = MAX_SERVING;
+        double fillServing = 0;
+
+        for (int i = 0; i < SIZE; i++) {
+            double density = matrix[offset + i];
+            if (density <= 0) {
+                continue;
+            }
+
+            maxServing = Math.min(maxServing, room[i] / density);
+            if (deficit[i] > 0) {
+                fillServing = Math.max(fillServing, deficit[i] / density);
+            }
+        }
+
+        double serving = Math.min(maxServing, fillServing);
+        return Math.floor(serving / SERVING_UNIT) * SERVING_UNIT;
+    }
+
+    private boolean fits(double[] matrix, int offset) {
+        for (int i = 0; i < SIZE; i++) {
+            if (matrix[offset + i] > room[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 적정 섭취량 대비 채워지는 부족분의 비율 합
+    private double score(double[] matrix, int offset, double scale) {
+        double score = 0;
+        for (int i = 0; i < SIZE; i++) {
+            score += Math.min(deficit[i], matrix[offset + i] * scale) * weight[i];
+        }
+        return score;
+    }
+
+    private void apply(double[] matrix, int offset, double scale) {
+        for (int i = 0; i < SIZE; i++) {
+            double amount = matrix[offset + i] * scale;
+            deficit[i] = Math.max(0, deficit[i] - amount);
+            room[i] = Math.max(0, room[i] - amount);
+        }
+    }
+
+    @Getter
+    public static class Pick {
+        private final boolean portion;  // 1회분 행렬에서 선택된 경우 true
+        private final int row;
+        private final double amount;  // 그램당 행렬인 경우 섭취량(g), 1회분 행렬인 경우 1
+        private final double score;
+
+        private Pick(boolean portion, int row, double amount, double score) {
+            this.portion = portion;
+            this.row = row;
+            this.amount = amount;
+            this.score = score;
+        }
+    }
+}
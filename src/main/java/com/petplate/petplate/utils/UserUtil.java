@@ -0,0 +1,21 @@
+package com.petplate.petplate.utils;
+
+import com.petplate.petplate.common.response.error.ErrorCode;
+import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.repository.UserRepository;
+
+public class UserUtil {
+    /**
+     * 토큰의 유저 PK로 연관관계에 설정할 프록시 조회.
+     * getReferenceById 는 soft delete 조건(@Where)을 거치지 않으므로, 탈퇴한 유저의 토큰이 아직 유효해도
+     * 반려견, 즐겨찾기가 생성되지 않도록 id 로 존재 여부를 먼저 확인한다.
+     */
+    public static User getActiveUserReference(Long userId, UserRepository userRepository) {
+        if (!userRepository.existsActiveById(userId)) {
+            throw new NotFoundException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        return userRepository.getReferenceById(userId);
+    }
+}
@@ -0,0 +1,42 @@
+-- 조회 패턴별 인덱스.
+-- 등치 조건 컬럼을 앞에, 범위/정렬 컬럼을 뒤에 두어 인덱스 range scan 으로 처리한다.
+-- InnoDB 보조 인덱스는 PK를 포함하므로 id만 읽는 exists 조회는 테이블 접근 없이 끝난다.
+
+-- findByPetIdAndCreatedAtBetween, existsByPetIdAndCreatedAtBetween, findByPetIdOrderByCreatedAtDesc
+create index idx_daily_meal_pet_id_created_at on daily_meal (pet_id, created_at);
+-- findAllByDailyMealCreatedAtBetween
+create index idx_daily_meal_created_at on daily_meal (created_at);
+
+-- findByDailyMealId
+create index idx_daily_raw_daily_meal_id on daily_raw (daily_meal_id);
+create index idx_daily_feed_daily_meal_id on daily_feed (daily_meal_id);
+create index idx_daily_packaged_snack_daily_meal_id on daily_packaged_snack (daily_meal_id);
+create index idx_daily_book_marked_raw_daily_meal_id on daily_book_marked_raw (daily_meal_id);
+create index idx_daily_book_marked_feed_daily_meal_id on daily_book_marked_feed (daily_meal_id);
+create index idx_daily_book_marked_packaged_snack_daily_meal_id on daily_book_marked_packaged_snack (daily_meal_id);
+
+-- findByDailyMealId, findByDailyMealIdAndName, existsByDailyMealIdAndName
+create index idx_deficient_nutrient_daily_meal_id_name on deficient_nutrient (daily_meal_id, name);
+create index idx_proper_nutrient_daily_meal_id_name on proper_nutrient (daily_meal_id, name);
+create index idx_sufficient_nutrient_daily_meal_id_name on sufficient_nutrient (daily_meal_id, name);
+
+-- findByUsername, findBySocialTypeAndUsername (@Where deleted = false)
+create index idx_users_username_social_type_deleted on users (username, social_type, deleted);
+
+-- findByOwnerId, findByOwnerUsername, existsByOwnerId
+create index idx_pet_user_id on pet (user_id);
+-- existsByUserId, existsByUserUsername
+create index idx_user_member_ship_user_id on user_member_ship (user_id);
+
+-- findByUserUsername, existsByUserIdAndNameAndServing
+create index idx_book_marked_feed_user_id_name_serving on book_marked_feed (user_id, name, serving);
+create index idx_book_marked_packaged_snack_user_id_name_serving on book_marked_packaged_snack (user_id, name, serving);
+-- findByUserUsername, findByUserIdAndRawIdAndServing
+create index idx_book_marked_raw_user_id_raw_id_serving on book_marked_raw (user_id, raw_id, serving);
+
+-- findRawIdsByPetId
+create index idx_raw_prohibited_by_allergy_allergy_id_raw_id on raw_prohibited_by_allergy (allergy_id, raw_id);
+create index idx_raw_prohibited_by_disease_disease_id_raw_id on raw_prohibited_by_disease (disease_id, raw_id);
+
+-- findByStandardNutrientWithFetchDrug, findUserProperDrugList
+create index idx_drug_nutrient_standard_nutrient_drug_id on drug_nutrient (standard_nutrient, drug_id);
@@ -0,0 +1,2 @@
+-- 식사 내역이 바뀔 때마다 증가하는 수정 번호. 조회 응답의 ETag 를 만드는 데 사용한다.
+alter table daily_meal add column revision bigint default 0 not null;
@@ -0,0 +1,432 @@
+-- 기존 엔티티로부터 생성되던 스키마의 기준 버전.
+-- 이미 스키마가 존재하는 DB는 baseline(1)으로 기록되고 이 스크립트를 건너뛴다.
+
+create table users (
+    user_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    role varchar(255) not null,
+    name varchar(255) not null,
+    username varchar(50) not null,
+    password varchar(100) not null,
+    phone_number varchar(13),
+    is_receive_ad bit not null,
+    activated bit not null,
+    level integer not null,
+    social_type varchar(255) not null,
+    deleted bit not null,
+    social_login_refresh_token varchar(255),
+    primary key (user_id)
+) engine=InnoDB;
+
+create table member_ship (
+    member_ship_id bigint not null auto_increment,
+    name varchar(255) not null,
+    cost integer not null,
+    duration integer not null,
+    primary key (member_ship_id)
+) engine=InnoDB;
+
+create table user_member_ship (
+    user_member_ship_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    member_ship_id bigint,
+    user_id bigint,
+    primary key (user_member_ship_id)
+) engine=InnoDB;
+
+create table banner (
+    banner_id bigint not null auto_increment,
+    name varchar(255) not null,
+    banner_img_path varchar(500) not null,
+    url varchar(255) not null,
+    primary key (banner_id)
+) engine=InnoDB;
+
+create table raw (
+    raw_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    standard_amount double precision not null,
+    description varchar(255),
+    name varchar(255) not null,
+    kcal double precision not null,
+    carbon_hydrate double precision not null,
+    protein double precision not null,
+    fat double precision not null,
+    calcium double precision not null,
+    phosphorus double precision not null,
+    vitamin_a double precision not null,
+    vitamin_d double precision not null,
+    vitamin_e double precision not null,
+    primary key (raw_id),
+    constraint uk_raw_name unique (name)
+) engine=InnoDB;
+
+create table allergy (
+    allergy_id bigint not null auto_increment,
+    name varchar(50) not null,
+    description varchar(500) not null,
+    primary key (allergy_id),
+    constraint uk_allergy_name unique (name)
+) engine=InnoDB;
+
+create table disease (
+    disease_id bigint not null auto_increment,
+    name varchar(50) not null,
+    description varchar(500) not null,
+    primary key (disease_id),
+    constraint uk_disease_name unique (name)
+) engine=InnoDB;
+
+create table raw_prohibited_by_allergy (
+    raw_prohibited_by_allergy_id bigint not null auto_increment,
+    allergy_id bigint,
+    raw_id bigint,
+    primary key (raw_prohibited_by_allergy_id)
+) engine=InnoDB;
+
+create table raw_prohibited_by_disease (
+    raw_prohibited_by_disease_id bigint not null auto_increment,
+    disease_id bigint,
+    raw_id bigint,
+    primary key (raw_prohibited_by_disease_id)
+) engine=InnoDB;
+
+create table drug (
+    drug_id bigint not null auto_increment,
+    name varchar(255),
+    english_name varchar(255) not null,
+    vendor varchar(255),
+    drug_img_path varchar(500),
+    url varchar(700),
+    primary key (drug_id)
+) engine=InnoDB;
+
+create table drug_nutrient (
+    drug_nutrient_id bigint not null auto_increment,
+    drug_id bigint not null,
+    standard_nutrient varchar(255) not null,
+    primary key (drug_nutrient_id)
+) engine=InnoDB;
+
+create table pet (
+    pet_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    name varchar(255) not null,
+    age integer not null,
+    weight double precision not null,
+    activity varchar(255) not null,
+    neutering varchar(255) not null,
+    profile_img varchar(255),
+    user_id bigint not null,
+    primary key (pet_id)
+) engine=InnoDB;
+
+create table pet_allergy (
+    pet_allergy_id bigint not null auto_increment,
+    pet_id bigint not null,
+    allergy_id bigint not null,
+    primary key (pet_allergy_id)
+) engine=InnoDB;
+
+create table pet_disease (
+    pet_disease_id bigint not null auto_increment,
+    pet_id bigint not null,
+    disease_id bigint not null,
+    primary key (pet_disease_id)
+) engine=InnoDB;
+
+create table book_marked_raw (
+    book_marked_raw_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    name varchar(255) not null,
+    serving double precision not null,
+    description varchar(255),
+    kcal double precision not null,
+    carbon_hydrate double precision not null,
+    protein double precision not null,
+    fat double precision not null,
+    calcium double precision not null,
+    phosphorus double precision not null,
+    vitamin_a double precision not null,
+    vitamin_d double precision not null,
+    vitamin_e double precision not null,
+    raw_id bigint,
+    user_id bigint not null,
+    primary key (book_marked_raw_id)
+) engine=InnoDB;
+
+create table book_marked_feed (
+    book_marked_feed_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    name varchar(255) not null,
+    serving double precision not null,
+    kcal double precision not null,
+    carbon_hydrate double precision not null,
+    protein double precision not null,
+    fat double precision not null,
+    calcium double precision not null,
+    phosphorus double precision not null,
+    vitamin_a double precision not null,
+    vitamin_d double precision not null,
+    vitamin_e double precision not null,
+    user_id bigint not null,
+    primary key (book_marked_feed_id)
+) engine=InnoDB;
+
+create table book_marked_packaged_snack (
+    book_marked_packaged_snack_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    name varchar(255) not null,
+    serving double precision not null,
+    kcal double precision not null,
+    carbon_hydrate double precision not null,
+    protein double precision not null,
+    fat double precision not null,
+    calcium double precision not null,
+    phosphorus double precision not null,
+    vitamin_a double precision not null,
+    vitamin_d double precision not null,
+    vitamin_e double precision not null,
+    user_id bigint not null,
+    primary key (book_marked_packaged_snack_id)
+) engine=InnoDB;
+
+create table daily_meal (
+    daily_meal_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    kcal double precision not null,
+    carbon_hydrate double precision not null,
+    protein double precision not null,
+    fat double precision not null,
+    calcium double precision not null,
+    phosphorus double precision not null,
+    vitamin_a double precision not null,
+    vitamin_d double precision not null,
+    vitamin_e double precision not null,
+    pet_id bigint not null,
+    primary key (daily_meal_id)
+) engine=InnoDB;
+
+create table daily_raw (
+    daily_raw_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    daily_meal_id bigint not null,
+    raw_id bigint,
+    serving double precision not null,
+    kcal double precision not null,
+    carbon_hydrate double precision not null,
+    protein double precision not null,
+    fat double precision not null,
+    calcium double precision not null,
+    phosphorus double precision not null,
+    vitamin_a double precision not null,
+    vitamin_d double precision not null,
+    vitamin_e double precision not null,
+    primary key (daily_raw_id)
+) engine=InnoDB;
+
+create table daily_feed (
+    daily_feed_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    name varchar(255) not null,
+    serving double precision not null,
+    kcal double precision not null,
+    carbon_hydrate double precision not null,
+    protein double precision not null,
+    fat double precision not null,
+    calcium double precision not null,
+    phosphorus double precision not null,
+    vitamin_a double precision not null,
+    vitamin_d double precision not null,
+    vitamin_e double precision not null,
+    daily_meal_id bigint not null,
+    primary key (daily_feed_id)
+) engine=InnoDB;
+
+create table daily_packaged_snack (
+    daily_packaged_snack_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    name varchar(255) not null,
+    serving double precision not null,
+    kcal double precision not null,
+    carbon_hydrate double precision not null,
+    protein double precision not null,
+    fat double precision not null,
+    calcium double precision not null,
+    phosphorus double precision not null,
+    vitamin_a double precision not null,
+    vitamin_d double precision not null,
+    vitamin_e double precision not null,
+    daily_meal_id bigint not null,
+    primary key (daily_packaged_snack_id)
+) engine=InnoDB;
+
+create table daily_book_marked_raw (
+    daily_book_marked_raw_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    book_marked_raw_id bigint,
+    daily_meal_id bigint not null,
+    primary key (daily_book_marked_raw_id)
+) engine=InnoDB;
+
+create table daily_book_marked_feed (
+    daily_book_marked_feed_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    book_marked_feed_id bigint,
+    daily_meal_id bigint not null,
+    primary key (daily_book_marked_feed_id)
+) engine=InnoDB;
+
+create table daily_book_marked_packaged_snack (
+    daily_book_marked_packaged_snack_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    book_marked_packaged_snack_id bigint,
+    daily_meal_id bigint not null,
+    primary key (daily_book_marked_packaged_snack_id)
+) engine=InnoDB;
+
+create table deficient_nutrient (
+    deficient_nutrient_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    name varchar(20) not null,
+    unit varchar(10) not null,
+    description varchar(255) not null,
+    amount double precision not null,
+    proper_amount double precision not null,
+    maximum_amount double precision not null,
+    daily_meal_id bigint not null,
+    primary key (deficient_nutrient_id)
+) engine=InnoDB;
+
+create table proper_nutrient (
+    proper_nutrient_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    name varchar(20) not null,
+    unit varchar(10) not null,
+    description varchar(255) not null,
+    amount double precision not null,
+    proper_amount double precision not null,
+    maximum_amount double precision not null,
+    daily_meal_id bigint not null,
+    primary key (proper_nutrient_id)
+) engine=InnoDB;
+
+create table sufficient_nutrient (
+    sufficient_nutrient_id bigint not null auto_increment,
+    created_at timestamp null,
+    updated_at timestamp null,
+    name varchar(20) not null,
+    unit varchar(10) not null,
+    description varchar(255) not null,
+    amount double precision not null,
+    proper_amount double precision not null,
+    maximum_amount double precision not null,
+    daily_meal_id bigint not null,
+    primary key (sufficient_nutrient_id)
+) engine=InnoDB;
+
+alter table user_member_ship
+    add constraint fk_user_member_ship_member_ship_id foreign key (member_ship_id) references member_ship (member_ship_id);
+
+alter table user_member_ship
+    add constraint fk_user_member_ship_user_id foreign key (user_id) references users (user_id);
+
+alter table raw_prohibited_by_allergy
+    add constraint fk_raw_prohibited_by_allergy_allergy_id foreign key (allergy_id) references allergy (allergy_id);
+
+alter table raw_prohibited_by_allergy
+    add constraint fk_raw_prohibited_by_allergy_raw_id foreign key (raw_id) references raw (raw_id);
+
+alter table raw_prohibited_by_disease
+    add constraint fk_raw_prohibited_by_disease_disease_id foreign key (disease_id) references disease (disease_id);
+
+alter table raw_prohibited_by_disease
+    add constraint fk_raw_prohibited_by_disease_raw_id foreign key (raw_id) references raw (raw_id);
+
+alter table drug_nutrient
+    add constraint fk_drug_nutrient_drug_id foreign key (drug_id) references drug (drug_id);
+
+alter table pet
+    add constraint fk_pet_user_id foreign key (user_id) references users (user_id);
+
+alter table pet_allergy
+    add constraint fk_pet_allergy_pet_id foreign key (pet_id) references pet (pet_id);
+
+alter table pet_allergy
+    add constraint fk_pet_allergy_allergy_id foreign key (allergy_id) references allergy (allergy_id);
+
+alter table pet_disease
+    add constraint fk_pet_disease_pet_id foreign key (pet_id) references pet (pet_id);
+
+alter table pet_disease
+    add constraint fk_pet_disease_disease_id foreign key (disease_id) references disease (disease_id);
+
+alter table book_marked_raw
+    add constraint fk_book_marked_raw_raw_id foreign key (raw_id) references raw (raw_id);
+
+alter table book_marked_raw
+    add constraint fk_book_marked_raw_user_id foreign key (user_id) references users (user_id);
+
+alter table book_marked_feed
+    add constraint fk_book_marked_feed_user_id foreign key (user_id) references users (user_id);
+
+alter table book_marked_packaged_snack
+    add constraint fk_book_marked_packaged_snack_user_id foreign key (user_id) references users (user_id);
+
+alter table daily_meal
+    add constraint fk_daily_meal_pet_id foreign key (pet_id) references pet (pet_id);
+
+alter table daily_raw
+    add constraint fk_daily_raw_daily_meal_id foreign key (daily_meal_id) references daily_meal (daily_meal_id);
+
+alter table daily_raw
+    add constraint fk_daily_raw_raw_id foreign key (raw_id) references raw (raw_id);
+
+alter table daily_feed
+    add constraint fk_daily_feed_daily_meal_id foreign key (daily_meal_id) references daily_meal (daily_meal_id);
+
+alter table daily_packaged_snack
+    add constraint fk_daily_packaged_snack_daily_meal_id foreign key (daily_meal_id) references daily_meal (daily_meal_id);
+
+alter table daily_book_marked_raw
+    add constraint fk_daily_book_marked_raw_book_marked_raw_id foreign key (book_marked_raw_id) references book_marked_raw (book_marked_raw_id);
+
+alter table daily_book_marked_raw
+    add constraint fk_daily_book_marked_raw_daily_meal_id foreign key (daily_meal_id) references daily_meal (daily_meal_id);
+
+alter table daily_book_marked_feed
+    add constraint fk_daily_book_marked_feed_book_marked_feed_id foreign key (book_marked_feed_id) references book_marked_feed (book_marked_feed_id);
+
+alter table daily_book_marked_feed
+    add constraint fk_daily_book_marked_feed_daily_meal_id foreign key (daily_meal_id) references daily_meal (daily_meal_id);
+
+alter table daily_book_marked_packaged_snack
+    add constraint fk_daily_book_marked_packaged_snack_book_marked_packaged_snack_id foreign key (book_marked_packaged_snack_id) references book_marked_packaged_snack (book_marked_packaged_snack_id);
+
+alter table daily_book_marked_packaged_snack
+    add constraint fk_daily_book_marked_packaged_snack_daily_meal_id foreign key (daily_meal_id) references daily_meal (daily_meal_id);
+
+alter table deficient_nutrient
+    add constraint fk_deficient_nutrient_daily_meal_id foreign key (daily_meal_id) references daily_meal (daily_meal_id);
+
+alter table proper_nutrient
+    add constraint fk_proper_nutrient_daily_meal_id foreign key (daily_meal_id) references daily_meal (daily_meal_id);
+
+alter table sufficient_nutrient
+    add constraint fk_sufficient_nutrient_daily_meal_id foreign key (daily_meal_id) references daily_meal (daily_meal_id);
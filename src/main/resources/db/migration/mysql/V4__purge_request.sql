@@ -0,0 +1,23 @@
+-- 반려견 삭제는 soft delete 후 purge 작업이 기록을 지운다.
+alter table pet add column deleted bit not null default false;
+
+-- 유저, 반려견 삭제 후 남은 기록을 청크 단위로 지우기 위한 작업 큐
+create table purge_request (
+    purge_request_id bigint not null,
+    created_at timestamp null,
+    updated_at timestamp null,
+    target_type varchar(255) not null,
+    target_id bigint not null,
+    status varchar(255) not null,
+    attempts integer not null,
+    purged_rows bigint not null,
+    next_attempt_at datetime(6) not null,
+    last_error varchar(500),
+    primary key (purge_request_id)
+) engine=InnoDB;
+
+-- findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt
+create index idx_purge_request_status_next_attempt_at on purge_request (status, next_attempt_at);
+
+create table purge_request_seq (next_val bigint) engine=InnoDB;
+insert into purge_request_seq values (50);
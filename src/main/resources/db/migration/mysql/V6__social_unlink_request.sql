@@ -0,0 +1,19 @@
+-- 탈퇴한 유저의 네이버 연동 해제는 유저 삭제와 함께 저장한 작업을 SocialUnlinkWorker 가 트랜잭션 밖에서 처리한다.
+create table social_unlink_request (
+    social_unlink_request_id bigint not null,
+    created_at timestamp null,
+    updated_at timestamp null,
+    username varchar(50) not null,
+    social_login_refresh_token varchar(255),
+    status varchar(255) not null,
+    attempts integer not null,
+    next_attempt_at datetime(6) not null,
+    last_error varchar(500),
+    primary key (social_unlink_request_id)
+) engine=InnoDB;
+
+-- findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt
+create index idx_social_unlink_request_status_next_attempt_at on social_unlink_request (status, next_attempt_at);
+
+create table social_unlink_request_seq (next_val bigint) engine=InnoDB;
+insert into social_unlink_request_seq values (50);
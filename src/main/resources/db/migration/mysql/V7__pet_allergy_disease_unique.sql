@@ -0,0 +1,19 @@
+-- 같은 반려견에 같은 알러지, 질병이 중복 저장되지 않도록 한다 (PetService.saveUnique).
+-- 동시 요청으로 이미 중복 저장된 행은 가장 먼저 저장된 행만 남기고 지운다.
+delete duplicate from pet_allergy duplicate
+    join pet_allergy kept
+        on kept.pet_id = duplicate.pet_id
+        and kept.allergy_id = duplicate.allergy_id
+        and kept.pet_allergy_id < duplicate.pet_allergy_id;
+
+alter table pet_allergy
+    add constraint uk_pet_allergy_pet_id_allergy_id unique (pet_id, allergy_id);
+
+delete duplicate from pet_disease duplicate
+    join pet_disease kept
+        on kept.pet_id = duplicate.pet_id
+        and kept.disease_id = duplicate.disease_id
+        and kept.pet_disease_id < duplicate.pet_disease_id;
+
+alter table pet_disease
+    add constraint uk_pet_disease_pet_id_disease_id unique (pet_id, disease_id);
@@ -0,0 +1,91 @@
+package com.petplate.petplate.auth.oauth.cookie;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+class OAuth2AuthorizationRequestCookieCodecTest {
+    private static final Duration MAX_AGE = Duration.ofSeconds(180);
+    private static final Instant NOW = Instant.parse("2024-05-01T00:00:00Z");
+
+    private final OAuth2AuthorizationRequestCookieCodec codec = codecAt(NOW);
+
+    @Test
+    @DisplayName("인코딩한 인가 요청을 그대로 복원")
+    void roundTrip() {
+        OAuth2AuthorizationRequest authorizationRequest = authorizationRequest("state");
+
+        OAuth2AuthorizationRequest decoded = codec.decode(codec.encode(authorizationRequest, MAX_AGE));
+
+        Assertions.assertEquals(authorizationRequest.getAuthorizationUri(), decoded.getAuthorizationUri());
+        Assertions.assertEquals(authorizationRequest.getClientId(), decoded.getClientId());
+        Assertions.assertEquals(authorizationRequest.getRedirectUri(), decoded.getRedirectUri());
+        Assertions.assertEquals(authorizationRequest.getState(), decoded.getState());
+        Assertions.assertEquals(authorizationRequest.getScopes(), decoded.getScopes());
+        Assertions.assertEquals(authorizationRequest.getAdditionalParameters(), decoded.getAdditionalParameters());
+        Assertions.assertEquals(authorizationRequest.getAttributes(), decoded.getAttributes());
+        Assertions.assertEquals(authorizationRequest.getAuthorizationRequestUri(), decoded.getAuthorizationRequestUri());
+    }
+
+    @Test
+    @DisplayName("긴 요청은 압축해도 복원되고 Java 직렬화보다 작음")
+    void compressLargeRequest() {
+        OAuth2AuthorizationRequest authorizationRequest = authorizationRequest("state-".repeat(100));
+
+        String encoded = codec.encode(authorizationRequest, MAX_AGE);
+        String serialized = Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(authorizationRequest));
+
+        Assertions.assertEquals(authorizationRequest.getState(), codec.decode(encoded).getState());
+        Assertions.assertTrue(encoded.length() < serialized.length());
+    }
+
+    @Test
+    @DisplayName("값을 바꾸거나 다른 키로 서명한 쿠키는 거부")
+    void rejectTampered() {
+        String encoded = codec.encode(authorizationRequest("state"), MAX_AGE);
+        char[] tampered = encoded.toCharArray();
+        tampered[10] = tampered[10] == 'A' ? 'B' : 'A';
+
+        OAuth2AuthorizationRequestCookieCodec otherKey =
+                new OAuth2AuthorizationRequestCookieCodec(new byte[]{1, 2, 3}, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        Assertions.assertNull(codec.decode(new String(tampered)));
+        Assertions.assertNull(otherKey.decode(encoded));
+        Assertions.assertNull(codec.decode("not-a-cookie"));
+    }
+
+    @Test
+    @DisplayName("만료된 쿠키는 거부")
+    void rejectExpired() {
+        String encoded = codec.encode(authorizationRequest("state"), MAX_AGE);
+
+        Assertions.assertNotNull(codecAt(NOW.plus(MAX_AGE)).decode(encoded));
+        Assertions.assertNull(codecAt(NOW.plus(MAX_AGE).plusSeconds(1)).decode(encoded));
+    }
+
+    private static OAuth2AuthorizationRequestCookieCodec codecAt(Instant now) {
+        return new OAuth2AuthorizationRequestCookieCodec(new byte[32], Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest(String state) {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://nid.naver.com/oauth2.0/authorize")
+                .clientId("client-id")
+                .redirectUri("https://api.petplate.kr/login/oauth2/code/naver")
+                .scopes(Set.of("name", "email"))
+                .state(state)
+                .additionalParameters(Map.of("nonce", "n-0S6_WzA2Mj"))
+                .attributes(Map.of("registration_id", "naver"))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.petplate.petplate.common.config;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 마이그레이션으로 만든 스키마에서 자주 호출되는 파생 쿼리가 인덱스를 타는지 EXPLAIN 으로 확인한다.
+ * H2는 항상 검사하고, MySQL은 -Ppetplate.explain.mysql-url(-user, -password)이 주어진 경우에만 검사한다.
+ */
+class HotQueryExplainTest {
+    private static final String MYSQL_URL = System.getProperty("petplate.explain.mysql-url");
+
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // 테스트마다 만든 H2 인메모리 DB 정리
+        if (jdbcTemplate != null && jdbcTemplate.getDataSource() instanceof JdbcDataSource) {
+            jdbcTemplate.execute("shutdown");
+        }
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("findByPetIdAndCreatedAtBetween",
+                        "select * from daily_meal where pet_id = 1 and created_at between '2024-01-01 00:00:00' and '2024-01-01 23:59:59'",
+                        "idx_daily_meal_pet_id_created_at"),
+                Arguments.of("findByPetIdOrderByCreatedAtDesc",
+                        "select * from daily_meal where pet_id = 1 order by created_at desc",
+                        "idx_daily_meal_pet_id_created_at"),
+                Arguments.of("findAllByDailyMealCreatedAtBetween",
+                        "select * from daily_meal where created_at between '2024-01-01 00:00:00' and '2024-01-01 23:59:59'",
+                        "idx_daily_meal_created_at"),
+                Arguments.of("DailyRaw.findByDailyMealId",
+                        "select * from daily_raw where daily_meal_id = 1", "idx_daily_raw_daily_meal_id"),
+                Arguments.of("DailyFeed.findByDailyMealId",
+                        "select * from daily_feed where daily_meal_id = 1", "idx_daily_feed_daily_meal_id"),
+                Arguments.of("DailyPackagedSnack.findByDailyMealId",
+                        "select * from daily_packaged_snack where daily_meal_id = 1", "idx_daily_packaged_snack_daily_meal_id"),
+                Arguments.of("DailyBookMarkedRaw.findByDailyMealId",
+                        "select * from daily_book_marked_raw where daily_meal_id = 1", "idx_daily_book_marked_raw_daily_meal_id"),
+                Arguments.of("DailyBookMarkedFeed.findByDailyMealId",
+                        "select * from daily_book_marked_feed where daily_meal_id = 1", "idx_daily_book_marked_feed_daily_meal_id"),
+                Arguments.of("DailyBookMarkedPackagedSnack.findByDailyMealId",
+                        "select * from daily_book_marked_packaged_snack where daily_meal_id = 1", "idx_daily_book_marked_packaged_snack_daily_meal_id"),
+                Arguments.of("DeficientNutrient.existsByDailyMealIdAndName",
+                        "select deficient_nutrient_id from deficient_nutrient where daily_meal_id = 1 and name = '단백질'",
+                        "idx_deficient_nutrient_daily_meal_id_name"),
+                Arguments.of("ProperNutrient.existsByDailyMealIdAndName",
+                        "select proper_nutrient_id from proper_nutrient where daily_meal_id = 1 and name = '단백질'",
+                        "idx_proper_nutrient_daily_meal_id_name"),
+                Arguments.of("SufficientNutrient.findByDailyMealId",
+                        "select * from sufficient_nutrient where daily_meal_id = 1", "idx_sufficient_nutrient_daily_meal_id_name"),
+                Arguments.of("findByUsername",
+                        "select * from users where username = 'naver_user' and deleted = false",
+                        "idx_users_username_social_type_deleted"),
+                Arguments.of("findBySocialTypeAndUsername",
+                        "select * from users where social_type = 'NAVER' and username = 'naver_user' and deleted = false",
+                        "idx_users_username_social_type_deleted"),
+                Arguments.of("BookMarkedRaw.findByUserId",
+                        "select * from book_marked_raw where user_id = 1", "idx_book_marked_raw_user_id_raw_id_serving"),
+                Arguments.of("BookMarkedFeed.existsByUserIdAndNameAndServing",
+                        "select book_marked_feed_id from book_marked_feed where user_id = 1 and name = '사료' and serving = 100",
+                        "idx_book_marked_feed_user_id_name_serving"),
+                Arguments.of("Pet.findByOwnerId",
+                        "select * from pet where user_id = 1", "idx_pet_user_id"),
+                Arguments.of("RawProhibitedByAllergy.findRawIdsByPetId",
+                        "select raw_id from raw_prohibited_by_allergy where allergy_id in (1, 2)",
+                        "idx_raw_prohibited_by_allergy_allergy_id_raw_id")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("H2: 자주 호출되는 쿼리는 인덱스를 사용")
+    void explainOnH2(String query, String sql, String expectedIndex) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        migrate(dataSource, "h2");
+
+        // H2의 EXPLAIN 결과는 사용하는 인덱스를 주석으로 포함한 실행 계획 문자열 한 줄
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class);
+
+        Assertions.assertTrue(plan.toLowerCase().contains(expectedIndex), query + " => " + plan);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("MySQL: 자주 호출되는 쿼리는 인덱스를 사용")
+    void explainOnMySql(String query, String sql, String expectedIndex) {
+        Assumptions.assumeTrue(MYSQL_URL != null, "petplate.explain.mysql-url 이 없으면 생략");
+
+        DataSource dataSource = new DriverManagerDataSource(MYSQL_URL,
+                System.getProperty("petplate.explain.mysql-user"), System.getProperty("petplate.explain.mysql-password"));
+        migrate(dataSource, "mysql");
+
+        // MySQL의 EXPLAIN 결과는 테이블마다 한 행이며, key 컬럼이 사용한 인덱스
+        List<String> keys = jdbcTemplate.query("explain " + sql, (rs, rowNum) -> rs.getString("key"));
+
+        Assertions.assertTrue(keys.contains(expectedIndex), query + " => " + keys);
+    }
+
+    private void migrate(DataSource dataSource, String vendor) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/" + vendor)
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+}
@@ -0,0 +1,142 @@
+package com.petplate.petplate.common.config;
+
+import com.petplate.petplate.auth.oauth.CustomOAuth2User;
+import com.petplate.petplate.auth.oauth.service.CustomOAuth2UserService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationExchange;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 네이버 대신 로컬 스텁 서버(JDK HttpServer)로 토큰 발급, 사용자 정보 조회를 호출한다
+ */
+@SpringBootTest
+@Transactional
+class OAuth2HttpClientConfigTest {
+    private static final String REDIRECT_URI = "http://localhost/login/oauth2/code/naver";
+    private static final String TOKEN_RESPONSE =
+            "{\"access_token\":\"stub-access-token\",\"refresh_token\":\"stub-refresh-token\",\"token_type\":\"bearer\",\"expires_in\":3600}";
+    private static final String USER_INFO_RESPONSE =
+            "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{\"id\":\"stub-id\",\"email\":\"stub@naver.com\",\"name\":\"stub\"}}";
+
+    private static HttpServer stubServer;
+    private static final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> accessTokenResponseClient;
+    @Autowired
+    private CustomOAuth2UserService customOAuth2UserService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/token", exchange -> respond(exchange, TOKEN_RESPONSE));
+        stubServer.createContext("/me", exchange -> respond(exchange, USER_INFO_RESPONSE));
+        stubServer.start();
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("토큰 발급과 사용자 정보 조회가 하나의 keep-alive 연결을 재사용")
+    void reuseConnection() {
+        clientPorts.clear();
+        ClientRegistration clientRegistration = clientRegistration();
+
+        OAuth2AccessTokenResponse first = accessTokenResponseClient.getTokenResponse(grantRequest(clientRegistration));
+        OAuth2AccessTokenResponse second = accessTokenResponseClient.getTokenResponse(grantRequest(clientRegistration));
+        CustomOAuth2User user = (CustomOAuth2User) customOAuth2UserService.loadUser(
+                new OAuth2UserRequest(clientRegistration, second.getAccessToken()));
+
+        Assertions.assertEquals("stub-access-token", first.getAccessToken().getTokenValue());
+        Assertions.assertEquals("stub-refresh-token", second.getRefreshToken().getTokenValue());
+        Assertions.assertEquals("stub@naver.com", user.getUsername());
+        Assertions.assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    @DisplayName("연결 풀 상태를 메트릭으로 노출")
+    void bindPoolMetrics() {
+        Gauge maxConnections = meterRegistry.find("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "oauth2")
+                .gauge();
+
+        Assertions.assertNotNull(maxConnections);
+        Assertions.assertEquals(50, maxConnections.value());
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static ClientRegistration clientRegistration() {
+        String baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+
+        return ClientRegistration.withRegistrationId("naver")
+                .clientId("stub-client")
+                .clientSecret("stub-secret")
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_POST)
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri(REDIRECT_URI)
+                .scope("name", "email")
+                .authorizationUri(baseUrl + "/authorize")
+                .tokenUri(baseUrl + "/token")
+                .userInfoUri(baseUrl + "/me")
+                .userNameAttributeName("response")
+                .build();
+    }
+
+    private static OAuth2AuthorizationCodeGrantRequest grantRequest(ClientRegistration clientRegistration) {
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(clientRegistration.getProviderDetails().getAuthorizationUri())
+                .clientId(clientRegistration.getClientId())
+                .redirectUri(REDIRECT_URI)
+                .state("state")
+                .build();
+        OAuth2AuthorizationResponse authorizationResponse = OAuth2AuthorizationResponse.success("code")
+                .redirectUri(REDIRECT_URI)
+                .state("state")
+                .build();
+
+        return new OAuth2AuthorizationCodeGrantRequest(clientRegistration,
+                new OAuth2AuthorizationExchange(authorizationRequest, authorizationResponse));
+    }
+}
@@ -0,0 +1,191 @@
+package com.petplate.petplate.common.datasource;
+
+import com.petplate.petplate.common.metrics.RedisOperationTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+class ReplicaRoutingDataSourceTest {
+    private JdbcDataSource primary;
+    private JdbcDataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        // 서로 다른 두 H2 인스턴스에 어느 DB인지 알 수 있는 값을 저장
+        primary = h2("primary");
+        replica = h2("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+        shutdown(primary);
+        shutdown(replica);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary로 라우팅")
+    void routeByReadOnly() {
+        // given
+        route(0);
+
+        // when, then
+        Assertions.assertEquals("primary", readWrite.execute(status -> whereAmI()));
+        Assertions.assertEquals("replica", readOnly.execute(status -> whereAmI()));
+        Assertions.assertEquals("primary", whereAmI());  // 트랜잭션 밖
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 유저는 일정 시간 동안 primary에서 읽음")
+    void readYourWrites() {
+        // given
+        route(60_000);
+        login("writer");
+
+        // when
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("insert into marker (name) values ('written')"));
+
+        // then
+        Assertions.assertEquals("primary", readOnly.execute(status -> whereAmI()));
+
+        login("other");
+        Assertions.assertEquals("replica", readOnly.execute(status -> whereAmI()));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 쓰기를 커밋한 유저도 Redis 기록을 보고 primary에서 읽음")
+    @SuppressWarnings("unchecked")
+    void readYourWritesAcrossInstances() {
+        // given
+        StringRedisTemplate stringRedisTemplate = Mockito.mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = Mockito.mock(ValueOperations.class);
+        Mockito.when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        RedisOperationTimer redisOperationTimer = new RedisOperationTimer(new SimpleMeterRegistry());
+        login("writer");
+
+        // when
+        new ReadYourWritesTracker(60_000, stringRedisTemplate, redisOperationTimer).markWrite();
+        Mockito.when(stringRedisTemplate.hasKey("read-your-writes:writer")).thenReturn(true);
+
+        // then
+        Mockito.verify(valueOperations).set("read-your-writes:writer", "1", Duration.ofMinutes(1));
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                new ReadYourWritesTracker(60_000, stringRedisTemplate, redisOperationTimer), 0);
+        useDataSource(routingDataSource);
+        Assertions.assertEquals("primary", readOnly.execute(status -> whereAmI()));
+
+        login("other");
+        Assertions.assertEquals("replica", readOnly.execute(status -> whereAmI()));
+
+        // Redis 오류 시에는 이 인스턴스의 기록만 사용
+        login("writer");
+        Mockito.when(stringRedisTemplate.hasKey("read-your-writes:writer"))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        Assertions.assertEquals("replica", readOnly.execute(status -> whereAmI()));
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 롤백되면 read-your-writes 대상이 아님")
+    void rollbackIsNotSticky() {
+        // given
+        route(60_000);
+        login("writer");
+
+        // when
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into marker (name) values ('rollback')");
+            status.setRollbackOnly();
+        });
+
+        // then
+        Assertions.assertEquals("replica", readOnly.execute(status -> whereAmI()));
+    }
+
+    @Test
+    @DisplayName("replica에 연결할 수 없으면 primary에서 읽고, 헬스 체크로 복구")
+    void failover() {
+        // given
+        route(0);
+        JdbcDataSource brokenReplica = new JdbcDataSource();
+        brokenReplica.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        ReplicaRoutingDataSource failoverDataSource = new ReplicaRoutingDataSource(primary, List.of(brokenReplica),
+                new ReadYourWritesTracker(0), 0);
+        useDataSource(failoverDataSource);
+
+        // when, then
+        Assertions.assertEquals("primary", readOnly.execute(status -> whereAmI()));
+        Assertions.assertFalse(failoverDataSource.isHealthy(0));
+
+        // replica 복구 후 헬스 체크
+        brokenReplica.setURL(replica.getURL());
+        failoverDataSource.checkHealth();
+        Assertions.assertTrue(failoverDataSource.isHealthy(0));
+        Assertions.assertEquals("replica", readOnly.execute(status -> whereAmI()));
+        failoverDataSource.close();
+    }
+
+    private void route(long readYourWritesMillis) {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                new ReadYourWritesTracker(readYourWritesMillis), 0);
+        useDataSource(routingDataSource);
+    }
+
+    private void useDataSource(DataSource target) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(target);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("select name from whoami", String.class);
+    }
+
+    private static void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, "", List.of()));
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table whoami (name varchar(20))");
+        jdbcTemplate.execute("create table marker (name varchar(20))");
+        jdbcTemplate.update("insert into whoami (name) values (?)", name);
+        return dataSource;
+    }
+
+    private static void shutdown(JdbcDataSource dataSource) {
+        new JdbcTemplate(dataSource).execute("shutdown");
+    }
+}
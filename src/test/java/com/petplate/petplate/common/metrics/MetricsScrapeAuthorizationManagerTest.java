@@ -0,0 +1,36 @@
+package com.petplate.petplate.common.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+class MetricsScrapeAuthorizationManagerTest {
+
+    @Test
+    @DisplayName("설정한 수집 토큰과 같을 때만 허용")
+    void matchScrapeToken() {
+        MetricsScrapeAuthorizationManager manager = new MetricsScrapeAuthorizationManager("scrape-token");
+
+        Assertions.assertTrue(manager.check(() -> null, context("Bearer scrape-token")).isGranted());
+        Assertions.assertFalse(manager.check(() -> null, context("Bearer other-token")).isGranted());
+        Assertions.assertFalse(manager.check(() -> null, context(null)).isGranted());
+    }
+
+    @Test
+    @DisplayName("수집 토큰을 설정하지 않으면 모두 거절")
+    void denyWithoutScrapeToken() {
+        MetricsScrapeAuthorizationManager manager = new MetricsScrapeAuthorizationManager("");
+
+        Assertions.assertFalse(manager.check(() -> null, context("Bearer ")).isGranted());
+    }
+
+    private RequestAuthorizationContext context(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return new RequestAuthorizationContext(request);
+    }
+}
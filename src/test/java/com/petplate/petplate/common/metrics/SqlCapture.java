@@ -0,0 +1,66 @@
+package com.petplate.petplate.common.metrics;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Map;
+
+/**
+ * 테스트에서 실행된 SQL을 수집하여 N+1 회귀를 검증한다.
+ * <pre>
+ * try (SqlCapture capture = SqlCapture.start()) {
+ *     rawService.getRawByKeyword("토마토");
+ *     capture.assertNoRepeatedStatement();
+ * }
+ * </pre>
+ * 수집은 현재 스레드에서 실행된 SQL만 대상으로 한다.
+ */
+public class SqlCapture implements AutoCloseable {
+    private final RequestQueryStats stats;
+
+    private SqlCapture(RequestQueryStats stats) {
+        this.stats = stats;
+    }
+
+    public static SqlCapture start() {
+        return new SqlCapture(RequestQueryStats.begin());
+    }
+
+    public int getStatementCount() {
+        return stats.getStatementCount();
+    }
+
+    public int getMaxRepeat() {
+        return stats.getMaxRepeat();
+    }
+
+    // 같은 형태의 SQL이 두 번 이상 실행되지 않았는지 검증
+    public void assertNoRepeatedStatement() {
+        assertMaxRepeat(1);
+    }
+
+    // 같은 형태의 SQL이 maxRepeat번 이하로 실행되었는지 검증
+    public void assertMaxRepeat(int maxRepeat) {
+        stats.getFingerprintCounts().forEach((fingerprint, count) ->
+                Assertions.assertTrue(count <= maxRepeat,
+                        () -> "같은 SQL이 " + count + "번 실행되었습니다 (최대 " + maxRepeat + "번). sql=" + fingerprint));
+    }
+
+    // 실행된 statement 수가 maxCount 이하인지 검증
+    public void assertStatementCountAtMost(int maxCount) {
+        Assertions.assertTrue(stats.getStatementCount() <= maxCount,
+                () -> "SQL이 " + stats.getStatementCount() + "번 실행되었습니다 (최대 " + maxCount + "번). " + describe());
+    }
+
+    private String describe() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Integer> entry : stats.getFingerprintCounts().entrySet()) {
+            builder.append('\n').append(entry.getValue()).append(" x ").append(entry.getKey());
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void close() {
+        RequestQueryStats.end();
+    }
+}
@@ -0,0 +1,33 @@
+package com.petplate.petplate.common.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlFingerprintTest {
+
+    @Test
+    @DisplayName("리터럴만 다른 SQL은 같은 fingerprint")
+    void sameShape() {
+        Assertions.assertEquals(
+                SqlFingerprint.of("select * from raw where raw_id = 3 and name = '사과'"),
+                SqlFingerprint.of("SELECT *  FROM raw\n WHERE raw_id = 12 AND name = 'it''s'"));
+        Assertions.assertEquals("select * from raw where raw_id = ? and name = ?",
+                SqlFingerprint.of("select * from raw where raw_id = 3 and name = '사과'"));
+    }
+
+    @Test
+    @DisplayName("IN 목록의 길이는 무시")
+    void inList() {
+        Assertions.assertEquals(
+                SqlFingerprint.of("select * from raw r1_0 where r1_0.raw_id in (?, ?, ?)"),
+                SqlFingerprint.of("select * from raw r1_0 where r1_0.raw_id in (1)"));
+    }
+
+    @Test
+    @DisplayName("식별자에 포함된 숫자는 유지")
+    void identifierNumber() {
+        Assertions.assertEquals("select r1_0.name from raw r1_0 where r1_0.raw_id = ?",
+                SqlFingerprint.of("select r1_0.name from raw r1_0 where r1_0.raw_id = ?"));
+    }
+}
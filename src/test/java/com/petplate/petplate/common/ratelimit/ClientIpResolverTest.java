@@ -0,0 +1,41 @@
+package com.petplate.petplate.common.ratelimit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+class ClientIpResolverTest {
+    private final ClientIpResolver clientIpResolver = new ClientIpResolver(List.of("10.0.0.0/8"));
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For 의 클라이언트 주소 사용")
+    void forwardedByTrustedProxy() {
+        Assertions.assertEquals("203.0.113.7", clientIpResolver.resolve(request("10.0.0.1", "203.0.113.7")));
+        Assertions.assertEquals("203.0.113.7", clientIpResolver.resolve(request("10.0.0.1", "203.0.113.7, 10.0.0.2")));
+    }
+
+    @Test
+    @DisplayName("클라이언트가 앞에 넣은 X-Forwarded-For 값은 무시")
+    void ignoreSpoofedForwardedFor() {
+        Assertions.assertEquals("203.0.113.7", clientIpResolver.resolve(request("10.0.0.1", "198.51.100.1, 203.0.113.7")));
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 요청은 X-Forwarded-For 를 따르지 않음")
+    void untrustedRemoteAddr() {
+        Assertions.assertEquals("203.0.113.9", clientIpResolver.resolve(request("203.0.113.9", "198.51.100.1")));
+        Assertions.assertEquals("10.0.0.1", clientIpResolver.resolve(request("10.0.0.1", null)));
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
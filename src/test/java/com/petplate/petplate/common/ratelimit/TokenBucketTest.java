@@ -0,0 +1,92 @@
+package com.petplate.petplate.common.ratelimit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("capacity 만큼 허용한 뒤 채워질 때까지 기다려야 함")
+    void consumeUntilEmpty() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(0, bucket.tryConsume(0));
+        }
+        Assertions.assertEquals(SECOND, bucket.tryConsume(0), 1);
+        Assertions.assertEquals(SECOND / 2, bucket.tryConsume(SECOND / 2), 1);
+        Assertions.assertEquals(0, bucket.tryConsume(SECOND));
+        Assertions.assertEquals(3, bucket.drainPending());
+        Assertions.assertEquals(0, bucket.drainPending());
+    }
+
+    @Test
+    @DisplayName("토큰은 capacity 를 넘어 채워지지 않음")
+    void refillUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 2, 0);
+        bucket.tryConsume(0);
+
+        Assertions.assertEquals(5, bucket.getTokens(100 * SECOND), 1e-9);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 사용한 만큼만 빼고 같은 윈도우에서 중복으로 빼지 않음")
+    void applyRemoteUsage() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // 이 인스턴스 2개 + 다른 인스턴스 3개
+        bucket.applyRemote(1, 5, bucket.drainPending(), 0);
+        Assertions.assertEquals(5, bucket.getTokens(0), 1e-9);
+
+        // 새로 사용한 양이 없으면 그대로
+        bucket.applyRemote(1, 5, 0, 0);
+        Assertions.assertEquals(5, bucket.getTokens(0), 1e-9);
+
+        // 새 윈도우에서는 다시 계산
+        bucket.applyRemote(2, 4, 0, 0);
+        Assertions.assertEquals(1, bucket.getTokens(0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 사용량이 많아도 토큰은 -capacity 아래로 내려가지 않음")
+    void floorRemoteUsage() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+
+        bucket.applyRemote(1, 1000, 0, 0);
+
+        Assertions.assertEquals(-10, bucket.getTokens(0), 1e-9);
+        Assertions.assertEquals(11 * SECOND, bucket.tryConsume(0), 1);
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태로 오래 사용하지 않은 버킷만 유휴 상태")
+    void idle() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.tryConsume(0);
+
+        Assertions.assertFalse(bucket.isIdle(10 * SECOND, 5 * SECOND));
+        bucket.drainPending();
+        Assertions.assertTrue(bucket.isIdle(10 * SECOND, 5 * SECOND));
+        Assertions.assertFalse(bucket.isIdle(3 * SECOND, 5 * SECOND));
+    }
+
+    @Test
+    @DisplayName("확인만 하면 토큰을 사용하지 않음")
+    void waitWithoutConsume() {
+        TokenBucket bucket = new TokenBucket(1, 1, 0);
+
+        Assertions.assertEquals(0, bucket.waitNanos(0));
+        Assertions.assertEquals(0, bucket.waitNanos(0));
+        Assertions.assertEquals(0, bucket.drainPending());
+
+        bucket.consume(0);
+        Assertions.assertEquals(SECOND, bucket.waitNanos(0), 1);
+        Assertions.assertEquals(1, bucket.drainPending());
+    }
+}
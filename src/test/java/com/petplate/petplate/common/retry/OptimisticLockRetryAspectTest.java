@@ -0,0 +1,56 @@
+package com.petplate.petplate.common.retry;
+
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+class OptimisticLockRetryAspectTest {
+    private final OptimisticLockRetryAspect aspect = new OptimisticLockRetryAspect();
+    private ProceedingJoinPoint joinPoint;
+
+    @BeforeEach
+    void setUp() {
+        joinPoint = Mockito.mock(ProceedingJoinPoint.class);
+        Mockito.when(joinPoint.getSignature()).thenReturn(Mockito.mock(Signature.class));
+    }
+
+    @Test
+    @DisplayName("충돌하면 다시 실행해 결과를 반환")
+    void retryOnConflict() throws Throwable {
+        Mockito.when(joinPoint.proceed())
+                .thenThrow(conflict())
+                .thenThrow(conflict())
+                .thenReturn(1L);
+
+        Assertions.assertEquals(1L, aspect.retry(joinPoint));
+        Mockito.verify(joinPoint, Mockito.times(3)).proceed();
+    }
+
+    @Test
+    @DisplayName("MAX_ATTEMPTS 번 모두 충돌하면 예외를 던짐")
+    void giveUpAfterMaxAttempts() throws Throwable {
+        Mockito.when(joinPoint.proceed()).thenThrow(conflict());
+
+        Assertions.assertThrows(ObjectOptimisticLockingFailureException.class, () -> aspect.retry(joinPoint));
+        Mockito.verify(joinPoint, Mockito.times(OptimisticLockRetryAspect.MAX_ATTEMPTS)).proceed();
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 다시 실행하지 않음")
+    void noRetryOnOtherException() throws Throwable {
+        Mockito.when(joinPoint.proceed()).thenThrow(new IllegalStateException());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> aspect.retry(joinPoint));
+        Mockito.verify(joinPoint, Mockito.times(1)).proceed();
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(DailyMeal.class, 1L);
+    }
+}
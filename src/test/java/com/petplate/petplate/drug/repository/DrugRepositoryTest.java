@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.petplate.petplate.common.EmbeddedType.StandardNutrient;
+import com.petplate.petplate.common.metrics.DataSourceProxyBeanPostProcessor;
+import com.petplate.petplate.common.metrics.SqlCapture;
 import com.petplate.petplate.drug.domain.entity.Drug;
 import com.petplate.petplate.drug.domain.entity.DrugNutrient;
 import java.util.List;
@@ -16,9 +18,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = Replace.ANY)
+@Import(DataSourceProxyBeanPostProcessor.class)
 class DrugRepositoryTest {
 
     @Autowired
@@ -27,6 +32,9 @@ class DrugRepositoryTest {
     @Autowired
     private DrugNutrientRepository drugNutrientRepository;
 
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     @BeforeEach
     public void initDrugNutrientAndDrug(){
 
@@ -174,5 +182,21 @@ class DrugRepositoryTest {
         assertThat(drugList.size()).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("전체 영양제를 영양소와 함께 조회할 때 N+1이 발생하지 않음")
+    public void 전체_영양제_영양소_함께_조회(){
+        //given
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //when, then
+        try (SqlCapture capture = SqlCapture.start()) {
+            List<Drug> drugList = drugRepository.findAllWithDrugNutrients();
+
+            assertThat(drugList.size()).isEqualTo(3);
+            assertThat(drugList.stream().mapToInt(drug -> drug.getDrugNutrientList().size()).sum()).isEqualTo(8);
+            capture.assertNoRepeatedStatement();
+        }
+    }
 
-}
\ No newline at end of file
+}
@@ -186,7 +186,7 @@ class DrugCRUDServiceTest {
 
         //given
         List<Drug> drugList=List.of(getTestDrug(),getTestDrug());
-        given(drugRepository.findAll()).willReturn(drugList);
+        given(drugRepository.findAllWithDrugNutrients()).willReturn(drugList);
 
         //when
         List<DrugResponseDto> drugResponseDtoList = drugCRUDService.showAllDrug();
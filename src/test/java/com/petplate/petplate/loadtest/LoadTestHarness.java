@@ -0,0 +1,235 @@
+package com.petplate.petplate.loadtest;
+
+import com.petplate.petplate.auth.jwt.TokenProvider;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * bootRunLocal로 실행한 애플리케이션의 주요 API에 목표 RPS로 부하를 주는 하네스.
+ * <p>
+ * 요청은 응답을 기다리지 않고 일정한 간격으로 보내며(open model), 지연 시간은 예정된 전송 시각부터 측정하여
+ * 서버가 느려졌을 때 지연이 가려지지 않도록 한다. 결과는 API별 p50/p99/최대 지연 시간과 처리량으로 출력하고
+ * loadtest.report 파일(JSON)로 남겨 변경 전후를 비교할 수 있게 한다.
+ * <p>
+ * 계정은 SyntheticDataSeeder가 남긴 username,petId 목록을 사용하며, 토큰은 같은 jwt.secret으로 직접 발급한다.
+ */
+public class LoadTestHarness {
+    private static final String AUTHORITIES = "GENERAL";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(32))
+            .build();
+
+    private final String baseUrl;
+    private final int rps;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final Path report;
+    private final List<Account> accounts;
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestHarness().run();
+    }
+
+    private LoadTestHarness() throws IOException {
+        this.baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        this.rps = Integer.getInteger("loadtest.rps", 50);
+        this.warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+        this.durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+        this.report = Path.of(System.getProperty("loadtest.report", "build/loadtest/report.json"));
+        this.accounts = loadAccounts(Path.of(System.getProperty("loadtest.accounts", "build/seed/accounts.csv")));
+
+        String today = LocalDate.now().toString();
+        String keyword = URLEncoder.encode(System.getProperty("loadtest.keyword", "자연식"), StandardCharsets.UTF_8);
+        this.scenarios = List.of(
+                new Scenario("오늘 식사 내역 조회", 30, account -> "/api/v1/pet/" + account.petId + "/dailyMeals?date=" + today),
+                new Scenario("전체 식사 내역 조회", 10, account -> "/api/v1/pet/" + account.petId + "/dailyMeals"),
+                new Scenario("자연식 검색", 25, account -> "/api/v1/raws?keyword=" + keyword),
+                new Scenario("반려견 영양소 조회", 15, account -> "/api/v1/pets/" + account.petId + "/nutrients"),
+                new Scenario("음식 추천", 10, account -> "/api/v1/pets/" + account.petId + "/foods/recommend"),
+                new Scenario("영양제 목록 조회", 10, account -> "/api/v1/drugs")
+        );
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("부하 테스트: %s, %d rps, 워밍업 %ds, 측정 %ds, 계정 %d개%n",
+                baseUrl, rps, warmupSeconds, durationSeconds, accounts.size());
+
+        drive(warmupSeconds, null);
+
+        Map<Scenario, Recorder> recorders = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> recorders.put(scenario, new Recorder()));
+        long start = System.nanoTime();
+        drive(durationSeconds, recorders);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        print(recorders, elapsedSeconds);
+        writeReport(recorders, elapsedSeconds);
+        System.exit(0);
+    }
+
+    // seconds 동안 rps 간격으로 요청을 보내고, 보낸 요청이 모두 끝날 때까지 기다린다
+    private void drive(int seconds, Map<Scenario, Recorder> recorders) throws InterruptedException {
+        if (seconds <= 0) {
+            return;
+        }
+
+        long intervalNanos = 1_000_000_000L / rps;
+        long total = (long) rps * seconds;
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(7);
+        Phaser inFlight = new Phaser(1);
+
+        for (long n = 0; n < total; n++) {
+            long scheduledAt = start + n * intervalNanos;
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+
+            Scenario scenario = pick(random.nextInt(totalWeight));
+            Account account = accounts.get(random.nextInt(accounts.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path.apply(account)))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + account.accessToken)
+                    .GET()
+                    .build();
+
+            inFlight.register();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, throwable) -> {
+                        if (recorders != null) {
+                            boolean success = throwable == null && response.statusCode() < 400;
+                            recorders.get(scenario).record(System.nanoTime() - scheduledAt, success);
+                        }
+                        inFlight.arriveAndDeregister();
+                    });
+        }
+
+        inFlight.arriveAndAwaitAdvance();
+    }
+
+    private Scenario pick(int value) {
+        for (Scenario scenario : scenarios) {
+            value -= scenario.weight;
+            if (value < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private void print(Map<Scenario, Recorder> recorders, double elapsedSeconds) {
+        System.out.printf("%n%-16s %8s %8s %10s %10s %10s %10s%n", "API", "요청", "실패", "처리량/s", "p50(ms)", "p99(ms)", "최대(ms)");
+        Recorder all = new Recorder();
+        recorders.forEach((scenario, recorder) -> {
+            Summary summary = recorder.summarize(elapsedSeconds);
+            System.out.printf("%-16s %8d %8d %10.1f %10.2f %10.2f %10.2f%n", scenario.name, summary.count, summary.errors,
+                    summary.throughput, summary.p50Millis, summary.p99Millis, summary.maxMillis);
+            all.merge(recorder);
+        });
+        Summary summary = all.summarize(elapsedSeconds);
+        System.out.printf("%-16s %8d %8d %10.1f %10.2f %10.2f %10.2f%n", "전체", summary.count, summary.errors,
+                summary.throughput, summary.p50Millis, summary.p99Millis, summary.maxMillis);
+    }
+
+    private void writeReport(Map<Scenario, Recorder> recorders, double elapsedSeconds) throws IOException {
+        StringJoiner results = new StringJoiner(",\n", "[\n", "\n  ]");
+        recorders.forEach((scenario, recorder) -> {
+            Summary summary = recorder.summarize(elapsedSeconds);
+            results.add(String.format(Locale.ROOT,
+                    "    {\"api\": \"%s\", \"count\": %d, \"errors\": %d, \"throughput\": %.2f, \"p50Millis\": %.3f, \"p99Millis\": %.3f, \"maxMillis\": %.3f}",
+                    scenario.name, summary.count, summary.errors, summary.throughput, summary.p50Millis, summary.p99Millis, summary.maxMillis));
+        });
+
+        String json = String.format(Locale.ROOT, "{%n  \"targetRps\": %d,%n  \"durationSeconds\": %.1f,%n  \"results\": %s%n}%n",
+                rps, elapsedSeconds, results);
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        Files.writeString(report, json);
+        System.out.println("\n결과 저장: " + report.toAbsolutePath());
+    }
+
+    private static List<Account> loadAccounts(Path path) throws IOException {
+        String secret = System.getProperty("jwt.secret");
+        long validationTime = Long.getLong("jwt.validationTime", 86400L);
+        TokenProvider tokenProvider = new TokenProvider(secret, validationTime);
+        tokenProvider.afterPropertiesSet();
+
+        List<Account> accounts = new ArrayList<>();
+        List<String> lines = Files.readAllLines(path);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            String username = columns[0];
+            accounts.add(new Account(Long.parseLong(columns[1]),
+                    tokenProvider.createTokenByUserProperty(username, AUTHORITIES).getAccessToken()));
+        }
+
+        if (accounts.isEmpty()) {
+            throw new IllegalStateException("계정 목록이 비어 있습니다: " + path.toAbsolutePath());
+        }
+        return accounts;
+    }
+
+    private record Account(Long petId, String accessToken) {
+    }
+
+    private record Scenario(String name, int weight, Function<Account, String> path) {
+    }
+
+    private record Summary(long count, long errors, double throughput, double p50Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static final class Recorder {
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong errors = new AtomicLong();
+
+        private void record(long latencyNanos, boolean success) {
+            latencies.add(latencyNanos);
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        private void merge(Recorder other) {
+            latencies.addAll(other.latencies);
+            errors.addAndGet(other.errors.get());
+        }
+
+        private Summary summarize(double elapsedSeconds) {
+            long[] sorted;
+            synchronized (latencies) {
+                sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            if (sorted.length == 0) {
+                return new Summary(0, errors.get(), 0, 0, 0, 0);
+            }
+            return new Summary(sorted.length, errors.get(), sorted.length / elapsedSeconds,
+                    percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.petplate.petplate.medicalcondition.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+@SpringBootTest
+class ProhibitedRawServiceTest {
+    private static final Long PET_ID = 987_654L;
+
+    @Autowired
+    private ProhibitedRawService prohibitedRawService;
+
+    @Test
+    @DisplayName("제거 전까지 같은 비트맵을 반환")
+    void cached() {
+        prohibitedRawService.evict(PET_ID);
+
+        BitSet first = prohibitedRawService.getProhibitedRaws(PET_ID);
+
+        Assertions.assertSame(first, prohibitedRawService.getProhibitedRaws(PET_ID));
+    }
+
+    @Test
+    @DisplayName("evict 하면 다시 읽음")
+    void evict() {
+        BitSet before = prohibitedRawService.getProhibitedRaws(PET_ID);
+
+        prohibitedRawService.evict(PET_ID);
+
+        Assertions.assertNotSame(before, prohibitedRawService.getProhibitedRaws(PET_ID));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 발행한 제거 메시지를 받으면 다시 읽음")
+    void evictByMessage() {
+        BitSet before = prohibitedRawService.getProhibitedRaws(PET_ID);
+
+        prohibitedRawService.onMessage(new DefaultMessage(ProhibitedRawService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                PET_ID.toString().getBytes(StandardCharsets.UTF_8)), null);
+
+        Assertions.assertNotSame(before, prohibitedRawService.getProhibitedRaws(PET_ID));
+    }
+}
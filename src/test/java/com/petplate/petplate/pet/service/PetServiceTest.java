@@ -2,6 +2,7 @@ package com.petplate.petplate.pet.service;
 
 import com.petplate.petplate.common.EmbeddedType.Nutrient;
 import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.common.response.error.ErrorCode;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
 import com.petplate.petplate.medicalcondition.domain.entity.Allergy;
@@ -33,8 +34,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -67,7 +70,7 @@ class PetServiceTest {
     private String user4Username = null;
 
     private Long pet1Id = null;
-    @Autowired
+    @SpyBean
     private PetAllergyRepository petAllergyRepository;
     @Autowired
     private PetDiseaseRepository petDiseaseRepository;
@@ -241,6 +244,27 @@ class PetServiceTest {
         assertThrows(BadRequestException.class, () -> petService.createPet(user4Username, newPetDto)); // pet 2, membership 없음 => 등록 불가능
     }
 
+    @Test
+    @DisplayName("탈퇴한 유저의 토큰(유저 PK)으로는 펫 등록 불가")
+    void addPetByDeletedUserId() {
+        // given
+        CreatePetRequestDto newPetDto =
+                CreatePetRequestDto.builder()
+                        .name("newPet")
+                        .age(8).weight(13).activity(Activity.ACTIVE)
+                        .neutering(Neutering.INTACT).build();
+        User user4 = userRepository.findByUsername(user4Username).get();
+        Long user4Id = user4.getId();
+
+        // when
+        petService.createPet(user4Id, newPetDto);
+        userRepository.delete(user4);
+
+        // then
+        assertThrows(NotFoundException.class, () -> petService.createPet(user4Id, newPetDto));
+        assertThrows(NotFoundException.class, () -> petService.createPet(-1L, newPetDto));
+    }
+
     @Test
     @DisplayName("유저의 모든 펫 조회하기")
     void getAllPets() {
@@ -383,6 +407,52 @@ class PetServiceTest {
         Assertions.assertThrows(BadRequestException.class, () -> petService.createPetAllergy(user1Username, pet1Id, request2));  // 이미 보유한 질병 재등록시 예외 발생
     }
 
+    @Test
+    @DisplayName("동시에 같은 알러지를 등록해 중복 확인을 통과해도 이미 등록된 알러지로 처리")
+    public void addPetAllergyConcurrently() {
+        //given
+        Allergy allergy = allergyRepository.findByName("당근").get();
+        CreatePetAllergyRequestDto request = CreatePetAllergyRequestDto.builder().allergyId(allergy.getId()).build();
+        petService.createPetAllergy(user1Username, pet1Id, request);
+
+        // 다른 요청이 확인한 시점에는 아직 등록되지 않았던 경우
+        Mockito.doReturn(false).when(petAllergyRepository).existsByPetIdAndAllergyId(pet1Id, allergy.getId());
+
+        //when, then
+        BadRequestException exception = Assertions.assertThrows(BadRequestException.class,
+                () -> petService.createPetAllergy(user1Username, pet1Id, request));
+        Assertions.assertEquals(ErrorCode.PET_ALLERGY_ALREADY_EXISTS.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("펫에 알러지, 질병 일괄 등록")
+    public void addPetConditions() throws Exception {
+        //given
+        Allergy allergy1 = allergyRepository.findByName("당근").get();
+        Allergy allergy2 = allergyRepository.findByName("소고기").get();
+        Disease disease1 = diseaseRepository.findByName("눈물자국").get();
+        Disease disease2 = diseaseRepository.findByName("피부질환").get();
+
+        petService.createPetAllergy(user1Username, pet1Id, CreatePetAllergyRequestDto.builder().allergyId(allergy1.getId()).build());
+
+        CreatePetConditionsRequestDto request = CreatePetConditionsRequestDto.builder()
+                .allergyIds(List.of(allergy1.getId(), allergy2.getId(), allergy2.getId()))
+                .diseaseIds(List.of(disease1.getId(), disease2.getId()))
+                .build();
+        CreatePetConditionsRequestDto wrongRequest = CreatePetConditionsRequestDto.builder()
+                .allergyIds(List.of(allergy1.getId(), -1L))
+                .diseaseIds(List.of())
+                .build();
+
+        //when
+        petService.createPetConditions(user1Username, pet1Id, request);
+
+        //then
+        Assertions.assertEquals(2, petAllergyRepository.findByPetId(pet1Id).size());  // 이미 등록된 알러지, 중복된 알러지는 건너뜀
+        Assertions.assertEquals(2, petDiseaseRepository.findByPetId(pet1Id).size());
+        Assertions.assertThrows(BadRequestException.class, () -> petService.createPetConditions(user1Username, pet1Id, wrongRequest));  // 존재하지 않는 알러지 포함시 예외 발생
+    }
+
     @Test
     @DisplayName("펫에 질병 등록 및 조회")
     public void getPetDiseases() throws Exception {
@@ -486,6 +556,46 @@ class PetServiceTest {
         Assertions.assertEquals(500, petKcalToday.getKcal());
     }
 
+    @Test
+    @DisplayName("홈 화면 정보를 한 번에 조회")
+    public void getPetDashboard() throws Exception {
+        //given
+
+        //when
+        ReadPetDashboardResponseDto dashboard = petService.getPetDashboard(user1Username, pet1Id);
+
+        //then
+        Assertions.assertEquals(pet1Id, dashboard.getPet().getPetId());
+        Assertions.assertEquals(500, dashboard.getKcal());
+        Assertions.assertEquals(petService.getPetProperKcal(user1Username, pet1Id).getKcal(), dashboard.getProperKcal());
+        Assertions.assertEquals(petService.getPetKcalRatioToday(user1Username, pet1Id).getRatio(), dashboard.getKcalRatio(), 1e-9);
+        Assertions.assertEquals(petService.getPetNutrientToday(user1Username, pet1Id).size(), dashboard.getNutrients().size());
+        Assertions.assertEquals(petService.getDeficientNutrient(user1Username, pet1Id, LocalDate.now()).size(), dashboard.getDeficientNutrients().size());
+        Assertions.assertThrows(BadRequestException.class, () -> petService.getPetDashboard(user2Username, pet1Id));
+    }
+
+    @Test
+    @DisplayName("같은 날 식사 내역이 중복 생성되어도 가장 최근 식사 내역으로 홈 화면 조회")
+    public void getPetDashboardWithDuplicateDailyMeal() throws Exception {
+        //given
+        Pet pet = petRepository.findById(pet1Id).get();
+        Nutrient nutrient = Nutrient.builder()
+                .carbonHydrate(10)
+                .fat(1)
+                .vitamin(Vitamin.builder().vitaminA(1).vitaminD(1).vitaminE(1).build())
+                .phosphorus(1)
+                .calcium(1)
+                .protein(10)
+                .build();
+        dailyMealRepository.saveAndFlush(new DailyMeal(nutrient, pet, 700));
+
+        //when
+        ReadPetDashboardResponseDto dashboard = petService.getPetDashboard(user1Username, pet1Id);
+
+        //then
+        Assertions.assertEquals(700, dashboard.getKcal());
+    }
+
     @Test
     @DisplayName("반려견의 적정 섭취 칼로리")
     public void getPetProperKcal() throws Exception {
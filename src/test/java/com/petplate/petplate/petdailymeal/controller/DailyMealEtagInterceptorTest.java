@@ -0,0 +1,198 @@
+package com.petplate.petplate.petdailymeal.controller;
+
+import com.petplate.petplate.auth.jwt.JwtUserPrincipal;
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRevision;
+import com.petplate.petplate.petdailymeal.service.TodayMeal;
+import com.petplate.petplate.petdailymeal.service.TodayMealService;
+import com.petplate.petplate.user.domain.Role;
+import com.petplate.petplate.user.domain.SocialType;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@SpringBootTest
+@Transactional
+class DailyMealEtagInterceptorTest {
+    @Autowired
+    private DailyMealRepository dailyMealRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PetRepository petRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private DailyMealEtagInterceptor interceptor;
+    private TodayMealService todayMealService;
+    private Pet pet;
+    private DailyMeal dailyMeal;
+
+    @BeforeEach
+    void setUp() {
+        todayMealService = Mockito.mock(TodayMealService.class);
+        Mockito.when(todayMealService.getCached(Mockito.anyLong())).thenReturn(Optional.empty());
+        interceptor = new DailyMealEtagInterceptor(dailyMealRepository, todayMealService);
+
+        User user = userRepository.save(User.builder()
+                .name("etag")
+                .role(Role.GENERAL)
+                .username("etag_user")
+                .password("etag")
+                .activated(true)
+                .isReceiveAd(false)
+                .phoneNumber("010-0000-0000")
+                .socialType(SocialType.NAVER)
+                .build());
+
+        pet = petRepository.save(Pet.builder()
+                .owner(user)
+                .name("etag pet")
+                .age(3)
+                .weight(5)
+                .activity(Activity.ACTIVE)
+                .neutering(Neutering.NEUTERED)
+                .build());
+
+        dailyMeal = dailyMealRepository.save(DailyMeal.builder()
+                .pet(pet)
+                .kcal(0)
+                .nutrient(Nutrient.builder()
+                        .vitamin(Vitamin.builder().build())
+                        .build())
+                .build());
+        entityManager.flush();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new JwtUserPrincipal(user.getId(), user.getUsername(), List.of()), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("ETag 가 일치하면 304, 식사 내역이 바뀌면 새 ETag")
+    void notModified() {
+        // 처음 조회
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        Assertions.assertTrue(interceptor.preHandle(kcalRequest(null), first, null));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        Assertions.assertNotNull(etag);
+        Assertions.assertEquals("no-cache, private", first.getHeader(HttpHeaders.CACHE_CONTROL));
+
+        // 같은 ETag 로 다시 조회
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        Assertions.assertFalse(interceptor.preHandle(kcalRequest(etag), notModified, null));
+        Assertions.assertEquals(304, notModified.getStatus());
+
+        // 음식 섭취 후 조회
+        dailyMealRepository.findById(dailyMeal.getId()).orElseThrow().addKcal(100);
+        entityManager.flush();
+
+        MockHttpServletResponse modified = new MockHttpServletResponse();
+        Assertions.assertTrue(interceptor.preHandle(kcalRequest(etag), modified, null));
+        Assertions.assertNotEquals(etag, modified.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("영양 분석 결과만 바뀌어도 revision 이 증가해 새 ETag")
+    void increaseRevision() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(kcalRequest(null), first, null);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        long revision = dailyMeal.getRevision();
+
+        dailyMealRepository.increaseRevision(dailyMeal.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Assertions.assertEquals(revision + 1, dailyMealRepository.findById(dailyMeal.getId()).orElseThrow().getRevision());
+        MockHttpServletResponse modified = new MockHttpServletResponse();
+        Assertions.assertTrue(interceptor.preHandle(kcalRequest(etag), modified, null));
+        Assertions.assertNotEquals(etag, modified.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("오늘 식사 내역 해시가 있으면 DB 를 조회하지 않고 같은 ETag")
+    void todayFromCache() {
+        MockHttpServletResponse fromDb = new MockHttpServletResponse();
+        interceptor.preHandle(kcalRequest(null), fromDb, null);
+
+        Mockito.when(todayMealService.getCached(pet.getId())).thenReturn(Optional.of(cachedToday("etag_user")));
+        DailyMealRepository unusedRepository = Mockito.mock(DailyMealRepository.class);
+        DailyMealEtagInterceptor cachedInterceptor = new DailyMealEtagInterceptor(unusedRepository, todayMealService);
+
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        Assertions.assertFalse(cachedInterceptor.preHandle(kcalRequest(fromDb.getHeader(HttpHeaders.ETAG)), notModified, null));
+        Assertions.assertEquals(304, notModified.getStatus());
+        Mockito.verifyNoInteractions(unusedRepository);
+    }
+
+    @Test
+    @DisplayName("해시의 주인이 아니면 DB 로 본인 확인")
+    void todayFromCacheNotOwner() {
+        Mockito.when(todayMealService.getCached(pet.getId())).thenReturn(Optional.of(cachedToday("other_user")));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Assertions.assertTrue(interceptor.preHandle(kcalRequest(null), response, null));
+        Assertions.assertNotNull(response.getHeader(HttpHeaders.ETAG));  // DB 조회 결과 본인의 반려견
+    }
+
+    @Test
+    @DisplayName("본인의 반려견이 아니면 ETag 없이 컨트롤러로 넘김")
+    void notOwner() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new JwtUserPrincipal(null, "other_user", List.of()), null, List.of()));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Assertions.assertTrue(interceptor.preHandle(kcalRequest(null), response, null));
+        Assertions.assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    private TodayMeal cachedToday(String ownerUsername) {
+        TodayMeal today = Mockito.mock(TodayMeal.class);
+        Mockito.when(today.getDailyMealId()).thenReturn(dailyMeal.getId());
+        Mockito.when(today.getRevision()).thenReturn(dailyMeal.getRevision());
+        Mockito.when(today.getOwnerUsername()).thenReturn(ownerUsername);
+        Mockito.when(today.getPetProfile()).thenReturn(
+                DailyMealRevision.petProfile(pet.getWeight(), pet.getAge(), pet.getActivity(), pet.getNeutering()));
+        return today;
+    }
+
+    private MockHttpServletRequest kcalRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/pets/" + pet.getId() + "/kcal");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("petId", pet.getId().toString()));
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,239 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.common.response.error.exception.BadRequestException;
+import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import com.petplate.petplate.pet.dto.request.CreatePetRequestDto;
+import com.petplate.petplate.pet.service.PetService;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.dto.request.*;
+import com.petplate.petplate.petdailymeal.dto.response.ReadDailyMealBatchResponseDto;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedFeed;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedPackagedSnack;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
+import com.petplate.petplate.petfood.domain.entity.Raw;
+import com.petplate.petplate.petfood.repository.BookMarkedFeedRepository;
+import com.petplate.petplate.petfood.repository.BookMarkedPackagedSnackRepository;
+import com.petplate.petplate.petfood.repository.BookMarkedRawRepository;
+import com.petplate.petplate.petfood.repository.RawRepository;
+import com.petplate.petplate.user.domain.Role;
+import com.petplate.petplate.user.domain.SocialType;
+import com.petplate.petplate.user.domain.entity.MemberShip;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.domain.entity.UserMemberShip;
+import com.petplate.petplate.user.repository.MemberShipRepository;
+import com.petplate.petplate.user.repository.UserMemberShipRepository;
+import com.petplate.petplate.user.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class DailyMealBatchServiceTest {
+    @Autowired
+    private DailyMealBatchService dailyMealBatchService;
+    @Autowired
+    private DailyRawService dailyRawService;
+    @Autowired
+    private DailyFeedService dailyFeedService;
+    @Autowired
+    private DailyPackagedSnackService dailyPackagedSnackService;
+    @Autowired
+    private DailyBookMarkedRawService dailyBookMarkedRawService;
+    @Autowired
+    private DailyBookMarkedFeedService dailyBookMarkedFeedService;
+    @Autowired
+    private DailyBookMarkedPackagedSnackService dailyBookMarkedPackagedSnackService;
+    @Autowired
+    private PetService petService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MemberShipRepository memberShipRepository;
+    @Autowired
+    private UserMemberShipRepository userMemberShipRepository;
+    @Autowired
+    private DailyMealRepository dailyMealRepository;
+    @Autowired
+    private RawRepository rawRepository;
+    @Autowired
+    private BookMarkedRawRepository bookMarkedRawRepository;
+    @Autowired
+    private BookMarkedFeedRepository bookMarkedFeedRepository;
+    @Autowired
+    private BookMarkedPackagedSnackRepository bookMarkedPackagedSnackRepository;
+
+    private String username;
+    private Long singlePetId;
+    private Long batchPetId;
+    private Long beefId;
+    private Long chickenId;
+    private Long bookMarkedRawId;
+    private Long bookMarkedFeedId;
+    private Long bookMarkedPackagedSnackId;
+    private Long otherBookMarkedFeedId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().name("batch").role(Role.GENERAL)
+                .username("batch_user").password("batch")
+                .activated(true).isReceiveAd(false)
+                .phoneNumber("010-1111-1111")
+                .socialType(SocialType.NAVER)
+                .build());
+        User other = userRepository.save(User.builder().name("other").role(Role.GENERAL)
+                .username("batch_other").password("other")
+                .activated(true).isReceiveAd(false)
+                .phoneNumber("010-2222-2222")
+                .socialType(SocialType.NAVER)
+                .build());
+        username = user.getUsername();
+
+        // 반려견을 두 마리 등록하기 위한 멤버십
+        MemberShip memberShip = memberShipRepository.save(new MemberShip("1년짜리 멤버십", 10000, 365));
+        userMemberShipRepository.save(new UserMemberShip(memberShip, user));
+
+        // 같은 음식을 한 반려견은 하나씩, 다른 반려견은 한 번에 기록한다
+        singlePetId = petService.createPet(username, CreatePetRequestDto.builder()
+                .name("single").age(3).weight(5).activity(Activity.ACTIVE).neutering(Neutering.INTACT)
+                .build()).getId();
+        batchPetId = petService.createPet(username, CreatePetRequestDto.builder()
+                .name("batch").age(3).weight(5).activity(Activity.ACTIVE).neutering(Neutering.INTACT)
+                .build()).getId();
+
+        Raw beef = rawRepository.save(Raw.builder()
+                .name("소고기").standardAmount(100).kcal(250)
+                .nutrient(nutrient(0, 26, 15, 0.01, 0.2, 0, 0.1, 0.4))
+                .build());
+        Raw chicken = rawRepository.save(Raw.builder()
+                .name("닭고기").standardAmount(100).kcal(109)
+                .nutrient(nutrient(0.4, 23, 1.2, 0.01, 0.2, 0.01, 0.1, 0.2))
+                .build());
+        beefId = beef.getId();
+        chickenId = chicken.getId();
+
+        bookMarkedRawId = bookMarkedRawRepository.save(BookMarkedRaw.builder()
+                .raw(chicken).serving(150).user(user)
+                .build()).getId();
+        bookMarkedFeedId = bookMarkedFeedRepository.save(BookMarkedFeed.builder()
+                .name("사료").serving(80).kcal(300).user(user)
+                .nutrient(nutrient(30, 20, 10, 1, 0.8, 100, 10, 5))
+                .build()).getId();
+        bookMarkedPackagedSnackId = bookMarkedPackagedSnackRepository.save(BookMarkedPackagedSnack.builder()
+                .name("간식").serving(20).kcal(70).user(user)
+                .nutrient(nutrient(10, 3, 2, 0.1, 0.1, 5, 1, 0.5))
+                .build()).getId();
+        otherBookMarkedFeedId = bookMarkedFeedRepository.save(BookMarkedFeed.builder()
+                .name("다른 사람 사료").serving(80).kcal(300).user(other)
+                .nutrient(nutrient(30, 20, 10, 1, 0.8, 100, 10, 5))
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("한 번에 기록한 칼로리, 영양소는 음식을 하나씩 기록했을 때와 같음")
+    void batchEqualsSingleItemPaths() {
+        // given
+        CreateDailyRawRequestDto beef = new CreateDailyRawRequestDto(beefId, 120);
+        CreateDailyRawRequestDto chicken = new CreateDailyRawRequestDto(chickenId, 75);
+        CreateDailyFeedRequestDto feed = new CreateDailyFeedRequestDto(60, "건식 사료", 350, 40, 25, 12, 1.2, 1, 0.5, 0.3, 0.2);
+        CreateDailyPackagedSnackRequestDto packagedSnack = new CreateDailyPackagedSnackRequestDto(15, "육포", 320, 5, 60, 8, 0.3, 0.4, 0.1, 0.1, 0.1);
+
+        // when
+        dailyRawService.createDailyRaw(username, singlePetId, beef);
+        dailyRawService.createDailyRaw(username, singlePetId, chicken);
+        dailyFeedService.createDailyFeed(username, singlePetId, feed);
+        dailyPackagedSnackService.createDailyPackagedSnack(username, singlePetId, packagedSnack);
+        dailyBookMarkedRawService.createDailyBookMarkedRaw(username, singlePetId, new CreateDailyBookMarkedRawRequestDto(bookMarkedRawId));
+        dailyBookMarkedFeedService.createDailyBookMarkedFeed(username, singlePetId, new CreateDailyBookMarkedFeedRequestDto(bookMarkedFeedId));
+        dailyBookMarkedPackagedSnackService.createDailyBookMarkedPackagedSnack(username, singlePetId,
+                new CreateDailyBookMarkedPackagedSnackRequestDto(bookMarkedPackagedSnackId));
+
+        ReadDailyMealBatchResponseDto response = dailyMealBatchService.createDailyMealBatch(username, batchPetId,
+                CreateDailyMealBatchRequestDto.builder()
+                        .raws(List.of(beef, chicken))
+                        .feeds(List.of(feed))
+                        .packagedSnacks(List.of(packagedSnack))
+                        .bookMarkedRaws(List.of(new CreateDailyBookMarkedRawRequestDto(bookMarkedRawId)))
+                        .bookMarkedFeeds(List.of(new CreateDailyBookMarkedFeedRequestDto(bookMarkedFeedId)))
+                        .bookMarkedPackagedSnacks(List.of(new CreateDailyBookMarkedPackagedSnackRequestDto(bookMarkedPackagedSnackId)))
+                        .build());
+
+        // then
+        DailyMeal single = dailyMealRepository.findByPetIdOrderByCreatedAtDesc(singlePetId).get(0);
+        DailyMeal batch = dailyMealRepository.findById(response.getDailyMealId()).get();
+
+        Assertions.assertEquals(single.getKcal(), batch.getKcal(), 1e-6);
+        assertNutrientEquals(single.getNutrient(), batch.getNutrient());
+
+        Assertions.assertEquals(2, response.getDailyRawIds().size());
+        Assertions.assertEquals(1, response.getDailyFeedIds().size());
+        Assertions.assertEquals(1, response.getDailyPackagedSnackIds().size());
+        Assertions.assertEquals(1, response.getDailyBookMarkedRawIds().size());
+        Assertions.assertEquals(1, response.getDailyBookMarkedFeedIds().size());
+        Assertions.assertEquals(1, response.getDailyBookMarkedPackagedSnackIds().size());
+        Assertions.assertTrue(response.getProhibitedRawIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("다른 유저의 즐겨찾기가 포함되면 아무것도 기록하지 않음")
+    void rejectOtherUserBookMark() {
+        // when
+        Assertions.assertThrows(BadRequestException.class, () -> dailyMealBatchService.createDailyMealBatch(username, batchPetId,
+                CreateDailyMealBatchRequestDto.builder()
+                        .raws(List.of(new CreateDailyRawRequestDto(beefId, 100)))
+                        .bookMarkedFeeds(List.of(new CreateDailyBookMarkedFeedRequestDto(bookMarkedFeedId),
+                                new CreateDailyBookMarkedFeedRequestDto(otherBookMarkedFeedId)))
+                        .build()));
+
+        // then
+        Assertions.assertTrue(dailyMealRepository.findByPetIdOrderByCreatedAtDesc(batchPetId).stream()
+                .allMatch(dailyMeal -> dailyMeal.getKcal() == 0));
+    }
+
+    @Test
+    @DisplayName("음식이 하나도 없는 요청은 기록할 수 없음")
+    void rejectEmptyRequest() {
+        Assertions.assertThrows(BadRequestException.class, () -> dailyMealBatchService.createDailyMealBatch(username, batchPetId,
+                CreateDailyMealBatchRequestDto.builder().build()));
+        Assertions.assertTrue(dailyMealRepository.findByPetIdOrderByCreatedAtDesc(batchPetId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 자연식이 포함되면 기록할 수 없음")
+    void rejectNotFoundRaw() {
+        Assertions.assertThrows(NotFoundException.class, () -> dailyMealBatchService.createDailyMealBatch(username, batchPetId,
+                CreateDailyMealBatchRequestDto.builder()
+                        .raws(List.of(new CreateDailyRawRequestDto(beefId, 100), new CreateDailyRawRequestDto(-1L, 100)))
+                        .build()));
+    }
+
+    private static void assertNutrientEquals(Nutrient expected, Nutrient actual) {
+        Assertions.assertEquals(expected.getCarbonHydrate(), actual.getCarbonHydrate(), 1e-6);
+        Assertions.assertEquals(expected.getProtein(), actual.getProtein(), 1e-6);
+        Assertions.assertEquals(expected.getFat(), actual.getFat(), 1e-6);
+        Assertions.assertEquals(expected.getCalcium(), actual.getCalcium(), 1e-6);
+        Assertions.assertEquals(expected.getPhosphorus(), actual.getPhosphorus(), 1e-6);
+        Assertions.assertEquals(expected.getVitamin().getVitaminA(), actual.getVitamin().getVitaminA(), 1e-6);
+        Assertions.assertEquals(expected.getVitamin().getVitaminD(), actual.getVitamin().getVitaminD(), 1e-6);
+        Assertions.assertEquals(expected.getVitamin().getVitaminE(), actual.getVitamin().getVitaminE(), 1e-6);
+    }
+
+    private static Nutrient nutrient(double carbonHydrate, double protein, double fat, double calcium,
+                                     double phosphorus, double vitaminA, double vitaminD, double vitaminE) {
+        return Nutrient.builder()
+                .carbonHydrate(carbonHydrate).protein(protein).fat(fat).calcium(calcium).phosphorus(phosphorus)
+                .vitamin(Vitamin.builder().vitaminA(vitaminA).vitaminD(vitaminD).vitaminE(vitaminE).build())
+                .build();
+    }
+}
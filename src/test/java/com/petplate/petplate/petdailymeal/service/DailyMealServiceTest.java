@@ -2,6 +2,7 @@ package com.petplate.petplate.petdailymeal.service;
 
 import com.petplate.petplate.common.EmbeddedType.Nutrient;
 import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.common.metrics.SqlCapture;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
 import com.petplate.petplate.dailyMealNutrient.service.DeficientNutrientService;
@@ -29,6 +30,7 @@ import com.petplate.petplate.user.domain.entity.UserMemberShip;
 import com.petplate.petplate.user.repository.MemberShipRepository;
 import com.petplate.petplate.user.repository.UserMemberShipRepository;
 import com.petplate.petplate.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +40,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @SpringBootTest
@@ -75,6 +78,8 @@ class DailyMealServiceTest {
     ProperNutrientService properNutrientService;
     @Autowired
     SufficientNutrientService sufficientNutrientService;
+    @Autowired
+    private EntityManager entityManager;
 
     private String user1Username;
     private Long pet1Id;
@@ -428,6 +433,70 @@ class DailyMealServiceTest {
         Assertions.assertThrows(NotFoundException.class, () -> dailyMealService.getDailyMealWithFoods(user1Username, pet2Id, -12345L));
     }
 
+    @Test
+    @DisplayName("모든 식사 내역을 섭취 음식과 함께 조회할 때 N+1이 발생하지 않음")
+    public void getDailyMealsWithAllFoods() throws Exception {
+        //given
+        Pet pet1 = petRepository.findById(pet1Id).get();
+        User user1 = userRepository.findByUsername(user1Username).get();
+        List<Long> dailyMealIds = new ArrayList<>(List.of(dailyMealId));
+        for (int i = 0; i < 2; i++) {
+            Nutrient nutrient = Nutrient.builder()
+                    .vitamin(Vitamin.builder().build())
+                    .build();
+            dailyMealIds.add(dailyMealRepository.save(new DailyMeal(nutrient, pet1, 100)).getId());
+        }
+
+        for (Long id : dailyMealIds) {
+            DailyMeal dailyMeal = dailyMealRepository.findById(id).get();
+            Raw raw = rawRepository.save(Raw.builder()
+                    .name("raw" + id)
+                    .description("raw description")
+                    .kcal(100)
+                    .standardAmount(100)
+                    .nutrient(Nutrient.builder()
+                            .protein(10)
+                            .vitamin(Vitamin.builder().vitaminA(1).build())
+                            .build())
+                    .build());
+
+            dailyRawRepository.save(DailyRaw.builder()
+                    .raw(raw)
+                    .serving(100)
+                    .dailyMeal(dailyMeal)
+                    .build());
+
+            BookMarkedRaw bookMarkedRaw = bookMarkedRawRepository.save(BookMarkedRaw.builder()
+                    .raw(raw)
+                    .serving(200)
+                    .user(user1)
+                    .build());
+            dailyBookMarkedRawRepository.save(DailyBookMarkedRaw.builder()
+                    .bookMarkedRaw(bookMarkedRaw)
+                    .dailyMeal(dailyMeal)
+                    .build());
+        }
+
+        // 영속성 컨텍스트에 남은 음식으로 지연 로딩이 가려지지 않도록 비운다
+        entityManager.flush();
+        entityManager.clear();
+
+        //when, then
+        try (SqlCapture capture = SqlCapture.start()) {
+            List<ReadDailyMealFoodResponseDto> dailyMeals = dailyMealService.getDailyMealsWithAllFoods(user1Username, pet1Id);
+
+            Assertions.assertEquals(3, dailyMeals.size());
+            dailyMeals.forEach(dailyMeal -> {
+                Assertions.assertEquals(1, dailyMeal.getDailyRaws().size());
+                Assertions.assertEquals(1, dailyMeal.getDailyBookMarkedRaws().size());
+                Assertions.assertEquals("raw" + dailyMeal.getDailyMealId(), dailyMeal.getDailyRaws().get(0).getName());
+                Assertions.assertEquals("raw" + dailyMeal.getDailyMealId(), dailyMeal.getDailyBookMarkedRaws().get(0).getName());
+                Assertions.assertTrue(dailyMeal.getDailyFeeds().isEmpty());
+            });
+            capture.assertNoRepeatedStatement();
+        }
+    }
+
     @Test
     @DisplayName("영양분석")
     public void dailyMealNutrient() throws Exception{
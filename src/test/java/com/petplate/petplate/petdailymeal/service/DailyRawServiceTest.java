@@ -3,14 +3,21 @@ package com.petplate.petplate.petdailymeal.service;
 import com.petplate.petplate.common.EmbeddedType.Nutrient;
 import com.petplate.petplate.common.EmbeddedType.Vitamin;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.medicalcondition.domain.entity.Allergy;
+import com.petplate.petplate.medicalcondition.domain.entity.RawProhibitedByAllergy;
+import com.petplate.petplate.medicalcondition.repository.AllergyRepository;
+import com.petplate.petplate.medicalcondition.repository.RawProhibitedByAllergyRepository;
 import com.petplate.petplate.pet.domain.Activity;
 import com.petplate.petplate.pet.domain.Neutering;
 import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.domain.entity.PetAllergy;
 import com.petplate.petplate.pet.dto.request.CreatePetRequestDto;
+import com.petplate.petplate.pet.repository.PetAllergyRepository;
 import com.petplate.petplate.pet.repository.PetRepository;
 import com.petplate.petplate.pet.service.PetService;
 import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
 import com.petplate.petplate.petdailymeal.dto.request.CreateDailyRawRequestDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadCreatedDailyRawResponseDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyRawResponseDto;
 import com.petplate.petplate.petdailymeal.dto.response.ReadDailyRawWithRawIdResponseDto;
 import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
@@ -67,6 +74,12 @@ class DailyRawServiceTest {
     private RawService rawService;
     @Autowired
     private DailyRawRepository dailyRawRepository;
+    @Autowired
+    private AllergyRepository allergyRepository;
+    @Autowired
+    private RawProhibitedByAllergyRepository rawProhibitedByAllergyRepository;
+    @Autowired
+    private PetAllergyRepository petAllergyRepository;
 
 
     @BeforeEach
@@ -205,6 +218,26 @@ class DailyRawServiceTest {
         Assertions.assertEquals(3, dailyRaws.size());
     }
 
+    @Test
+    @DisplayName("알러지로 금지된 자연식은 기록하고 응답에 prohibited=true")
+    void createProhibitedDailyRaw() {
+        // given
+        Allergy allergy = allergyRepository.save(Allergy.builder().name("소고기 알러지").description("소고기 못먹음").build());
+        rawProhibitedByAllergyRepository.save(RawProhibitedByAllergy.builder()
+                .allergy(allergy).raw(rawRepository.findById(raw1Id).get()).build());
+        petAllergyRepository.save(PetAllergy.builder()
+                .pet(petRepository.findById(pet2Id).get()).allergy(allergy).build());
+
+        // when
+        ReadCreatedDailyRawResponseDto 소고기 = dailyRawService.createDailyRaw(user1Username, pet2Id, new CreateDailyRawRequestDto(raw1Id, 100));
+        ReadCreatedDailyRawResponseDto 닭고기 = dailyRawService.createDailyRaw(user1Username, pet2Id, new CreateDailyRawRequestDto(raw2Id, 100));
+
+        // then
+        Assertions.assertTrue(소고기.isProhibited());
+        Assertions.assertFalse(닭고기.isProhibited());
+        Assertions.assertTrue(dailyRawRepository.findById(소고기.getId()).isPresent());
+    }
+
     @Test
     @DisplayName("특정 dailyRaw 조회")
     void getDailyRaw() {
@@ -212,7 +245,7 @@ class DailyRawServiceTest {
         CreateDailyRawRequestDto 소고기 = new CreateDailyRawRequestDto(raw1Id, 100);
 
         // when
-        Long dailyRawId = dailyRawService.createDailyRaw(user1Username, pet2Id, 소고기);
+        Long dailyRawId = dailyRawService.createDailyRaw(user1Username, pet2Id, 소고기).getId();
 
         // then
         dailyRawService.getDailyRaw(user1Username, pet2Id, dailyRawId);
@@ -246,8 +279,8 @@ class DailyRawServiceTest {
         CreateDailyRawRequestDto 닭고기 = new CreateDailyRawRequestDto(raw2Id, 100);
 
         // when
-        Long dailyRawId1 = dailyRawService.createDailyRaw(user1Username, pet2Id, 소고기);
-        Long dailyRawId2 = dailyRawService.createDailyRaw(user1Username, pet2Id, 닭고기);
+        Long dailyRawId1 = dailyRawService.createDailyRaw(user1Username, pet2Id, 소고기).getId();
+        Long dailyRawId2 = dailyRawService.createDailyRaw(user1Username, pet2Id, 닭고기).getId();
 
         dailyMealId = dailyMealRepository.findByPetIdOrderByCreatedAtDesc(pet2Id).get(0).getId();
 
@@ -0,0 +1,180 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.StandardNutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.common.response.error.exception.BadRequestException;
+import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.dto.response.ReadPetNutrientResponseDto;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.dto.request.CreateDailyRawRequestDto;
+import com.petplate.petplate.petdailymeal.dto.request.PreviewIntakeRequestDto;
+import com.petplate.petplate.petdailymeal.dto.response.ReadIntakePreviewResponseDto;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petfood.domain.entity.Raw;
+import com.petplate.petplate.petfood.repository.RawRepository;
+import com.petplate.petplate.petfood.service.RawNutrientDensityMatrix;
+import com.petplate.petplate.user.domain.Role;
+import com.petplate.petplate.user.domain.SocialType;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class IntakePreviewServiceTest {
+    @Autowired
+    private IntakePreviewService intakePreviewService;
+    @Autowired
+    private DailyRawService dailyRawService;
+    @Autowired
+    private RawNutrientDensityMatrix rawNutrientDensityMatrix;
+    @Autowired
+    private RawRepository rawRepository;
+    @Autowired
+    private DailyMealRepository dailyMealRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PetRepository petRepository;
+
+    private Pet pet;
+    private Long beefId;
+    private Long chickenId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .name("preview")
+                .role(Role.GENERAL)
+                .username("preview_user")
+                .password("preview")
+                .activated(true)
+                .isReceiveAd(false)
+                .phoneNumber("010-0000-0000")
+                .socialType(SocialType.NAVER)
+                .build());
+
+        pet = petRepository.save(Pet.builder()
+                .owner(user)
+                .name("preview pet")
+                .age(3)
+                .weight(5)
+                .activity(Activity.ACTIVE)
+                .neutering(Neutering.NEUTERED)
+                .build());
+
+        beefId = rawRepository.save(Raw.builder()
+                .name("소고기")
+                .standardAmount(100)
+                .kcal(30)
+                .nutrient(Nutrient.builder()
+                        .protein(10)
+                        .fat(20)
+                        .vitamin(Vitamin.builder().vitaminA(5).build())
+                        .build())
+                .build()).getId();
+        chickenId = rawRepository.save(Raw.builder()
+                .name("닭고기")
+                .standardAmount(50)
+                .kcal(20)
+                .nutrient(Nutrient.builder()
+                        .protein(5)
+                        .calcium(1)
+                        .vitamin(Vitamin.builder().vitaminD(2).build())
+                        .build())
+                .build()).getId();
+
+        // 테스트 트랜잭션 안에서 추가한 자연식이 행렬에 포함되도록 다시 생성
+        rawNutrientDensityMatrix.onMessage(new DefaultMessage(new byte[0], "invalidate".getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Test
+    @DisplayName("오늘 식사 내역이 없으면 입력한 자연식만으로 계산")
+    void previewWithoutDailyMeal() {
+        ReadIntakePreviewResponseDto preview = intakePreviewService.previewIntake("preview_user", pet.getId(),
+                new PreviewIntakeRequestDto(List.of(new CreateDailyRawRequestDto(beefId, 200), new CreateDailyRawRequestDto(chickenId, 100))));
+
+        Assertions.assertEquals(0, preview.getKcal());
+        Assertions.assertEquals(60 + 40, preview.getPreviewKcal(), 1e-9);
+        Assertions.assertEquals(0, amount(preview.getNutrients(), StandardNutrient.PROTEIN));
+        Assertions.assertEquals(20 + 10, amount(preview.getPreviewNutrients(), StandardNutrient.PROTEIN), 1e-9);
+        Assertions.assertEquals(2, amount(preview.getPreviewNutrients(), StandardNutrient.CALCIUM), 1e-9);
+    }
+
+    @Test
+    @DisplayName("미리 계산한 값은 실제로 기록했을 때의 칼로리, 영양소와 같고 저장되지 않음")
+    void previewMatchesRecorded() {
+        dailyRawService.createDailyRaw("preview_user", pet.getId(), new CreateDailyRawRequestDto(beefId, 100));
+        DailyMeal before = todayDailyMeal();
+        double kcalBefore = before.getKcal();
+        double proteinBefore = before.getNutrient().getProtein();
+
+        ReadIntakePreviewResponseDto preview = intakePreviewService.previewIntake("preview_user", pet.getId(),
+                new PreviewIntakeRequestDto(List.of(new CreateDailyRawRequestDto(chickenId, 150))));
+
+        Assertions.assertEquals(kcalBefore, preview.getKcal(), 1e-9);
+        Assertions.assertEquals(proteinBefore, amount(preview.getNutrients(), StandardNutrient.PROTEIN), 1e-9);
+        Assertions.assertEquals(kcalBefore, todayDailyMeal().getKcal(), 1e-9);
+
+        dailyRawService.createDailyRaw("preview_user", pet.getId(), new CreateDailyRawRequestDto(chickenId, 150));
+        DailyMeal after = todayDailyMeal();
+        Assertions.assertEquals(after.getKcal(), preview.getPreviewKcal(), 1e-9);
+        Assertions.assertEquals(after.getNutrient().getProtein(), amount(preview.getPreviewNutrients(), StandardNutrient.PROTEIN), 1e-9);
+        Assertions.assertEquals(after.getNutrient().getCalcium(), amount(preview.getPreviewNutrients(), StandardNutrient.CALCIUM), 1e-9);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 자연식은 계산할 수 없음")
+    void previewNotFoundRaw() {
+        Assertions.assertThrows(NotFoundException.class, () -> intakePreviewService.previewIntake("preview_user", pet.getId(),
+                new PreviewIntakeRequestDto(List.of(new CreateDailyRawRequestDto(-1L, 100)))));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 반려견은 계산할 수 없음")
+    void previewOtherUserPet() {
+        Assertions.assertThrows(BadRequestException.class, () -> intakePreviewService.previewIntake("other_user", pet.getId(),
+                new PreviewIntakeRequestDto(List.of(new CreateDailyRawRequestDto(beefId, 100)))));
+    }
+
+    @Test
+    @DisplayName("한 번에 50개를 넘는 자연식은 요청할 수 없음")
+    void previewTooManyRaws() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        List<CreateDailyRawRequestDto> raws = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            raws.add(new CreateDailyRawRequestDto(beefId, 100));
+        }
+
+        Assertions.assertTrue(validator.validate(new PreviewIntakeRequestDto(raws)).isEmpty());
+
+        raws.add(new CreateDailyRawRequestDto(beefId, 100));
+        Assertions.assertFalse(validator.validate(new PreviewIntakeRequestDto(raws)).isEmpty());
+    }
+
+    private DailyMeal todayDailyMeal() {
+        return dailyMealRepository.findByPetIdOrderByCreatedAtDesc(pet.getId()).get(0);
+    }
+
+    private double amount(List<ReadPetNutrientResponseDto> nutrients, StandardNutrient standardNutrient) {
+        return nutrients.get(standardNutrient.ordinal()).getAmount();
+    }
+}
@@ -0,0 +1,206 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.common.response.error.exception.BadRequestException;
+import com.petplate.petplate.common.response.error.exception.NotFoundException;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.dto.response.ReadMealStreamResponseDto;
+import com.petplate.petplate.user.domain.Role;
+import com.petplate.petplate.user.domain.SocialType;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@SpringBootTest
+@Transactional
+class MealStreamServiceTest {
+    @Autowired
+    private MealStreamService mealStreamService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PetRepository petRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @MockBean
+    private TodayMealService todayMealService;
+
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .name("stream")
+                .role(Role.GENERAL)
+                .username("stream_user")
+                .password("stream")
+                .activated(true)
+                .isReceiveAd(false)
+                .phoneNumber("010-0000-0000")
+                .socialType(SocialType.NAVER)
+                .build());
+
+        pet = petRepository.save(Pet.builder()
+                .owner(user)
+                .name("stream pet")
+                .age(3)
+                .weight(5)
+                .activity(Activity.ACTIVE)
+                .neutering(Neutering.NEUTERED)
+                .build());
+    }
+
+    @Test
+    @DisplayName("구독 직후 현재 섭취량을 {dailyMealId}:{revision} id 로 전송")
+    void subscribeSendsInitialEvent() throws IOException {
+        Mockito.when(todayMealService.getToday(pet.getId())).thenReturn(Optional.of(todayMeal(7L, 2, 300)));
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+
+        mealStreamService.subscribe("stream_user", pet.getId(), emitter);
+
+        ArgumentCaptor<SseEmitter.SseEventBuilder> event = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        Mockito.verify(emitter).send(event.capture());
+        String sent = text(event.getValue());
+        Assertions.assertTrue(sent.contains("event:meal\n"));
+        Assertions.assertTrue(sent.contains("id:7:2\n"));
+    }
+
+    @Test
+    @DisplayName("오늘 식사 내역이 없으면 id 0:0 으로 전송")
+    void subscribeWithoutDailyMeal() throws IOException {
+        Mockito.when(todayMealService.getToday(pet.getId())).thenReturn(Optional.empty());
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+
+        mealStreamService.subscribe("stream_user", pet.getId(), emitter);
+
+        ArgumentCaptor<SseEmitter.SseEventBuilder> event = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        Mockito.verify(emitter).send(event.capture());
+        Assertions.assertTrue(text(event.getValue()).contains("id:0:0\n"));
+    }
+
+    @Test
+    @DisplayName("다음 날 식사 내역의 이벤트 id 는 revision 이 작아도 전날보다 뒤")
+    void eventIdMonotonicAcrossDays() {
+        String yesterday = MealStreamService.eventId(ReadMealStreamResponseDto.of(pet, 7L, 15, 300, nutrient()));
+        String today = MealStreamService.eventId(ReadMealStreamResponseDto.of(pet, 8L, 0, 0, nutrient()));
+
+        Assertions.assertEquals("7:15", yesterday);
+        Assertions.assertEquals("8:0", today);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 반려견은 구독할 수 없음")
+    void subscribeOtherUserPet() {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+
+        Assertions.assertThrows(BadRequestException.class,
+                () -> mealStreamService.subscribe("other_user", pet.getId(), emitter));
+        Mockito.verifyNoInteractions(emitter);
+    }
+
+    @Test
+    @DisplayName("채널 메시지를 받으면 섭취량을 한 번 계산해서 구독한 연결 모두에 전송")
+    void onMessageFanOut() throws IOException {
+        Mockito.when(todayMealService.getToday(pet.getId())).thenReturn(Optional.of(todayMeal(7L, 1, 100)));
+        SseEmitter first = Mockito.mock(SseEmitter.class);
+        SseEmitter second = Mockito.mock(SseEmitter.class);
+        mealStreamService.subscribe("stream_user", pet.getId(), first);
+        mealStreamService.subscribe("stream_user", pet.getId(), second);
+
+        Mockito.when(todayMealService.getToday(pet.getId())).thenReturn(Optional.of(todayMeal(7L, 2, 300)));
+        mealStreamService.onMessage(message(pet.getId()), null);
+
+        // 구독 2번 + 메시지 1번
+        Mockito.verify(todayMealService, Mockito.times(3)).getToday(pet.getId());
+        for (SseEmitter emitter : new SseEmitter[]{first, second}) {
+            ArgumentCaptor<SseEmitter.SseEventBuilder> event = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+            Mockito.verify(emitter, Mockito.times(2)).send(event.capture());
+            Assertions.assertTrue(text(event.getValue()).contains("id:7:2\n"));
+        }
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결은 제거하고 이후 메시지는 보내지 않음")
+    void removeDeadEmitter() throws IOException {
+        Mockito.when(todayMealService.getToday(pet.getId())).thenReturn(Optional.of(todayMeal(7L, 1, 100)));
+        SseEmitter alive = Mockito.mock(SseEmitter.class);
+        SseEmitter dead = Mockito.mock(SseEmitter.class);
+        mealStreamService.subscribe("stream_user", pet.getId(), alive);
+        mealStreamService.subscribe("stream_user", pet.getId(), dead);
+
+        Mockito.doThrow(new IOException("broken pipe")).when(dead).send(Mockito.any(SseEmitter.SseEventBuilder.class));
+        mealStreamService.onMessage(message(pet.getId()), null);
+        mealStreamService.onMessage(message(pet.getId()), null);
+
+        Mockito.verify(alive, Mockito.times(3)).send(Mockito.any(SseEmitter.SseEventBuilder.class));
+        // 구독 1번 + 실패한 메시지 1번
+        Mockito.verify(dead, Mockito.times(2)).send(Mockito.any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("반려견이 삭제되었으면 구독한 연결을 종료")
+    void completeWhenPetNotFound() throws IOException {
+        Mockito.when(todayMealService.getToday(pet.getId())).thenReturn(Optional.empty());
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        mealStreamService.subscribe("stream_user", pet.getId(), emitter);
+
+        petRepository.delete(pet);
+        entityManager.flush();
+        mealStreamService.onMessage(message(pet.getId()), null);
+
+        Mockito.verify(emitter).complete();
+        Mockito.verify(emitter, Mockito.times(1)).send(Mockito.any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("없는 반려견은 구독할 수 없음")
+    void subscribeNotFoundPet() {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+
+        Assertions.assertThrows(NotFoundException.class,
+                () -> mealStreamService.subscribe("stream_user", -1L, emitter));
+    }
+
+    private TodayMeal todayMeal(Long dailyMealId, long revision, double kcal) {
+        return new TodayMeal(dailyMealId, revision, kcal, nutrient(), null, "owner", "profile");
+    }
+
+    private Nutrient nutrient() {
+        return Nutrient.builder()
+                .protein(10)
+                .vitamin(Vitamin.builder().build())
+                .build();
+    }
+
+    private DefaultMessage message(Long petId) {
+        return new DefaultMessage(MealStreamService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                petId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String text(SseEmitter.SseEventBuilder event) {
+        return event.build().stream()
+                .map(data -> data.getData().toString())
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,199 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.petplate.petplate.common.response.error.exception.BadRequestException;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.dto.response.ReadRecentFoodResponseDto;
+import com.petplate.petplate.petfood.domain.FoodType;
+import com.petplate.petplate.user.domain.Role;
+import com.petplate.petplate.user.domain.SocialType;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 트랜잭션 밖에서 기록해야 바로 Redis 에 반영되므로 @Transactional 을 사용하지 않고 직접 정리한다
+@SpringBootTest
+class RecentFoodServiceTest {
+    @Autowired
+    private RecentFoodService recentFoodService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PetRepository petRepository;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("recent")
+                .role(Role.GENERAL)
+                .username("recent_user")
+                .password("recent")
+                .activated(true)
+                .isReceiveAd(false)
+                .phoneNumber("010-0000-0000")
+                .socialType(SocialType.NAVER)
+                .build());
+
+        pet = petRepository.save(Pet.builder()
+                .owner(user)
+                .name("recent pet")
+                .age(3)
+                .weight(5)
+                .activity(Activity.ACTIVE)
+                .neutering(Neutering.NEUTERED)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of(listKey(), indexKey()));
+        petRepository.delete(pet);
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("다시 먹은 음식은 한 번만 남고 맨 앞으로 이동")
+    void moveToFront() {
+        recentFoodService.record(pet.getId(), raw(1L));
+        recentFoodService.record(pet.getId(), raw(2L));
+        recentFoodService.record(pet.getId(), raw(1L));
+
+        List<ReadRecentFoodResponseDto> recentFoods = recentFoods("recent_user", 30);
+
+        Assertions.assertEquals(List.of(1L, 2L), foodIds(recentFoods));
+        Assertions.assertEquals(2L, stringRedisTemplate.opsForList().size(listKey()));
+        Assertions.assertEquals(2L, stringRedisTemplate.opsForHash().size(indexKey()));
+    }
+
+    @Test
+    @DisplayName("한 번에 같은 음식을 여러 번 기록하면 마지막 것만 남음")
+    void deduplicateInOneRecord() {
+        recentFoodService.record(pet.getId(), List.of(raw(1L), raw(2L),
+                ReadRecentFoodResponseDto.of(FoodType.RAW, 1L, "raw 1", 200, 20)));
+
+        List<ReadRecentFoodResponseDto> recentFoods = recentFoods("recent_user", 30);
+
+        Assertions.assertEquals(List.of(1L, 2L), foodIds(recentFoods));
+        Assertions.assertEquals(200, recentFoods.get(0).getServing());
+    }
+
+    @Test
+    @DisplayName("사료와 포장 간식은 이름(대소문자, 앞뒤 공백 무시)이 같으면 같은 음식")
+    void deduplicateFeedByName() {
+        recentFoodService.record(pet.getId(), ReadRecentFoodResponseDto.of(FoodType.FEED, 10L, "Royal Canin", 50, 100));
+        recentFoodService.record(pet.getId(), ReadRecentFoodResponseDto.of(FoodType.FEED, 11L, " royal canin ", 60, 120));
+
+        List<ReadRecentFoodResponseDto> recentFoods = recentFoods("recent_user", 30);
+
+        Assertions.assertEquals(1, recentFoods.size());
+        Assertions.assertEquals(11L, recentFoods.get(0).getFoodId());
+    }
+
+    @Test
+    @DisplayName("MAX_SIZE 를 넘으면 오래된 음식을 목록과 인덱스에서 제거")
+    void capAtMaxSize() {
+        int total = RecentFoodService.MAX_SIZE + 5;
+        for (long rawId = 1; rawId <= total; rawId++) {
+            recentFoodService.record(pet.getId(), raw(rawId));
+        }
+
+        List<ReadRecentFoodResponseDto> recentFoods = recentFoods("recent_user", 100);
+
+        Assertions.assertEquals(RecentFoodService.MAX_SIZE, recentFoods.size());
+        Assertions.assertEquals((long) total, recentFoods.get(0).getFoodId());
+        Assertions.assertEquals(6L, recentFoods.get(RecentFoodService.MAX_SIZE - 1).getFoodId());
+        Assertions.assertEquals((long) RecentFoodService.MAX_SIZE, stringRedisTemplate.opsForList().size(listKey()));
+        Assertions.assertEquals((long) RecentFoodService.MAX_SIZE, stringRedisTemplate.opsForHash().size(indexKey()));
+        for (long rawId = 1; rawId <= 5; rawId++) {
+            Assertions.assertFalse(stringRedisTemplate.opsForHash().hasKey(indexKey(), FoodType.RAW + ":" + rawId));
+        }
+    }
+
+    @Test
+    @DisplayName("밀려난 음식을 다시 먹으면 맨 앞에 다시 추가")
+    void recordEvictedFoodAgain() {
+        for (long rawId = 1; rawId <= RecentFoodService.MAX_SIZE + 1; rawId++) {
+            recentFoodService.record(pet.getId(), raw(rawId));
+        }
+        recentFoodService.record(pet.getId(), raw(1L));
+
+        List<ReadRecentFoodResponseDto> recentFoods = recentFoods("recent_user", 100);
+
+        Assertions.assertEquals(RecentFoodService.MAX_SIZE, recentFoods.size());
+        Assertions.assertEquals(1L, recentFoods.get(0).getFoodId());
+        Assertions.assertEquals((long) RecentFoodService.MAX_SIZE, stringRedisTemplate.opsForHash().size(indexKey()));
+    }
+
+    @Test
+    @DisplayName("count 만큼만 조회")
+    void getRecentFoodsWithCount() {
+        for (long rawId = 1; rawId <= 5; rawId++) {
+            recentFoodService.record(pet.getId(), raw(rawId));
+        }
+
+        Assertions.assertEquals(List.of(5L, 4L), foodIds(recentFoods("recent_user", 2)));
+        Assertions.assertEquals(1, recentFoods("recent_user", 0).size());
+    }
+
+    @Test
+    @DisplayName("evict 하면 목록과 인덱스 모두 제거")
+    void evict() {
+        recentFoodService.record(pet.getId(), raw(1L));
+
+        recentFoodService.evict(pet.getId());
+
+        Assertions.assertTrue(recentFoods("recent_user", 30).isEmpty());
+        Assertions.assertFalse(stringRedisTemplate.hasKey(listKey()));
+        Assertions.assertFalse(stringRedisTemplate.hasKey(indexKey()));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 반려견은 조회할 수 없음")
+    void getOtherUserPet() {
+        Assertions.assertThrows(BadRequestException.class,
+                () -> recentFoods("other_user", 30));
+    }
+
+    // 반려견 주인 확인(지연 로딩)을 위해 조회만 트랜잭션에서 실행
+    private List<ReadRecentFoodResponseDto> recentFoods(String username, int count) {
+        return transactionTemplate.execute(status -> recentFoodService.getRecentFoods(username, pet.getId(), count));
+    }
+
+    private ReadRecentFoodResponseDto raw(Long rawId) {
+        return ReadRecentFoodResponseDto.of(FoodType.RAW, rawId, "raw " + rawId, 100, 10);
+    }
+
+    private List<Long> foodIds(List<ReadRecentFoodResponseDto> recentFoods) {
+        List<Long> foodIds = new ArrayList<>();
+        recentFoods.forEach(food -> foodIds.add(food.getFoodId()));
+        return foodIds;
+    }
+
+    private String listKey() {
+        return "recent-food:" + pet.getId();
+    }
+
+    private String indexKey() {
+        return "recent-food:" + pet.getId() + ":index";
+    }
+}
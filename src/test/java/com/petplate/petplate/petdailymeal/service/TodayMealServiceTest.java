@@ -0,0 +1,138 @@
+package com.petplate.petplate.petdailymeal.service;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyFeed;
+import com.petplate.petplate.petdailymeal.repository.DailyFeedRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.user.domain.Role;
+import com.petplate.petplate.user.domain.SocialType;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+
+@SpringBootTest
+@Transactional
+class TodayMealServiceTest {
+    @Autowired
+    private TodayMealService todayMealService;
+    @Autowired
+    private DailyMealRepository dailyMealRepository;
+    @Autowired
+    private DailyFeedRepository dailyFeedRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PetRepository petRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .name("today")
+                .role(Role.GENERAL)
+                .username("today_user")
+                .password("today")
+                .activated(true)
+                .isReceiveAd(false)
+                .phoneNumber("010-0000-0000")
+                .socialType(SocialType.NAVER)
+                .build());
+
+        pet = petRepository.save(Pet.builder()
+                .owner(user)
+                .name("today pet")
+                .age(3)
+                .weight(5)
+                .activity(Activity.ACTIVE)
+                .neutering(Neutering.NEUTERED)
+                .build());
+    }
+
+    @Test
+    @DisplayName("오늘 식사 내역이 없으면 empty")
+    void noDailyMeal() {
+        Assertions.assertTrue(todayMealService.getToday(pet.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("오늘 섭취 칼로리, 영양소, 음식 목록을 DB 와 같게 반환")
+    void getToday() {
+        DailyMeal dailyMeal = dailyMealRepository.save(DailyMeal.builder()
+                .pet(pet)
+                .kcal(0)
+                .nutrient(Nutrient.builder()
+                        .vitamin(Vitamin.builder().build())
+                        .build())
+                .build());
+
+        DailyFeed dailyFeed = dailyFeedRepository.save(DailyFeed.builder()
+                .dailyMeal(dailyMeal)
+                .name("today feed")
+                .serving(100)
+                .kcal(250)
+                .nutrient(Nutrient.builder()
+                        .protein(20)
+                        .fat(10)
+                        .vitamin(Vitamin.builder().vitaminA(5).build())
+                        .build())
+                .build());
+        dailyMeal.addKcal(dailyFeed.getKcal());
+        dailyMeal.addNutrient(dailyFeed.getNutrient());
+        todayMealService.refresh(dailyMeal);
+        entityManager.flush();
+
+        TodayMeal todayMeal = todayMealService.getToday(pet.getId()).orElseThrow();
+
+        Assertions.assertEquals(dailyMeal.getId(), todayMeal.getDailyMealId());
+        Assertions.assertEquals(dailyMeal.getRevision(), todayMeal.getRevision());
+        Assertions.assertEquals(250, todayMeal.getKcal());
+        Assertions.assertEquals(20, todayMeal.getNutrient().getProtein());
+        Assertions.assertEquals(5, todayMeal.getNutrient().getVitamin().getVitaminA());
+        Assertions.assertEquals(1, todayMeal.getFoods().getDailyFeeds().size());
+        Assertions.assertEquals("today feed", todayMeal.getFoods().getDailyFeeds().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 revision 은 저장하지 않고, 저장한 해시에는 항상 TTL 이 있음")
+    void writeOnlyNewerRevision() {
+        String key = TodayMealService.key(pet.getId(), LocalDate.of(2000, 1, 1));
+        Nutrient nutrient = Nutrient.builder().vitamin(Vitamin.builder().build()).build();
+
+        try {
+            Assertions.assertTrue(todayMealService.write(key, new TodayMeal(1L, 2, 200, nutrient, null, "owner", "profile")));
+            Assertions.assertFalse(todayMealService.write(key, new TodayMeal(1L, 1, 100, nutrient, null, "owner", "profile")));
+            Assertions.assertFalse(todayMealService.write(key, new TodayMeal(1L, 2, 100, nutrient, null, "owner", "profile")));
+
+            Assertions.assertEquals("2", stringRedisTemplate.opsForHash().get(key, "revision"));
+            Assertions.assertEquals("200.0", stringRedisTemplate.opsForHash().get(key, "kcal"));
+            Assertions.assertTrue(stringRedisTemplate.getExpire(key) > 0);
+
+            // 다른 식사 내역(새로 만든 경우)은 revision 과 관계없이 저장
+            Assertions.assertTrue(todayMealService.write(key, new TodayMeal(2L, 0, 50, nutrient, null, "owner", "profile")));
+            Assertions.assertEquals("0", stringRedisTemplate.opsForHash().get(key, "revision"));
+        } finally {
+            stringRedisTemplate.delete(key);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.petplate.petplate.petfood.service;
 
 import com.petplate.petplate.common.EmbeddedType.Nutrient;
 import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.common.metrics.SqlCapture;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
 import com.petplate.petplate.pet.domain.Activity;
@@ -47,6 +48,7 @@ class BookMarkedRawServiceTest {
     private DailyMealRepository dailyMealRepository;
 
     private String username;
+    private Long userId;
     private Long petId;
     private Long appleId;
     private Long bananaId;
@@ -64,6 +66,7 @@ class BookMarkedRawServiceTest {
                         .build();
 
         username = userRepository.save(user).getUsername();
+        userId = user.getId();
 
         Pet pet = Pet.builder()
                 .owner(user)
@@ -127,6 +130,34 @@ class BookMarkedRawServiceTest {
         Assertions.assertThrows(BadRequestException.class, () -> bookMarkedRawService.createBookMarkedRaw(username, createBookMarkedRawRequestDto));
     }
 
+    @Test
+    @DisplayName("토큰의 유저 PK로 즐겨찾기 자연식 생성")
+    void createBookMarkedRawByUserId() {
+        //given
+        CreateBookMarkedRawRequestDto createBookMarkedRawRequestDto = new CreateBookMarkedRawRequestDto(bananaId, 150);
+        Long id = bookMarkedRawService.createBookMarkedRaw(userId, createBookMarkedRawRequestDto);
+
+        BookMarkedRaw bookMarkedRaw = bookMarkedRawRepository.findById(id).get();
+
+        // then
+        Assertions.assertEquals(username, bookMarkedRaw.getUser().getUsername());
+        Assertions.assertEquals(bananaId, bookMarkedRaw.getRaw().getId());
+
+        // username 경로와 같은 중복 검사를 거친다
+        Assertions.assertThrows(BadRequestException.class, () -> bookMarkedRawService.createBookMarkedRaw(username, createBookMarkedRawRequestDto));
+    }
+
+    @Test
+    @DisplayName("탈퇴한 유저의 토큰(유저 PK)으로는 즐겨찾기 자연식 생성 불가")
+    void createBookMarkedRawByDeletedUserId() {
+        //given
+        userRepository.delete(userRepository.findById(userId).get());
+
+        // then
+        Assertions.assertThrows(NotFoundException.class,
+                () -> bookMarkedRawService.createBookMarkedRaw(userId, new CreateBookMarkedRawRequestDto(bananaId, 150)));
+    }
+
     @Test
     @DisplayName("즐겨찾기 자연식 조회")
     void getBookMarkedRaws() {
@@ -207,14 +238,27 @@ class BookMarkedRawServiceTest {
                 .bookMarkedRaw(apple)
                 .dailyMeal(dailyMeal)
                 .build();
-        dailyBookMarkedRawRepository.save(dailyBookMarkedRaw);
+        Long dailyBookMarkedRawId = dailyBookMarkedRawRepository.save(dailyBookMarkedRaw).getId();
+
+        // 참조 행마다 쿼리를 실행하면 아래 SQL 반복 검사에서 드러나도록 참조를 더 추가
+        for (int i = 0; i < 4; i++) {
+            dailyBookMarkedRawRepository.save(DailyBookMarkedRaw.builder()
+                    .bookMarkedRaw(apple)
+                    .dailyMeal(dailyMeal)
+                    .build());
+        }
+        dailyBookMarkedRawRepository.flush();
 
         // when
-        bookMarkedRawService.deleteBookMarkedRaw(username, id);
+        // 참조 id 조회는 청크 조회, 빈 청크 확인, 잠금 후 남은 참조 확인으로 최대 3번
+        try (SqlCapture capture = SqlCapture.start()) {
+            bookMarkedRawService.deleteBookMarkedRaw(username, id);
+            capture.assertMaxRepeat(3);
+        }
 
         // then
         Assertions.assertEquals(0, bookMarkedRawRepository.findByUserId(user.getId()).size());
-        Assertions.assertNull(dailyBookMarkedRaw.getBookMarkedRaw());
+        Assertions.assertNull(dailyBookMarkedRawRepository.findById(dailyBookMarkedRawId).get().getBookMarkedRaw());
         System.out.println("dailyMeal = " + dailyMeal.getKcal());
     }
 }
\ No newline at end of file
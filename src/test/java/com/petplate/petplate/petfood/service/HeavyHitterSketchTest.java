@@ -0,0 +1,55 @@
+package com.petplate.petplate.petfood.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+class HeavyHitterSketchTest {
+
+    @Test
+    @DisplayName("추정치는 실제 가중치보다 작지 않음")
+    void neverUnderestimate() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 64, 10);
+
+        for (long id = 0; id < 1000; id++) {
+            sketch.add(id, 1);
+        }
+        sketch.add(7, 5);
+
+        Assertions.assertTrue(sketch.estimate(7) >= 6);
+        for (long id = 0; id < 1000; id++) {
+            Assertions.assertTrue(sketch.estimate(id) >= 1);
+        }
+    }
+
+    @Test
+    @DisplayName("많은 id 중 자주 기록된 id만 후보로 남음")
+    void keepHeavyHitters() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 2048, 5);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            sketch.add(1000 + random.nextInt(5000), 1);  // 긴 꼬리
+            if (i % 10 == 0) {
+                sketch.add(1 + (i / 10) % 5, 1);  // 자주 기록되는 id 1 ~ 5
+            }
+        }
+
+        Map<Long, Double> topK = sketch.topK();
+        Assertions.assertEquals(5, topK.size());
+        for (long id = 1; id <= 5; id++) {
+            Assertions.assertTrue(topK.containsKey(id));
+            Assertions.assertTrue(topK.get(id) >= 400);
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 크기는 예외")
+    void invalidSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HeavyHitterSketch(0, 10, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HeavyHitterSketch(4, 10, 0));
+    }
+}
@@ -0,0 +1,115 @@
+package com.petplate.petplate.petfood.service;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.common.EmbeddedType.StandardNutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.petfood.domain.entity.Raw;
+import com.petplate.petplate.petfood.repository.RawRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.nio.charset.StandardCharsets;
+
+@SpringBootTest
+@Transactional
+class RawNutrientDensityMatrixTest {
+    @Autowired
+    private RawNutrientDensityMatrix rawNutrientDensityMatrix;
+    @Autowired
+    private RawRepository rawRepository;
+    @SpyBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Raw beef;
+
+    @BeforeEach
+    void setUp() {
+        beef = rawRepository.save(Raw.builder()
+                .name("소고기")
+                .standardAmount(100)
+                .kcal(30)
+                .nutrient(Nutrient.builder()
+                        .protein(10)
+                        .fat(20)
+                        .vitamin(Vitamin.builder().vitaminA(5).build())
+                        .build())
+                .build());
+
+        // 다른 테스트에서 만든 행렬을 버린다
+        rawNutrientDensityMatrix.onMessage(message(), null);
+    }
+
+    @Test
+    @DisplayName("자연식 1g 당 칼로리, 영양소를 행으로 저장")
+    void densityPerGram() {
+        RawNutrientDensityMatrix.Snapshot snapshot = rawNutrientDensityMatrix.getSnapshot();
+        int row = snapshot.rowOf(beef.getId());
+
+        NutrientVector intake = NutrientVector.zero().addScaled(snapshot.getMatrix(), snapshot.offsetOf(row), 200);
+
+        Assertions.assertEquals(beef.getId(), snapshot.getRawIds()[row]);
+        Assertions.assertEquals(60, snapshot.kcalOf(row, 200), 1e-9);
+        Assertions.assertEquals(20, intake.get(StandardNutrient.PROTEIN), 1e-9);
+        Assertions.assertEquals(40, intake.get(StandardNutrient.FAT), 1e-9);
+        Assertions.assertEquals(-1, snapshot.rowOf(-1L));
+    }
+
+    @Test
+    @DisplayName("무효화하기 전까지 같은 행렬을 반환")
+    void cached() {
+        RawNutrientDensityMatrix.Snapshot snapshot = rawNutrientDensityMatrix.getSnapshot();
+
+        Assertions.assertSame(snapshot, rawNutrientDensityMatrix.getSnapshot());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 행렬을 다시 생성")
+    void invalidateByMessage() {
+        RawNutrientDensityMatrix.Snapshot before = rawNutrientDensityMatrix.getSnapshot();
+        Raw pork = rawRepository.save(Raw.builder()
+                .name("돼지고기")
+                .standardAmount(100)
+                .kcal(40)
+                .nutrient(Nutrient.builder().vitamin(Vitamin.builder().build()).build())
+                .build());
+
+        Assertions.assertEquals(-1, rawNutrientDensityMatrix.getSnapshot().rowOf(pork.getId()));
+
+        rawNutrientDensityMatrix.onMessage(message(), null);
+
+        RawNutrientDensityMatrix.Snapshot after = rawNutrientDensityMatrix.getSnapshot();
+        Assertions.assertNotSame(before, after);
+        Assertions.assertTrue(after.rowOf(pork.getId()) >= 0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 내에서 무효화하면 트랜잭션이 끝난 뒤 무효화하고 다른 인스턴스에 발행")
+    void invalidateAfterCompletion() {
+        RawNutrientDensityMatrix.Snapshot before = rawNutrientDensityMatrix.getSnapshot();
+
+        rawNutrientDensityMatrix.invalidate();
+        Assertions.assertSame(before, rawNutrientDensityMatrix.getSnapshot());
+        Mockito.verify(stringRedisTemplate, Mockito.never()).convertAndSend(Mockito.eq(RawNutrientDensityMatrix.CHANNEL), Mockito.any());
+
+        TestTransaction.end();
+
+        Mockito.verify(stringRedisTemplate).convertAndSend(Mockito.eq(RawNutrientDensityMatrix.CHANNEL), Mockito.any());
+        Assertions.assertNotSame(before, rawNutrientDensityMatrix.getSnapshot());
+    }
+
+    private DefaultMessage message() {
+        return new DefaultMessage(RawNutrientDensityMatrix.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "invalidate".getBytes(StandardCharsets.UTF_8));
+    }
+}
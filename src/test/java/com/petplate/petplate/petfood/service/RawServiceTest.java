@@ -2,6 +2,7 @@ package com.petplate.petplate.petfood.service;
 
 import com.petplate.petplate.common.EmbeddedType.Nutrient;
 import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.common.metrics.SqlCapture;
 import com.petplate.petplate.common.response.error.exception.BadRequestException;
 import com.petplate.petplate.common.response.error.exception.NotFoundException;
 import com.petplate.petplate.pet.domain.Activity;
@@ -248,6 +249,18 @@ class RawServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("키워드로 자연식 조회 시 N+1이 발생하지 않음")
+    void getRawByKeywordWithoutNPlusOne() {
+        // when, then
+        try (SqlCapture capture = SqlCapture.start()) {
+            List<ReadRawResponseDto> raws = rawService.getRawByKeyword("고기");
+
+            Assertions.assertTrue(raws.size() >= 2);
+            capture.assertNoRepeatedStatement();
+        }
+    }
+
     @Test
     @DisplayName("이름으로 자연식 조회")
     void getRawByName() {
@@ -316,6 +329,15 @@ class RawServiceTest {
                 .build();
         Long dailyRawId = dailyRawRepository.save(dailyRaw).getId();
 
+        // 참조 행마다 쿼리를 실행하면 아래 SQL 반복 검사에서 드러나도록 참조를 더 추가
+        for (int i = 0; i < 4; i++) {
+            dailyRawRepository.save(DailyRaw.builder()
+                    .raw(apple)
+                    .dailyMeal(dailyMeal)
+                    .serving(100)
+                    .build());
+        }
+
         BookMarkedRaw bookMarkedRaw = BookMarkedRaw.builder()
                 .user(user)
                 .raw(apple)
@@ -330,8 +352,14 @@ class RawServiceTest {
         Long dailyBookMarkedRawId = dailyBookMarkedRawRepository.save(dailyBookMarkedRaw).getId();
 
 
+        dailyRawRepository.flush();
+
         // when
-        rawService.deleteRawById(appleId);
+        // 참조 id 조회는 청크 조회, 빈 청크 확인, 잠금 후 남은 참조 확인으로 최대 3번
+        try (SqlCapture capture = SqlCapture.start()) {
+            rawService.deleteRawById(appleId);
+            capture.assertMaxRepeat(3);
+        }
 
         // then
         DailyRaw dailyRawDeletedRaw = dailyRawRepository.findById(dailyRawId).get();  // Raw를 제거해도 DailyRaw의 영양성분에는 영향을 미치지 않음.
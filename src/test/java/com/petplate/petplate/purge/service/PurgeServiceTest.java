@@ -0,0 +1,190 @@
+package com.petplate.petplate.purge.service;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.dailyMealNutrient.domain.entity.DeficientNutrient;
+import com.petplate.petplate.dailyMealNutrient.repository.DeficientNutrientRepository;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import com.petplate.petplate.pet.domain.entity.Pet;
+import com.petplate.petplate.pet.repository.PetRepository;
+import com.petplate.petplate.pet.service.PetService;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyBookMarkedRaw;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyMeal;
+import com.petplate.petplate.petdailymeal.domain.entity.DailyRaw;
+import com.petplate.petplate.petdailymeal.repository.DailyBookMarkedRawRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyMealRepository;
+import com.petplate.petplate.petdailymeal.repository.DailyRawRepository;
+import com.petplate.petplate.petfood.domain.entity.BookMarkedRaw;
+import com.petplate.petplate.petfood.domain.entity.Raw;
+import com.petplate.petplate.petfood.repository.BookMarkedRawRepository;
+import com.petplate.petplate.petfood.repository.RawRepository;
+import com.petplate.petplate.purge.domain.PurgeStatus;
+import com.petplate.petplate.purge.domain.PurgeTargetType;
+import com.petplate.petplate.purge.repository.PurgeRequestRepository;
+import com.petplate.petplate.user.domain.Role;
+import com.petplate.petplate.user.domain.SocialType;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@Transactional
+class PurgeServiceTest {
+    @Autowired
+    private PurgeService purgeService;
+    @Autowired
+    private PetService petService;
+    @Autowired
+    private PurgeRequestRepository purgeRequestRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PetRepository petRepository;
+    @Autowired
+    private RawRepository rawRepository;
+    @Autowired
+    private DailyMealRepository dailyMealRepository;
+    @Autowired
+    private DailyRawRepository dailyRawRepository;
+    @Autowired
+    private BookMarkedRawRepository bookMarkedRawRepository;
+    @Autowired
+    private DailyBookMarkedRawRepository dailyBookMarkedRawRepository;
+    @Autowired
+    private DeficientNutrientRepository deficientNutrientRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("purge")
+                .role(Role.GENERAL)
+                .username("purge_user")
+                .password("purge")
+                .activated(true)
+                .isReceiveAd(false)
+                .phoneNumber("010-0000-0000")
+                .socialType(SocialType.NAVER)
+                .build());
+
+        pet = petRepository.save(Pet.builder()
+                .owner(user)
+                .name("purge pet")
+                .age(3)
+                .weight(5)
+                .activity(Activity.ACTIVE)
+                .neutering(Neutering.NEUTERED)
+                .build());
+
+        Raw apple = rawRepository.save(Raw.builder()
+                .name("purge 사과")
+                .standardAmount(100)
+                .kcal(30)
+                .nutrient(nutrient(10))
+                .build());
+
+        BookMarkedRaw bookMarkedApple = bookMarkedRawRepository.save(BookMarkedRaw.builder()
+                .user(user)
+                .raw(apple)
+                .serving(100)
+                .build());
+
+        // 청크 크기(200)보다 많은 식사 기록
+        for (int day = 0; day < 250; day++) {
+            DailyMeal dailyMeal = dailyMealRepository.save(DailyMeal.builder()
+                    .pet(pet)
+                    .kcal(60)
+                    .nutrient(nutrient(20))
+                    .build());
+
+            dailyRawRepository.save(DailyRaw.builder()
+                    .raw(apple)
+                    .dailyMeal(dailyMeal)
+                    .serving(100)
+                    .build());
+            dailyBookMarkedRawRepository.save(DailyBookMarkedRaw.builder()
+                    .bookMarkedRaw(bookMarkedApple)
+                    .dailyMeal(dailyMeal)
+                    .build());
+            deficientNutrientRepository.save(DeficientNutrient.builder()
+                    .name("단백질")
+                    .unit("g")
+                    .amount(1)
+                    .properAmount(10)
+                    .maximumAmount(20)
+                    .dailyMeal(dailyMeal)
+                    .build());
+        }
+
+        // purge 는 JDBC로 지우므로 저장한 엔티티를 먼저 반영
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("삭제된 유저의 반려견, 식사 기록, 즐겨찾기를 청크 단위로 삭제")
+    void purgeUser() {
+        // given
+        userRepository.delete(user);
+        purgeService.requestPurge(PurgeTargetType.USER, user.getId());
+        entityManager.flush();
+
+        // when
+        int chunks = 0;
+        while (purgeService.purgeChunk(PurgeTargetType.USER, user.getId()) > 0) {
+            chunks++;
+        }
+        entityManager.clear();
+
+        // then
+        Assertions.assertTrue(chunks > 2);  // 식사 기록 2청크, 반려견, 즐겨찾기, 유저
+        Assertions.assertTrue(petRepository.findByOwnerId(user.getId()).isEmpty());
+        Assertions.assertTrue(dailyMealRepository.findByPetIdOrderByCreatedAtDesc(pet.getId()).isEmpty());
+        Assertions.assertTrue(bookMarkedRawRepository.findByUserId(user.getId()).isEmpty());
+        Assertions.assertTrue(purgeRequestRepository.existsByTargetTypeAndTargetIdAndStatus(PurgeTargetType.USER, user.getId(), PurgeStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("반려견 삭제 시 바로 조회되지 않고, purge 후 기록이 삭제됨")
+    void deletePet() {
+        // when
+        petService.deletePet(user.getUsername(), pet.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Assertions.assertTrue(petRepository.findById(pet.getId()).isEmpty());
+        Assertions.assertTrue(purgeRequestRepository.existsByTargetTypeAndTargetIdAndStatus(PurgeTargetType.PET, pet.getId(), PurgeStatus.PENDING));
+
+        int purgedRows;
+        do {
+            purgedRows = purgeService.purgeChunk(PurgeTargetType.PET, pet.getId());
+        } while (purgedRows > 0);
+        entityManager.clear();
+
+        Assertions.assertTrue(dailyMealRepository.findByPetIdOrderByCreatedAtDesc(pet.getId()).isEmpty());
+        Assertions.assertEquals(1, bookMarkedRawRepository.findByUserId(user.getId()).size());  // 즐겨찾기는 유저 소유이므로 유지
+    }
+
+    private static Nutrient nutrient(double amount) {
+        return Nutrient.builder()
+                .carbonHydrate(amount)
+                .protein(amount)
+                .fat(amount)
+                .calcium(amount)
+                .phosphorus(amount)
+                .vitamin(Vitamin.builder().vitaminA(amount).vitaminD(amount).vitaminE(amount).build())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.petplate.petplate.user.service;
+
+import com.petplate.petplate.auth.oauth.service.SocialLoginTokenUtil;
+import com.petplate.petplate.common.response.error.ErrorCode;
+import com.petplate.petplate.common.response.error.exception.InternalServerErrorException;
+import com.petplate.petplate.user.domain.Role;
+import com.petplate.petplate.user.domain.SocialType;
+import com.petplate.petplate.user.domain.SocialUnlinkStatus;
+import com.petplate.petplate.user.domain.entity.SocialUnlinkRequest;
+import com.petplate.petplate.user.domain.entity.User;
+import com.petplate.petplate.user.repository.SocialUnlinkRequestRepository;
+import com.petplate.petplate.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class SocialUnlinkWorkerTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private SocialUnlinkWorker socialUnlinkWorker;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SocialUnlinkRequestRepository socialUnlinkRequestRepository;
+    @MockBean
+    private SocialLoginTokenUtil socialLoginTokenUtil;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .name("unlink")
+                .role(Role.GENERAL)
+                .username("unlink_user")
+                .password("unlink")
+                .activated(true)
+                .isReceiveAd(false)
+                .phoneNumber("010-0000-0000")
+                .socialType(SocialType.NAVER)
+                .build());
+        user.changeSocialLoginRefreshToken("refresh-token");
+    }
+
+    @Test
+    @DisplayName("유저 삭제 트랜잭션에서는 네이버를 호출하지 않고 연동 해제 작업만 저장")
+    void deleteUserWithoutNaverCall() {
+        userService.deleteUser("unlink_user");
+
+        Mockito.verifyNoInteractions(socialLoginTokenUtil);
+        SocialUnlinkRequest socialUnlinkRequest = findRequest();
+        Assertions.assertEquals(SocialUnlinkStatus.PENDING, socialUnlinkRequest.getStatus());
+        Assertions.assertEquals("refresh-token", socialUnlinkRequest.getSocialLoginRefreshToken());
+    }
+
+    @Test
+    @DisplayName("연동 해제에 성공하면 완료 처리하고 리프레시 토큰을 지움")
+    void completeUnlink() {
+        userService.deleteUser("unlink_user");
+
+        socialUnlinkWorker.process(findRequest());
+
+        Mockito.verify(socialLoginTokenUtil).unlinkNaver("unlink_user", "refresh-token");
+        SocialUnlinkRequest socialUnlinkRequest = findRequest();
+        Assertions.assertEquals(SocialUnlinkStatus.DONE, socialUnlinkRequest.getStatus());
+        Assertions.assertNull(socialUnlinkRequest.getSocialLoginRefreshToken());
+    }
+
+    @Test
+    @DisplayName("연동 해제에 실패하면 백오프 후 다시 시도")
+    void retryUnlink() {
+        userService.deleteUser("unlink_user");
+        Mockito.doThrow(new InternalServerErrorException(ErrorCode.SOCIAL_UNLINK_FAIL))
+                .when(socialLoginTokenUtil).unlinkNaver("unlink_user", "refresh-token");
+
+        socialUnlinkWorker.process(findRequest());
+
+        SocialUnlinkRequest socialUnlinkRequest = findRequest();
+        Assertions.assertEquals(SocialUnlinkStatus.PENDING, socialUnlinkRequest.getStatus());
+        Assertions.assertEquals(1, socialUnlinkRequest.getAttempts());
+        Assertions.assertTrue(socialUnlinkRequest.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("처리 전에 같은 username 으로 다시 가입했으면 연동 해제하지 않음")
+    void skipUnlinkAfterResignUp() {
+        userService.deleteUser("unlink_user");
+        userRepository.save(User.builder()
+                .name("unlink")
+                .role(Role.GENERAL)
+                .username("unlink_user")
+                .password("unlink")
+                .activated(true)
+                .isReceiveAd(false)
+                .phoneNumber("010-0000-0000")
+                .socialType(SocialType.NAVER)
+                .build());
+
+        socialUnlinkWorker.process(findRequest());
+
+        Mockito.verifyNoInteractions(socialLoginTokenUtil);
+        SocialUnlinkRequest socialUnlinkRequest = findRequest();
+        Assertions.assertEquals(SocialUnlinkStatus.SKIPPED, socialUnlinkRequest.getStatus());
+        Assertions.assertNull(socialUnlinkRequest.getSocialLoginRefreshToken());
+    }
+
+    private SocialUnlinkRequest findRequest() {
+        List<SocialUnlinkRequest> requests = socialUnlinkRequestRepository.findAll().stream()
+                .filter(request -> request.getUsername().equals("unlink_user"))
+                .toList();
+        Assertions.assertEquals(1, requests.size());
+        return requests.get(0);
+    }
+}
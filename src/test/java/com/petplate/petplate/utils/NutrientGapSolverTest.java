@@ -0,0 +1,138 @@
+package com.petplate.petplate.utils;
+
+import com.petplate.petplate.common.EmbeddedType.Nutrient;
+import com.petplate.petplate.common.EmbeddedType.NutrientVector;
+import com.petplate.petplate.common.EmbeddedType.Vitamin;
+import com.petplate.petplate.pet.domain.Activity;
+import com.petplate.petplate.pet.domain.Neutering;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+class NutrientGapSolverTest {
+    private static final int SIZE = NutrientVector.SIZE;
+    private static final int CATALOGUE_ROWS = 10_000;
+
+    private static NutrientVector vector(double carbonHydrate, double protein, double fat) {
+        return NutrientVector.from(Nutrient.builder()
+                .carbonHydrate(carbonHydrate).protein(protein).fat(fat)
+                .calcium(0).phosphorus(0)
+                .vitamin(Vitamin.builder().vitaminA(0).vitaminD(0).vitaminE(0).build())
+                .build());
+    }
+
+    private static double[] matrix(NutrientVector... rows) {
+        double[] matrix = new double[rows.length * SIZE];
+        for (int row = 0; row < rows.length; row++) {
+            System.arraycopy(rows[row].toArray(), 0, matrix, row * SIZE, SIZE);
+        }
+        return matrix;
+    }
+
+    @Test
+    @DisplayName("부족한 영양소를 채우되 최대 허용 섭취량을 넘지 않는 섭취량 추천")
+    public void solveWithinMaximum() throws Exception {
+        //given
+        NutrientVector intake = vector(10, 0, 10);
+        NutrientVector proper = vector(10, 20, 10);
+        NutrientVector maximum = vector(20, 40, 12);
+
+        double[] perGramMatrix = matrix(
+                vector(0, 0.2, 0.1),  // 단백질은 많지만 지방 때문에 20g 까지만 섭취 가능
+                vector(0, 0.1, 0)   // 단백질만 포함
+        );
+
+        //when
+        List<NutrientGapSolver.Pick> picks = new NutrientGapSolver(intake, proper, maximum)
+                .solve(perGramMatrix, 2, null, new double[0], 0, 3);
+
+        //then
+        Assertions.assertFalse(picks.isEmpty());
+        Assertions.assertEquals(1, picks.get(0).getRow());
+        Assertions.assertEquals(200, picks.get(0).getAmount());
+        Assertions.assertEquals(1, picks.size());  // 부족분이 모두 채워지면 종료
+    }
+
+    @Test
+    @DisplayName("제외된 음식과 최대 허용 섭취량을 넘는 1회분 음식은 추천하지 않음")
+    public void solveExcludesRows() throws Exception {
+        //given
+        NutrientVector intake = vector(0, 0, 0);
+        NutrientVector proper = vector(10, 20, 10);
+        NutrientVector maximum = vector(20, 40, 20);
+
+        double[] perGramMatrix = matrix(vector(0.1, 0.1, 0.1));
+        BitSet excludedRows = new BitSet();
+        excludedRows.set(0);
+
+        double[] portionMatrix = matrix(
+                vector(0, 50, 0),  // 단백질 최대 허용량 초과
+                vector(5, 10, 5)
+        );
+
+        //when
+        List<NutrientGapSolver.Pick> picks = new NutrientGapSolver(intake, proper, maximum)
+                .solve(perGramMatrix, 1, excludedRows, portionMatrix, 2, 3);
+
+        //then
+        Assertions.assertEquals(1, picks.size());
+        Assertions.assertTrue(picks.get(0).isPortion());
+        Assertions.assertEquals(1, picks.get(0).getRow());
+    }
+
+    @Test
+    @DisplayName("10k 음식 카탈로그에서 제외된 음식, 섭취량 범위, 최대 허용 섭취량을 지키는 조합 추천")
+    public void solveLargeCatalogue() throws Exception {
+        //given
+        NutrientVector intake = NutrientVector.zero();
+        NutrientVector proper = NutrientVector.properOf(5, Activity.ACTIVE, Neutering.NEUTERED);
+        NutrientVector maximum = NutrientVector.maximumOf(5, Activity.ACTIVE, Neutering.NEUTERED);
+
+        Random random = new Random(42);
+        double[] perGramMatrix = syntheticMatrix(random, proper, CATALOGUE_ROWS, 0.02);
+        double[] portionMatrix = syntheticMatrix(random, proper, 100, 1);
+        BitSet excludedRows = new BitSet(CATALOGUE_ROWS);
+        for (int i = 0; i < CATALOGUE_ROWS / 10; i++) {
+            excludedRows.set(random.nextInt(CATALOGUE_ROWS));
+        }
+
+        //when
+        // 실행 시간은 NutrientGapSolverBenchmark 로 측정한다
+        List<NutrientGapSolver.Pick> picks = new NutrientGapSolver(intake, proper, maximum)
+                .solve(perGramMatrix, CATALOGUE_ROWS, excludedRows, portionMatrix, 100, 5);
+
+        //then
+        Assertions.assertFalse(picks.isEmpty());
+        Assertions.assertTrue(picks.size() <= 5);
+
+        double[] total = intake.toArray();
+        for (NutrientGapSolver.Pick pick : picks) {
+            if (!pick.isPortion()) {
+                Assertions.assertFalse(excludedRows.get(pick.getRow()));
+                Assertions.assertTrue(pick.getAmount() >= NutrientGapSolver.MIN_SERVING && pick.getAmount() <= NutrientGapSolver.MAX_SERVING);
+            }
+            double[] matrix = pick.isPortion() ? portionMatrix : perGramMatrix;
+            for (int i = 0; i < SIZE; i++) {
+                total[i] += matrix[pick.getRow() * SIZE + i] * pick.getAmount();
+            }
+        }
+        for (int i = 0; i < SIZE; i++) {
+            Assertions.assertTrue(total[i] <= maximum.get(i) + 1e-9);
+        }
+    }
+
+    // 영양소별로 적정 섭취량의 0 ~ scale 배를 담은 무작위 행렬
+    private static double[] syntheticMatrix(Random random, NutrientVector proper, int rows, double scale) {
+        double[] matrix = new double[rows * SIZE];
+        for (int row = 0; row < rows; row++) {
+            for (int i = 0; i < SIZE; i++) {
+                matrix[row * SIZE + i] = proper.get(i) * random.nextDouble() * scale;
+            }
+        }
+        return matrix;
+    }
+}